@@ -0,0 +1,78 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.lexer.reader.CharStream;
+import com.jaeyeonling.lexer.reader.TokenReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 순차 탐색(findReader)과 ASCII 디스패치 테이블(lookup)의 리더 선택 비용을 비교합니다.
+ * 실제 쿼리의 모든 토큰 시작 위치에서 리더를 한 번씩 찾습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenReaderDispatchBenchmark {
+
+    private static final String SQL = """
+            SELECT u.id, u.name, COUNT(*) AS order_count, SUM(o.amount) AS total
+            FROM users u, orders o
+            WHERE u.id = o.user_id AND o.amount >= 10.5 AND u.status IN ('active', 'pending')
+              AND u.email LIKE '%@example.com' AND o.created_at BETWEEN 20240101 AND 20241231
+            GROUP BY u.id, u.name
+            HAVING COUNT(*) > 3
+            ORDER BY total DESC
+            LIMIT 100 OFFSET 20""";
+
+    private TokenReaderRegistry registry;
+    private CharStream[] tokenStarts;
+
+    @Setup
+    public void setUp() {
+        registry = TokenReaderRegistry.createDefault();
+
+        final List<Token> tokens = new SqlLexer(SQL).tokenize();
+        tokenStarts = tokens.stream()
+                .filter(token -> token.type() != TokenType.EOF)
+                .map(token -> streamAt(token.startIndex()))
+                .toArray(CharStream[]::new);
+    }
+
+    private static CharStream streamAt(final int index) {
+        final CharStream charStream = new CharStream(SQL);
+        while (charStream.currentIndex() < index) {
+            charStream.advance();
+        }
+        return charStream;
+    }
+
+    @Benchmark
+    public void findReader(final Blackhole blackhole) {
+        for (final CharStream charStream : tokenStarts) {
+            blackhole.consume(registry.findReader(charStream).orElse(null));
+        }
+    }
+
+    @Benchmark
+    public void lookup(final Blackhole blackhole) {
+        for (final CharStream charStream : tokenStarts) {
+            final TokenReader reader = registry.lookup(charStream);
+            blackhole.consume(reader);
+        }
+    }
+}
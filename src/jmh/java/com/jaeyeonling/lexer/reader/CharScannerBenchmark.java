@@ -0,0 +1,140 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.SqlLexer;
+import com.jaeyeonling.lexer.character.CharClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스칼라 스캐너와 벡터 스캐너를 리터럴과 들여쓰기가 많은 입력에서 비교합니다.
+ * - scan*: 같은 JVM에서 스캐너 커널만 비교
+ * - tokenize*: 시스템 속성으로 스캐너를 고정한 별도 포크에서 새 렉서로 전체 토큰화를 비교 (String은 복사하지 않으므로 둘 다 스칼라)
+ * - pooled*, typical*: 재사용하는 렉서로 비교 (벡터 쪽은 렉서가 가진 배열에 매번 String을 복사)
+ *
+ * <p>측정 예 (1코어, JDK 21, 약 130,000자 입력):
+ * <ul>
+ *   <li>새 렉서가 String을 매번 새 배열로 복사하던 때: 벡터 148us, 326KB/op / 스칼라 275us, 57KB/op</li>
+ *   <li>새 렉서는 복사하지 않게 바꾼 뒤: tokenizeVector와 tokenizeScalar 모두 약 57KB/op</li>
+ *   <li>재사용 렉서의 배열에 매번 복사: 벡터 50~62us / 스칼라 186~219us, 둘 다 할당 없음 (복사 비용이 충분히 회수됨)</li>
+ *   <li>약 600자의 보통 SQL: 7~9us로 차이가 잡음 범위 안</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class CharScannerBenchmark {
+
+    private static final String SQL = buildLiteralHeavySql();
+
+    // 들여쓰기와 짧은 문자열이 있는 보통 크기(약 600자)의 SQL
+    private static final String TYPICAL_SQL = """
+            SELECT u.id, u.name, u.email, o.amount, o.created_at
+            FROM users u, orders o
+            WHERE u.status = 'active'
+                AND u.country IN ('KR', 'JP', 'US', 'DE', 'FR')
+                AND o.amount BETWEEN 100 AND 5000
+                AND o.created_at >= 20240101
+                AND u.name LIKE 'kim%'
+                AND u.email IS NOT NULL
+            GROUP BY u.id, u.name, u.email, o.amount, o.created_at
+            HAVING COUNT(*) > 3
+            ORDER BY o.created_at DESC, u.name ASC
+            LIMIT 100 OFFSET 200""";
+
+    private CharScanner scalar;
+    private CharScanner vector;
+    private SqlLexer pooled;
+
+    private static String buildLiteralHeavySql() {
+        final StringBuilder sql = new StringBuilder("SELECT id FROM documents WHERE 1 = 1");
+        for (int i = 0; i < 50; i++) {
+            sql.append('\n')
+                    .append(" ".repeat(120))
+                    .append("-- ORM generated condition ").append(i).append(' ').append("x".repeat(200))
+                    .append('\n')
+                    .append(" ".repeat(120))
+                    .append("OR body = '").append("lorem ipsum dolor sit amet ".repeat(80)).append("it''s'");
+        }
+        return sql.toString();
+    }
+
+    @Setup
+    public void setUp() {
+        scalar = CharScanner.scalar(SQL);
+        vector = CharScanner.of(CharBuffer.wrap(SQL.toCharArray()));
+        pooled = new SqlLexer("");
+    }
+
+    @Benchmark
+    public int scanScalar() {
+        return scanAll(scalar);
+    }
+
+    @Benchmark
+    public int scanVector() {
+        return scanAll(vector);
+    }
+
+    /**
+     * 공백, 주석 끝, 따옴표/백슬래시를 번갈아 찾으며 입력 끝까지 이동합니다.
+     */
+    private static int scanAll(final CharScanner scanner) {
+        final int length = SQL.length();
+        int index = 0;
+        int found = 0;
+        while (index < length) {
+            index = scanner.skipWhile(CharClass.WHITESPACE, index, length);
+            index = scanner.indexOf('\n', index, length);
+            index = scanner.indexOfAny('\'', '\\', index, length) + 1;
+            found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dcom.jaeyeonling.lexer.vector=false"})
+    public int tokenizeScalar() {
+        return new SqlLexer(SQL).tokenizeToBuffer().size();
+    }
+
+    @Benchmark
+    public int tokenizeVector() {
+        return new SqlLexer(SQL).tokenizeToBuffer().size();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dcom.jaeyeonling.lexer.vector=false"})
+    public int pooledScalar() {
+        return pooled.reset(SQL).tokenizeToBuffer().size();
+    }
+
+    @Benchmark
+    public int pooledVector() {
+        return pooled.reset(SQL).tokenizeToBuffer().size();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Dcom.jaeyeonling.lexer.vector=false"})
+    public int typicalScalar() {
+        return pooled.reset(TYPICAL_SQL).tokenizeToBuffer().size();
+    }
+
+    @Benchmark
+    public int typicalVector() {
+        return pooled.reset(TYPICAL_SQL).tokenizeToBuffer().size();
+    }
+}
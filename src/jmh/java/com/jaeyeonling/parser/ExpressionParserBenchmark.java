@@ -0,0 +1,66 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.lexer.SqlLexer;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.parser.expression.ExpressionProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단계별 재귀 하강(recursive)과 우선순위 상승(climbing) 표현식 파서를 비교합니다.
+ * 토큰화는 준비 단계에서 끝내고, 매 호출에서는 토큰 스트림 생성과 표현식 파싱만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionParserBenchmark {
+
+    private static final String ARITHMETIC =
+            "a * 2 + b / 3 - c * (d + e) / f + g * h - i / 4 + (j - k) * (l + m) / n - o * p + q";
+
+    private static final String PREDICATES = """
+            u.age >= 18 AND u.status = 'active' AND o.amount > 10.5 * u.discount
+            AND (u.country = 'KR' OR u.country = 'JP' OR u.country = 'US')
+            AND u.email LIKE '%@example.com' AND o.created_at BETWEEN 20240101 AND 20241231
+            AND u.deleted_at IS NULL AND o.id NOT IN (1, 2, 3) AND u.score + 10 <= u.max_score - 5""";
+
+    @Param({"arithmetic", "predicates"})
+    public String workload;
+
+    private TokenBuffer tokens;
+    private ExpressionProvider recursive;
+    private ExpressionProvider climbing;
+
+    @Setup
+    public void setUp() {
+        final String expression = workload.equals("arithmetic") ? ARITHMETIC : PREDICATES;
+        tokens = new SqlLexer(expression).tokenizeToBuffer();
+        recursive = new RecursiveDescentExpressionParser();
+        climbing = new ExpressionParser();
+    }
+
+    @Benchmark
+    public Expression recursive() {
+        return recursive.parseExpression(new TokenStream(tokens));
+    }
+
+    @Benchmark
+    public Expression climbing() {
+        return climbing.parseExpression(new TokenStream(tokens));
+    }
+}
@@ -0,0 +1,119 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
+import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.ast.expression.Operator;
+import com.jaeyeonling.exception.SyntaxException;
+import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenType;
+import com.jaeyeonling.parser.expression.ExpressionProvider;
+import com.jaeyeonling.parser.expression.FunctionParser;
+import com.jaeyeonling.parser.expression.IdentifierParser;
+import com.jaeyeonling.parser.expression.LiteralParser;
+import com.jaeyeonling.parser.expression.OperatorParser;
+import com.jaeyeonling.parser.expression.OperatorParserRegistry;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 비교용 기준 구현.
+ * 우선순위 단계마다 메서드 참조를 넘기며 재귀 하강하던 이전 {@link ExpressionParser}의 방식을 그대로 유지합니다.
+ */
+final class RecursiveDescentExpressionParser implements ExpressionProvider {
+
+    private static final Map<TokenType, Operator> binaryOperators = Map.of(
+            TokenType.PLUS, Operator.ADD,
+            TokenType.MINUS, Operator.SUBTRACT,
+            TokenType.STAR, Operator.MULTIPLY,
+            TokenType.SLASH, Operator.DIVIDE,
+            TokenType.OR, Operator.OR,
+            TokenType.AND, Operator.AND
+    );
+
+    private final LiteralParser literalParser = new LiteralParser();
+    private final IdentifierParser identifierParser = new IdentifierParser();
+    private final OperatorParserRegistry operatorRegistry = new OperatorParserRegistry(this).freeze();
+    private final FunctionParser functionParser = new FunctionParser(this);
+
+    @Override
+    public Expression parseExpression(final TokenStream tokenStream) {
+        return parseOrExpression(tokenStream);
+    }
+
+    private Expression parseBinaryExpression(
+            final TokenStream tokenStream,
+            final Function<TokenStream, Expression> nextLevel,
+            final TokenType... operatorTypes
+    ) {
+        Expression left = nextLevel.apply(tokenStream);
+
+        while (tokenStream.advanceIfMatch(operatorTypes)) {
+            final Token operatorToken = tokenStream.previous();
+            final Expression right = nextLevel.apply(tokenStream);
+
+            final Operator operator = binaryOperators.get(operatorToken.type());
+            final SourceLocation location = left.location().merge(right.location());
+            left = new BinaryOperatorExpression(left, operator, right, location);
+        }
+
+        return left;
+    }
+
+    private Expression parseOrExpression(final TokenStream tokenStream) {
+        return parseBinaryExpression(tokenStream, this::parseAndExpression, TokenType.OR);
+    }
+
+    private Expression parseAndExpression(final TokenStream tokenStream) {
+        return parseBinaryExpression(tokenStream, this::parseComparisonExpression, TokenType.AND);
+    }
+
+    private Expression parseComparisonExpression(final TokenStream tokenStream) {
+        final Expression left = parseAdditiveExpression(tokenStream);
+        final OperatorParser parser = operatorRegistry.lookup(tokenStream);
+        if (parser != null) {
+            return parser.parse(tokenStream, left);
+        }
+        return left;
+    }
+
+    @Override
+    public Expression parseAdditiveExpression(final TokenStream tokenStream) {
+        return parseBinaryExpression(tokenStream, this::parseMultiplicativeExpression, TokenType.PLUS, TokenType.MINUS);
+    }
+
+    private Expression parseMultiplicativeExpression(final TokenStream tokenStream) {
+        return parseBinaryExpression(tokenStream, this::parsePrimaryExpression, TokenType.STAR, TokenType.SLASH);
+    }
+
+    private Expression parsePrimaryExpression(final TokenStream tokenStream) {
+        if (tokenStream.advanceIfMatch(TokenType.NOT)) {
+            final Expression expr = parsePrimaryExpression(tokenStream);
+            return new BinaryOperatorExpression(expr, Operator.NOT, null, expr.location());
+        }
+
+        final Optional<Expression> literal = literalParser.parseLiteral(tokenStream);
+        if (literal.isPresent()) {
+            return literal.get();
+        }
+
+        if (tokenStream.advanceIfMatch(TokenType.LPAREN)) {
+            final Expression expr = parseExpression(tokenStream);
+            tokenStream.consume(TokenType.RPAREN, "')'가 필요합니다");
+            return expr;
+        }
+
+        if (functionParser.canParseFunction(tokenStream)) {
+            return functionParser.parseFunction(tokenStream);
+        }
+
+        final Expression identifier = identifierParser.parseIdentifier(tokenStream);
+        if (identifier != null) {
+            return identifier;
+        }
+
+        throw new SyntaxException("표현식을 파싱할 수 없습니다.", tokenStream.peek());
+    }
+}
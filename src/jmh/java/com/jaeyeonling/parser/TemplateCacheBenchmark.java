@@ -0,0 +1,84 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.lexer.TokenBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리터럴 값만 다른 SQL을 돌아가며 파싱할 때, 직접 파싱과 틀 캐시를 토큰화 비용과 비교합니다.
+ * - lex: 토큰화만 수행
+ * - parse: 토큰화와 파싱
+ * - template: 토큰화, 키 생성, 틀에 값 채우기 (모든 요청이 틀을 찾음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateCacheBenchmark {
+
+    private static final int VARIANTS = 1024;
+
+    private static final String POINT = "SELECT id, name, email FROM users WHERE id = %d";
+
+    private static final String REPORT = """
+            SELECT u.name, o.amount FROM users u
+            WHERE u.age >= %d AND u.status = 'active%d' AND o.amount > %d.5
+            AND u.country IN ('KR', 'JP', 'US') AND o.created_at BETWEEN 20240101 AND %d
+            ORDER BY u.name LIMIT 10 OFFSET %d""";
+
+    @Param({"point", "report"})
+    public String workload;
+
+    private String[] sqls;
+    private SqlParser parser;
+    private TemplateCachingSqlParser templates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        sqls = new String[VARIANTS];
+        for (int i = 0; i < VARIANTS; i++) {
+            final int value = 1_000 + i * 37;
+            sqls[i] = workload.equals("point")
+                    ? String.format(POINT, value)
+                    : String.format(REPORT, value, i, value, 20_240_000 + i, i * 10);
+        }
+        parser = new SqlParser();
+        templates = new TemplateCachingSqlParser();
+        templates.parse(sqls[0]);
+    }
+
+    private String nextSql() {
+        next = (next + 1) & (VARIANTS - 1);
+        return sqls[next];
+    }
+
+    @Benchmark
+    public int lex() {
+        return parser.withTokens(nextSql(), TokenBuffer::size);
+    }
+
+    @Benchmark
+    public SelectStatement parse() {
+        return parser.parse(nextSql());
+    }
+
+    @Benchmark
+    public SelectStatement template() {
+        return templates.parse(nextSql());
+    }
+}
@@ -46,6 +46,23 @@ public record SourceLocation(
         return new SourceLocation(newLine, newColumn, newStartIndex, newEndIndex);
     }
 
+    /**
+     * 위치 객체 없이 구성 요소만으로 {@link #hashCode()}와 같은 값을 계산합니다.
+     */
+    public static int hash(
+            final int line,
+            final int column,
+            final int startIndex,
+            final int endIndex
+    ) {
+        return 31 * (31 * (31 * line + column) + startIndex) + endIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(line, column, startIndex, endIndex);
+    }
+
     @Override
     public String toString() {
         if (this == UNKNOWN) {
@@ -0,0 +1,162 @@
+package com.jaeyeonling.ast;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 여러 원소의 위치를 원소마다 {@link SourceLocation} 객체를 만들지 않고 원시 배열로 보관하는 불변 표.
+ * - 원소마다 시작/끝 오프셋만 저장 (원소당 8바이트)
+ * - 라인과 라인 시작 오프셋은 같은 라인의 원소들이 공유하므로 라인이 바뀔 때만 한 칸씩 기록
+ * - {@link #get(int)}은 요청될 때 위치 객체를 만들어 반환하며, 기록한 위치와 항상 같음
+ */
+public final class SourceLocationTable {
+
+    private final int size;
+    private final int[] startIndices;
+    private final int[] endIndices;
+    // 라인 구간: 구간이 시작하는 원소 번호, 라인 번호, 컬럼 1에 해당하는 오프셋
+    private final int[] segmentFirsts;
+    private final int[] segmentLines;
+    private final int[] segmentLineStarts;
+
+    private SourceLocationTable(final Builder builder) {
+        this.size = builder.size;
+        this.startIndices = Arrays.copyOf(builder.startIndices, builder.size);
+        this.endIndices = Arrays.copyOf(builder.endIndices, builder.size);
+        this.segmentFirsts = Arrays.copyOf(builder.segmentFirsts, builder.segments);
+        this.segmentLines = Arrays.copyOf(builder.segmentLines, builder.segments);
+        this.segmentLineStarts = Arrays.copyOf(builder.segmentLineStarts, builder.segments);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * index 번째 원소의 위치를 만들어 반환합니다.
+     */
+    public SourceLocation get(final int index) {
+        Objects.checkIndex(index, size);
+        final int segment = segmentOf(index);
+        return new SourceLocation(
+                segmentLines[segment],
+                startIndices[index] - segmentLineStarts[segment] + 1,
+                startIndices[index],
+                endIndices[index]
+        );
+    }
+
+    /**
+     * index 번째 원소 위치의 해시 코드를 위치 객체를 만들지 않고 반환합니다.
+     * {@code get(index).hashCode()}와 같습니다.
+     */
+    public int hash(final int index) {
+        Objects.checkIndex(index, size);
+        final int segment = segmentOf(index);
+        return SourceLocation.hash(
+                segmentLines[segment],
+                startIndices[index] - segmentLineStarts[segment] + 1,
+                startIndices[index],
+                endIndices[index]
+        );
+    }
+
+    private int segmentOf(final int index) {
+        final int found = Arrays.binarySearch(segmentFirsts, index);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SourceLocationTable other)) {
+            return false;
+        }
+        // 같은 위치 순서는 항상 같은 배열로 기록되므로 배열 비교로 충분
+        return size == other.size
+                && Arrays.equals(startIndices, other.startIndices)
+                && Arrays.equals(endIndices, other.endIndices)
+                && Arrays.equals(segmentFirsts, other.segmentFirsts)
+                && Arrays.equals(segmentLines, other.segmentLines)
+                && Arrays.equals(segmentLineStarts, other.segmentLineStarts);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(startIndices);
+        result = 31 * result + Arrays.hashCode(endIndices);
+        result = 31 * result + Arrays.hashCode(segmentLines);
+        return 31 * result + Arrays.hashCode(segmentLineStarts);
+    }
+
+    /**
+     * 위치를 순서대로 기록하는 빌더
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int size = 0;
+        private int[] startIndices = new int[INITIAL_CAPACITY];
+        private int[] endIndices = new int[INITIAL_CAPACITY];
+        private int segments = 0;
+        private int[] segmentFirsts = new int[1];
+        private int[] segmentLines = new int[1];
+        private int[] segmentLineStarts = new int[1];
+
+        private Builder() {
+        }
+
+        /**
+         * 다음 원소의 위치를 기록합니다.
+         */
+        public Builder add(
+                final int line,
+                final int column,
+                final int startIndex,
+                final int endIndex
+        ) {
+            if (size == startIndices.length) {
+                startIndices = Arrays.copyOf(startIndices, size * 2);
+                endIndices = Arrays.copyOf(endIndices, size * 2);
+            }
+            final int lineStart = startIndex - column + 1;
+            if (segments == 0 || segmentLines[segments - 1] != line || segmentLineStarts[segments - 1] != lineStart) {
+                addSegment(line, lineStart);
+            }
+            startIndices[size] = startIndex;
+            endIndices[size] = endIndex;
+            size++;
+            return this;
+        }
+
+        private void addSegment(
+                final int line,
+                final int lineStart
+        ) {
+            if (segments == segmentFirsts.length) {
+                segmentFirsts = Arrays.copyOf(segmentFirsts, segments * 2);
+                segmentLines = Arrays.copyOf(segmentLines, segments * 2);
+                segmentLineStarts = Arrays.copyOf(segmentLineStarts, segments * 2);
+            }
+            segmentFirsts[segments] = size;
+            segmentLines[segments] = line;
+            segmentLineStarts[segments] = lineStart;
+            segments++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public SourceLocationTable build() {
+            return new SourceLocationTable(this);
+        }
+    }
+}
@@ -3,9 +3,15 @@ package com.jaeyeonling.ast.expression;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.visitor.AstVisitor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * 이항 연산자 표현식을 나타냅니다.
  * 예: a = b, x > 10, name LIKE '%test%'
+ * - 왼쪽 결합 연산이 길게 이어지면 왼쪽으로 깊은 사슬이 되므로,
+ *   equals, hashCode, toString은 재귀 대신 왼쪽 사슬을 반복문으로 따라감
  */
 public record BinaryOperatorExpression(
         Expression left,
@@ -23,4 +29,65 @@ public record BinaryOperatorExpression(
     public <T> T accept(final AstVisitor<T> visitor) {
         return visitor.visitBinaryOperatorExpression(this);
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        Object a = this;
+        Object b = o;
+        while (a instanceof BinaryOperatorExpression x && b instanceof BinaryOperatorExpression y) {
+            if (x.operator != y.operator
+                    || !Objects.equals(x.right, y.right)
+                    || !Objects.equals(x.location, y.location)) {
+                return false;
+            }
+            a = x.left;
+            b = y.left;
+        }
+        return Objects.equals(a, b);
+    }
+
+    @Override
+    public int hashCode() {
+        final List<BinaryOperatorExpression> chain = leftChain();
+        int hash = Objects.hashCode(chain.getLast().left);
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            final BinaryOperatorExpression node = chain.get(i);
+            hash = 31 * hash + Objects.hashCode(node.operator);
+            hash = 31 * hash + Objects.hashCode(node.right);
+            hash = 31 * hash + Objects.hashCode(node.location);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final List<BinaryOperatorExpression> chain = leftChain();
+        final StringBuilder sb = new StringBuilder();
+        sb.append("BinaryOperatorExpression[left=".repeat(chain.size()));
+        sb.append(chain.getLast().left);
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            final BinaryOperatorExpression node = chain.get(i);
+            sb.append(", operator=").append(node.operator)
+                    .append(", right=").append(node.right)
+                    .append(", location=").append(node.location)
+                    .append(']');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자신부터 왼쪽 피연산자를 따라 이어지는 이항 연산자 표현식들을 바깥쪽부터 순서대로 반환합니다.
+     */
+    private List<BinaryOperatorExpression> leftChain() {
+        final List<BinaryOperatorExpression> chain = new ArrayList<>();
+        Expression current = this;
+        while (current instanceof BinaryOperatorExpression node) {
+            chain.add(node);
+            current = node.left;
+        }
+        return chain;
+    }
 }
@@ -3,14 +3,95 @@ package com.jaeyeonling.ast.expression;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.visitor.AstVisitor;
 
+import java.math.BigDecimal;
+import java.util.Objects;
+
 /**
  * 소수점 리터럴을 나타내는 클래스.
+ * - 소수점을 뺀 숫자열(unscaledValue)과 소수 자릿수(scale)로 값을 정확히 보관
+ * - 예: 3.14 는 (314, 2), .5 는 (5, 1)
+ * - 동등성은 두 구성 요소를 그대로 비교하므로 1.5 (15, 1)와 1.50 (150, 2)는 같지 않음
+ *   (예전 double 표현에서는 같았음). 수치 비교는 {@link #value()}나 {@link #toBigDecimal()}의 compareTo를 사용
+ * 숫자열이 long 범위를 넘는 소수는 {@link NumericLiteral}로 표현합니다.
  */
 public record DecimalLiteral(
-        double value,
+        long unscaledValue,
+        int scale,
         SourceLocation location
 ) implements Expression {
 
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    /**
+     * double 값으로 리터럴을 만드는 예전 생성자와의 호환용 생성자.
+     * - double을 가장 짧게 표현하는 10진수로 변환 (예: 1.5 는 (15, 1), 2.0 은 (20, 1))
+     * - 숫자열이 long 범위를 넘거나 유한하지 않은 값이면 IllegalArgumentException
+     */
+    public DecimalLiteral(
+            final double value,
+            final SourceLocation location
+    ) {
+        this(exactOf(value), location);
+    }
+
+    private DecimalLiteral(
+            final BigDecimal exact,
+            final SourceLocation location
+    ) {
+        this(exact.unscaledValue().longValueExact(), exact.scale(), location);
+    }
+
+    /**
+     * double로 변환한 값을 반환합니다.
+     * 숫자열과 10의 거듭제곱이 모두 double로 정확히 표현되면 나눗셈 한 번으로 계산합니다.
+     */
+    public double value() {
+        if (-MAX_EXACT_DOUBLE <= unscaledValue && unscaledValue <= MAX_EXACT_DOUBLE
+                && 0 <= scale && scale < POWERS_OF_TEN.length) {
+            return unscaledValue / POWERS_OF_TEN[scale];
+        }
+        return toBigDecimal().doubleValue();
+    }
+
+    /**
+     * 정확한 값을 반환합니다.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    private static BigDecimal exactOf(final double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("유한하지 않은 소수 리터럴입니다: " + value);
+        }
+        final BigDecimal exact = BigDecimal.valueOf(value);
+        final BigDecimal scaled = exact.scale() < 0 ? exact.setScale(0) : exact;
+        if (scaled.unscaledValue().bitLength() > Long.SIZE - 1) {
+            throw new IllegalArgumentException("long 범위를 넘는 소수 리터럴은 NumericLiteral을 사용해야 합니다: " + value);
+        }
+        return scaled;
+    }
+
+    /**
+     * 노드 없이 구성 요소만으로 {@link #hashCode()}와 같은 값을 계산합니다. ({@link LiteralValueList}가 사용)
+     */
+    static int hash(
+            final long unscaledValue,
+            final int scale,
+            final int locationHash
+    ) {
+        return 31 * (31 * Long.hashCode(unscaledValue) + scale) + locationHash;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(unscaledValue, scale, Objects.hashCode(location));
+    }
+
     @Override
     public ExpressionType expressionType() {
         return ExpressionType.LITERAL;
@@ -23,6 +104,6 @@ public record DecimalLiteral(
 
     @Override
     public String toString() {
-        return String.valueOf(value);
+        return toBigDecimal().toPlainString();
     }
 }
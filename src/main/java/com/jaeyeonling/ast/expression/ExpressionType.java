@@ -6,7 +6,9 @@ package com.jaeyeonling.ast.expression;
 public enum ExpressionType {
     COLUMN,             // 컬럼 참조
     LITERAL,            // 리터럴 값
+    PARAMETER,          // 바인드 파라미터 (?, :name)
     BINARY_OPERATOR,    // 이항 연산자
+    LOGICAL_OPERATOR,   // 같은 연산자로 이어진 AND/OR 항들
     UNARY_OPERATOR,     // 단항 연산자
     COMPARISON,         // 비교 연산자 (LIKE, IN, BETWEEN, IS NULL)
     FUNCTION_CALL,      // 함수 호출
@@ -3,15 +3,35 @@ package com.jaeyeonling.ast.expression;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.visitor.AstVisitor;
 
+import java.util.Objects;
+
 /**
  * 정수 리터럴을 나타냅니다.
  * 예: 42, 100, -5
+ * long 범위를 넘는 정수는 {@link NumericLiteral}로 표현합니다.
+ * - value()는 long을 반환함 (예전에는 int). int가 필요하면 {@link Math#toIntExact(long)}로 변환
+ * - int 인자를 받던 예전 생성자 호출은 long으로 넓혀져 그대로 컴파일됨
  */
 public record IntegerLiteral(
-        int value,
+        long value,
         SourceLocation location
 ) implements Expression {
 
+    /**
+     * 노드 없이 구성 요소만으로 {@link #hashCode()}와 같은 값을 계산합니다. ({@link LiteralValueList}가 사용)
+     */
+    static int hash(
+            final long value,
+            final int locationHash
+    ) {
+        return 31 * Long.hashCode(value) + locationHash;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(value, Objects.hashCode(location));
+    }
+
     @Override
     public ExpressionType expressionType() {
         return ExpressionType.LITERAL;
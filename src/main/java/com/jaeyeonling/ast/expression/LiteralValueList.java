@@ -0,0 +1,353 @@
+package com.jaeyeonling.ast.expression;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.SourceLocationTable;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * 한 종류의 리터럴만으로 이루어진 IN 값 목록을 원시 배열로 보관하는 불변 목록.
+ * - 정수는 long[], 소수는 숫자열 long[]과 자릿수 int[], 문자열은 String[]에 보관
+ * - 원소 위치는 {@link SourceLocationTable}에 오프셋 배열로 보관 (위치 없이 만든 목록은 {@link SourceLocation#UNKNOWN})
+ * - 원소마다 리터럴 노드와 위치 객체를 만들지 않으며, get()은 원래 위치를 가진 리터럴을 그때그때 만들어 반환
+ * - 포함 여부 검사용 정렬 배열(정수, 소수)과 해시 집합(문자열)은 처음 검사할 때 한 번만 만듦
+ * - equals/hashCode는 List 규약을 따르며, 해시는 원소 노드를 만들지 않고 배열에서 바로 계산
+ */
+public final class LiteralValueList extends AbstractList<Expression> implements RandomAccess {
+
+    /**
+     * 목록에 담긴 리터럴의 종류
+     */
+    public enum Kind {
+        INTEGER,
+        DECIMAL,
+        STRING
+    }
+
+    private static final double LONG_RANGE = 0x1p63;
+
+    private final Kind kind;
+    private final int size;
+    private final long[] numbers;
+    private final int[] scales;
+    private final String[] strings;
+    @Nullable
+    private final SourceLocationTable locations;
+
+    // 처음 포함 여부를 검사할 때 만드는 조회 구조 (long[], double[], Set<String> 중 하나)
+    private volatile Object lookup;
+
+    private LiteralValueList(
+            final Kind kind,
+            final int size,
+            final long[] numbers,
+            final int[] scales,
+            final String[] strings,
+            @Nullable final SourceLocationTable locations
+    ) {
+        if (locations != null && locations.size() != size) {
+            throw new IllegalArgumentException(
+                    String.format("위치 수 %d가 목록 크기 %d와 다릅니다", locations.size(), size));
+        }
+        this.kind = kind;
+        this.size = size;
+        this.numbers = numbers;
+        this.scales = scales;
+        this.strings = strings;
+        this.locations = locations;
+    }
+
+    /**
+     * 위치 없는 정수 목록을 만듭니다. 배열의 앞 size개를 복사합니다.
+     */
+    public static LiteralValueList ofIntegers(
+            final long[] values,
+            final int size
+    ) {
+        return ofIntegers(values, size, null);
+    }
+
+    /**
+     * 정수 목록을 만듭니다. 배열의 앞 size개를 복사합니다.
+     *
+     * @param locations 원소 위치 (null이면 모두 {@link SourceLocation#UNKNOWN})
+     */
+    public static LiteralValueList ofIntegers(
+            final long[] values,
+            final int size,
+            @Nullable final SourceLocationTable locations
+    ) {
+        return new LiteralValueList(Kind.INTEGER, checkSize(values.length, size),
+                Arrays.copyOf(values, size), null, null, locations);
+    }
+
+    /**
+     * 위치 없는 소수 목록을 만듭니다. 각 값은 소수점을 뺀 숫자열과 소수 자릿수로 표현하며, 배열의 앞 size개를 복사합니다.
+     */
+    public static LiteralValueList ofDecimals(
+            final long[] unscaledValues,
+            final int[] scales,
+            final int size
+    ) {
+        return ofDecimals(unscaledValues, scales, size, null);
+    }
+
+    /**
+     * 소수 목록을 만듭니다. 각 값은 소수점을 뺀 숫자열과 소수 자릿수로 표현하며, 배열의 앞 size개를 복사합니다.
+     *
+     * @param locations 원소 위치 (null이면 모두 {@link SourceLocation#UNKNOWN})
+     */
+    public static LiteralValueList ofDecimals(
+            final long[] unscaledValues,
+            final int[] scales,
+            final int size,
+            @Nullable final SourceLocationTable locations
+    ) {
+        checkSize(Math.min(unscaledValues.length, scales.length), size);
+        return new LiteralValueList(Kind.DECIMAL, size,
+                Arrays.copyOf(unscaledValues, size), Arrays.copyOf(scales, size), null, locations);
+    }
+
+    /**
+     * 위치 없는 문자열 목록을 만듭니다. 배열의 앞 size개를 복사합니다.
+     */
+    public static LiteralValueList ofStrings(
+            final String[] values,
+            final int size
+    ) {
+        return ofStrings(values, size, null);
+    }
+
+    /**
+     * 문자열 목록을 만듭니다. 배열의 앞 size개를 복사합니다.
+     *
+     * @param locations 원소 위치 (null이면 모두 {@link SourceLocation#UNKNOWN})
+     */
+    public static LiteralValueList ofStrings(
+            final String[] values,
+            final int size,
+            @Nullable final SourceLocationTable locations
+    ) {
+        checkSize(values.length, size);
+        final String[] copy = Arrays.copyOf(values, size);
+        for (final String value : copy) {
+            Objects.requireNonNull(value, "문자열 값은 null일 수 없습니다");
+        }
+        return new LiteralValueList(Kind.STRING, size, null, null, copy, locations);
+    }
+
+    private static int checkSize(
+            final int capacity,
+            final int size
+    ) {
+        if (size < 0 || size > capacity) {
+            throw new IllegalArgumentException(
+                    String.format("목록 크기 %d가 배열 크기 %d를 벗어났습니다", size, capacity));
+        }
+        return size;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Expression get(final int index) {
+        final SourceLocation location = locationAt(index);
+        return switch (kind) {
+            case INTEGER -> new IntegerLiteral(numbers[index], location);
+            case DECIMAL -> new DecimalLiteral(numbers[index], scales[index], location);
+            case STRING -> new StringLiteral(strings[index], location);
+        };
+    }
+
+    /**
+     * index 위치 원소의 위치를 반환합니다.
+     */
+    public SourceLocation locationAt(final int index) {
+        Objects.checkIndex(index, size);
+        return locations == null ? SourceLocation.UNKNOWN : locations.get(index);
+    }
+
+    /**
+     * index 위치의 정수 값을 반환합니다.
+     *
+     * @throws IllegalStateException 정수 목록이 아닌 경우
+     */
+    public long longAt(final int index) {
+        requireKind(Kind.INTEGER);
+        Objects.checkIndex(index, size);
+        return numbers[index];
+    }
+
+    /**
+     * index 위치의 숫자 값을 double로 반환합니다.
+     *
+     * @throws IllegalStateException 숫자 목록이 아닌 경우
+     */
+    public double doubleAt(final int index) {
+        Objects.checkIndex(index, size);
+        return switch (kind) {
+            case INTEGER -> numbers[index];
+            case DECIMAL -> toDouble(numbers[index], scales[index]);
+            case STRING -> throw new IllegalStateException("문자열 목록에는 숫자 값이 없습니다");
+        };
+    }
+
+    /**
+     * index 위치의 문자열 값을 반환합니다.
+     *
+     * @throws IllegalStateException 문자열 목록이 아닌 경우
+     */
+    public String stringAt(final int index) {
+        requireKind(Kind.STRING);
+        Objects.checkIndex(index, size);
+        return strings[index];
+    }
+
+    /**
+     * 정수 값이 목록에 있는지 확인합니다. 정수 목록은 정렬 배열에서 이진 탐색하고, 소수 목록은 double로 비교합니다.
+     */
+    public boolean contains(final long value) {
+        return switch (kind) {
+            case INTEGER -> Arrays.binarySearch(sortedLongs(), value) >= 0;
+            case DECIMAL -> contains((double) value);
+            case STRING -> false;
+        };
+    }
+
+    /**
+     * 숫자 값이 목록에 있는지 확인합니다. 정수 목록은 값이 정수일 때만 정수로 바꿔 찾습니다.
+     */
+    public boolean contains(final double value) {
+        return switch (kind) {
+            case INTEGER -> value == Math.rint(value)
+                    && Math.abs(value) < LONG_RANGE
+                    && contains((long) value);
+            case DECIMAL -> Arrays.binarySearch(sortedDoubles(), value) >= 0;
+            case STRING -> false;
+        };
+    }
+
+    /**
+     * 문자열 값이 목록에 있는지 확인합니다.
+     */
+    public boolean contains(final String value) {
+        if (kind != Kind.STRING) {
+            return false;
+        }
+        return stringSet().contains(value);
+    }
+
+    private long[] sortedLongs() {
+        if (lookup instanceof long[] sorted) {
+            return sorted;
+        }
+        final long[] sorted = Arrays.copyOf(numbers, size);
+        Arrays.sort(sorted);
+        lookup = sorted;
+        return sorted;
+    }
+
+    private double[] sortedDoubles() {
+        if (lookup instanceof double[] sorted) {
+            return sorted;
+        }
+        final double[] sorted = new double[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = toDouble(numbers[i], scales[i]);
+        }
+        Arrays.sort(sorted);
+        lookup = sorted;
+        return sorted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> stringSet() {
+        if (lookup instanceof Set<?> set) {
+            return (Set<String>) set;
+        }
+        final Set<String> set = new HashSet<>(Arrays.asList(strings));
+        lookup = set;
+        return set;
+    }
+
+    private void requireKind(final Kind expected) {
+        if (kind != expected) {
+            throw new IllegalStateException(
+                    String.format("%s 목록에서 %s 값을 읽을 수 없습니다", kind, expected));
+        }
+    }
+
+    private static double toDouble(
+            final long unscaledValue,
+            final int scale
+    ) {
+        return new DecimalLiteral(unscaledValue, scale, SourceLocation.UNKNOWN).value();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LiteralValueList other) {
+            return kind == other.kind
+                    && Arrays.equals(numbers, other.numbers)
+                    && Arrays.equals(scales, other.scales)
+                    && Arrays.equals(strings, other.strings)
+                    && Objects.equals(locations, other.locations);
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * List 규약대로 원소(리터럴)들의 해시를 이어서 계산하므로 같은 원소를 가진 다른 목록과 일치합니다.
+     * 원소 노드를 만들지 않고 배열과 위치 표에서 바로 계산합니다.
+     */
+    @Override
+    public int hashCode() {
+        final int unknown = SourceLocation.UNKNOWN.hashCode();
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            final int locationHash = locations == null ? unknown : locations.hash(i);
+            final int element = switch (kind) {
+                case INTEGER -> IntegerLiteral.hash(numbers[i], locationHash);
+                case DECIMAL -> DecimalLiteral.hash(numbers[i], scales[i], locationHash);
+                case STRING -> StringLiteral.hash(strings[i], locationHash);
+            };
+            result = 31 * result + element;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case INTEGER -> Arrays.toString(numbers);
+            case DECIMAL -> {
+                final StringBuilder sb = new StringBuilder("[");
+                for (int i = 0; i < size; i++) {
+                    if (i > 0) {
+                        sb.append(", ");
+                    }
+                    sb.append(BigDecimal.valueOf(numbers[i], scales[i]).toPlainString());
+                }
+                yield sb.append(']').toString();
+            }
+            case STRING -> Arrays.toString(strings);
+        };
+    }
+}
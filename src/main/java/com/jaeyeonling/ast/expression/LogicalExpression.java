@@ -0,0 +1,39 @@
+package com.jaeyeonling.ast.expression;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.visitor.AstVisitor;
+
+import java.util.List;
+
+/**
+ * 같은 논리 연산자로 이어진 항들을 하나로 묶은 n항 표현식.
+ * 예: a = 1 AND b = 2 AND c = 3 → LogicalExpression(AND, [a = 1, b = 2, c = 3])
+ * - 연산자는 AND 또는 OR만 가능하며, 항은 두 개 이상
+ * - 괄호로 묶인 항은 그대로 하나의 항으로 남음
+ */
+public record LogicalExpression(
+        Operator operator,
+        List<Expression> operands,
+        SourceLocation location
+) implements Expression {
+
+    public LogicalExpression {
+        if (operator != Operator.AND && operator != Operator.OR) {
+            throw new IllegalArgumentException("논리 표현식의 연산자는 AND 또는 OR이어야 합니다: " + operator);
+        }
+        if (operands.size() < 2) {
+            throw new IllegalArgumentException("논리 표현식에는 항이 두 개 이상 필요합니다: " + operands.size());
+        }
+        operands = List.copyOf(operands);
+    }
+
+    @Override
+    public ExpressionType expressionType() {
+        return ExpressionType.LOGICAL_OPERATOR;
+    }
+
+    @Override
+    public <T> T accept(final AstVisitor<T> visitor) {
+        return visitor.visitLogicalExpression(this);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jaeyeonling.ast.expression;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.visitor.AstVisitor;
+
+import java.math.BigDecimal;
+
+/**
+ * long 범위를 넘는 숫자 리터럴을 나타냅니다.
+ * 예: 99999999999999999999, 12345678901234567890.5
+ */
+public record NumericLiteral(
+        BigDecimal value,
+        SourceLocation location
+) implements Expression {
+
+    @Override
+    public ExpressionType expressionType() {
+        return ExpressionType.LITERAL;
+    }
+
+    @Override
+    public <T> T accept(final AstVisitor<T> visitor) {
+        return visitor.visitNumericLiteral(this);
+    }
+
+    @Override
+    public String toString() {
+        return value.toPlainString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.jaeyeonling.ast.expression;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.visitor.AstVisitor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 실행할 때 값이 정해지는 바인드 파라미터를 나타냅니다.
+ * 예: ?, :name
+ * - index는 문장 안에서 몇 번째 파라미터인지를 나타내는 1부터 시작하는 번호 (JDBC의 ? 번호와 같음)
+ * - name은 이름 있는 파라미터의 이름이며, 위치 파라미터는 null
+ */
+public record ParameterExpression(
+        int index,
+        @Nullable String name,
+        SourceLocation location
+) implements Expression {
+
+    public static ParameterExpression positional(
+            final int index,
+            final SourceLocation location
+    ) {
+        return new ParameterExpression(index, null, location);
+    }
+
+    public static ParameterExpression named(
+            final int index,
+            final String name,
+            final SourceLocation location
+    ) {
+        return new ParameterExpression(index, name, location);
+    }
+
+    /**
+     * 이름 있는 파라미터(:name)인지 확인합니다.
+     */
+    public boolean isNamed() {
+        return name != null;
+    }
+
+    @Override
+    public ExpressionType expressionType() {
+        return ExpressionType.PARAMETER;
+    }
+
+    @Override
+    public <T> T accept(final AstVisitor<T> visitor) {
+        return visitor.visitParameterExpression(this);
+    }
+}
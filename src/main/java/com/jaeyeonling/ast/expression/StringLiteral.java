@@ -3,6 +3,8 @@ package com.jaeyeonling.ast.expression;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.visitor.AstVisitor;
 
+import java.util.Objects;
+
 /**
  * 문자열 리터럴을 나타냅니다.
  * 예: 'hello', 'world'
@@ -12,6 +14,21 @@ public record StringLiteral(
         SourceLocation location
 ) implements Expression {
 
+    /**
+     * 노드 없이 구성 요소만으로 {@link #hashCode()}와 같은 값을 계산합니다. ({@link LiteralValueList}가 사용)
+     */
+    static int hash(
+            final String value,
+            final int locationHash
+    ) {
+        return 31 * Objects.hashCode(value) + locationHash;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(value, Objects.hashCode(location));
+    }
+
     @Override
     public ExpressionType expressionType() {
         return ExpressionType.LITERAL;
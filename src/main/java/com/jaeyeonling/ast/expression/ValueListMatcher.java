@@ -3,6 +3,7 @@ package com.jaeyeonling.ast.expression;
 import com.jaeyeonling.ast.SourceLocation;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 값 목록 매칭 표현식을 위한 공통 인터페이스.
@@ -20,6 +21,13 @@ public interface ValueListMatcher extends Expression {
      */
     List<Expression> values();
 
+    /**
+     * 값 목록이 한 종류의 리터럴만으로 이루어져 원시 배열로 압축되어 있다면 그 목록을 반환합니다.
+     */
+    default Optional<LiteralValueList> literalValues() {
+        return values() instanceof LiteralValueList literals ? Optional.of(literals) : Optional.empty();
+    }
+
     /**
      * 소스 위치
      */
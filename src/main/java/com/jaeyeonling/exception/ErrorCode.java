@@ -0,0 +1,92 @@
+package com.jaeyeonling.exception;
+
+/**
+ * 파싱 예외의 종류와 메시지 템플릿.
+ * - 템플릿의 %1$d, %2$d는 라인과 컬럼, %3$부터는 예외에 담긴 인자
+ * - 메시지는 {@link SqlParseException#getMessage()}가 호출될 때 만들어짐
+ */
+public enum ErrorCode {
+
+    /**
+     * 호출한 쪽에서 만든 메시지를 그대로 사용
+     */
+    MESSAGE("%3$s"),
+
+    UNEXPECTED_CHARACTER("""
+            SQL 구문에서 사용할 수 없는 문자입니다: '%3$c'
+            위치: %1$d행 %2$d열
+            허용되는 문자: 알파벳, 숫자, '_', '.', ',', '(', ')', '*', '+', '-', '=', '<', '>', '!', 작은따옴표"""),
+
+    INVALID_OPERATOR("""
+            연산자로 사용할 수 없는 문자입니다.
+            문자: '%3$c'
+            위치: %1$d행 %2$d열
+            연산자는 완전한 형태여야 합니다. 예: !=, <=, >="""),
+
+    UNTERMINATED_STRING("종료되지 않은 문자열 (위치: %1$d행 %2$d열)"),
+
+    CHARACTER_MISMATCH("""
+            예상한 문자와 다른 문자를 발견했습니다.
+            예상: '%3$c'
+            실제: '%4$c'
+            위치: %1$d행 %2$d열"""),
+
+    /**
+     * 기대한 토큰 타입이 오지 않음 (메시지는 호출한 쪽에서 지정)
+     */
+    EXPECTED_TOKEN("%3$s"),
+
+    INCOMPLETE_IS_PREDICATE("""
+            IS 키워드 뒤에는 NULL 또는 NOT NULL이 와야 합니다.
+            예시: email IS NULL, name IS NOT NULL"""),
+
+    MISPLACED_CLAUSE("""
+            '%3$s' 절이 잘못된 위치에 있습니다.
+            올바른 SQL 절 순서:
+              SELECT → FROM → WHERE → GROUP BY → HAVING → ORDER BY → LIMIT
+            현재 위치: %1$d행 %2$d열"""),
+
+    UNSUPPORTED_QUALIFIED_NAME("""
+            점(.) 문법은 지원하지 않습니다.
+            스키마.테이블 형식은 아직 구현되지 않았습니다.
+            위치: %1$d행 %2$d열"""),
+
+    UNSUPPORTED_FUNCTION_CALL("""
+            함수 호출은 지원하지 않습니다.
+            COUNT(*), SUM(), AVG() 등의 집계 함수는 아직 구현되지 않았습니다.
+            위치: %1$d행 %2$d열"""),
+
+    UNEXPECTED_RIGHT_PARENTHESIS("""
+            닫는 괄호 ')'가 예상치 못한 위치에 있습니다.
+            괄호의 짝이 맞는지 확인해주세요."""),
+
+    UNEXPECTED_COMMA("""
+            쉼표(,)가 예상치 못한 위치에 있습니다.
+            SELECT 절이나 FROM 절의 항목을 구분할 때 사용해주세요."""),
+
+    UNEXPECTED_TOKEN("""
+            예상치 못한 토큰 '%3$s'이(가) 있습니다.
+            위치: %1$d행 %2$d열
+            SQL 문법을 확인해주세요.""");
+
+    private final String template;
+
+    ErrorCode(final String template) {
+        this.template = template;
+    }
+
+    /**
+     * 위치와 인자로 메시지를 만듭니다.
+     */
+    String format(
+            final int line,
+            final int column,
+            final Object[] arguments
+    ) {
+        final Object[] values = new Object[arguments.length + 2];
+        values[0] = line;
+        values[1] = column;
+        System.arraycopy(arguments, 0, values, 2, arguments.length);
+        return String.format(template, values);
+    }
+}
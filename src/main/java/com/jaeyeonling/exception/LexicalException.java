@@ -2,12 +2,17 @@ package com.jaeyeonling.exception;
 
 import com.jaeyeonling.lexer.Token;
 
+import java.io.Serial;
+
 /**
  * 렉싱(토큰화) 중 발생하는 예외.
  * 예: 잘못된 문자, 종료되지 않은 문자열 등
  */
 public final class LexicalException extends SqlParseException {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     public LexicalException(
             final String message,
             final Token token
@@ -18,4 +23,31 @@ public final class LexicalException extends SqlParseException {
     public LexicalException(final String message) {
         super(message);
     }
+
+    /**
+     * 입력의 한 위치에서 발생한 예외를 생성합니다. 메시지는 요청될 때 만들어집니다.
+     */
+    public LexicalException(
+            final ErrorCode code,
+            final int line,
+            final int column,
+            final Object... arguments
+    ) {
+        super(code, line, column, arguments);
+    }
+
+    /**
+     * 입력의 한 위치에서 발생한 예외를 생성합니다. 메시지는 요청될 때 만들어집니다.
+     *
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
+    public LexicalException(
+            final ErrorCode code,
+            final int line,
+            final int column,
+            final Object[] arguments,
+            final boolean writableStackTrace
+    ) {
+        super(code, line, column, arguments, writableStackTrace);
+    }
 }
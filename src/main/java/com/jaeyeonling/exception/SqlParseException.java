@@ -1,17 +1,70 @@
 package com.jaeyeonling.exception;
 
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL 파싱 중 발생하는 모든 예외의 기본 클래스.
+ * - 오류 코드, 토큰, 기대한 토큰 타입, 위치를 구조화된 값으로 보관
+ * - 사람이 읽는 메시지는 {@link #getMessage()}가 처음 호출될 때 만듦
+ * - writableStackTrace가 false인 생성자는 스택 트레이스를 수집하지 않음 (파서의 fast-fail 옵션)
+ * - 직렬화할 때는 메시지를 먼저 만들어 함께 저장하고, 템플릿 인자는 저장하지 않음
  */
 public abstract class SqlParseException extends RuntimeException {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 위치를 알 수 없을 때의 라인/컬럼 값
+     */
+    public static final int UNKNOWN_POSITION = -1;
+
+    private static final TokenType[] NO_TYPES = new TokenType[0];
+
+    private final ErrorCode code;
+
+    // 토큰은 직렬화할 수 있도록 구성 요소로 나눠 보관 (tokenType이 null이면 토큰 없음)
+    @Nullable
+    private final TokenType tokenType;
+    @Nullable
+    private final String tokenValue;
+    private final int tokenStartIndex;
+    private final int tokenEndIndex;
+    private final TokenType[] expectedTypes;
+    private final int line;
+    private final int column;
+    @Nullable
+    private transient Object[] arguments;
+
+    @Nullable
+    private String message;
+
     protected SqlParseException(
             final String message,
             final Token token
     ) {
-        super(formatMessageWithToken(message, token));
+        this(message, token, true);
+    }
+
+    /**
+     * 문자열 메시지와 토큰으로 예외를 생성합니다.
+     *
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
+    protected SqlParseException(
+            final String message,
+            final Token token,
+            final boolean writableStackTrace
+    ) {
+        this(ErrorCode.MESSAGE, token, List.of(), null, new Object[]{message}, writableStackTrace);
     }
 
     protected SqlParseException(
@@ -19,24 +72,183 @@ public abstract class SqlParseException extends RuntimeException {
             final Token token,
             final Throwable cause
     ) {
-        super(formatMessageWithToken(message, token), cause);
+        this(ErrorCode.MESSAGE, token, List.of(), cause, new Object[]{message}, true);
     }
 
     protected SqlParseException(final String message) {
-        super(message);
+        this(message, true);
     }
 
+    /**
+     * 위치 없이 문자열 메시지로 예외를 생성합니다.
+     *
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
     protected SqlParseException(
             final String message,
-            final Throwable cause) {
-        super(message, cause);
+            final boolean writableStackTrace
+    ) {
+        this(ErrorCode.MESSAGE, null, List.of(), UNKNOWN_POSITION, UNKNOWN_POSITION, null,
+                new Object[]{message}, writableStackTrace);
     }
 
-    private static String formatMessageWithToken(
+    protected SqlParseException(
             final String message,
-            final Token token
+            final Throwable cause) {
+        this(ErrorCode.MESSAGE, null, List.of(), UNKNOWN_POSITION, UNKNOWN_POSITION, cause,
+                new Object[]{message}, true);
+    }
+
+    /**
+     * 토큰에서 발생한 예외를 생성합니다.
+     *
+     * @param code          오류 코드
+     * @param token         문제가 된 토큰
+     * @param expectedTypes 그 위치에 올 수 있었던 토큰 타입 (없으면 빈 리스트)
+     * @param arguments     메시지 템플릿 인자
+     */
+    protected SqlParseException(
+            final ErrorCode code,
+            final Token token,
+            final List<TokenType> expectedTypes,
+            final Object... arguments
+    ) {
+        this(code, token, expectedTypes, arguments, true);
+    }
+
+    /**
+     * 토큰에서 발생한 예외를 생성합니다.
+     *
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
+    protected SqlParseException(
+            final ErrorCode code,
+            final Token token,
+            final List<TokenType> expectedTypes,
+            final Object[] arguments,
+            final boolean writableStackTrace
+    ) {
+        this(code, token, expectedTypes, null, arguments, writableStackTrace);
+    }
+
+    /**
+     * 토큰이 만들어지기 전(렉싱 중)의 위치에서 발생한 예외를 생성합니다.
+     */
+    protected SqlParseException(
+            final ErrorCode code,
+            final int line,
+            final int column,
+            final Object... arguments
+    ) {
+        this(code, line, column, arguments, true);
+    }
+
+    /**
+     * 토큰이 만들어지기 전(렉싱 중)의 위치에서 발생한 예외를 생성합니다.
+     *
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
+    protected SqlParseException(
+            final ErrorCode code,
+            final int line,
+            final int column,
+            final Object[] arguments,
+            final boolean writableStackTrace
     ) {
+        this(code, null, List.of(), line, column, null, arguments, writableStackTrace);
+    }
+
+    private SqlParseException(
+            final ErrorCode code,
+            final Token token,
+            final List<TokenType> expectedTypes,
+            @Nullable final Throwable cause,
+            final Object[] arguments,
+            final boolean writableStackTrace
+    ) {
+        this(code, token, expectedTypes, token.line(), token.column(), cause, arguments, writableStackTrace);
+    }
+
+    private SqlParseException(
+            final ErrorCode code,
+            @Nullable final Token token,
+            final List<TokenType> expectedTypes,
+            final int line,
+            final int column,
+            @Nullable final Throwable cause,
+            final Object[] arguments,
+            final boolean writableStackTrace
+    ) {
+        super(null, cause, true, writableStackTrace);
+        this.code = code;
+        this.tokenType = token == null ? null : token.type();
+        this.tokenValue = token == null ? null : token.value();
+        this.tokenStartIndex = token == null ? UNKNOWN_POSITION : token.startIndex();
+        this.tokenEndIndex = token == null ? UNKNOWN_POSITION : token.endIndex();
+        this.expectedTypes = expectedTypes.isEmpty() ? NO_TYPES : expectedTypes.toArray(NO_TYPES);
+        this.line = line;
+        this.column = column;
+        this.arguments = arguments;
+    }
+
+    public ErrorCode code() {
+        return code;
+    }
+
+    public Optional<Token> token() {
+        if (tokenType == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Token(tokenType, tokenValue, line, column, tokenStartIndex, tokenEndIndex));
+    }
+
+    public List<TokenType> expectedTypes() {
+        return List.of(expectedTypes);
+    }
+
+    /**
+     * 오류가 발생한 라인을 반환합니다. 알 수 없으면 {@link #UNKNOWN_POSITION}입니다.
+     */
+    public int line() {
+        return line;
+    }
+
+    /**
+     * 오류가 발생한 컬럼을 반환합니다. 알 수 없으면 {@link #UNKNOWN_POSITION}입니다.
+     */
+    public int column() {
+        return column;
+    }
+
+    /**
+     * 메시지를 처음 요청될 때 만들어 보관합니다.
+     * 여러 스레드가 동시에 만들어도 결과가 같으므로 동기화하지 않습니다.
+     */
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            rendered = render();
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    private String render() {
+        final String text = code.format(line, column, arguments);
+        if (tokenType == null) {
+            return text;
+        }
         return String.format("%s (위치: %d행 %d열, 토큰: '%s')",
-                message, token.line(), token.column(), token.value());
+                text, line, column, tokenValue);
+    }
+
+    /**
+     * 템플릿 인자는 직렬화하지 않으므로, 저장하기 전에 메시지를 만들어 둡니다.
+     */
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
     }
 }
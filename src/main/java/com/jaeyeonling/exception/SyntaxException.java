@@ -1,6 +1,10 @@
 package com.jaeyeonling.exception;
 
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenType;
+
+import java.io.Serial;
+import java.util.List;
 
 /**
  * 구문 분석 중 발생하는 예외.
@@ -8,6 +12,9 @@ import com.jaeyeonling.lexer.Token;
  */
 public final class SyntaxException extends SqlParseException {
 
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     public SyntaxException(
             final String message,
             final Token token
@@ -15,7 +22,57 @@ public final class SyntaxException extends SqlParseException {
         super(message, token);
     }
 
+    /**
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
+    public SyntaxException(
+            final String message,
+            final Token token,
+            final boolean writableStackTrace
+    ) {
+        super(message, token, writableStackTrace);
+    }
+
     public SyntaxException(final String message) {
         super(message);
     }
+
+    /**
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
+    public SyntaxException(
+            final String message,
+            final boolean writableStackTrace
+    ) {
+        super(message, writableStackTrace);
+    }
+
+    /**
+     * 토큰에서 발생한 예외를 생성합니다. 메시지는 요청될 때 만들어집니다.
+     *
+     * @param expectedTypes 그 위치에 올 수 있었던 토큰 타입 (없으면 빈 리스트)
+     */
+    public SyntaxException(
+            final ErrorCode code,
+            final Token token,
+            final List<TokenType> expectedTypes,
+            final Object... arguments
+    ) {
+        super(code, token, expectedTypes, arguments);
+    }
+
+    /**
+     * 토큰에서 발생한 예외를 생성합니다. 메시지는 요청될 때 만들어집니다.
+     *
+     * @param writableStackTrace false이면 스택 트레이스를 수집하지 않음
+     */
+    public SyntaxException(
+            final ErrorCode code,
+            final Token token,
+            final List<TokenType> expectedTypes,
+            final Object[] arguments,
+            final boolean writableStackTrace
+    ) {
+        super(code, token, expectedTypes, arguments, writableStackTrace);
+    }
 }
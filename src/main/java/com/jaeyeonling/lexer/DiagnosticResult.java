@@ -0,0 +1,19 @@
+package com.jaeyeonling.lexer;
+
+import java.util.List;
+
+/**
+ * 진단 모드 토큰화의 결과.
+ *
+ * @param tokens      토큰 버퍼 (오류 범위는 {@link TokenType#ERROR} 토큰, 마지막에 EOF 토큰 포함)
+ * @param diagnostics 소스 순서대로 기록된 오류
+ */
+public record DiagnosticResult(
+        TokenBuffer tokens,
+        List<LexicalDiagnostic> diagnostics
+) {
+
+    public boolean hasErrors() {
+        return !diagnostics.isEmpty();
+    }
+}
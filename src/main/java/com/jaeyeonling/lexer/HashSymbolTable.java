@@ -0,0 +1,193 @@
+package com.jaeyeonling.lexer;
+
+import java.util.Arrays;
+
+/**
+ * 개방 주소법 해시 테이블로 구현한 심볼 테이블.
+ * - 슬롯 배열에는 심볼 ID + 1을 저장하고, 0은 빈 슬롯
+ * - 해시는 {@link String#hashCode()}와 같은 방식으로 소스 범위에서 직접 계산
+ * - 해시를 ID별로 보관해 두어 비교 전에 걸러내고, 테이블을 늘릴 때 다시 계산하지 않음
+ * - 동기화하지 않음. 등록된 칸은 다시 쓰지 않으므로 {@link #snapshot()}으로 잠금 없이 읽을 수 있는 보기를 만들 수 있음
+ */
+final class HashSymbolTable implements SymbolTable {
+
+    private static final int INITIAL_SLOTS = 32;
+    private static final int INITIAL_SYMBOLS = 16;
+
+    private final int maxSymbols;
+    private int[] slots = new int[INITIAL_SLOTS];
+    private String[] symbols = new String[INITIAL_SYMBOLS];
+    private int[] hashes = new int[INITIAL_SYMBOLS];
+    private int size = 0;
+
+    HashSymbolTable(final int maxSymbols) {
+        this.maxSymbols = maxSymbols;
+    }
+
+    @Override
+    public int internId(
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        final int hash = hash(source, start, end);
+        final int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            final int id = slots[slot] - 1;
+            if (hashes[id] == hash && contentEquals(symbols[id], source, start, end)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size >= maxSymbols) {
+            return NO_ID;
+        }
+        return add(slot, hash, source.subSequence(start, end).toString());
+    }
+
+    private int add(
+            final int slot,
+            final int hash,
+            final String symbol
+    ) {
+        if (size == symbols.length) {
+            symbols = Arrays.copyOf(symbols, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        final int id = size;
+        symbols[id] = symbol;
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        size++;
+
+        // 적재율을 1/2 이하로 유지
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return id;
+    }
+
+    private void rehash(final int slotCount) {
+        slots = new int[slotCount];
+        final int mask = slotCount - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    @Override
+    public String symbol(final int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("등록되지 않은 심볼 ID입니다: " + id);
+        }
+        return symbols[id];
+    }
+
+    @Override
+    public int id(final CharSequence text) {
+        return find(slots, symbols, hashes, size, text, 0, text.length());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 지금까지 등록된 심볼을 보는 읽기 전용 보기를 반환합니다.
+     * 이후 등록은 같은 배열에 빈 칸을 채우거나 새 배열을 만들 뿐 기존 칸을 바꾸지 않으므로,
+     * 보기를 volatile 필드로 발행하면 다른 스레드가 잠금 없이 조회할 수 있습니다.
+     */
+    Snapshot snapshot() {
+        return new Snapshot(slots, symbols, hashes, size, size >= maxSymbols);
+    }
+
+    /**
+     * 특정 시점의 슬롯/심볼/해시 배열과 크기.
+     * - 보기를 만든 뒤 등록된 ID(size 이상)는 내용이 아직 보이지 않을 수 있으므로 건너뜀
+     *
+     * @param full 더 이상 새 심볼을 등록할 수 없는지 여부
+     */
+    record Snapshot(
+            int[] slots,
+            String[] symbols,
+            int[] hashes,
+            int size,
+            boolean full
+    ) {
+
+        int find(
+                final CharSequence source,
+                final int start,
+                final int end
+        ) {
+            return HashSymbolTable.find(slots, symbols, hashes, size, source, start, end);
+        }
+
+        String symbol(final int id) {
+            if (id < 0 || id >= size) {
+                throw new IllegalArgumentException("등록되지 않은 심볼 ID입니다: " + id);
+            }
+            return symbols[id];
+        }
+    }
+
+    private static int find(
+            final int[] slots,
+            final String[] symbols,
+            final int[] hashes,
+            final int size,
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        final int hash = hash(source, start, end);
+        final int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            final int id = slots[slot] - 1;
+            if (id < size && hashes[id] == hash && contentEquals(symbols[id], source, start, end)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_ID;
+    }
+
+    private static int hash(
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        // 하위 비트만 쓰는 마스크를 위해 상위 비트를 섞음
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean contentEquals(
+            final String symbol,
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        final int length = end - start;
+        if (symbol.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (symbol.charAt(i) != source.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
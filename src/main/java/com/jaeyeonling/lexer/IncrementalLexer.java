@@ -0,0 +1,171 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.lexer.reader.CharStream;
+import com.jaeyeonling.lexer.reader.Position;
+
+/**
+ * 편집된 범위 주변만 다시 토큰화하는 렉서.
+ * - 이전 토큰 버퍼와 편집을 받아 편집 앞쪽의 안전한 토큰 경계부터 다시 읽음
+ * - 새 토큰 시작 위치가 편집 뒤쪽에서 이전 토큰 시작과 맞아떨어지면 나머지는 복사
+ * - 복사한 토큰은 다시 계산하지 않고 오프셋과 라인/컬럼만 옮김
+ * 렉서는 뒤쪽 문맥을 보지 않으므로 같은 위치, 같은 텍스트에서 시작하면 이후 토큰도 같습니다.
+ * 다시 맞추는 지점은 항상 새로 읽은 토큰의 시작이므로 주석이나 문자열 안에서 맞춰지지 않으며,
+ * 편집으로 닫히지 않은 문자열이 생기면 전체 토큰화와 같은 예외가 발생합니다.
+ */
+public final class IncrementalLexer {
+
+    /**
+     * 토큰 리더가 토큰 끝 뒤로 미리 보는 최대 문자 수.
+     * 정수 뒤의 소수점과 숫자(1.5), 닫는 따옴표 뒤의 따옴표('') 판단에 두 문자까지 봅니다.
+     */
+    private static final int LOOKAHEAD = 2;
+
+    private final TokenReaderRegistry readerRegistry;
+    private final PositionMode positionMode;
+
+    public IncrementalLexer() {
+        this(TokenReaderRegistry.createDefault(), PositionMode.TRACKED);
+    }
+
+    /**
+     * @param readerRegistry 사용할 TokenReader 레지스트리 (이전 버퍼를 만든 렉서와 같아야 함)
+     * @param positionMode   다시 읽는 토큰의 라인/컬럼 계산 방식
+     */
+    public IncrementalLexer(
+            final TokenReaderRegistry readerRegistry,
+            final PositionMode positionMode
+    ) {
+        this.readerRegistry = readerRegistry;
+        this.positionMode = positionMode;
+    }
+
+    /**
+     * 이전 토큰 버퍼의 소스에 편집을 적용하고 다시 토큰화합니다.
+     *
+     * @param previous 편집 전 소스를 토큰화한 버퍼
+     * @param edit     적용할 편집
+     * @return 편집 후 소스의 토큰 버퍼 (이전 버퍼는 변경하지 않음)
+     */
+    public TokenBuffer relex(
+            final TokenBuffer previous,
+            final TextEdit edit
+    ) {
+        return relex(previous, edit, edit.applyTo(sourceOf(previous)));
+    }
+
+    /**
+     * 편집이 이미 적용된 소스를 받아 다시 토큰화합니다.
+     * 에디터처럼 새 텍스트를 따로 들고 있는 경우 문자열을 다시 만들지 않습니다.
+     *
+     * @param previous 편집 전 소스를 토큰화한 버퍼
+     * @param edit     이전 소스에 적용된 편집
+     * @param source   편집 후 소스
+     * @return 편집 후 소스의 토큰 버퍼 (이전 버퍼는 변경하지 않음)
+     */
+    public TokenBuffer relex(
+            final TokenBuffer previous,
+            final TextEdit edit,
+            final CharSequence source
+    ) {
+        final CharSequence previousSource = sourceOf(previous);
+        edit.checkWithin(previousSource);
+        if (source.length() != previousSource.length() + edit.delta()) {
+            throw new IllegalArgumentException(
+                    String.format("편집 후 소스 길이가 맞지 않습니다 (예상: %d, 실제: %d)",
+                            previousSource.length() + edit.delta(), source.length()));
+        }
+
+        final TokenBuffer tokens = new TokenBuffer(source, previous.size() + edit.insertedText().length());
+        final CharStream charStream = new CharStream(source, positionMode);
+        final TokenCollector tokenCollector = new TokenCollector(
+                charStream,
+                new WhitespaceSkipper(charStream),
+                readerRegistry,
+                tokens
+        );
+
+        final int restart = restartIndex(previous, edit.offset());
+        tokens.addRange(previous, 0, restart);
+        if (restart > 0) {
+            seekToken(charStream, previous, restart);
+        }
+
+        relexUntilResync(previous, restart, edit, charStream, tokenCollector, tokens);
+        return tokens;
+    }
+
+    private void seekToken(
+            final CharStream charStream,
+            final TokenBuffer previous,
+            final int index
+    ) {
+        if (positionMode == PositionMode.OFFSET_ONLY) {
+            charStream.seek(previous.startIndex(index), Position.UNRESOLVED, Position.UNRESOLVED);
+            return;
+        }
+        charStream.seek(previous.startIndex(index), previous.line(index), previous.column(index));
+    }
+
+    private static CharSequence sourceOf(final TokenBuffer previous) {
+        final CharSequence source = previous.source();
+        if (source == null) {
+            throw new IllegalArgumentException("소스를 참조하지 않는 토큰 버퍼는 증분 토큰화할 수 없습니다.");
+        }
+        return source;
+    }
+
+    /**
+     * 다시 읽기 시작할 토큰의 인덱스를 찾습니다.
+     * 끝과 미리 보는 범위가 모두 편집 앞에 있는 마지막 토큰부터 다시 읽으며,
+     * 그런 토큰이 없으면 소스의 처음부터 읽습니다.
+     */
+    private static int restartIndex(
+            final TokenBuffer previous,
+            final int offset
+    ) {
+        int low = 0;
+        int high = previous.size() - 2; // EOF 제외
+        int found = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (previous.endIndex(mid) + LOOKAHEAD <= offset) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? 0 : found;
+    }
+
+    private static void relexUntilResync(
+            final TokenBuffer previous,
+            final int restart,
+            final TextEdit edit,
+            final CharStream charStream,
+            final TokenCollector tokenCollector,
+            final TokenBuffer tokens
+    ) {
+        int candidate = restart;
+        while (true) {
+            final boolean hasMoreTokens = tokenCollector.hasMoreTokens();
+            final int index = charStream.currentIndex();
+            if (index >= edit.insertedEnd()) {
+                final int previousIndex = index - edit.delta();
+                while (candidate < previous.size() && previous.startIndex(candidate) < previousIndex) {
+                    candidate++;
+                }
+                if (candidate < previous.size() && previous.startIndex(candidate) == previousIndex) {
+                    tokens.addShifted(previous, candidate, previous.size(), edit.delta(),
+                            charStream.trackedLine(), charStream.trackedColumn());
+                    return;
+                }
+            }
+            if (!hasMoreTokens) {
+                tokenCollector.appendEofToken();
+                return;
+            }
+            tokenCollector.collectNextToken();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.jaeyeonling.lexer;
+
+import java.util.function.Supplier;
+
+/**
+ * 재사용 가능한 {@link SqlLexer}를 빌려주는 풀.
+ * 빌린 렉서는 토큰 버퍼 사용이 끝난 뒤 반드시 {@link #release(SqlLexer)}로 돌려줘야 합니다.
+ */
+public interface LexerPool {
+
+    /**
+     * 입력으로 초기화된 렉서를 빌립니다.
+     */
+    SqlLexer acquire(CharSequence input);
+
+    /**
+     * 빌린 렉서를 돌려줍니다.
+     * 보관하는 풀은 렉서가 마지막 입력을 붙잡아 두지 않도록 {@link SqlLexer#detach()}를 호출합니다.
+     */
+    void release(SqlLexer lexer);
+
+    /**
+     * 파서용 기본 렉서 (오프셋 전용 위치 모드, 기본 리더 레지스트리)를 만드는 팩토리
+     */
+    static Supplier<SqlLexer> parserLexerFactory() {
+        return () -> new SqlLexer("", TokenReaderRegistry.createDefault(), PositionMode.OFFSET_ONLY);
+    }
+
+    /**
+     * 스레드마다 렉서 하나를 보관하는 풀.
+     * 플랫폼 스레드에서 반복 파싱할 때 적합합니다.
+     */
+    static LexerPool threadLocal() {
+        return new ThreadLocalLexerPool(parserLexerFactory());
+    }
+
+    static LexerPool threadLocal(final Supplier<SqlLexer> factory) {
+        return new ThreadLocalLexerPool(factory);
+    }
+
+    /**
+     * 모든 스레드가 공유하는 최대 maxIdle개의 렉서를 보관하는 풀.
+     * 가상 스레드처럼 스레드가 짧게 살고 많이 생기는 경우에 적합합니다.
+     */
+    static LexerPool shared(final int maxIdle) {
+        return new SharedLexerPool(parserLexerFactory(), maxIdle);
+    }
+
+    static LexerPool shared(
+            final Supplier<SqlLexer> factory,
+            final int maxIdle
+    ) {
+        return new SharedLexerPool(factory, maxIdle);
+    }
+
+    /**
+     * 재사용하지 않고 매번 새 렉서를 만드는 풀
+     */
+    static LexerPool none() {
+        return none(parserLexerFactory());
+    }
+
+    static LexerPool none(final Supplier<SqlLexer> factory) {
+        return new LexerPool() {
+            @Override
+            public SqlLexer acquire(final CharSequence input) {
+                return factory.get().reset(input);
+            }
+
+            @Override
+            public void release(final SqlLexer lexer) {
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.exception.ErrorCode;
+import com.jaeyeonling.exception.LexicalException;
+
+/**
+ * 진단 모드에서 기록한 렉싱 오류.
+ * - 오류가 난 소스 범위는 같은 범위의 {@link TokenType#ERROR} 토큰과 일치
+ * - 코드와 위치, 메시지는 원래 발생했을 예외에서 가져옴
+ *
+ * @param error      렉싱을 중단시켰을 예외
+ * @param startIndex 오류 범위의 시작 위치 (inclusive)
+ * @param endIndex   오류 범위의 끝 위치 (exclusive)
+ */
+public record LexicalDiagnostic(
+        LexicalException error,
+        int startIndex,
+        int endIndex
+) {
+
+    public ErrorCode code() {
+        return error.code();
+    }
+
+    public int line() {
+        return error.line();
+    }
+
+    public int column() {
+        return error.column();
+    }
+
+    /**
+     * 사람이 읽는 메시지를 반환합니다. 요청될 때 만들어집니다.
+     */
+    public String message() {
+        return error.getMessage();
+    }
+}
@@ -0,0 +1,77 @@
+package com.jaeyeonling.lexer;
+
+/**
+ * 숫자 리터럴의 문자를 10진수 값으로 누적하는 유틸리티.
+ * - 정수는 값 그대로, 소수는 소수점을 뺀 숫자열(unscaled value)과 소수 자릿수(scale)로 표현
+ * - long 범위를 넘으면 {@link #OVERFLOW}를 반환하며, 이후 자리는 무시
+ * 리터럴에는 부호가 없으므로 음수는 결과로 나오지 않습니다.
+ */
+public final class NumberDecoder {
+
+    /**
+     * 값이 long 범위를 넘었음을 나타냅니다.
+     */
+    public static final long OVERFLOW = -1L;
+
+    private static final long SAFE_LIMIT = Long.MAX_VALUE / 10;
+    private static final int LAST_DIGIT_LIMIT = (int) (Long.MAX_VALUE % 10);
+    private static final char DECIMAL_POINT = '.';
+
+    private NumberDecoder() {
+    }
+
+    /**
+     * 누적한 값 뒤에 숫자 한 자리를 붙입니다.
+     *
+     * @param value 지금까지 누적한 값 (또는 {@link #OVERFLOW})
+     * @param digit 붙일 숫자 (0-9)
+     * @return 새 값, long 범위를 넘으면 {@link #OVERFLOW}
+     */
+    public static long appendDigit(
+            final long value,
+            final int digit
+    ) {
+        if (value < SAFE_LIMIT && value >= 0) {
+            return value * 10 + digit;
+        }
+        if (value == SAFE_LIMIT && digit <= LAST_DIGIT_LIMIT) {
+            return value * 10 + digit;
+        }
+        return OVERFLOW;
+    }
+
+    /**
+     * 숫자 리터럴 범위의 소수점을 뺀 숫자열 값을 계산합니다.
+     * 렉서를 거치지 않고 만들어진 토큰의 값을 복원할 때 사용합니다.
+     */
+    public static long unscaledValue(
+            final CharSequence source,
+            final int startIndex,
+            final int endIndex
+    ) {
+        long value = 0;
+        for (int i = startIndex; i < endIndex; i++) {
+            final char c = source.charAt(i);
+            if (c != DECIMAL_POINT) {
+                value = appendDigit(value, c - '0');
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 숫자 리터럴 범위의 소수 자릿수를 계산합니다. 정수라면 0입니다.
+     */
+    public static int scale(
+            final CharSequence source,
+            final int startIndex,
+            final int endIndex
+    ) {
+        for (int i = startIndex; i < endIndex; i++) {
+            if (source.charAt(i) == DECIMAL_POINT) {
+                return endIndex - i - 1;
+            }
+        }
+        return 0;
+    }
+}
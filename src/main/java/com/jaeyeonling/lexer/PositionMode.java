@@ -0,0 +1,18 @@
+package com.jaeyeonling.lexer;
+
+/**
+ * 렉서가 토큰의 라인/컬럼을 계산하는 방식.
+ */
+public enum PositionMode {
+
+    /**
+     * 문자를 읽을 때마다 라인과 컬럼을 갱신합니다. (기본값)
+     */
+    TRACKED,
+
+    /**
+     * 오프셋만 기록하고, 라인/컬럼은 요청될 때 라인 시작 색인으로 계산합니다.
+     * 위치 정보가 오류 메시지에서만 필요한 일반적인 파싱에 적합합니다.
+     */
+    OFFSET_ONLY
+}
@@ -0,0 +1,43 @@
+package com.jaeyeonling.lexer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 모든 스레드가 공유하는 고정 크기 렉서 풀.
+ * - 배열 기반 큐를 사용하므로 빌리고 돌려줄 때 노드를 할당하지 않음
+ * - 큐는 ReentrantLock으로 동기화되어 가상 스레드를 캐리어 스레드에 고정(pinning)하지 않음
+ * - 풀이 비어 있으면 새로 만들고, 가득 차 있으면 돌려받은 렉서를 버림
+ * - 돌려받은 렉서는 {@link SqlLexer#detach()}로 입력을 놓은 뒤 보관
+ */
+final class SharedLexerPool implements LexerPool {
+
+    private final Supplier<SqlLexer> factory;
+    private final ArrayBlockingQueue<SqlLexer> idle;
+
+    SharedLexerPool(
+            final Supplier<SqlLexer> factory,
+            final int maxIdle
+    ) {
+        if (maxIdle <= 0) {
+            throw new IllegalArgumentException("풀 크기는 1 이상이어야 합니다: " + maxIdle);
+        }
+        this.factory = factory;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    @Override
+    public SqlLexer acquire(final CharSequence input) {
+        SqlLexer lexer = idle.poll();
+        if (lexer == null) {
+            lexer = factory.get();
+        }
+        return lexer.reset(input);
+    }
+
+    @Override
+    public void release(final SqlLexer lexer) {
+        lexer.detach();
+        idle.offer(lexer);
+    }
+}
@@ -0,0 +1,87 @@
+package com.jaeyeonling.lexer;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 스레드가 함께 쓰는 심볼 테이블.
+ * - 조회는 volatile 필드로 발행한 {@link HashSymbolTable.Snapshot}에서 잠금 없이 수행
+ * - 처음 보는 식별자를 등록할 때만 잠금을 잡고, 다시 확인한 뒤 등록하고 새 보기를 발행
+ * - 가득 찬 테이블에서 처음 보는 식별자는 잠금 없이 {@link #NO_ID}를 반환
+ * - synchronized 대신 ReentrantLock을 사용해 가상 스레드를 캐리어 스레드에 고정(pinning)하지 않음
+ */
+final class SharedSymbolTable implements SymbolTable {
+
+    private final HashSymbolTable delegate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile HashSymbolTable.Snapshot snapshot;
+
+    SharedSymbolTable(final HashSymbolTable delegate) {
+        this.delegate = delegate;
+        this.snapshot = delegate.snapshot();
+    }
+
+    @Override
+    public int internId(
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        final HashSymbolTable.Snapshot current = snapshot;
+        final int id = current.find(source, start, end);
+        if (id != NO_ID || current.full()) {
+            return id;
+        }
+        return register(source, start, end);
+    }
+
+    @Override
+    public String intern(
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        final HashSymbolTable.Snapshot current = snapshot;
+        int id = current.find(source, start, end);
+        if (id == NO_ID && !current.full()) {
+            id = register(source, start, end);
+        }
+        if (id == NO_ID) {
+            return source.subSequence(start, end).toString();
+        }
+        // 등록 직후라면 보기가 새로 발행되었으므로 다시 읽음
+        return snapshot.symbol(id);
+    }
+
+    private int register(
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        lock.lock();
+        try {
+            final int size = delegate.size();
+            final int id = delegate.internId(source, start, end);
+            if (delegate.size() != size) {
+                snapshot = delegate.snapshot();
+            }
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String symbol(final int id) {
+        return snapshot.symbol(id);
+    }
+
+    @Override
+    public int id(final CharSequence text) {
+        return snapshot.find(text, 0, text.length());
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+}
@@ -1,20 +1,53 @@
 package com.jaeyeonling.lexer;
 
 import com.jaeyeonling.lexer.reader.CharStream;
+import com.jaeyeonling.lexer.reader.Utf8ByteSequence;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * SQL 렉서 - 문자열을 토큰의 리스트로 변환합니다.
+ * SQL 렉서 - 문자열을 토큰의 리스트(또는 토큰 버퍼)로 변환합니다.
+ * {@link #reset(CharSequence)}로 토큰 버퍼와 리더 테이블을 유지한 채 재사용할 수 있습니다.
  */
 public final class SqlLexer {
 
+    private final CharStream charStream;
     private final TokenCollector tokenCollector;
 
-    public SqlLexer(final String input) {
-        final CharStream charStream = new CharStream(input);
+    public SqlLexer(final CharSequence input) {
+        this(input, TokenReaderRegistry.createDefault());
+    }
+
+    /**
+     * 커스텀 리더가 등록된 레지스트리로 렉서를 생성합니다.
+     *
+     * @param input          토큰화할 SQL
+     * @param readerRegistry 사용할 TokenReader 레지스트리
+     */
+    public SqlLexer(
+            final CharSequence input,
+            final TokenReaderRegistry readerRegistry
+    ) {
+        this(input, readerRegistry, PositionMode.TRACKED);
+    }
+
+    /**
+     * 위치 계산 방식을 지정하여 렉서를 생성합니다.
+     * {@link PositionMode#OFFSET_ONLY}에서는 토큰의 라인/컬럼이 요청될 때 계산됩니다.
+     *
+     * @param input          토큰화할 SQL
+     * @param readerRegistry 사용할 TokenReader 레지스트리
+     * @param positionMode   라인/컬럼 계산 방식
+     */
+    public SqlLexer(
+            final CharSequence input,
+            final TokenReaderRegistry readerRegistry,
+            final PositionMode positionMode
+    ) {
+        this.charStream = new CharStream(input, positionMode);
         final WhitespaceSkipper whitespaceSkipper = new WhitespaceSkipper(charStream);
-        final TokenReaderRegistry readerRegistry = TokenReaderRegistry.createDefault();
 
         this.tokenCollector = new TokenCollector(
                 charStream,
@@ -23,12 +56,84 @@ public final class SqlLexer {
         );
     }
 
+    /**
+     * UTF-8 바이트를 디코딩하지 않고 토큰화하는 렉서를 생성합니다.
+     * 토큰의 오프셋과 컬럼은 바이트 단위이며, 토큰 값은 요청될 때 디코딩됩니다.
+     *
+     * @param bytes UTF-8로 인코딩된 SQL (메모리 맵 버퍼 포함)
+     */
+    public static SqlLexer fromUtf8(final ByteBuffer bytes) {
+        return new SqlLexer(new Utf8ByteSequence(bytes));
+    }
+
+    public static SqlLexer fromUtf8(final byte[] bytes) {
+        return new SqlLexer(new Utf8ByteSequence(bytes));
+    }
+
+    /**
+     * 새 입력을 토큰화하도록 렉서를 초기화합니다.
+     * 토큰 버퍼의 배열, 리더 레지스트리, 라인 색인을 그대로 재사용하므로
+     * 이전 입력에서 받은 {@link TokenBuffer}는 다음 토큰화 때 덮어써집니다.
+     *
+     * @param input 토큰화할 SQL
+     * @return 이 렉서
+     */
+    public SqlLexer reset(final CharSequence input) {
+        charStream.reset(input);
+        tokenCollector.reset();
+        return this;
+    }
+
+    /**
+     * 렉싱 오류를 스택 트레이스 없이 만들지 지정합니다.
+     * 거부가 잦은 환경(예: 쿼리 방화벽)에서 예외 생성 비용을 줄입니다. {@link #detach()}하면 기본값(false)으로 돌아갑니다.
+     *
+     * @return 이 렉서
+     */
+    public SqlLexer fastFail(final boolean fastFail) {
+        charStream.fastFail(fastFail);
+        return this;
+    }
+
+    /**
+     * 이전 입력과 토큰 값을 놓고, 너무 커진 버퍼를 줄입니다.
+     * 풀에 보관된 렉서가 마지막 SQL을 붙잡아 두지 않도록 풀에 돌려줄 때 호출합니다.
+     * 이후 {@link #reset(CharSequence)}로 다시 사용할 수 있습니다.
+     */
+    public void detach() {
+        charStream.detach();
+        tokenCollector.detach();
+    }
+
     /**
      * 입력 문자열을 토큰화합니다.
      *
      * @return 토큰 리스트 (마지막에 EOF 토큰 포함)
      */
     public List<Token> tokenize() {
+        return tokenizeToBuffer().asList();
+    }
+
+    /**
+     * 입력 문자열을 토큰 버퍼로 토큰화합니다.
+     * 토큰마다 객체를 만들지 않으므로 파서는 이 메서드를 사용합니다.
+     *
+     * @return 토큰 버퍼 (마지막에 EOF 토큰 포함)
+     */
+    public TokenBuffer tokenizeToBuffer() {
         return tokenCollector.collectAllTokens();
     }
+
+    /**
+     * 오류에서 멈추지 않고 입력 전체를 한 번에 토큰화합니다.
+     * 읽을 수 없는 문자와 닫히지 않은 문자열은 {@link TokenType#ERROR} 토큰이 되고,
+     * 각 오류는 진단 목록에 기록됩니다. 대량 검증에서 모든 문제를 한 번에 찾을 때 사용합니다.
+     *
+     * @return 토큰 버퍼와 진단 목록
+     */
+    public DiagnosticResult tokenizeWithDiagnostics() {
+        final List<LexicalDiagnostic> diagnostics = new ArrayList<>();
+        final TokenBuffer tokens = tokenCollector.collectAllTokens(diagnostics);
+        return new DiagnosticResult(tokens, diagnostics);
+    }
 }
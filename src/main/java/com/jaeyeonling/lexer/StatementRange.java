@@ -0,0 +1,31 @@
+package com.jaeyeonling.lexer;
+
+/**
+ * 스크립트 안에서 문장 하나가 차지하는 범위.
+ *
+ * @param startIndex 문장의 첫 의미 있는 문자 위치 (inclusive)
+ * @param endIndex   문장을 끝내는 세미콜론 또는 스크립트 끝 위치 (exclusive)
+ * @param line       문장이 시작하는 라인 (1부터)
+ * @param column     문장이 시작하는 컬럼 (1부터)
+ */
+public record StatementRange(
+        int startIndex,
+        int endIndex,
+        int line,
+        int column
+) {
+
+    public StatementRange {
+        if (startIndex < 0 || endIndex < startIndex) {
+            throw new IllegalArgumentException(
+                    String.format("잘못된 문장 범위입니다: [%d, %d)", startIndex, endIndex));
+        }
+    }
+
+    /**
+     * 스크립트에서 이 문장의 텍스트를 잘라 냅니다.
+     */
+    public String text(final CharSequence script) {
+        return script.subSequence(startIndex, endIndex).toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.lexer.character.CharClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세미콜론으로 구분된 스크립트에서 문장 경계를 찾는 사전 스캐너.
+ * - 토큰을 만들지 않고 스크립트를 한 번만 훑음
+ * - 문자열 리터럴 안의 세미콜론은 무시 ('' 와 \' 이스케이프는 StringParser와 같은 규칙)
+ * - -- 주석 안의 세미콜론은 무시 (줄 끝까지, WhitespaceSkipper와 같은 규칙)
+ * - 공백과 주석만 있는 문장은 결과에 넣지 않음
+ * - 닫히지 않은 문자열은 스크립트 끝까지를 한 문장으로 보고, 오류는 문장을 파싱할 때 보고됨
+ */
+public final class StatementSplitter {
+
+    private static final char SEMICOLON = ';';
+    private static final char QUOTE = '\'';
+    private static final char BACKSLASH = '\\';
+    private static final char NEWLINE = '\n';
+    private static final char DASH = '-';
+    private static final int NO_STATEMENT = -1;
+
+    private final CharSequence script;
+    private final int length;
+    private final List<StatementRange> ranges = new ArrayList<>();
+    private int index = 0;
+    private int line = 1;
+    private int lineStart = 0;
+
+    private StatementSplitter(final CharSequence script) {
+        this.script = script;
+        this.length = script.length();
+    }
+
+    /**
+     * 스크립트를 문장 범위로 나눕니다.
+     *
+     * @param script 세미콜론으로 구분된 SQL 스크립트
+     * @return 소스 순서대로 정렬된 문장 범위
+     */
+    public static List<StatementRange> split(final CharSequence script) {
+        return new StatementSplitter(script).scan();
+    }
+
+    private List<StatementRange> scan() {
+        int statementStart = NO_STATEMENT;
+        int statementLine = 0;
+        int statementColumn = 0;
+
+        while (index < length) {
+            final char c = script.charAt(index);
+            if (c == NEWLINE) {
+                nextLine();
+                continue;
+            }
+            if (c == SEMICOLON) {
+                if (statementStart != NO_STATEMENT) {
+                    ranges.add(new StatementRange(statementStart, index, statementLine, statementColumn));
+                    statementStart = NO_STATEMENT;
+                }
+                index++;
+                continue;
+            }
+            if (isCommentStart(c)) {
+                skipComment();
+                continue;
+            }
+            if (CharClass.WHITESPACE.contains(c)) {
+                index++;
+                continue;
+            }
+
+            if (statementStart == NO_STATEMENT) {
+                statementStart = index;
+                statementLine = line;
+                statementColumn = index - lineStart + 1;
+            }
+            if (c == QUOTE) {
+                skipString();
+            } else {
+                index++;
+            }
+        }
+
+        if (statementStart != NO_STATEMENT) {
+            ranges.add(new StatementRange(statementStart, length, statementLine, statementColumn));
+        }
+        return ranges;
+    }
+
+    private void nextLine() {
+        index++;
+        line++;
+        lineStart = index;
+    }
+
+    private boolean isCommentStart(final char c) {
+        return c == DASH && index + 1 < length && script.charAt(index + 1) == DASH;
+    }
+
+    private void skipComment() {
+        // 줄바꿈은 남겨 두어 라인 계산은 scan에서 처리
+        while (index < length && script.charAt(index) != NEWLINE) {
+            index++;
+        }
+    }
+
+    private void skipString() {
+        index++; // 여는 따옴표
+        while (index < length) {
+            final char c = script.charAt(index);
+            if (isEscapedQuote(c)) {
+                index += 2;
+            } else if (c == QUOTE) {
+                index++;
+                return;
+            } else if (c == NEWLINE) {
+                nextLine();
+            } else {
+                index++;
+            }
+        }
+    }
+
+    private boolean isEscapedQuote(final char c) {
+        return (c == BACKSLASH || c == QUOTE)
+                && index + 1 < length
+                && script.charAt(index + 1) == QUOTE;
+    }
+}
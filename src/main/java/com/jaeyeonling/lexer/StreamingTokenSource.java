@@ -0,0 +1,105 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.lexer.reader.CharStream;
+import com.jaeyeonling.lexer.reader.SlidingCharWindow;
+import com.jaeyeonling.lexer.reader.TokenReader;
+
+import java.io.Reader;
+
+/**
+ * 입력을 필요한 만큼만 읽으며 토큰을 하나씩 만드는 렉서.
+ * - Reader 입력은 {@link SlidingCharWindow}로 읽어, 이미 토큰화한 앞부분을 버림
+ * - 윈도우 경계에 걸친 토큰은 윈도우를 채워 가며 이어서 읽음
+ * - 토큰 값은 윈도우가 밀려나기 전에 만들어 두므로 반환된 토큰은 언제든 안전하게 사용 가능
+ * - 이미 메모리에 있는 CharSequence(CharBuffer 등)는 복사 없이 그대로 읽음
+ */
+public final class StreamingTokenSource implements TokenSource {
+
+    public static final int DEFAULT_WINDOW_SIZE = 8192;
+
+    private final CharStream charStream;
+    private final WhitespaceSkipper whitespaceSkipper;
+    private final TokenReaderRegistry readerRegistry;
+    private final SlidingCharWindow window;
+    private Token eofToken;
+
+    public StreamingTokenSource(final Reader reader) {
+        this(reader, TokenReaderRegistry.createDefault(), DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Reader 입력으로 토큰 공급자를 생성합니다.
+     *
+     * @param reader         SQL 입력
+     * @param readerRegistry 사용할 TokenReader 레지스트리
+     * @param windowSize     슬라이딩 윈도우의 초기 크기 (문자 수)
+     */
+    public StreamingTokenSource(
+            final Reader reader,
+            final TokenReaderRegistry readerRegistry,
+            final int windowSize
+    ) {
+        this(new SlidingCharWindow(reader, windowSize), readerRegistry);
+    }
+
+    public StreamingTokenSource(final CharSequence input) {
+        this(input, TokenReaderRegistry.createDefault());
+    }
+
+    /**
+     * 이미 메모리에 있는 입력으로 토큰 공급자를 생성합니다.
+     *
+     * @param input          SQL 입력 (CharBuffer 포함)
+     * @param readerRegistry 사용할 TokenReader 레지스트리
+     */
+    public StreamingTokenSource(
+            final CharSequence input,
+            final TokenReaderRegistry readerRegistry
+    ) {
+        this.charStream = new CharStream(input);
+        this.whitespaceSkipper = new WhitespaceSkipper(charStream);
+        this.readerRegistry = readerRegistry;
+        this.window = input instanceof SlidingCharWindow slidingWindow ? slidingWindow : null;
+    }
+
+    /**
+     * 렉싱 오류를 스택 트레이스 없이 만들지 지정합니다.
+     *
+     * @return 이 토큰 공급자
+     */
+    public StreamingTokenSource fastFail(final boolean fastFail) {
+        charStream.fastFail(fastFail);
+        return this;
+    }
+
+    @Override
+    public Token next() {
+        if (eofToken != null) {
+            return eofToken;
+        }
+
+        whitespaceSkipper.skipAll();
+        releaseConsumed();
+        if (charStream.isAtEnd()) {
+            eofToken = createEofToken();
+            return eofToken;
+        }
+
+        final TokenReader reader = readerRegistry.lookup(charStream);
+        if (reader == null) {
+            throw TokenCollector.createUnexpectedCharacterError(charStream);
+        }
+        return reader.read(charStream);
+    }
+
+    private void releaseConsumed() {
+        if (window != null) {
+            window.release(charStream.currentIndex());
+        }
+    }
+
+    private Token createEofToken() {
+        final int index = charStream.currentIndex();
+        return new Token(TokenType.EOF, "", charStream.line(), charStream.column(), index, index);
+    }
+}
@@ -0,0 +1,85 @@
+package com.jaeyeonling.lexer;
+
+/**
+ * 식별자 텍스트를 정규 인스턴스 하나로 모으는 심볼 테이블.
+ * - 같은 내용의 식별자는 같은 {@link String} 인스턴스와 같은 정수 ID를 받음
+ * - 소스 범위로 바로 조회하므로 이미 등록된 식별자는 부분 문자열을 만들지 않음
+ * - ID는 0부터 등록 순서대로 붙으며, 테이블이 살아 있는 동안 바뀌지 않음
+ */
+public interface SymbolTable {
+
+    /**
+     * 테이블이 가득 차서 ID를 붙이지 못했음을 나타내는 값
+     */
+    int NO_ID = -1;
+
+    /**
+     * 소스의 [start, end) 범위를 등록하고 심볼 ID를 반환합니다.
+     * 제한이 있는 테이블이 가득 찼고 처음 보는 식별자라면 {@link #NO_ID}를 반환합니다.
+     */
+    int internId(
+            CharSequence source,
+            int start,
+            int end
+    );
+
+    /**
+     * 심볼 ID에 해당하는 정규 문자열을 반환합니다.
+     *
+     * @throws IllegalArgumentException 등록되지 않은 ID인 경우
+     */
+    String symbol(int id);
+
+    /**
+     * 문자열이 등록되어 있다면 그 ID를, 아니면 {@link #NO_ID}를 반환합니다. 등록하지는 않습니다.
+     */
+    int id(CharSequence text);
+
+    /**
+     * 등록된 심볼 수
+     */
+    int size();
+
+    /**
+     * 소스의 [start, end) 범위에 해당하는 정규 문자열을 반환합니다.
+     * 테이블이 가득 차서 등록하지 못하면 정규화하지 않은 새 문자열을 반환합니다.
+     */
+    default String intern(
+            final CharSequence source,
+            final int start,
+            final int end
+    ) {
+        final int id = internId(source, start, end);
+        if (id == NO_ID) {
+            return source.subSequence(start, end).toString();
+        }
+        return symbol(id);
+    }
+
+    default String intern(final String text) {
+        final int id = internId(text, 0, text.length());
+        if (id == NO_ID) {
+            return text;
+        }
+        return symbol(id);
+    }
+
+    /**
+     * 파싱 한 번에만 쓰는 제한 없는 테이블.
+     * 동기화하지 않으므로 한 스레드에서만 사용해야 합니다.
+     */
+    static SymbolTable local() {
+        return new HashSymbolTable(Integer.MAX_VALUE);
+    }
+
+    /**
+     * 여러 파싱과 스레드가 함께 쓰는, 최대 maxSymbols개까지 등록하는 테이블.
+     * 가득 찬 뒤에는 이미 등록된 식별자만 정규화하고 새 식별자는 그대로 둡니다.
+     */
+    static SymbolTable shared(final int maxSymbols) {
+        if (maxSymbols <= 0) {
+            throw new IllegalArgumentException("심볼 테이블 크기는 1 이상이어야 합니다: " + maxSymbols);
+        }
+        return new SharedSymbolTable(new HashSymbolTable(maxSymbols));
+    }
+}
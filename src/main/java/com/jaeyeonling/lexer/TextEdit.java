@@ -0,0 +1,77 @@
+package com.jaeyeonling.lexer;
+
+/**
+ * 소스의 한 범위를 다른 텍스트로 바꾸는 편집.
+ * - offset 위치부터 removedLength개의 문자를 지우고 insertedText를 넣음
+ * - 삽입만 하는 편집은 removedLength가 0, 삭제만 하는 편집은 insertedText가 빈 문자열
+ */
+public record TextEdit(
+        int offset,
+        int removedLength,
+        String insertedText
+) {
+
+    public TextEdit {
+        if (offset < 0 || removedLength < 0) {
+            throw new IllegalArgumentException(
+                    String.format("편집 위치와 지울 길이는 0 이상이어야 합니다 (위치: %d, 길이: %d)", offset, removedLength));
+        }
+        if (insertedText == null) {
+            throw new IllegalArgumentException("삽입할 텍스트는 null일 수 없습니다.");
+        }
+    }
+
+    public static TextEdit insert(
+            final int offset,
+            final String text
+    ) {
+        return new TextEdit(offset, 0, text);
+    }
+
+    public static TextEdit delete(
+            final int offset,
+            final int length
+    ) {
+        return new TextEdit(offset, length, "");
+    }
+
+    /**
+     * 편집 전 소스에서 지워지는 범위의 끝 위치 (exclusive)
+     */
+    public int removedEnd() {
+        return offset + removedLength;
+    }
+
+    /**
+     * 편집 후 소스에서 삽입된 범위의 끝 위치 (exclusive)
+     */
+    public int insertedEnd() {
+        return offset + insertedText.length();
+    }
+
+    /**
+     * 편집 뒤쪽 오프셋이 이동하는 거리
+     */
+    public int delta() {
+        return insertedText.length() - removedLength;
+    }
+
+    /**
+     * 소스에 편집을 적용한 결과를 반환합니다.
+     */
+    public String applyTo(final CharSequence source) {
+        checkWithin(source);
+        return new StringBuilder(source.length() + delta())
+                .append(source, 0, offset)
+                .append(insertedText)
+                .append(source, removedEnd(), source.length())
+                .toString();
+    }
+
+    void checkWithin(final CharSequence source) {
+        if (removedEnd() > source.length()) {
+            throw new IllegalArgumentException(
+                    String.format("편집 범위 [%d, %d)가 소스 길이 %d를 벗어났습니다", offset, removedEnd(), source.length()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jaeyeonling.lexer;
+
+import java.util.function.Supplier;
+
+/**
+ * 스레드마다 렉서 하나를 보관하는 풀.
+ * - 빌려 간 동안에는 슬롯을 비워 두므로, 같은 스레드에서 중첩해 빌리면 새 렉서를 만듦
+ * - 슬롯 배열을 재사용하므로 안정 상태에서는 할당이 없음
+ * - 돌려받은 렉서는 {@link SqlLexer#detach()}로 입력을 놓은 뒤 보관
+ */
+final class ThreadLocalLexerPool implements LexerPool {
+
+    private final Supplier<SqlLexer> factory;
+    private final ThreadLocal<SqlLexer[]> slots = ThreadLocal.withInitial(() -> new SqlLexer[1]);
+
+    ThreadLocalLexerPool(final Supplier<SqlLexer> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public SqlLexer acquire(final CharSequence input) {
+        final SqlLexer[] slot = slots.get();
+        SqlLexer lexer = slot[0];
+        slot[0] = null;
+        if (lexer == null) {
+            lexer = factory.get();
+        }
+        return lexer.reset(input);
+    }
+
+    @Override
+    public void release(final SqlLexer lexer) {
+        lexer.detach();
+        slots.get()[0] = lexer;
+    }
+}
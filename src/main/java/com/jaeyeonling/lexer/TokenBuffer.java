@@ -0,0 +1,486 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.lexer.reader.LineIndex;
+import com.jaeyeonling.lexer.reader.Position;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 토큰을 열(column) 단위 배열로 저장하는 버퍼.
+ * - 토큰 타입은 byte ordinal로 저장
+ * - 시작/끝 위치, 라인, 컬럼은 int 배열로 저장
+ * - 토큰마다 객체를 만들지 않으며, {@link Token}은 필요할 때만 생성
+ * - 토큰 텍스트는 소스 위치만 기록해 두고, 처음 요청될 때 만듭니다
+ * - 라인/컬럼이 {@link Position#UNRESOLVED}로 기록된 토큰은 처음 요청될 때 오프셋으로 계산합니다
+ * - 숫자 토큰은 렉서가 읽으면서 계산한 값을 long 배열에 함께 저장합니다
+ * - 심볼 테이블이 지정되면 식별자 값은 테이블의 정규 인스턴스를 사용합니다
+ * - {@link #detach()}는 소스 참조를 끊고, 너무 커진 배열을 처음 크기로 되돌립니다
+ */
+public final class TokenBuffer {
+
+    private static final TokenType[] TOKEN_TYPES = TokenType.values();
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int RETAINED_CAPACITY = 4096;
+
+    private CharSequence source;
+    private LineIndex lineIndex;
+    private byte[] types;
+    private String[] values;
+    private int[] startIndices;
+    private int[] endIndices;
+    private int[] lines;
+    private int[] columns;
+    private long[] numbers;
+    private byte[] scales;
+    @Nullable
+    private SymbolTable symbols;
+    private int size = 0;
+
+    public TokenBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TokenBuffer(final int initialCapacity) {
+        this(null, initialCapacity);
+    }
+
+    /**
+     * 소스를 참조하는 버퍼를 생성합니다.
+     * 텍스트 없이 추가된 토큰의 값은 이 소스에서 복원됩니다.
+     *
+     * @param source 토큰 위치가 가리키는 원본 소스
+     */
+    public TokenBuffer(final CharSequence source) {
+        this(source, DEFAULT_CAPACITY);
+    }
+
+    TokenBuffer(
+            final CharSequence source,
+            final int initialCapacity
+    ) {
+        this.source = source;
+        this.lineIndex = source == null ? null : new LineIndex(source);
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    private void allocate(final int capacity) {
+        this.types = new byte[capacity];
+        this.values = new String[capacity];
+        this.startIndices = new int[capacity];
+        this.endIndices = new int[capacity];
+        this.lines = new int[capacity];
+        this.columns = new int[capacity];
+        this.numbers = new long[capacity];
+        this.scales = new byte[capacity];
+    }
+
+    /**
+     * 배열은 유지한 채 비우고, 새 소스를 가리키도록 초기화합니다.
+     * 이전에 반환된 값과 토큰은 그대로 유효하지만, 버퍼는 새 토큰으로 덮어써집니다.
+     */
+    public void reset(final CharSequence source) {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        symbols = null;
+        this.source = source;
+        if (lineIndex == null) {
+            lineIndex = source == null ? null : new LineIndex(source);
+        } else {
+            lineIndex.reset(source);
+        }
+    }
+
+    /**
+     * 빈 소스를 가리키도록 비웁니다. 렉서가 풀로 돌아갈 때 이전 입력과 토큰 값을 붙잡고 있지 않게 합니다.
+     * 배열이 토큰 4096개보다 커졌으면 처음 크기로 되돌립니다.
+     */
+    void detach() {
+        reset("");
+        if (lineIndex != null) {
+            lineIndex.detach();
+        }
+        if (types.length > RETAINED_CAPACITY) {
+            allocate(DEFAULT_CAPACITY);
+        }
+    }
+
+    int capacity() {
+        return types.length;
+    }
+
+    /**
+     * 아직 만들어지지 않은 식별자 값을 심볼 테이블에서 가져오도록 지정합니다.
+     * 지정은 다음 {@link #reset(CharSequence)}까지 유지됩니다.
+     *
+     * @param symbols 식별자를 정규화할 테이블, null이면 정규화하지 않음
+     */
+    public void useSymbols(@Nullable final SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * 토큰 리스트를 버퍼로 변환합니다.
+     * {@link #asList()}로 만든 뷰라면 원본 버퍼를 그대로 반환합니다.
+     */
+    public static TokenBuffer from(final List<Token> tokens) {
+        if (tokens instanceof ListView view) {
+            return view.buffer();
+        }
+
+        final TokenBuffer buffer = new TokenBuffer(tokens.size());
+        for (final Token token : tokens) {
+            buffer.add(token);
+        }
+        return buffer;
+    }
+
+    /**
+     * 텍스트 없이 위치만으로 토큰을 추가합니다.
+     * 토큰 값은 {@link #value(int)}가 처음 호출될 때 소스에서 만들어집니다.
+     */
+    public void add(
+            final TokenType type,
+            final int line,
+            final int column,
+            final int startIndex,
+            final int endIndex
+    ) {
+        add(type, null, line, column, startIndex, endIndex);
+    }
+
+    /**
+     * 토큰을 추가합니다.
+     * 숫자 토큰이라면 값을 텍스트에서 계산해 둡니다.
+     */
+    public void add(
+            final TokenType type,
+            final String value,
+            final int line,
+            final int column,
+            final int startIndex,
+            final int endIndex
+    ) {
+        if (!isNumber(type) || (value == null && source == null)) {
+            append(type, value, line, column, startIndex, endIndex, 0, 0);
+            return;
+        }
+
+        final CharSequence text = value != null ? value : source;
+        final int textStart = value != null ? 0 : startIndex;
+        final int textEnd = value != null ? value.length() : endIndex;
+        append(type, value, line, column, startIndex, endIndex,
+                NumberDecoder.unscaledValue(text, textStart, textEnd),
+                NumberDecoder.scale(text, textStart, textEnd));
+    }
+
+    /**
+     * 렉서가 읽으면서 계산한 값과 함께 숫자 토큰을 추가합니다.
+     *
+     * @param number 소수점을 뺀 숫자열의 값, long 범위를 넘으면 {@link NumberDecoder#OVERFLOW}
+     * @param scale  소수 자릿수 (정수는 0)
+     */
+    public void addNumber(
+            final TokenType type,
+            final int line,
+            final int column,
+            final int startIndex,
+            final int endIndex,
+            final long number,
+            final int scale
+    ) {
+        append(type, null, line, column, startIndex, endIndex, number, scale);
+    }
+
+    private void append(
+            final TokenType type,
+            final String value,
+            final int line,
+            final int column,
+            final int startIndex,
+            final int endIndex,
+            final long number,
+            final int scale
+    ) {
+        ensureCapacity(size + 1);
+        types[size] = (byte) type.ordinal();
+        values[size] = value;
+        lines[size] = line;
+        columns[size] = column;
+        startIndices[size] = startIndex;
+        endIndices[size] = endIndex;
+        // 소수 자릿수가 byte를 넘는 값은 long으로도 표현할 수 없으므로 범위 초과로 취급
+        numbers[size] = scale > Byte.MAX_VALUE ? NumberDecoder.OVERFLOW : number;
+        scales[size] = scale > Byte.MAX_VALUE ? 0 : (byte) scale;
+        size++;
+    }
+
+    private static boolean isNumber(final TokenType type) {
+        return type == TokenType.INTEGER || type == TokenType.DECIMAL;
+    }
+
+    /**
+     * 이미 만들어진 토큰을 추가합니다.
+     */
+    public void add(final Token token) {
+        add(token.type(), token.value(), token.line(), token.column(), token.startIndex(), token.endIndex());
+    }
+
+    /**
+     * 다른 버퍼의 [fromIndex, toIndex) 토큰을 그대로 덧붙입니다.
+     * 이미 만들어진 값과 계산된 라인/컬럼도 함께 복사합니다.
+     */
+    void addRange(
+            final TokenBuffer from,
+            final int fromIndex,
+            final int toIndex
+    ) {
+        final int count = toIndex - fromIndex;
+        ensureCapacity(size + count);
+        System.arraycopy(from.types, fromIndex, types, size, count);
+        System.arraycopy(from.values, fromIndex, values, size, count);
+        System.arraycopy(from.startIndices, fromIndex, startIndices, size, count);
+        System.arraycopy(from.endIndices, fromIndex, endIndices, size, count);
+        System.arraycopy(from.lines, fromIndex, lines, size, count);
+        System.arraycopy(from.columns, fromIndex, columns, size, count);
+        System.arraycopy(from.numbers, fromIndex, numbers, size, count);
+        System.arraycopy(from.scales, fromIndex, scales, size, count);
+        size += count;
+    }
+
+    /**
+     * 다른 버퍼의 [fromIndex, toIndex) 토큰을 오프셋을 옮겨 덧붙입니다.
+     * - 첫 토큰의 새 라인/컬럼을 기준으로 라인은 모두, 컬럼은 같은 라인의 토큰만 옮김
+     * - 새 위치나 원래 위치가 {@link Position#UNRESOLVED}라면 라인/컬럼은 요청될 때 계산
+     *
+     * @param offsetDelta 시작/끝 위치에 더할 값
+     * @param line        첫 토큰의 새 라인
+     * @param column      첫 토큰의 새 컬럼
+     */
+    void addShifted(
+            final TokenBuffer from,
+            final int fromIndex,
+            final int toIndex,
+            final int offsetDelta,
+            final int line,
+            final int column
+    ) {
+        final int start = size;
+        addRange(from, fromIndex, toIndex);
+        for (int i = start; i < size; i++) {
+            startIndices[i] += offsetDelta;
+            endIndices[i] += offsetDelta;
+        }
+
+        final int anchorLine = from.lines[fromIndex];
+        final int anchorColumn = from.columns[fromIndex];
+        if (line == Position.UNRESOLVED || anchorLine == Position.UNRESOLVED || anchorColumn == Position.UNRESOLVED) {
+            Arrays.fill(lines, start, size, Position.UNRESOLVED);
+            Arrays.fill(columns, start, size, Position.UNRESOLVED);
+            return;
+        }
+
+        final int lineDelta = line - anchorLine;
+        final int columnDelta = column - anchorColumn;
+        for (int i = start; i < size; i++) {
+            if (lines[i] == anchorLine && columns[i] != Position.UNRESOLVED) {
+                columns[i] += columnDelta;
+            }
+            if (lines[i] != Position.UNRESOLVED) {
+                lines[i] += lineDelta;
+            }
+        }
+    }
+
+    /**
+     * 토큰 위치가 가리키는 원본 소스를 반환합니다.
+     */
+    CharSequence source() {
+        return source;
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required <= types.length) {
+            return;
+        }
+
+        final int newCapacity = Math.max(required, types.length * 2);
+        types = Arrays.copyOf(types, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        startIndices = Arrays.copyOf(startIndices, newCapacity);
+        endIndices = Arrays.copyOf(endIndices, newCapacity);
+        lines = Arrays.copyOf(lines, newCapacity);
+        columns = Arrays.copyOf(columns, newCapacity);
+        numbers = Arrays.copyOf(numbers, newCapacity);
+        scales = Arrays.copyOf(scales, newCapacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenType type(final int index) {
+        return TOKEN_TYPES[types[checkIndex(index)]];
+    }
+
+    /**
+     * 토큰 값을 반환합니다.
+     * 아직 만들어지지 않았다면 소스에서 복원한 뒤 보관합니다.
+     */
+    public String value(final int index) {
+        final String value = values[checkIndex(index)];
+        if (value != null) {
+            return value;
+        }
+
+        final TokenType type = type(index);
+        final String text = symbols != null && type == TokenType.IDENTIFIER
+                ? symbols.intern(source, startIndices[index], endIndices[index])
+                : TokenText.of(type, source, startIndices[index], endIndices[index]);
+        values[index] = text;
+        return text;
+    }
+
+    /**
+     * 토큰 값을 문자열로 만들지 않고 대상에 덧붙입니다.
+     * 식별자와 숫자처럼 값이 원본 텍스트 그대로인 토큰은 심볼 테이블을 거치지 않고 소스에서 바로 복사합니다.
+     */
+    public void appendValue(
+            final int index,
+            final StringBuilder target
+    ) {
+        final String value = values[checkIndex(index)];
+        if (value != null) {
+            target.append(value);
+            return;
+        }
+        switch (type(index)) {
+            case IDENTIFIER, INTEGER, DECIMAL, ERROR -> target.append(source, startIndices[index], endIndices[index]);
+            default -> target.append(value(index));
+        }
+    }
+
+    /**
+     * 식별자 토큰의 심볼 ID를 반환합니다.
+     * 심볼 테이블이 없거나, 식별자가 아니거나, 테이블이 가득 찼다면 {@link SymbolTable#NO_ID}입니다.
+     */
+    public int symbolId(final int index) {
+        if (symbols == null || type(index) != TokenType.IDENTIFIER) {
+            return SymbolTable.NO_ID;
+        }
+        final String value = values[index];
+        if (value != null) {
+            return symbols.internId(value, 0, value.length());
+        }
+        return symbols.internId(source, startIndices[index], endIndices[index]);
+    }
+
+    /**
+     * 토큰의 라인을 반환합니다.
+     * 오프셋만 기록된 토큰이라면 라인 시작 색인으로 계산한 뒤 보관합니다.
+     */
+    public int line(final int index) {
+        final int line = lines[checkIndex(index)];
+        if (line != Position.UNRESOLVED) {
+            return line;
+        }
+
+        final int resolved = lineIndex.line(startIndices[index]);
+        lines[index] = resolved;
+        return resolved;
+    }
+
+    /**
+     * 토큰의 컬럼을 반환합니다.
+     * 오프셋만 기록된 토큰이라면 라인 시작 색인으로 계산한 뒤 보관합니다.
+     */
+    public int column(final int index) {
+        final int column = columns[checkIndex(index)];
+        if (column != Position.UNRESOLVED) {
+            return column;
+        }
+
+        final int resolved = lineIndex.column(startIndices[index]);
+        columns[index] = resolved;
+        return resolved;
+    }
+
+    /**
+     * 숫자 토큰에서 소수점을 뺀 숫자열의 값을 반환합니다.
+     * 정수 토큰이라면 정수 값 그대로이며, long 범위를 넘으면 {@link NumberDecoder#OVERFLOW}입니다.
+     */
+    public long number(final int index) {
+        return numbers[checkIndex(index)];
+    }
+
+    /**
+     * 숫자 토큰의 소수 자릿수를 반환합니다. 정수 토큰은 0입니다.
+     */
+    public int scale(final int index) {
+        return scales[checkIndex(index)];
+    }
+
+    public int startIndex(final int index) {
+        return startIndices[checkIndex(index)];
+    }
+
+    public int endIndex(final int index) {
+        return endIndices[checkIndex(index)];
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    String.format("토큰 인덱스 %d가 범위를 벗어났습니다 (크기: %d)", index, size));
+        }
+        return index;
+    }
+
+    /**
+     * 해당 위치의 토큰 객체를 생성합니다.
+     */
+    public Token token(final int index) {
+        return new Token(
+                type(index),
+                value(index),
+                line(index),
+                column(index),
+                startIndex(index),
+                endIndex(index)
+        );
+    }
+
+    /**
+     * 버퍼를 {@code List<Token>}으로 보는 읽기 전용 뷰를 반환합니다.
+     * 요소에 접근할 때마다 토큰 객체가 생성됩니다.
+     */
+    public List<Token> asList() {
+        return new ListView(this);
+    }
+
+    private static final class ListView extends AbstractList<Token> implements RandomAccess {
+
+        private final TokenBuffer buffer;
+
+        private ListView(final TokenBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private TokenBuffer buffer() {
+            return buffer;
+        }
+
+        @Override
+        public Token get(final int index) {
+            return buffer.token(index);
+        }
+
+        @Override
+        public int size() {
+            return buffer.size();
+        }
+    }
+}
@@ -1,94 +1,175 @@
 package com.jaeyeonling.lexer;
 
+import com.jaeyeonling.exception.ErrorCode;
 import com.jaeyeonling.exception.LexicalException;
+import com.jaeyeonling.lexer.character.CharClass;
 import com.jaeyeonling.lexer.reader.CharStream;
-import com.jaeyeonling.lexer.reader.Position;
+import com.jaeyeonling.lexer.reader.TokenReader;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 토큰 수집을 담당하는 클래스
  * - 입력 스트림에서 토큰들을 수집
  * - EOF 토큰 자동 추가
- * - 예외 처리
+ * - 예외 처리 (진단 모드에서는 오류 토큰을 남기고 계속 진행)
  */
 final class TokenCollector {
 
     private final CharStream charStream;
     private final WhitespaceSkipper whitespaceSkipper;
     private final TokenReaderRegistry readerRegistry;
-    private final List<Token> tokens;
+    private final TokenBuffer tokens;
 
     TokenCollector(
             final CharStream charStream,
             final WhitespaceSkipper whitespaceSkipper,
             final TokenReaderRegistry readerRegistry
+    ) {
+        this(charStream, whitespaceSkipper, readerRegistry, new TokenBuffer(charStream.input()));
+    }
+
+    /**
+     * 주어진 버퍼 뒤에 토큰을 수집하는 수집기를 생성합니다.
+     * 증분 토큰화에서 앞부분을 복사해 둔 버퍼를 이어서 채울 때 사용합니다.
+     */
+    TokenCollector(
+            final CharStream charStream,
+            final WhitespaceSkipper whitespaceSkipper,
+            final TokenReaderRegistry readerRegistry,
+            final TokenBuffer tokens
     ) {
         this.charStream = charStream;
         this.whitespaceSkipper = whitespaceSkipper;
         this.readerRegistry = readerRegistry;
-        this.tokens = new ArrayList<>();
+        this.tokens = tokens;
+    }
+
+    /**
+     * 문자 스트림의 새 입력에 맞게 토큰 버퍼를 비웁니다.
+     */
+    void reset() {
+        tokens.reset(charStream.input());
+    }
+
+    /**
+     * 토큰 버퍼가 이전 입력을 참조하지 않도록 비웁니다.
+     */
+    void detach() {
+        tokens.detach();
     }
 
     /**
      * 모든 토큰을 수집하고 반환합니다.
      */
-    List<Token> collectAllTokens() {
+    TokenBuffer collectAllTokens() {
         collectTokensUntilEnd();
         appendEofToken();
         return tokens;
     }
 
+    /**
+     * 오류에서 멈추지 않고 모든 토큰을 수집합니다.
+     * 읽을 수 없는 범위는 {@link TokenType#ERROR} 토큰으로 남기고, 오류는 진단 목록에 추가합니다.
+     */
+    TokenBuffer collectAllTokens(final List<LexicalDiagnostic> diagnostics) {
+        while (hasMoreTokens()) {
+            collectNextTokenRecovering(diagnostics);
+        }
+        appendEofToken();
+        return tokens;
+    }
+
     private void collectTokensUntilEnd() {
         while (hasMoreTokens()) {
             collectNextToken();
         }
     }
 
-    private boolean hasMoreTokens() {
+    /**
+     * 공백과 주석을 건너뛰고, 읽을 토큰이 남았는지 확인합니다.
+     */
+    boolean hasMoreTokens() {
         whitespaceSkipper.skipAll();
         return !charStream.isAtEnd();
     }
 
-    private void collectNextToken() {
-        final Token token = readNextToken();
-        tokens.add(token);
+    /**
+     * 현재 위치에서 토큰 하나를 읽어 버퍼에 추가합니다.
+     */
+    void collectNextToken() {
+        final TokenReader reader = readerRegistry.lookup(charStream);
+        if (reader == null) {
+            throw createUnexpectedCharacterError(charStream);
+        }
+        reader.readInto(charStream, tokens);
     }
 
-    private Token readNextToken() {
-        return readerRegistry
-                .findReader(charStream)
-                .map(reader -> reader.read(charStream))
-                .orElseThrow(this::createUnexpectedCharacterError);
+    private void collectNextTokenRecovering(final List<LexicalDiagnostic> diagnostics) {
+        final int startIndex = charStream.currentIndex();
+        final int line = charStream.trackedLine();
+        final int column = charStream.trackedColumn();
+
+        final TokenReader reader = readerRegistry.lookup(charStream);
+        if (reader == null) {
+            final LexicalException error = createUnexpectedCharacterError(charStream);
+            skipUnreadableRun();
+            recordError(error, startIndex, line, column, diagnostics);
+            return;
+        }
+
+        try {
+            reader.readInto(charStream, tokens);
+        } catch (LexicalException e) {
+            // 닫히지 않은 문자열은 입력 끝까지, 잘못된 연산자는 읽은 곳까지가 오류 범위
+            if (charStream.currentIndex() == startIndex) {
+                charStream.advance();
+            }
+            recordError(e, startIndex, line, column, diagnostics);
+        }
     }
 
-    private LexicalException createUnexpectedCharacterError() {
-        final char unexpected = charStream.current();
-        final Position position = charStream.position();
+    /**
+     * 공백이나 읽을 수 있는 문자가 나올 때까지 연속된 잘못된 문자를 건너뜁니다.
+     * 연속된 잘못된 문자는 하나의 오류로 보고합니다.
+     */
+    private void skipUnreadableRun() {
+        do {
+            charStream.advance();
+        } while (!charStream.isAtEnd()
+                && !CharClass.WHITESPACE.contains(charStream.current())
+                && readerRegistry.lookup(charStream) == null);
+    }
 
-        return new LexicalException(
-                String.format("""
-                                SQL 구문에서 사용할 수 없는 문자입니다: '%c'
-                                위치: %d행 %d열
-                                허용되는 문자: 알파벳, 숫자, '_', '.', ',', '(', ')', '*', '+', '-', '=', '<', '>', '!', 작은따옴표""",
-                        unexpected, position.line(), position.column())
-        );
+    private void recordError(
+            final LexicalException error,
+            final int startIndex,
+            final int line,
+            final int column,
+            final List<LexicalDiagnostic> diagnostics
+    ) {
+        final int endIndex = charStream.currentIndex();
+        tokens.add(TokenType.ERROR, line, column, startIndex, endIndex);
+        diagnostics.add(new LexicalDiagnostic(error, startIndex, endIndex));
     }
 
-    private void appendEofToken() {
-        tokens.add(createEofToken());
+    static LexicalException createUnexpectedCharacterError(final CharStream charStream) {
+        return charStream.error(
+                ErrorCode.UNEXPECTED_CHARACTER,
+                charStream.line(),
+                charStream.column(),
+                charStream.current()
+        );
     }
 
-    private Token createEofToken() {
-        final Position position = charStream.position();
-        return new Token(
+    void appendEofToken() {
+        final int index = charStream.currentIndex();
+        tokens.add(
                 TokenType.EOF,
-                "",
-                position.line(),
-                position.column(),
-                position.index(),
-                position.index()
+                charStream.trackedLine(),
+                charStream.trackedColumn(),
+                index,
+                index
         );
     }
 }
@@ -6,8 +6,10 @@ import com.jaeyeonling.lexer.reader.decimal.DecimalTokenReader;
 import com.jaeyeonling.lexer.reader.identifier.IdentifierTokenReader;
 import com.jaeyeonling.lexer.reader.integer.IntegerTokenReader;
 import com.jaeyeonling.lexer.reader.operator.OperatorTokenReader;
+import com.jaeyeonling.lexer.reader.parameter.ParameterTokenReader;
 import com.jaeyeonling.lexer.reader.string.StringTokenReader;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,19 +17,25 @@ import java.util.Optional;
  * TokenReader 레지스트리 - 리더들을 관리하고 적절한 리더를 찾습니다.
  * - 리더들의 우선순위 관리
  * - 입력에 적합한 리더 탐색
+ * - 첫 문자 기준 ASCII 디스패치 테이블 관리
  */
-final class TokenReaderRegistry {
+public final class TokenReaderRegistry {
+
+    private static final int ASCII_SIZE = 128;
 
     private final List<TokenReader> readers;
+    private int customReaderCount = 0;
+    private DispatchTable dispatchTable;
 
     TokenReaderRegistry(final List<TokenReader> readers) {
-        this.readers = readers;
+        this.readers = new ArrayList<>(readers);
+        this.dispatchTable = DispatchTable.build(this.readers);
     }
 
     /**
      * 기본 TokenReader들로 레지스트리를 생성합니다.
      */
-    static TokenReaderRegistry createDefault() {
+    public static TokenReaderRegistry createDefault() {
         return new TokenReaderRegistry(createDefaultReaders());
     }
 
@@ -41,16 +49,79 @@ final class TokenReaderRegistry {
                 new DecimalTokenReader(),     // 소수 (3.14) - 정수보다 먼저 체크
                 new IntegerTokenReader(),     // 정수 (123)
                 new IdentifierTokenReader(),  // 식별자와 키워드 (SELECT, table_name)
-                new OperatorTokenReader()     // 연산자와 심볼 (=, <=, +, -, *)
+                new OperatorTokenReader(),    // 연산자와 심볼 (=, <=, +, -, *)
+                new ParameterTokenReader()    // 바인드 파라미터 (?, :name)
         );
     }
 
+    /**
+     * 커스텀 리더를 등록합니다. (플러그인 시스템)
+     * 커스텀 리더는 기본 리더보다 먼저 확인되며, 등록 시 디스패치 테이블을 다시 계산합니다.
+     *
+     * @param reader 커스텀 리더
+     * @return 체이닝을 위한 this
+     */
+    public TokenReaderRegistry registerCustom(final TokenReader reader) {
+        readers.add(customReaderCount++, reader);
+        dispatchTable = DispatchTable.build(readers);
+        return this;
+    }
+
     /**
      * 현재 입력을 읽을 수 있는 첫 번째 리더를 찾습니다.
+     * 모든 리더를 순서대로 확인하는 기준 구현입니다.
      */
     Optional<TokenReader> findReader(final CharStream charStream) {
         return readers.stream()
                 .filter(reader -> reader.canRead(charStream))
                 .findFirst();
     }
+
+    /**
+     * 디스패치 테이블로 현재 입력을 읽을 리더를 찾습니다.
+     * 첫 문자가 ASCII이면 미리 계산된 후보만 확인하고, 그 외에는 모든 리더를 확인합니다.
+     *
+     * @return 읽을 수 있는 리더, 없으면 null
+     */
+    TokenReader lookup(final CharStream charStream) {
+        return dispatchTable.lookup(charStream);
+    }
+
+    /**
+     * 첫 문자 → 후보 리더 배열 테이블.
+     * 각 칸의 후보는 등록 순서(우선순위)를 유지합니다.
+     */
+    private record DispatchTable(
+            TokenReader[][] asciiCandidates,
+            TokenReader[] fallbackCandidates
+    ) {
+
+        static DispatchTable build(final List<TokenReader> readers) {
+            final TokenReader[][] asciiCandidates = new TokenReader[ASCII_SIZE][];
+            for (char c = 0; c < ASCII_SIZE; c++) {
+                asciiCandidates[c] = candidatesFor(readers, c);
+            }
+            return new DispatchTable(asciiCandidates, readers.toArray(TokenReader[]::new));
+        }
+
+        private static TokenReader[] candidatesFor(
+                final List<TokenReader> readers,
+                final char c
+        ) {
+            return readers.stream()
+                    .filter(reader -> reader.canStartWith(c))
+                    .toArray(TokenReader[]::new);
+        }
+
+        TokenReader lookup(final CharStream charStream) {
+            final char c = charStream.current();
+            final TokenReader[] candidates = c < ASCII_SIZE ? asciiCandidates[c] : fallbackCandidates;
+            for (final TokenReader candidate : candidates) {
+                if (candidate.canRead(charStream)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+    }
 }
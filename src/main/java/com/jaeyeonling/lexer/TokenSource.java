@@ -0,0 +1,14 @@
+package com.jaeyeonling.lexer;
+
+/**
+ * 토큰을 하나씩 꺼내 주는 풀(pull) 방식의 토큰 공급자.
+ * 전체 입력을 미리 토큰화하지 않으므로 큰 SQL 스크립트도 일정한 메모리로 처리할 수 있습니다.
+ */
+public interface TokenSource {
+
+    /**
+     * 다음 토큰을 반환합니다.
+     * 입력 끝에 도달하면 EOF 토큰을 반환하며, 이후에도 계속 EOF 토큰을 반환합니다.
+     */
+    Token next();
+}
@@ -0,0 +1,89 @@
+package com.jaeyeonling.lexer;
+
+/**
+ * 소스 범위로부터 토큰 텍스트를 복원하는 유틸리티.
+ * - 키워드, 연산자, 구분자는 TokenType의 공유 상수 문자열을 사용
+ * - 식별자와 숫자 리터럴, 오류 토큰은 소스의 해당 범위를 잘라서 생성
+ * - 문자열 리터럴은 따옴표를 제거하고 이스케이프를 해제
+ * - 이름 있는 파라미터는 앞의 콜론을 뺀 이름
+ */
+public final class TokenText {
+
+    private static final char QUOTE = '\'';
+    private static final char BACKSLASH = '\\';
+    private static final String EMPTY = "";
+    private static final String ANGLE_NOT_EQUALS = "<>";
+
+    private TokenText() {
+    }
+
+    /**
+     * 토큰 타입과 소스 범위로 토큰 텍스트를 만듭니다.
+     *
+     * @param type       토큰 타입
+     * @param source     원본 소스
+     * @param startIndex 토큰 시작 위치 (inclusive)
+     * @param endIndex   토큰 끝 위치 (exclusive)
+     * @return 토큰 텍스트
+     */
+    public static String of(
+            final TokenType type,
+            final CharSequence source,
+            final int startIndex,
+            final int endIndex
+    ) {
+        return switch (type) {
+            case EOF -> EMPTY;
+            case IDENTIFIER, INTEGER, DECIMAL, ERROR -> slice(source, startIndex, endIndex);
+            case STRING -> unescape(source, startIndex + 1, endIndex - 1);
+            case NAMED_PARAMETER -> slice(source, startIndex + 1, endIndex);
+            case NOT_EQUALS -> source.charAt(startIndex) == '<' ? ANGLE_NOT_EQUALS : type.symbol();
+            default -> type.symbol();
+        };
+    }
+
+    private static String slice(
+            final CharSequence source,
+            final int startIndex,
+            final int endIndex
+    ) {
+        return source.subSequence(startIndex, endIndex).toString();
+    }
+
+    /**
+     * 문자열 리터럴의 내용에서 이스케이프를 해제합니다.
+     * '' 와 \' 는 모두 ' 하나로 바뀝니다.
+     * 소스가 바이트 기반일 수 있으므로 범위를 먼저 잘라 낸 문자열에서 해제합니다.
+     */
+    private static String unescape(
+            final CharSequence source,
+            final int startIndex,
+            final int endIndex
+    ) {
+        final String raw = slice(source, startIndex, endIndex);
+        if (!containsEscape(raw)) {
+            return raw;
+        }
+
+        final int length = raw.length();
+        final StringBuilder content = new StringBuilder(length);
+        int index = 0;
+        while (index < length) {
+            final char c = raw.charAt(index);
+            if (isEscapePrefix(c) && index + 1 < length && raw.charAt(index + 1) == QUOTE) {
+                index++;
+            }
+            content.append(raw.charAt(index));
+            index++;
+        }
+        return content.toString();
+    }
+
+    private static boolean containsEscape(final String raw) {
+        return raw.indexOf(QUOTE) >= 0 || raw.indexOf(BACKSLASH) >= 0;
+    }
+
+    private static boolean isEscapePrefix(final char c) {
+        return c == QUOTE || c == BACKSLASH;
+    }
+}
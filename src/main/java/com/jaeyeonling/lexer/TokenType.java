@@ -39,6 +39,10 @@ public enum TokenType {
     DECIMAL("DECIMAL"),
     STRING("STRING"),
 
+    // Parameters
+    POSITIONAL_PARAMETER("?"),
+    NAMED_PARAMETER("NAMED_PARAMETER"),  // :name
+
     // Operators
     EQUALS("="),
     NOT_EQUALS("!="),
@@ -58,6 +62,7 @@ public enum TokenType {
     RPAREN(")"),
 
     // Special
+    ERROR("ERROR"),     // 진단 모드에서 읽을 수 없는 범위
     EOF("EOF");
 
     // SQL 키워드 집합 (IDENTIFIER, INTEGER, DECIMAL, STRING 제외)
@@ -86,6 +91,10 @@ public enum TokenType {
     private static final Set<TokenType> LITERAL_VALUES = EnumSet.of(
             NULL, TRUE, FALSE, INTEGER, DECIMAL, STRING
     );
+    // 바인드 파라미터
+    private static final Set<TokenType> PARAMETERS = EnumSet.of(
+            POSITIONAL_PARAMETER, NAMED_PARAMETER
+    );
     // 단일 문자 심볼 (연산자 및 구분자)
     private static final Set<TokenType> SINGLE_CHAR_SYMBOLS = EnumSet.of(
             EQUALS, LESS_THAN, GREATER_THAN,
@@ -139,6 +148,13 @@ public enum TokenType {
         return LITERAL_VALUES.contains(this);
     }
 
+    /**
+     * 바인드 파라미터(?, :name)인지 확인합니다.
+     */
+    public boolean isParameter() {
+        return PARAMETERS.contains(this);
+    }
+
     /**
      * 단일 문자 심볼인지 확인합니다.
      */
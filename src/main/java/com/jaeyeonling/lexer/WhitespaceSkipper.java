@@ -1,12 +1,13 @@
 package com.jaeyeonling.lexer;
 
-import com.jaeyeonling.lang.Whitespace;
+import com.jaeyeonling.lexer.character.CharClass;
 import com.jaeyeonling.lexer.reader.CharStream;
 
 /**
  * 공백과 주석 처리를 담당하는 클래스
  * - SQL 주석 (--) 처리
  * - 모든 종류의 공백 문자 처리
+ * - 건너뛴 범위는 다시 읽지 않으므로, 슬라이딩 윈도우 입력에서는 건너뛰는 도중에 버림
  */
 final class WhitespaceSkipper {
     private final CharStream charStream;
@@ -38,11 +39,11 @@ final class WhitespaceSkipper {
     }
 
     private boolean isWhitespace() {
-        return Whitespace.isWhitespace(charStream.current());
+        return CharClass.WHITESPACE.contains(charStream.current());
     }
 
     private void skipWhitespace() {
-        charStream.consumeWhile(Whitespace::isWhitespace);
+        charStream.skipWhile(CharClass.WHITESPACE);
     }
 
     private boolean isCommentStart() {
@@ -61,6 +62,6 @@ final class WhitespaceSkipper {
     }
 
     private void skipUntilEndOfLine() {
-        charStream.consumeWhile(c -> c != '\n');
+        charStream.skipUntil('\n');
     }
 }
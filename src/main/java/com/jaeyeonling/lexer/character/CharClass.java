@@ -0,0 +1,58 @@
+package com.jaeyeonling.lexer.character;
+
+import com.jaeyeonling.lang.Digit;
+import com.jaeyeonling.lang.Whitespace;
+
+import java.util.function.IntPredicate;
+
+/**
+ * ASCII 문자 분류.
+ * - 분류마다 128비트 마스크(long 두 개)를 미리 계산
+ * - 판별은 비트 연산 한 번으로 끝나며 박싱이나 람다 호출이 없음
+ * - ASCII 범위를 벗어난 문자는 어떤 분류에도 속하지 않음
+ */
+public enum CharClass {
+
+    DIGIT(c -> Digit.isDigit((char) c)),
+    WHITESPACE(c -> Whitespace.isWhitespace((char) c)),
+    IDENTIFIER_START(c -> IdentifierStart.isIdentifierStart((char) c)),
+    IDENTIFIER_PART(c -> IdentifierChar.isIdentifierChar((char) c)),
+    OPERATOR(c -> OperatorChar.isOperatorChar((char) c)),
+    DELIMITER(c -> DelimiterChar.isDelimiterChar((char) c));
+
+    private static final int ASCII_SIZE = 128;
+    private static final int BITS_PER_WORD = 64;
+
+    private final long lowMask;
+    private final long highMask;
+
+    CharClass(final IntPredicate definition) {
+        long low = 0L;
+        long high = 0L;
+        for (int c = 0; c < ASCII_SIZE; c++) {
+            if (!definition.test(c)) {
+                continue;
+            }
+            if (c < BITS_PER_WORD) {
+                low |= 1L << c;
+            } else {
+                high |= 1L << (c - BITS_PER_WORD);
+            }
+        }
+        this.lowMask = low;
+        this.highMask = high;
+    }
+
+    /**
+     * 문자가 이 분류에 속하는지 확인합니다.
+     */
+    public boolean contains(final char c) {
+        if (c < BITS_PER_WORD) {
+            return (lowMask & (1L << c)) != 0;
+        }
+        if (c < ASCII_SIZE) {
+            return (highMask & (1L << (c - BITS_PER_WORD))) != 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.character.CharClass;
+
+import java.nio.CharBuffer;
+
+/**
+ * 입력의 한 범위를 훑어 다음 관심 위치를 찾는 스캐너.
+ * - 긴 공백, 주석, 문자열 리터럴을 한 글자씩 이동하지 않고 한 번에 건너뛰기 위해 사용
+ * - jdk.incubator.vector 모듈이 있으면 여러 문자를 한 번에 비교하는 벡터 구현을 사용
+ * - 모듈이 없거나 배열로 접근할 수 없는 입력이면 스칼라 구현으로 대체
+ * - String은 배열로 복사해야 하므로, 재사용되는 렉서가 가진 배열에 채울 수 있을 때만 벡터 구현을 사용
+ * - 시스템 속성 {@value #VECTOR_PROPERTY}=false로 벡터 구현을 끌 수 있음
+ */
+public interface CharScanner {
+
+    String VECTOR_PROPERTY = "com.jaeyeonling.lexer.vector";
+
+    /**
+     * 재사용되는 스캐너라도 이 길이 미만의 String은 배열로 복사하지 않고 스칼라 구현을 사용합니다.
+     */
+    int VECTOR_STRING_THRESHOLD = 256;
+
+    /**
+     * [from, to) 범위에서 문자 분류에 속하지 않는 첫 위치를 반환합니다. 없으면 to를 반환합니다.
+     */
+    int skipWhile(CharClass charClass, int from, int to);
+
+    /**
+     * [from, to) 범위에서 주어진 문자의 첫 위치를 반환합니다. 없으면 to를 반환합니다.
+     */
+    int indexOf(char target, int from, int to);
+
+    /**
+     * [from, to) 범위에서 두 문자 중 하나가 처음 나오는 위치를 반환합니다. 없으면 to를 반환합니다.
+     */
+    int indexOfAny(char first, char second, int from, int to);
+
+    /**
+     * 가능하면 이 스캐너를 새 입력에 맞게 재사용합니다.
+     *
+     * @return 재사용한 스캐너, 재사용할 수 없으면 null
+     */
+    default CharScanner reuse(final CharSequence input) {
+        return null;
+    }
+
+    /**
+     * 렉서가 풀로 돌아갈 때 입력 참조를 끊습니다.
+     * 가진 배열이 maxRetainedChars보다 크거나 호출자의 배열을 참조하고 있으면 버려야 하므로 null을 반환합니다.
+     *
+     * @return 계속 보관해도 되는 스캐너, 보관할 수 없으면 null
+     */
+    default CharScanner detach(final int maxRetainedChars) {
+        return null;
+    }
+
+    /**
+     * 입력을 복사하지 않고 쓸 수 있는 가장 빠른 스캐너를 반환합니다.
+     * 배열을 가진 CharBuffer만 벡터 구현을 사용하며, String은 한 번 쓰고 버릴 스캐너를 위해 복사하지 않습니다.
+     */
+    static CharScanner of(final CharSequence input) {
+        if (VectorSupport.accepts(input) && input instanceof CharBuffer buffer) {
+            return VectorSupport.create(buffer.array(), buffer.arrayOffset() + buffer.position(), false);
+        }
+        return scalar(input);
+    }
+
+    /**
+     * 재사용되는 렉서가 새 입력을 받을 때 사용합니다.
+     * 이전 스캐너를 재사용할 수 있으면 재사용하고, 긴 String은 스캐너가 가진 배열에 복사해 벡터 구현을 사용합니다.
+     * 배열은 처음 한 번만 만들고 이후 입력은 덮어쓰므로, 복사 비용은 벡터 스캔으로 얻는 이득보다 작습니다.
+     */
+    static CharScanner of(
+            final CharSequence input,
+            final CharScanner previous
+    ) {
+        if (previous != null) {
+            final CharScanner reused = previous.reuse(input);
+            if (reused != null) {
+                return reused;
+            }
+        }
+        if (VectorSupport.accepts(input) && input instanceof String string) {
+            return VectorSupport.create(string.toCharArray(), 0, true);
+        }
+        return of(input);
+    }
+
+    /**
+     * 한 글자씩 비교하는 스칼라 스캐너를 반환합니다.
+     */
+    static CharScanner scalar(final CharSequence input) {
+        return new ScalarCharScanner(input);
+    }
+
+    /**
+     * 벡터 스캐너를 사용할 수 있는지 확인합니다.
+     */
+    static boolean isVectorAvailable() {
+        return VectorSupport.ENABLED;
+    }
+}
@@ -1,25 +1,125 @@
 package com.jaeyeonling.lexer.reader;
 
+import com.jaeyeonling.exception.ErrorCode;
 import com.jaeyeonling.exception.LexicalException;
+import com.jaeyeonling.lexer.NumberDecoder;
+import com.jaeyeonling.lexer.PositionMode;
+import com.jaeyeonling.lexer.character.CharClass;
 
 import java.util.function.Predicate;
 
 /**
  * 문자 스트림을 관리하는 클래스.
+ * {@link PositionMode#OFFSET_ONLY}에서는 오프셋만 이동하고,
+ * 라인/컬럼은 요청될 때 {@link LineIndex}로 계산합니다.
+ * 입력이 {@link SlidingCharWindow}라면 필요한 만큼씩 읽어 오며 진행합니다.
+ * 그 밖의 입력에서는 긴 범위를 {@link CharScanner}로 한 번에 건너뜁니다.
  */
 public final class CharStream {
 
-    private final String input;
+    private static final int RETAINED_CHARS = 1 << 16;
+
+    private final boolean tracksPositions;
+    private final LineIndex lineIndex;
+    private CharSequence input;
+    private SlidingCharWindow window;
+    private CharScanner scanner;
     private int current = 0;
     private int line = 1;
     private int column = 1;
+    private boolean fastFail = false;
+
+    public CharStream(final CharSequence input) {
+        this(input, PositionMode.TRACKED);
+    }
+
+    public CharStream(
+            final CharSequence input,
+            final PositionMode positionMode
+    ) {
+        this.tracksPositions = positionMode == PositionMode.TRACKED;
+        this.lineIndex = new LineIndex(input);
+        attach(input);
+        this.scanner = window == null ? CharScanner.of(input) : null;
+    }
+
+    /**
+     * 새 입력의 처음으로 되돌립니다.
+     * 라인 색인과 스캐너는 가능한 한 재사용하며, 긴 String은 스캐너가 가진 배열에 복사해 벡터 스캔을 사용합니다.
+     */
+    public void reset(final CharSequence input) {
+        lineIndex.reset(input);
+        attach(input);
+        this.scanner = window == null ? CharScanner.of(input, scanner) : null;
+        current = 0;
+        line = 1;
+        column = 1;
+    }
+
+    /**
+     * 빈 입력으로 되돌려 이전 입력을 참조하지 않게 합니다. 렉서가 풀로 돌아갈 때 사용합니다.
+     * 스캐너가 복사해 둔 배열은 64K 글자 이하일 때만 다음 입력을 위해 보관합니다.
+     */
+    public void detach() {
+        lineIndex.detach();
+        attach("");
+        final CharScanner detached = scanner == null ? null : scanner.detach(RETAINED_CHARS);
+        this.scanner = detached == null ? CharScanner.scalar("") : detached;
+        current = 0;
+        line = 1;
+        column = 1;
+        fastFail = false;
+    }
+
+    /**
+     * 렉싱 오류를 스택 트레이스 없이 만들지 지정합니다. {@link #detach()}하면 기본값(false)으로 돌아갑니다.
+     */
+    public void fastFail(final boolean fastFail) {
+        this.fastFail = fastFail;
+    }
+
+    /**
+     * 주어진 위치의 렉싱 예외를 만듭니다. fast-fail 모드에서는 스택 트레이스를 수집하지 않습니다.
+     */
+    public LexicalException error(
+            final ErrorCode code,
+            final int line,
+            final int column,
+            final Object... arguments
+    ) {
+        return new LexicalException(code, line, column, arguments, !fastFail);
+    }
 
-    public CharStream(final String input) {
+    /**
+     * 현재 입력의 주어진 위치로 이동합니다.
+     * 토큰 시작처럼 라인/컬럼을 이미 알고 있는 위치에서 토큰화를 다시 시작할 때 사용합니다.
+     * 오프셋 전용 모드에서는 라인/컬럼을 무시합니다.
+     */
+    public void seek(
+            final int index,
+            final int line,
+            final int column
+    ) {
+        this.current = index;
+        this.line = line;
+        this.column = column;
+    }
+
+    private void attach(final CharSequence input) {
         this.input = input;
+        this.window = input instanceof SlidingCharWindow slidingWindow ? slidingWindow : null;
+    }
+
+    /**
+     * 원본 입력을 반환합니다.
+     * 토큰은 이 입력에 대한 위치만 가지고, 텍스트는 필요할 때 잘라서 만듭니다.
+     */
+    public CharSequence input() {
+        return input;
     }
 
     public boolean isAtEnd() {
-        return current >= input.length();
+        return !hasCharAt(current);
     }
 
     public char current() {
@@ -35,7 +135,7 @@ public final class CharStream {
     }
 
     public char peek(final int n) {
-        if (current + n >= input.length()) {
+        if (!hasCharAt(current + n)) {
             return '\0';
         }
 
@@ -47,21 +147,66 @@ public final class CharStream {
             return;
         }
 
-        if (current() == '\n') {
-            line++;
-            column = 1;
-        } else {
-            column++;
-        }
+        moveOver(input.charAt(current));
         current++;
     }
 
     public int line() {
-        return line;
+        return tracksPositions ? line : lineIndex.line(current);
     }
 
     public int column() {
-        return column;
+        return tracksPositions ? column : lineIndex.column(current);
+    }
+
+    /**
+     * 추적 중인 라인을 반환합니다.
+     * 오프셋 전용 모드에서는 계산하지 않고 {@link Position#UNRESOLVED}를 반환합니다.
+     */
+    public int trackedLine() {
+        return tracksPositions ? line : Position.UNRESOLVED;
+    }
+
+    /**
+     * 추적 중인 컬럼을 반환합니다.
+     * 오프셋 전용 모드에서는 계산하지 않고 {@link Position#UNRESOLVED}를 반환합니다.
+     */
+    public int trackedColumn() {
+        return tracksPositions ? column : Position.UNRESOLVED;
+    }
+
+    /**
+     * 오프셋의 라인을 라인 시작 색인으로 계산합니다.
+     */
+    public int lineAt(final int index) {
+        return lineIndex.line(index);
+    }
+
+    /**
+     * 오프셋의 컬럼을 라인 시작 색인으로 계산합니다.
+     */
+    public int columnAt(final int index) {
+        return lineIndex.column(index);
+    }
+
+    /**
+     * 기록된 라인이 없으면 오프셋으로부터 라인을 계산합니다.
+     */
+    public int resolveLine(
+            final int index,
+            final int trackedLine
+    ) {
+        return trackedLine != Position.UNRESOLVED ? trackedLine : lineAt(index);
+    }
+
+    /**
+     * 기록된 컬럼이 없으면 오프셋으로부터 컬럼을 계산합니다.
+     */
+    public int resolveColumn(
+            final int index,
+            final int trackedColumn
+    ) {
+        return trackedColumn != Position.UNRESOLVED ? trackedColumn : columnAt(index);
     }
 
     public int currentIndex() {
@@ -81,8 +226,187 @@ public final class CharStream {
         return false;
     }
 
+    /**
+     * 문자 분류에 속하는 동안 문자를 소비합니다.
+     * 입력을 인덱스로 직접 훑으며, 소비한 범위는 호출 전 {@link #currentIndex()}부터
+     * 반환값까지입니다.
+     *
+     * @return 소비한 범위의 끝 위치 (exclusive)
+     */
+    public int consumeWhile(final CharClass charClass) {
+        if (scanner != null) {
+            return moveTo(scanner.skipWhile(charClass, current, input.length()));
+        }
+
+        int index = current;
+        while (hasCharAt(index)) {
+            final char c = input.charAt(index);
+            if (!charClass.contains(c)) {
+                break;
+            }
+            moveOver(c);
+            index++;
+        }
+        current = index;
+        return index;
+    }
+
+    /**
+     * 숫자를 소비하면서 10진수 값으로 누적합니다.
+     * 숫자 문자열을 따로 만들지 않고, 토큰 범위를 훑는 동안 값을 계산합니다.
+     *
+     * @param accumulated 앞서 누적한 값 (소수라면 정수 부분의 값)
+     * @return 누적한 값, long 범위를 넘으면 {@link NumberDecoder#OVERFLOW}
+     */
+    public long consumeDigits(final long accumulated) {
+        long value = accumulated;
+        int index = current;
+        while (hasCharAt(index)) {
+            final int digit = input.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            value = NumberDecoder.appendDigit(value, digit);
+            index++;
+        }
+        if (tracksPositions) {
+            column += index - current;
+        }
+        current = index;
+        return value;
+    }
+
+    /**
+     * 주어진 문자를 만나기 전까지 문자를 소비합니다. 해당 문자는 소비하지 않습니다.
+     *
+     * @return 소비한 범위의 끝 위치 (exclusive)
+     */
+    public int consumeUntil(final char terminator) {
+        return consumeUntilAny(terminator, terminator);
+    }
+
+    /**
+     * 두 문자 중 하나를 만나기 전까지 문자를 소비합니다. 해당 문자는 소비하지 않습니다.
+     *
+     * @return 소비한 범위의 끝 위치 (exclusive)
+     */
+    public int consumeUntilAny(
+            final char first,
+            final char second
+    ) {
+        if (scanner != null) {
+            return moveTo(scanner.indexOfAny(first, second, current, input.length()));
+        }
+
+        int index = current;
+        while (hasCharAt(index)) {
+            final char c = input.charAt(index);
+            if (c == first || c == second) {
+                break;
+            }
+            moveOver(c);
+            index++;
+        }
+        current = index;
+        return index;
+    }
+
+    /**
+     * 다시 읽지 않을 범위(공백, 주석)를 {@link #consumeWhile(CharClass)}처럼 건너뜁니다.
+     * 슬라이딩 윈도우 입력에서는 윈도우를 채우기 전에 건너뛴 앞부분을 버리므로, 긴 공백도 윈도우를 늘리지 않습니다.
+     *
+     * @return 건너뛴 범위의 끝 위치 (exclusive)
+     */
+    public int skipWhile(final CharClass charClass) {
+        if (window == null) {
+            return consumeWhile(charClass);
+        }
+
+        int index = current;
+        while (fillDiscarding(index)) {
+            final char c = input.charAt(index);
+            if (!charClass.contains(c)) {
+                break;
+            }
+            moveOver(c);
+            index++;
+        }
+        current = index;
+        return index;
+    }
+
+    /**
+     * 다시 읽지 않을 범위(주석)를 {@link #consumeUntil(char)}처럼 건너뜁니다.
+     * 슬라이딩 윈도우 입력에서는 윈도우를 채우기 전에 건너뛴 앞부분을 버리므로, 긴 주석도 윈도우를 늘리지 않습니다.
+     *
+     * @return 건너뛴 범위의 끝 위치 (exclusive)
+     */
+    public int skipUntil(final char terminator) {
+        if (window == null) {
+            return consumeUntil(terminator);
+        }
+
+        int index = current;
+        while (fillDiscarding(index)) {
+            final char c = input.charAt(index);
+            if (c == terminator) {
+                break;
+            }
+            moveOver(c);
+            index++;
+        }
+        current = index;
+        return index;
+    }
+
+    /**
+     * 윈도우가 주어진 위치를 담도록 채웁니다. 채우기 전에 그 앞부분을 버려 버퍼 공간을 재사용합니다.
+     */
+    private boolean fillDiscarding(final int index) {
+        if (index < input.length()) {
+            return true;
+        }
+        window.release(index);
+        return window.fill(index);
+    }
+
+    /**
+     * 스캐너가 찾은 위치로 이동하며, 건너뛴 범위의 개행으로 라인/컬럼을 갱신합니다.
+     */
+    private int moveTo(final int target) {
+        if (tracksPositions) {
+            int lineStart = -1;
+            int newline = scanner.indexOf('\n', current, target);
+            while (newline < target) {
+                line++;
+                lineStart = newline + 1;
+                newline = scanner.indexOf('\n', lineStart, target);
+            }
+            column = lineStart < 0 ? column + (target - current) : target - lineStart + 1;
+        }
+        current = target;
+        return target;
+    }
+
+    private boolean hasCharAt(final int index) {
+        return index < input.length() || (window != null && window.fill(index));
+    }
+
+    private void moveOver(final char c) {
+        if (!tracksPositions) {
+            return;
+        }
+        if (c == '\n') {
+            line++;
+            column = 1;
+        } else {
+            column++;
+        }
+    }
+
     /**
      * 조건을 만족하는 동안 문자를 소비합니다.
+     * 내장 리더는 박싱이 없는 {@link #consumeWhile(CharClass)}를 사용합니다.
      */
     public void consumeWhile(final Predicate<Character> condition) {
         while (!isAtEnd() && condition.test(current())) {
@@ -107,14 +431,7 @@ public final class CharStream {
      */
     public void expect(final char expected) {
         if (current() != expected) {
-            throw new LexicalException(
-                    String.format("""
-                                    예상한 문자와 다른 문자를 발견했습니다.
-                                    예상: '%c'
-                                    실제: '%c'
-                                    위치: %d행 %d열""",
-                            expected, current(), line, column)
-            );
+            throw error(ErrorCode.CHARACTER_MISMATCH, line(), column(), expected, current());
         }
         advance();
     }
@@ -132,6 +449,9 @@ public final class CharStream {
      * 현재 위치 정보를 반환합니다.
      */
     public Position position() {
-        return new Position(line, column, current);
+        if (tracksPositions) {
+            return new Position(line, column, current);
+        }
+        return lineIndex.position(current);
     }
 }
@@ -0,0 +1,100 @@
+package com.jaeyeonling.lexer.reader;
+
+import java.util.Arrays;
+
+/**
+ * 오프셋을 라인/컬럼으로 변환하는 라인 시작 위치 색인.
+ * - 처음 조회될 때 소스를 한 번 훑어 각 라인의 시작 오프셋을 기록
+ * - 이후 조회는 이진 탐색으로 처리
+ * - 라인은 '\n' 기준으로 나누며, CharStream의 라인/컬럼 계산과 같은 결과를 냄
+ * - {@link #reset(CharSequence)}로 다른 소스에 재사용할 때 색인 배열을 유지
+ * - {@link #detach()}는 소스 참조를 끊고, 너무 커진 색인 배열을 처음 크기로 되돌림
+ */
+public final class LineIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int RETAINED_CAPACITY = 4096;
+
+    private CharSequence source;
+    private int[] lineStarts = new int[INITIAL_CAPACITY];
+    private int lineCount = 0; // 0이면 아직 색인을 만들지 않음
+
+    public LineIndex(final CharSequence source) {
+        this.source = source;
+    }
+
+    /**
+     * 다른 소스를 가리키도록 초기화합니다. 색인은 다음 조회 때 다시 만듭니다.
+     */
+    public void reset(final CharSequence source) {
+        this.source = source;
+        this.lineCount = 0;
+    }
+
+    /**
+     * 빈 소스를 가리키도록 초기화합니다. 재사용되는 객체가 이전 소스를 붙잡고 있지 않게 할 때 사용합니다.
+     */
+    public void detach() {
+        reset("");
+        if (lineStarts.length > RETAINED_CAPACITY) {
+            lineStarts = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    int capacity() {
+        return lineStarts.length;
+    }
+
+    /**
+     * 오프셋이 속한 라인 번호를 반환합니다. (1부터 시작)
+     */
+    public int line(final int offset) {
+        return lineOffset(offset) + 1;
+    }
+
+    /**
+     * 오프셋의 컬럼 번호를 반환합니다. (1부터 시작)
+     */
+    public int column(final int offset) {
+        final int lineOffset = lineOffset(offset);
+        return offset - lineStarts[lineOffset] + 1;
+    }
+
+    /**
+     * 오프셋의 위치 정보를 반환합니다.
+     */
+    public Position position(final int offset) {
+        final int lineOffset = lineOffset(offset);
+        return new Position(lineOffset + 1, offset - lineStarts[lineOffset] + 1, offset);
+    }
+
+    private int lineOffset(final int offset) {
+        ensureBuilt();
+        final int found = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+        if (found >= 0) {
+            return found;
+        }
+        // 삽입 위치 바로 앞의 라인
+        return -found - 2;
+    }
+
+    private void ensureBuilt() {
+        if (lineCount > 0) {
+            return;
+        }
+
+        int count = 1;
+        lineStarts[0] = 0;
+        final int length = source.length();
+        for (int index = 0; index < length; index++) {
+            if (source.charAt(index) != '\n') {
+                continue;
+            }
+            if (count == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, count * 2);
+            }
+            lineStarts[count++] = index + 1;
+        }
+        lineCount = count;
+    }
+}
@@ -8,4 +8,9 @@ public record Position(
         int column,
         int index
 ) {
+
+    /**
+     * 오프셋 전용 모드에서 아직 계산되지 않은 라인/컬럼을 나타냅니다.
+     */
+    public static final int UNRESOLVED = 0;
 }
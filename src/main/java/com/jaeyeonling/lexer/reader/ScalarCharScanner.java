@@ -0,0 +1,74 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.character.CharClass;
+
+/**
+ * 한 글자씩 비교하는 스캐너 (기본 구현)
+ */
+final class ScalarCharScanner implements CharScanner {
+
+    private CharSequence input;
+
+    ScalarCharScanner(final CharSequence input) {
+        this.input = input;
+    }
+
+    @Override
+    public CharScanner reuse(final CharSequence input) {
+        if (VectorSupport.accepts(input)) {
+            return null;
+        }
+        this.input = input;
+        return this;
+    }
+
+    @Override
+    public CharScanner detach(final int maxRetainedChars) {
+        this.input = "";
+        return this;
+    }
+
+    @Override
+    public int skipWhile(
+            final CharClass charClass,
+            final int from,
+            final int to
+    ) {
+        int index = from;
+        while (index < to && charClass.contains(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public int indexOf(
+            final char target,
+            final int from,
+            final int to
+    ) {
+        int index = from;
+        while (index < to && input.charAt(index) != target) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public int indexOfAny(
+            final char first,
+            final char second,
+            final int from,
+            final int to
+    ) {
+        int index = from;
+        while (index < to) {
+            final char c = input.charAt(index);
+            if (c == first || c == second) {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+}
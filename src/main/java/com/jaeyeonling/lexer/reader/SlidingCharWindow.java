@@ -0,0 +1,130 @@
+package com.jaeyeonling.lexer.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Reader 위에 슬라이딩 윈도우를 두는 문자 시퀀스.
+ * - 인덱스는 입력 전체 기준의 절대 오프셋
+ * - 필요한 만큼만 Reader에서 읽어 오고, {@link #release(int)}된 앞부분은 버림
+ * - 윈도우보다 긴 토큰(긴 문자열 리터럴 등)을 만나면 그때만 윈도우를 늘림
+ * - {@link #length()}는 지금까지 읽어 온 끝 위치이며, 입력 끝에 도달하면 전체 길이가 됨
+ */
+public final class SlidingCharWindow implements CharSequence {
+
+    private final Reader reader;
+    private char[] buffer;
+    private int windowStart = 0;
+    private int count = 0;
+    private int releasedIndex = 0;
+    private boolean exhausted = false;
+
+    public SlidingCharWindow(
+            final Reader reader,
+            final int initialCapacity
+    ) {
+        this.reader = reader;
+        this.buffer = new char[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * 주어진 위치의 문자를 읽어 올 수 있는지 확인합니다.
+     * 아직 읽지 않은 위치라면 Reader에서 더 읽어 옵니다.
+     *
+     * @return 입력 끝을 넘어선 위치라면 false
+     */
+    public boolean fill(final int index) {
+        while (index >= end()) {
+            if (exhausted) {
+                return false;
+            }
+            readMore();
+        }
+        return true;
+    }
+
+    /**
+     * 주어진 위치 이전의 문자는 더 이상 필요 없음을 알립니다.
+     * 버려진 영역은 다음에 윈도우를 채울 때 재사용됩니다.
+     */
+    public void release(final int index) {
+        releasedIndex = Math.max(releasedIndex, Math.min(index, end()));
+    }
+
+    private int end() {
+        return windowStart + count;
+    }
+
+    private void readMore() {
+        if (count == buffer.length) {
+            makeRoom();
+        }
+
+        try {
+            final int read = reader.read(buffer, count, buffer.length - count);
+            if (read < 0) {
+                exhausted = true;
+                return;
+            }
+            count += read;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("SQL 입력을 읽는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void makeRoom() {
+        final int discard = releasedIndex - windowStart;
+        if (discard > 0) {
+            System.arraycopy(buffer, discard, buffer, 0, count - discard);
+            windowStart = releasedIndex;
+            count -= discard;
+            return;
+        }
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    @Override
+    public int length() {
+        return end();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index >= end()) {
+            throw new IndexOutOfBoundsException(
+                    String.format("위치 %d는 아직 읽지 않은 영역입니다 (읽은 끝: %d)", index, end()));
+        }
+        return buffer[offsetOf(index)];
+    }
+
+    @Override
+    public CharSequence subSequence(
+            final int start,
+            final int end
+    ) {
+        if (start > end) {
+            throw new IndexOutOfBoundsException(
+                    String.format("잘못된 범위입니다: [%d, %d)", start, end));
+        }
+        return new String(buffer, offsetOf(start), end - start);
+    }
+
+    private int offsetOf(final int index) {
+        if (index < windowStart || index > end()) {
+            throw new IndexOutOfBoundsException(
+                    String.format("위치 %d는 현재 윈도우 [%d, %d) 밖에 있습니다", index, windowStart, end()));
+        }
+        return index - windowStart;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, count);
+    }
+}
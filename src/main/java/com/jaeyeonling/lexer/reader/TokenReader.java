@@ -1,6 +1,7 @@
 package com.jaeyeonling.lexer.reader;
 
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
 
 /**
  * 토큰을 읽는 전략 인터페이스.
@@ -16,6 +17,18 @@ public interface TokenReader {
      */
     boolean canRead(CharStream charStream);
 
+    /**
+     * 주어진 문자로 시작하는 토큰을 이 리더가 읽을 가능성이 있는지 확인합니다.
+     * 디스패치 테이블을 미리 계산할 때만 사용되며, 실제 판단은 {@link #canRead(CharStream)}가 합니다.
+     * 기본값은 모든 문자에 대해 true이므로, 재정의하지 않은 리더는 모든 문자에서 후보가 됩니다.
+     *
+     * @param c 토큰의 첫 문자
+     * @return 후보가 될 수 있으면 true
+     */
+    default boolean canStartWith(final char c) {
+        return true;
+    }
+
     /**
      * 토큰을 읽습니다.
      *
@@ -23,4 +36,19 @@ public interface TokenReader {
      * @return 읽은 토큰
      */
     Token read(CharStream charStream);
+
+    /**
+     * 토큰을 읽어 버퍼에 바로 기록합니다.
+     * 기본 구현은 {@link #read(CharStream)}로 만든 토큰을 추가하며,
+     * 기본 리더들은 토큰 객체 없이 버퍼에 기록하도록 재정의합니다.
+     *
+     * @param charStream 문자 스트림
+     * @param buffer     토큰을 기록할 버퍼
+     */
+    default void readInto(
+            final CharStream charStream,
+            final TokenBuffer buffer
+    ) {
+        buffer.add(read(charStream));
+    }
 }
@@ -0,0 +1,102 @@
+package com.jaeyeonling.lexer.reader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * UTF-8 바이트를 디코딩하지 않고 렉서에 제공하는 문자 시퀀스.
+ * - SQL 문법의 구조 문자(키워드, 연산자, 구분자, 따옴표, 공백)는 모두 ASCII이므로 바이트 단위로 판별
+ * - ASCII가 아닌 바이트는 {@link #NON_ASCII}로 보이며, 어떤 문자 분류에도 속하지 않음
+ * - 토큰 텍스트가 필요할 때만 해당 범위를 UTF-8로 디코딩
+ * - 인덱스, 컬럼, 토큰 위치는 모두 바이트 단위
+ * - 메모리 맵 파일을 포함한 ByteBuffer를 복사 없이 읽음
+ */
+public final class Utf8ByteSequence implements CharSequence {
+
+    /**
+     * ASCII가 아닌 바이트 대신 보이는 문자
+     */
+    public static final char NON_ASCII = '�';
+
+    private final ByteBuffer bytes;
+
+    /**
+     * 버퍼의 position부터 limit까지를 입력으로 사용합니다.
+     * 버퍼의 위치는 변경하지 않습니다.
+     */
+    public Utf8ByteSequence(final ByteBuffer bytes) {
+        this.bytes = bytes.slice();
+    }
+
+    public Utf8ByteSequence(final byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * 파일을 읽기 전용으로 메모리에 매핑합니다.
+     *
+     * @param path UTF-8로 인코딩된 SQL 파일 (2GB 미만)
+     */
+    public static Utf8ByteSequence map(final Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        String.format("2GB 이상의 파일은 매핑할 수 없습니다: %s (%d bytes)", path, size));
+            }
+            return new Utf8ByteSequence(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("SQL 파일을 매핑할 수 없습니다: " + path, e);
+        }
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final byte b = bytes.get(index);
+        return b >= 0 ? (char) b : NON_ASCII;
+    }
+
+    /**
+     * 범위를 UTF-8로 디코딩한 문자열을 반환합니다.
+     */
+    @Override
+    public CharSequence subSequence(
+            final int start,
+            final int end
+    ) {
+        return decode(start, end);
+    }
+
+    private String decode(
+            final int start,
+            final int end
+    ) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    String.format("잘못된 범위입니다: [%d, %d) (길이: %d)", start, end, length()));
+        }
+
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        }
+
+        final byte[] slice = new byte[end - start];
+        bytes.get(start, slice);
+        return new String(slice, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return decode(0, length());
+    }
+}
@@ -0,0 +1,63 @@
+package com.jaeyeonling.lexer.reader;
+
+import java.lang.reflect.Constructor;
+import java.nio.CharBuffer;
+
+/**
+ * 벡터 스캐너 로딩을 담당하는 클래스
+ * - jdk.incubator.vector 모듈이 부트 레이어에 없으면 벡터 클래스를 전혀 로딩하지 않음
+ * - 로딩에 실패하면 조용히 스칼라 구현으로 대체
+ */
+final class VectorSupport {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_SCANNER = "com.jaeyeonling.lexer.reader.VectorCharScanner";
+
+    private static final Constructor<?> CONSTRUCTOR = loadConstructor();
+
+    static final boolean ENABLED = CONSTRUCTOR != null;
+
+    private VectorSupport() {
+    }
+
+    private static Constructor<?> loadConstructor() {
+        if (!Boolean.parseBoolean(System.getProperty(CharScanner.VECTOR_PROPERTY, "true"))) {
+            return null;
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Class.forName(VECTOR_SCANNER).getDeclaredConstructor(char[].class, int.class, boolean.class);
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * 벡터 스캐너로 처리할 입력인지 확인합니다.
+     * 배열을 가진 CharBuffer와 충분히 긴 String만 대상입니다.
+     */
+    static boolean accepts(final CharSequence input) {
+        if (!ENABLED) {
+            return false;
+        }
+        if (input instanceof CharBuffer buffer) {
+            return buffer.hasArray();
+        }
+        return input instanceof String && input.length() >= CharScanner.VECTOR_STRING_THRESHOLD;
+    }
+
+    static CharScanner create(
+            final char[] chars,
+            final int offset,
+            final boolean ownsChars
+    ) {
+        try {
+            return (CharScanner) CONSTRUCTOR.newInstance(chars, offset, ownsChars);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("벡터 스캐너를 생성할 수 없습니다.", e);
+        }
+    }
+}
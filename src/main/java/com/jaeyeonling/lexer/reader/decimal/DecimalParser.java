@@ -1,16 +1,20 @@
 package com.jaeyeonling.lexer.reader.decimal;
 
-import com.jaeyeonling.lang.Digit;
 import com.jaeyeonling.lexer.reader.CharStream;
 
 /**
  * 소수 파싱 전략을 선택하고 실행하는 클래스
+ * - 문자열을 만들지 않고 소수 범위만큼 스트림을 소비
+ * - 소비하면서 소수점을 뺀 숫자열의 값을 계산
  */
 record DecimalParser(CharStream charStream) {
 
     private static final char DECIMAL_POINT = '.';
 
-    String parse() {
+    /**
+     * @return 소수점을 뺀 숫자열의 값 (long 범위를 넘으면 {@link com.jaeyeonling.lexer.NumberDecoder#OVERFLOW})
+     */
+    long parse() {
         if (startsWithDecimalPoint()) {
             return parseLeadingDecimalPoint();
         }
@@ -21,21 +25,22 @@ record DecimalParser(CharStream charStream) {
         return charStream.current() == DECIMAL_POINT;
     }
 
-    private String parseLeadingDecimalPoint() {
-        return charStream.consume() + collectFractionalPart();
+    private long parseLeadingDecimalPoint() {
+        charStream.advance();
+        return consumeFractionalPart(0);
     }
 
-    private String parseLeadingDigits() {
-        return collectIntegerPart() +
-                charStream.consume() +
-                collectFractionalPart();
+    private long parseLeadingDigits() {
+        final long integerPart = consumeIntegerPart();
+        charStream.advance();
+        return consumeFractionalPart(integerPart);
     }
 
-    private String collectIntegerPart() {
-        return charStream.collectWhile(Digit::isDigit);
+    private long consumeIntegerPart() {
+        return charStream.consumeDigits(0);
     }
 
-    private String collectFractionalPart() {
-        return charStream.collectWhile(Digit::isDigit);
+    private long consumeFractionalPart(final long integerPart) {
+        return charStream.consumeDigits(integerPart);
     }
 }
@@ -1,35 +1,55 @@
 package com.jaeyeonling.lexer.reader.decimal;
 
+import com.jaeyeonling.lexer.NumberDecoder;
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenText;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.lexer.reader.CharStream;
-import com.jaeyeonling.lexer.reader.Position;
 
 /**
  * 소수점 토큰을 빌드하는 내부 클래스
  * - 두 가지 형태의 소수를 처리: .789 형태와 123.456 형태
  */
 record DecimalToken(
-        Position position,
-        String value,
-        int endIndex
+        CharStream charStream,
+        int startIndex,
+        int line,
+        int column,
+        int endIndex,
+        long unscaledValue,
+        int scale
 ) {
     static DecimalToken from(final CharStream charStream) {
-        final Position startPosition = charStream.position();
-        final DecimalParser parser = new DecimalParser(charStream);
-        final String decimalValue = parser.parse();
+        final int startIndex = charStream.currentIndex();
+        final int line = charStream.trackedLine();
+        final int column = charStream.trackedColumn();
+        final long unscaledValue = new DecimalParser(charStream).parse();
         final int endIndex = charStream.currentIndex();
-        return new DecimalToken(startPosition, decimalValue, endIndex);
+        final int scale = NumberDecoder.scale(charStream.input(), startIndex, endIndex);
+        return new DecimalToken(charStream, startIndex, line, column, endIndex, unscaledValue, scale);
     }
 
     Token build() {
         return new Token(
                 TokenType.DECIMAL,
-                value,
-                position.line(),
-                position.column(),
-                position.index(),
+                TokenText.of(TokenType.DECIMAL, charStream.input(), startIndex, endIndex),
+                charStream.resolveLine(startIndex, line),
+                charStream.resolveColumn(startIndex, column),
+                startIndex,
                 endIndex
         );
     }
+
+    void appendTo(final TokenBuffer buffer) {
+        buffer.addNumber(
+                TokenType.DECIMAL,
+                line,
+                column,
+                startIndex,
+                endIndex,
+                unscaledValue,
+                scale
+        );
+    }
 }
@@ -2,6 +2,7 @@ package com.jaeyeonling.lexer.reader.decimal;
 
 import com.jaeyeonling.lang.Digit;
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
 import com.jaeyeonling.lexer.reader.CharStream;
 import com.jaeyeonling.lexer.reader.TokenReader;
 
@@ -18,11 +19,24 @@ public final class DecimalTokenReader implements TokenReader {
         return startsWithDecimalPoint(charStream) || startsWithDigitAndHasDecimalPoint(charStream);
     }
 
+    @Override
+    public boolean canStartWith(final char c) {
+        return c == DECIMAL_POINT || Digit.isDigit(c);
+    }
+
     @Override
     public Token read(final CharStream charStream) {
         return DecimalToken.from(charStream).build();
     }
 
+    @Override
+    public void readInto(
+            final CharStream charStream,
+            final TokenBuffer buffer
+    ) {
+        DecimalToken.from(charStream).appendTo(buffer);
+    }
+
     private boolean startsWithDecimalPoint(final CharStream charStream) {
         return charStream.current() == DECIMAL_POINT && Digit.isDigit(charStream.peek());
     }
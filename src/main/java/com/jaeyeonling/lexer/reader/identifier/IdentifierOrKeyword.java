@@ -1,90 +1,51 @@
 package com.jaeyeonling.lexer.reader.identifier;
 
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenText;
 import com.jaeyeonling.lexer.TokenType;
-import com.jaeyeonling.lexer.character.IdentifierChar;
+import com.jaeyeonling.lexer.character.CharClass;
 import com.jaeyeonling.lexer.reader.CharStream;
-import com.jaeyeonling.lexer.reader.Position;
-
-import java.util.Arrays;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 식별자 또는 키워드를 처리하는 내부 클래스
- * - 식별자 수집과 키워드 판별을 분리
+ * - 식별자 범위 수집과 키워드 판별을 분리
+ * - 키워드 판별은 소스 범위 위에서 수행하여 문자열을 만들지 않음
  */
 record IdentifierOrKeyword(
-        Position position,
-        String text,
+        CharStream charStream,
+        TokenType type,
+        int startIndex,
+        int line,
+        int column,
         int endIndex
 ) {
 
     static IdentifierOrKeyword from(final CharStream charStream) {
-        final Position startPosition = charStream.position();
-        final String identifier = collectIdentifier(charStream);
-        final int endIndex = charStream.currentIndex();
-        return new IdentifierOrKeyword(startPosition, identifier, endIndex);
-    }
-
-    private static String collectIdentifier(final CharStream charStream) {
-        final StringBuilder result = new StringBuilder();
-
-        // Collect remaining characters
-        do {
-            result.append(charStream.consume());
-        } while (!charStream.isAtEnd() && IdentifierChar.isIdentifierChar(charStream.current()));
-
-        return result.toString();
+        final int startIndex = charStream.currentIndex();
+        final int line = charStream.trackedLine();
+        final int column = charStream.trackedColumn();
+        charStream.advance();
+        final int endIndex = charStream.consumeWhile(CharClass.IDENTIFIER_PART);
+        final TokenType type = SqlKeywords.classify(charStream.input(), startIndex, endIndex);
+        return new IdentifierOrKeyword(charStream, type, startIndex, line, column, endIndex);
     }
 
+    /**
+     * 키워드는 TokenType의 공유 상수 문자열을, 식별자는 소스 범위를 값으로 사용합니다.
+     */
     Token toToken() {
-        return SqlKeywords.findKeyword(text)
-                .map(this::createKeywordToken)
-                .orElseGet(this::createIdentifierToken);
-    }
-
-    private Token createKeywordToken(final TokenType keywordType) {
         return new Token(
-                keywordType,
-                text.toUpperCase(),
-                position.line(),
-                position.column(),
-                position.index(),
+                type,
+                TokenText.of(type, charStream.input(), startIndex, endIndex),
+                charStream.resolveLine(startIndex, line),
+                charStream.resolveColumn(startIndex, column),
+                startIndex,
                 endIndex
         );
     }
 
-    private Token createIdentifierToken() {
-        return new Token(
-                TokenType.IDENTIFIER,
-                text,
-                position.line(),
-                position.column(),
-                position.index(),
-                endIndex
-        );
-    }
-
-    /**
-     * SQL 키워드 관리 클래스
-     */
-    private static class SqlKeywords {
-        // TokenType enum에서 키워드만 추출하여 맵 생성
-        private static final Map<String, TokenType> keywords = buildKeywords();
-
-        private static Map<String, TokenType> buildKeywords() {
-            return Arrays.stream(TokenType.values())
-                    .filter(TokenType::isKeyword)
-                    .collect(Collectors.toUnmodifiableMap(
-                            type -> type.symbol().toUpperCase(),
-                            type -> type
-                    ));
-        }
-
-        static Optional<TokenType> findKeyword(final String text) {
-            return Optional.ofNullable(keywords.get(text.toUpperCase()));
-        }
+    void appendTo(final TokenBuffer buffer) {
+        buffer.add(type, line, column, startIndex, endIndex);
     }
 }
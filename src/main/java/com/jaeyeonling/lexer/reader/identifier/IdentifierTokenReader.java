@@ -1,7 +1,8 @@
 package com.jaeyeonling.lexer.reader.identifier;
 
 import com.jaeyeonling.lexer.Token;
-import com.jaeyeonling.lexer.character.IdentifierStart;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.character.CharClass;
 import com.jaeyeonling.lexer.reader.CharStream;
 import com.jaeyeonling.lexer.reader.TokenReader;
 
@@ -15,12 +16,25 @@ public final class IdentifierTokenReader implements TokenReader {
         return isIdentifierStart(charStream);
     }
 
+    @Override
+    public boolean canStartWith(final char c) {
+        return CharClass.IDENTIFIER_START.contains(c);
+    }
+
     @Override
     public Token read(final CharStream charStream) {
         return IdentifierOrKeyword.from(charStream).toToken();
     }
 
+    @Override
+    public void readInto(
+            final CharStream charStream,
+            final TokenBuffer buffer
+    ) {
+        IdentifierOrKeyword.from(charStream).appendTo(buffer);
+    }
+
     private boolean isIdentifierStart(final CharStream charStream) {
-        return IdentifierStart.isIdentifierStart(charStream.current());
+        return CharClass.IDENTIFIER_START.contains(charStream.current());
     }
 }
@@ -0,0 +1,110 @@
+package com.jaeyeonling.lexer.reader.identifier;
+
+import com.jaeyeonling.lexer.TokenType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SQL 키워드 판별 클래스
+ * - 소스의 문자 범위를 직접 비교하여 문자열을 만들지 않음
+ * - 길이와 첫 글자로 후보를 좁힌 뒤 ASCII 대소문자 무시 비교
+ * - 키워드 집합은 TokenType.isKeyword()에서 가져옴
+ */
+final class SqlKeywords {
+
+    private static final int ALPHABET_SIZE = 26;
+    private static final TokenType[] NO_CANDIDATES = new TokenType[0];
+
+    // [키워드 길이][첫 글자 - 'A'] -> 후보 키워드
+    private static final TokenType[][][] CANDIDATES = buildCandidates();
+
+    private SqlKeywords() {
+    }
+
+    private static TokenType[][][] buildCandidates() {
+        final TokenType[] keywords = Arrays.stream(TokenType.values())
+                .filter(TokenType::isKeyword)
+                .toArray(TokenType[]::new);
+        final int maxLength = Arrays.stream(keywords)
+                .mapToInt(keyword -> keyword.symbol().length())
+                .max()
+                .orElse(0);
+
+        final TokenType[][][] candidates = new TokenType[maxLength + 1][ALPHABET_SIZE][];
+        for (int length = 0; length <= maxLength; length++) {
+            for (int letter = 0; letter < ALPHABET_SIZE; letter++) {
+                candidates[length][letter] = collectCandidates(keywords, length, (char) ('A' + letter));
+            }
+        }
+        return candidates;
+    }
+
+    private static TokenType[] collectCandidates(
+            final TokenType[] keywords,
+            final int length,
+            final char firstChar
+    ) {
+        final List<TokenType> matched = new ArrayList<>();
+        for (final TokenType keyword : keywords) {
+            final String symbol = keyword.symbol();
+            if (symbol.length() == length && symbol.charAt(0) == firstChar) {
+                matched.add(keyword);
+            }
+        }
+        return matched.isEmpty() ? NO_CANDIDATES : matched.toArray(TokenType[]::new);
+    }
+
+    /**
+     * 문자 범위가 키워드이면 해당 키워드 타입을, 아니면 IDENTIFIER를 반환합니다.
+     *
+     * @param source     원본 소스
+     * @param startIndex 식별자 시작 위치 (inclusive)
+     * @param endIndex   식별자 끝 위치 (exclusive)
+     * @return 키워드 타입 또는 IDENTIFIER
+     */
+    static TokenType classify(
+            final CharSequence source,
+            final int startIndex,
+            final int endIndex
+    ) {
+        final int length = endIndex - startIndex;
+        if (length <= 0 || length >= CANDIDATES.length) {
+            return TokenType.IDENTIFIER;
+        }
+
+        final int letter = toUpperAscii(source.charAt(startIndex)) - 'A';
+        if (letter < 0 || letter >= ALPHABET_SIZE) {
+            return TokenType.IDENTIFIER;
+        }
+
+        for (final TokenType candidate : CANDIDATES[length][letter]) {
+            if (equalsIgnoreCase(candidate.symbol(), source, startIndex)) {
+                return candidate;
+            }
+        }
+        return TokenType.IDENTIFIER;
+    }
+
+    private static boolean equalsIgnoreCase(
+            final String keyword,
+            final CharSequence source,
+            final int startIndex
+    ) {
+        // 첫 글자는 후보 선택 시 이미 비교됨
+        for (int i = 1; i < keyword.length(); i++) {
+            if (toUpperAscii(source.charAt(startIndex + i)) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toUpperAscii(final char c) {
+        if (c >= 'a' && c <= 'z') {
+            return (char) (c - ('a' - 'A'));
+        }
+        return c;
+    }
+}
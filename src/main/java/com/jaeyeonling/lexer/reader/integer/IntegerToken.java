@@ -1,39 +1,59 @@
 package com.jaeyeonling.lexer.reader.integer;
 
-import com.jaeyeonling.lang.Digit;
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenText;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.lexer.reader.CharStream;
-import com.jaeyeonling.lexer.reader.Position;
 
 /**
  * 정수 토큰을 빌드하는 내부 빌더 클래스
+ * - 숫자를 읽으면서 값을 계산 (long 범위를 넘으면 {@link com.jaeyeonling.lexer.NumberDecoder#OVERFLOW})
  */
 record IntegerToken(
-        Position position,
-        String digits,
-        int endIndex
+        CharStream charStream,
+        int startIndex,
+        int line,
+        int column,
+        int endIndex,
+        long value
 ) {
 
     static IntegerToken from(final CharStream charStream) {
-        final Position startPosition = charStream.position();
-        final String collectedDigits = charStream.collectWhile(Digit::isDigit);
-        final int endIndex = charStream.currentIndex();
+        final int startIndex = charStream.currentIndex();
+        final int line = charStream.trackedLine();
+        final int column = charStream.trackedColumn();
+        final long value = charStream.consumeDigits(0);
         return new IntegerToken(
-                startPosition,
-                collectedDigits,
-                endIndex
+                charStream,
+                startIndex,
+                line,
+                column,
+                charStream.currentIndex(),
+                value
         );
     }
 
     Token build() {
         return new Token(
                 TokenType.INTEGER,
-                digits,
-                position.line(),
-                position.column(),
-                position.index(),
+                TokenText.of(TokenType.INTEGER, charStream.input(), startIndex, endIndex),
+                charStream.resolveLine(startIndex, line),
+                charStream.resolveColumn(startIndex, column),
+                startIndex,
                 endIndex
         );
     }
+
+    void appendTo(final TokenBuffer buffer) {
+        buffer.addNumber(
+                TokenType.INTEGER,
+                line,
+                column,
+                startIndex,
+                endIndex,
+                value,
+                0
+        );
+    }
 }
@@ -2,6 +2,7 @@ package com.jaeyeonling.lexer.reader.integer;
 
 import com.jaeyeonling.lang.Digit;
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
 import com.jaeyeonling.lexer.reader.CharStream;
 import com.jaeyeonling.lexer.reader.TokenReader;
 
@@ -16,11 +17,24 @@ public final class IntegerTokenReader implements TokenReader {
         return startsWithDigit(charStream);
     }
 
+    @Override
+    public boolean canStartWith(final char c) {
+        return Digit.isDigit(c);
+    }
+
     @Override
     public Token read(final CharStream charStream) {
         return IntegerToken.from(charStream).build();
     }
 
+    @Override
+    public void readInto(
+            final CharStream charStream,
+            final TokenBuffer buffer
+    ) {
+        IntegerToken.from(charStream).appendTo(buffer);
+    }
+
     private boolean startsWithDigit(final CharStream charStream) {
         return Digit.isDigit(charStream.current());
     }
@@ -1,25 +1,50 @@
 package com.jaeyeonling.lexer.reader.operator;
 
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenText;
+import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.lexer.reader.CharStream;
-import com.jaeyeonling.lexer.reader.Position;
 
 /**
  * 연산자 토큰을 빌드하는 내부 클래스
  */
 record OperatorToken(
-        Position position,
-        Token token
+        CharStream charStream,
+        TokenType type,
+        int startIndex,
+        int line,
+        int column,
+        int endIndex
 ) {
 
     static OperatorToken from(final CharStream charStream) {
-        final Position startPosition = charStream.position();
-        final OperatorParser parser = new OperatorParser(charStream, startPosition);
-        final Token parsedToken = parser.parse();
-        return new OperatorToken(startPosition, parsedToken);
+        final int startIndex = charStream.currentIndex();
+        final int line = charStream.trackedLine();
+        final int column = charStream.trackedColumn();
+        final OperatorParser parser = new OperatorParser(charStream, startIndex, line, column);
+        final TokenType type = parser.parse();
+        return new OperatorToken(charStream, type, startIndex, line, column, charStream.currentIndex());
     }
 
     Token build() {
-        return token;
+        return new Token(
+                type,
+                TokenText.of(type, charStream.input(), startIndex, endIndex),
+                charStream.resolveLine(startIndex, line),
+                charStream.resolveColumn(startIndex, column),
+                startIndex,
+                endIndex
+        );
+    }
+
+    void appendTo(final TokenBuffer buffer) {
+        buffer.add(
+                type,
+                line,
+                column,
+                startIndex,
+                endIndex
+        );
     }
 }
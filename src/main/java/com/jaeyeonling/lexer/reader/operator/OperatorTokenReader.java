@@ -1,8 +1,8 @@
 package com.jaeyeonling.lexer.reader.operator;
 
 import com.jaeyeonling.lexer.Token;
-import com.jaeyeonling.lexer.character.DelimiterChar;
-import com.jaeyeonling.lexer.character.OperatorChar;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.character.CharClass;
 import com.jaeyeonling.lexer.reader.CharStream;
 import com.jaeyeonling.lexer.reader.TokenReader;
 
@@ -16,15 +16,25 @@ public final class OperatorTokenReader implements TokenReader {
         return isOperatorOrSymbol(charStream.current());
     }
 
+    @Override
+    public boolean canStartWith(final char c) {
+        return isOperatorOrSymbol(c);
+    }
+
     @Override
     public Token read(final CharStream charStream) {
         return OperatorToken.from(charStream).build();
     }
 
+    @Override
+    public void readInto(
+            final CharStream charStream,
+            final TokenBuffer buffer
+    ) {
+        OperatorToken.from(charStream).appendTo(buffer);
+    }
+
     private boolean isOperatorOrSymbol(final char c) {
-        return OperatorChar.isOperatorChar(c) ||
-                DelimiterChar.isDelimiterChar(c) ||
-                c == '*' ||
-                c == '/';
+        return CharClass.OPERATOR.contains(c) || CharClass.DELIMITER.contains(c);
     }
 }
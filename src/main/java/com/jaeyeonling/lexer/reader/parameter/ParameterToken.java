@@ -0,0 +1,54 @@
+package com.jaeyeonling.lexer.reader.parameter;
+
+import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenText;
+import com.jaeyeonling.lexer.TokenType;
+import com.jaeyeonling.lexer.character.CharClass;
+import com.jaeyeonling.lexer.reader.CharStream;
+
+/**
+ * 바인드 파라미터 토큰을 빌드하는 내부 빌더 클래스
+ * - 이름 있는 파라미터의 범위는 콜론부터 이름 끝까지이며, 값은 콜론을 뺀 이름
+ */
+record ParameterToken(
+        CharStream charStream,
+        TokenType type,
+        int startIndex,
+        int line,
+        int column,
+        int endIndex
+) {
+
+    private static final char POSITIONAL_MARKER = '?';
+
+    static ParameterToken from(final CharStream charStream) {
+        final int startIndex = charStream.currentIndex();
+        final int line = charStream.trackedLine();
+        final int column = charStream.trackedColumn();
+        final boolean positional = charStream.current() == POSITIONAL_MARKER;
+        charStream.advance();
+        if (positional) {
+            return new ParameterToken(
+                    charStream, TokenType.POSITIONAL_PARAMETER, startIndex, line, column, charStream.currentIndex());
+        }
+        charStream.advance();
+        final int endIndex = charStream.consumeWhile(CharClass.IDENTIFIER_PART);
+        return new ParameterToken(charStream, TokenType.NAMED_PARAMETER, startIndex, line, column, endIndex);
+    }
+
+    Token build() {
+        return new Token(
+                type,
+                TokenText.of(type, charStream.input(), startIndex, endIndex),
+                charStream.resolveLine(startIndex, line),
+                charStream.resolveColumn(startIndex, column),
+                startIndex,
+                endIndex
+        );
+    }
+
+    void appendTo(final TokenBuffer buffer) {
+        buffer.add(type, line, column, startIndex, endIndex);
+    }
+}
@@ -0,0 +1,45 @@
+package com.jaeyeonling.lexer.reader.parameter;
+
+import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.character.CharClass;
+import com.jaeyeonling.lexer.reader.CharStream;
+import com.jaeyeonling.lexer.reader.TokenReader;
+
+/**
+ * 바인드 파라미터 토큰을 읽는 전략 구현체.
+ * - ? 는 위치 파라미터
+ * - :name 은 이름 있는 파라미터 (콜론 바로 뒤에 식별자가 와야 함)
+ */
+public final class ParameterTokenReader implements TokenReader {
+
+    private static final char POSITIONAL_MARKER = '?';
+    private static final char NAMED_MARKER = ':';
+
+    @Override
+    public boolean canRead(final CharStream charStream) {
+        final char c = charStream.current();
+        if (c == POSITIONAL_MARKER) {
+            return true;
+        }
+        return c == NAMED_MARKER && CharClass.IDENTIFIER_START.contains(charStream.peek());
+    }
+
+    @Override
+    public boolean canStartWith(final char c) {
+        return c == POSITIONAL_MARKER || c == NAMED_MARKER;
+    }
+
+    @Override
+    public Token read(final CharStream charStream) {
+        return ParameterToken.from(charStream).build();
+    }
+
+    @Override
+    public void readInto(
+            final CharStream charStream,
+            final TokenBuffer buffer
+    ) {
+        ParameterToken.from(charStream).appendTo(buffer);
+    }
+}
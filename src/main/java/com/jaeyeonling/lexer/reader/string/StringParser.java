@@ -1,10 +1,12 @@
 package com.jaeyeonling.lexer.reader.string;
 
-import com.jaeyeonling.exception.LexicalException;
+import com.jaeyeonling.exception.ErrorCode;
 import com.jaeyeonling.lexer.reader.CharStream;
 
 /**
  * 문자열 파싱 로직을 담당하는 내부 클래스
+ * - 내용을 모으지 않고 닫는 따옴표까지 스트림을 소비
+ * - 이스케이프 해제는 {@link com.jaeyeonling.lexer.TokenText}가 값 요청 시 수행
  */
 final class StringParser {
 
@@ -17,24 +19,25 @@ final class StringParser {
         this.charStream = charStream;
     }
 
-    String parse() {
+    void parse() {
         skipOpeningQuote();
-        final String content = collectContent();
+        skipContent();
         skipClosingQuote();
-        return content;
     }
 
     private void skipOpeningQuote() {
         charStream.expect(QUOTE);
     }
 
-    private String collectContent() {
-        final StringBuilder content = new StringBuilder();
-        while (!isEndOfString()) {
-            content.append(readNextCharacter());
+    private void skipContent() {
+        while (true) {
+            // 따옴표나 백슬래시가 아닌 문자는 한 번에 건너뜀
+            charStream.consumeUntilAny(QUOTE, BACKSLASH);
+            if (isEndOfString()) {
+                return;
+            }
+            skipNextCharacter();
         }
-
-        return content.toString();
     }
 
     private boolean isEndOfString() {
@@ -49,37 +52,21 @@ final class StringParser {
         return charStream.peek() == QUOTE;
     }
 
-    private char readNextCharacter() {
-        if (isBackslashEscape()) {
-            return readBackslashEscaped();
-        }
-        // SQL 이스케이프 따옴표는 현재 문자가 따옴표일 때만 체크
-        if (charStream.current() == QUOTE && isSqlEscapedQuote()) {
-            return readSqlEscapedQuote();
+    private void skipNextCharacter() {
+        // \' 와 '' 는 두 문자를 한 번에 건너뜀
+        if (isBackslashEscape() || (charStream.current() == QUOTE && isSqlEscapedQuote())) {
+            charStream.advance();
         }
-        return charStream.consume();
+        charStream.advance();
     }
 
     private boolean isBackslashEscape() {
         return charStream.current() == BACKSLASH && charStream.peek() == QUOTE;
     }
 
-    private char readBackslashEscaped() {
-        charStream.advance(); // Skip backslash
-        return charStream.consume(); // Return quote
-    }
-
-    private char readSqlEscapedQuote() {
-        charStream.advance(); // Skip first quote
-        return charStream.consume(); // Return second quote
-    }
-
     private void skipClosingQuote() {
         if (charStream.isAtEnd()) {
-            throw new LexicalException(
-                    String.format("종료되지 않은 문자열 (위치: %d행 %d열)",
-                            charStream.line(), charStream.column())
-            );
+            throw charStream.error(ErrorCode.UNTERMINATED_STRING, charStream.line(), charStream.column());
         }
         charStream.expect(QUOTE);
     }
@@ -1,27 +1,34 @@
 package com.jaeyeonling.lexer.reader.string;
 
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenText;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.lexer.reader.CharStream;
-import com.jaeyeonling.lexer.reader.Position;
 
 /**
  * 문자열 토큰을 빌드하는 내부 클래스
  */
 record StringToken(
-        Position startPosition,
-        String content,
+        CharStream charStream,
+        int startIndex,
+        int line,
+        int column,
         int endIndex
 ) {
 
     static StringToken from(final CharStream charStream) {
-        final Position position = charStream.position();
+        final int startIndex = charStream.currentIndex();
+        final int line = charStream.trackedLine();
+        final int column = charStream.trackedColumn();
         final StringParser parser = new StringParser(charStream);
-        final String content = parser.parse();
+        parser.parse();
         final int endIndex = charStream.currentIndex();
         return new StringToken(
-                position,
-                content,
+                charStream,
+                startIndex,
+                line,
+                column,
                 endIndex
         );
     }
@@ -29,10 +36,20 @@ record StringToken(
     Token build() {
         return new Token(
                 TokenType.STRING,
-                content,
-                startPosition.line(),
-                startPosition.column(),
-                startPosition.index(),
+                TokenText.of(TokenType.STRING, charStream.input(), startIndex, endIndex),
+                charStream.resolveLine(startIndex, line),
+                charStream.resolveColumn(startIndex, column),
+                startIndex,
+                endIndex
+        );
+    }
+
+    void appendTo(final TokenBuffer buffer) {
+        buffer.add(
+                TokenType.STRING,
+                line,
+                column,
+                startIndex,
                 endIndex
         );
     }
@@ -1,6 +1,7 @@
 package com.jaeyeonling.lexer.reader.string;
 
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
 import com.jaeyeonling.lexer.reader.CharStream;
 import com.jaeyeonling.lexer.reader.TokenReader;
 
@@ -16,11 +17,24 @@ public final class StringTokenReader implements TokenReader {
         return startsWithQuote(charStream);
     }
 
+    @Override
+    public boolean canStartWith(final char c) {
+        return c == QUOTE;
+    }
+
     @Override
     public Token read(final CharStream charStream) {
         return StringToken.from(charStream).build();
     }
 
+    @Override
+    public void readInto(
+            final CharStream charStream,
+            final TokenBuffer buffer
+    ) {
+        StringToken.from(charStream).appendTo(buffer);
+    }
+
     private boolean startsWithQuote(final CharStream charStream) {
         return charStream.current() == QUOTE;
     }
@@ -0,0 +1,79 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.expression.ParameterExpression;
+import com.jaeyeonling.ast.statement.SelectStatement;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link PreparedStatementTemplate}의 AST와 묶은 값을 함께 보는 뷰.
+ * - AST는 틀의 것을 그대로 공유하며, 이 객체는 값 배열만 가짐
+ * - 파라미터 노드나 번호로 묶인 값을 찾음
+ */
+public final class BoundStatement {
+
+    private final PreparedStatementTemplate template;
+    // 틀의 칸 번호 순서 (같은 이름의 파라미터는 한 칸을 공유)
+    private final Object[] slotValues;
+
+    BoundStatement(
+            final PreparedStatementTemplate template,
+            final Object[] slotValues
+    ) {
+        this.template = template;
+        this.slotValues = slotValues;
+    }
+
+    public PreparedStatementTemplate template() {
+        return template;
+    }
+
+    /**
+     * 틀의 SELECT 문. 묶을 때마다 새로 만들지 않고 같은 인스턴스를 반환합니다.
+     */
+    public SelectStatement statement() {
+        return template.statement();
+    }
+
+    /**
+     * 파라미터 노드에 묶인 값을 반환합니다.
+     *
+     * @param parameter 이 틀의 AST에 있는 파라미터 노드
+     * @return 묶인 값 (SQL NULL이면 null)
+     */
+    @Nullable
+    public Object value(final ParameterExpression parameter) {
+        return value(parameter.index());
+    }
+
+    /**
+     * 파라미터 번호(1부터, SQL에 나타난 순서)에 묶인 값을 반환합니다.
+     *
+     * @throws IllegalArgumentException 번호가 범위를 벗어난 경우
+     */
+    @Nullable
+    public Object value(final int index) {
+        return slotValues[template.slotOf(index)];
+    }
+
+    /**
+     * 파라미터가 나타난 순서대로 값을 나열한 읽기 전용 목록을 반환합니다.
+     * 이름 있는 파라미터가 여러 번 나오면 나온 자리마다 같은 값이 들어가므로, JDBC의 ? 순서로 값을 넘길 때 씁니다.
+     */
+    public List<Object> values() {
+        return new AbstractList<>() {
+            @Override
+            public Object get(final int i) {
+                return value(Objects.checkIndex(i, size()) + 1);
+            }
+
+            @Override
+            public int size() {
+                return template.parameterCount();
+            }
+        };
+    }
+}
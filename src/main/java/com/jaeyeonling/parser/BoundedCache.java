@@ -0,0 +1,193 @@
+package com.jaeyeonling.parser;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 항목 수와 무게의 합이 상한을 넘지 않는 문자열 키 캐시.
+ * {@link CachingSqlParser}와 {@link TemplateCachingSqlParser}가 함께 사용합니다.
+ *
+ * <ul>
+ *   <li>조회는 ConcurrentHashMap 읽기와 참조 표시뿐이므로 락을 잡지 않음</li>
+ *   <li>넣을 때만 락을 잡고 CLOCK 방식으로 내보낼 항목을 고름</li>
+ *   <li>가득 찼다면 최근 접근 빈도가 내보낼 항목보다 높은 값만 넣으므로, 한 번 쓰고 마는 키가 자주 쓰는 키를 밀어내지 않음</li>
+ *   <li>무거운 값을 넣느라 여러 항목을 내보내야 한다면 모두 내보내고 넣거나, 아무것도 내보내지 않고 거절함</li>
+ * </ul>
+ *
+ * @param <V> 캐시할 값의 타입 (여러 스레드가 함께 읽으므로 불변이어야 함)
+ */
+final class BoundedCache<V> {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final int maximumSize;
+    private final long maximumWeight;
+
+    private final ConcurrentHashMap<String, Entry<V>> entries;
+    private final FrequencySketch sketch;
+
+    // 아래 필드는 evictionLock을 잡은 스레드만 변경
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Deque<Entry<V>> clock = new ArrayDeque<>();
+    private volatile long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    BoundedCache(
+            final int maximumSize,
+            final long maximumWeight
+    ) {
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, DEFAULT_MAXIMUM_SIZE));
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * 키의 접근 빈도를 기록하고 캐시된 값을 반환합니다.
+     *
+     * @return 캐시된 값, 없다면 null
+     */
+    @Nullable
+    V get(final String key) {
+        sketch.increment(key);
+
+        final Entry<V> cached = entries.get(key);
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        cached.referenced = true;
+        hits.increment();
+        return cached.value;
+    }
+
+    /**
+     * 값을 캐시에 넣습니다. 공간이 부족하면 내보낼 항목과 접근 빈도를 비교해 넣을지 결정합니다.
+     * 여러 항목을 내보내야 하는 경우 모두 새 값보다 빈도가 낮을 때만 내보내고,
+     * 하나라도 빈도가 같거나 높으면 아무것도 내보내지 않고 새 값을 거절합니다.
+     */
+    void put(
+            final String key,
+            final V value,
+            final int weight
+    ) {
+        if (weight > maximumWeight) {
+            rejections.increment();
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            if (entries.containsKey(key)) {
+                // 다른 스레드가 먼저 넣음
+                return;
+            }
+            final List<Entry<V>> victims = selectVictims(key, weight);
+            if (victims == null) {
+                rejections.increment();
+                return;
+            }
+            for (final Entry<V> victim : victims) {
+                entries.remove(victim.key);
+                totalWeight -= victim.weight;
+                evictions.increment();
+            }
+
+            final Entry<V> entry = new Entry<>(key, value, weight);
+            entries.put(key, entry);
+            clock.addLast(entry);
+            totalWeight += weight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 새 값이 들어갈 공간이 생길 때까지 내보낼 항목을 고릅니다. 고른 항목은 아직 캐시에서 지우지 않습니다.
+     *
+     * @return 내보낼 항목 (공간이 충분하면 빈 목록), 새 값보다 빈도가 같거나 높은 항목이 있으면 고른 항목을 되돌리고 null
+     */
+    @Nullable
+    private List<Entry<V>> selectVictims(
+            final String key,
+            final int weight
+    ) {
+        int size = entries.size();
+        long remainingWeight = totalWeight;
+        if (size < maximumSize && remainingWeight + weight <= maximumWeight) {
+            return List.of();
+        }
+
+        final int frequency = sketch.frequency(key);
+        final List<Entry<V>> victims = new ArrayList<>(2);
+        while (size >= maximumSize || remainingWeight + weight > maximumWeight) {
+            final Entry<V> victim = nextVictim();
+            victims.add(victim);
+            if (frequency <= sketch.frequency(victim.key)) {
+                // 고른 순서대로 맨 앞에 되돌려, 다음에도 같은 항목부터 비교
+                for (int i = victims.size() - 1; i >= 0; i--) {
+                    clock.addFirst(victims.get(i));
+                }
+                return null;
+            }
+            size--;
+            remainingWeight -= victim.weight;
+        }
+        return victims;
+    }
+
+    /**
+     * CLOCK 방식으로 내보낼 항목을 꺼냅니다.
+     * 마지막으로 확인한 뒤 조회된 항목은 표시를 지우고 뒤로 보내 한 번 더 기회를 줍니다.
+     */
+    private Entry<V> nextVictim() {
+        while (true) {
+            final Entry<V> candidate = clock.pollFirst();
+            if (!candidate.referenced) {
+                return candidate;
+            }
+            candidate.referenced = false;
+            clock.addLast(candidate);
+        }
+    }
+
+    CacheStats stats() {
+        return new CacheStats(
+                hits.sum(),
+                misses.sum(),
+                evictions.sum(),
+                rejections.sum(),
+                entries.size(),
+                totalWeight
+        );
+    }
+
+    private static final class Entry<V> {
+
+        private final String key;
+        private final V value;
+        private final int weight;
+        private volatile boolean referenced;
+
+        private Entry(
+                final String key,
+                final V value,
+                final int weight
+        ) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
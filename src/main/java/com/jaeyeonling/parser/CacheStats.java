@@ -0,0 +1,29 @@
+package com.jaeyeonling.parser;
+
+/**
+ * 파싱 결과 캐시의 누적 통계.
+ *
+ * @param hits       캐시에서 찾은 횟수
+ * @param misses     캐시에 없어 파싱한 횟수
+ * @param evictions  공간을 만들기 위해 내보낸 항목 수
+ * @param rejections 빈도가 낮거나 너무 커서 캐시에 넣지 않은 파싱 결과 수
+ * @param size       현재 항목 수
+ * @param weight     현재 항목 무게의 합 (SQL 문자 수)
+ */
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long rejections,
+        int size,
+        long weight
+) {
+
+    /**
+     * 요청 중 캐시에서 찾은 비율을 반환합니다. 요청이 없었다면 0입니다.
+     */
+    public double hitRate() {
+        final long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,112 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+
+/**
+ * SQL 문자열이 정확히 같으면 이전 파싱 결과(AST)를 재사용하는 파서.
+ * AST는 불변이므로 여러 스레드가 같은 결과를 함께 사용합니다.
+ *
+ * <ul>
+ *   <li>조회는 ConcurrentHashMap 읽기와 참조 표시뿐이므로 락을 잡지 않음</li>
+ *   <li>항목 수와 무게(SQL 문자 수)의 합이 상한을 넘지 않도록, 캐시에 넣을 때만 락을 잡고 CLOCK 방식으로 내보낼 항목을 고름</li>
+ *   <li>가득 찬 캐시에는 최근 접근 빈도가 내보낼 항목보다 높은 결과만 넣으므로, 한 번 쓰고 마는 SQL이 자주 쓰는 SQL을 밀어내지 않음</li>
+ *   <li>파싱 오류는 캐시하지 않음</li>
+ * </ul>
+ */
+public final class CachingSqlParser {
+
+    private final SqlParser parser;
+    private final BoundedCache<SelectStatement> cache;
+
+    /**
+     * 기본 파서와 기본 상한(항목 10,000개, 무게 제한 없음)으로 생성합니다.
+     */
+    public CachingSqlParser() {
+        this(new SqlParser(), BoundedCache.DEFAULT_MAXIMUM_SIZE, Long.MAX_VALUE);
+    }
+
+    private CachingSqlParser(
+            final SqlParser parser,
+            final int maximumSize,
+            final long maximumWeight
+    ) {
+        this.parser = parser;
+        this.cache = new BoundedCache<>(maximumSize, maximumWeight);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * SQL을 파싱합니다. 같은 SQL을 파싱한 결과가 캐시에 있으면 그대로 반환합니다.
+     *
+     * @param sql 파싱할 SQL
+     * @return 파싱된 SELECT 문 (캐시에서 찾았다면 이전과 같은 인스턴스)
+     */
+    public SelectStatement parse(final CharSequence sql) {
+        final String key = sql.toString();
+        final SelectStatement cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final SelectStatement statement = parser.parse(key);
+        cache.put(key, statement, Math.max(1, key.length()));
+        return statement;
+    }
+
+    /**
+     * 지금까지의 통계를 반환합니다.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * CachingSqlParser 빌더.
+     */
+    public static final class Builder {
+
+        private SqlParser parser = new SqlParser();
+        private int maximumSize = BoundedCache.DEFAULT_MAXIMUM_SIZE;
+        private long maximumWeight = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * 캐시에 없는 SQL을 파싱할 파서 (기본값: 기본 설정의 SqlParser)
+         */
+        public Builder parser(final SqlParser parser) {
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * 캐시에 담을 최대 항목 수 (기본값: 10,000)
+         */
+        public Builder maximumSize(final int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("최대 항목 수는 1 이상이어야 합니다: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * 캐시에 담은 SQL 문자 수 합의 상한 (기본값: 제한 없음)
+         */
+        public Builder maximumWeight(final long maximumWeight) {
+            if (maximumWeight < 1) {
+                throw new IllegalArgumentException("최대 무게는 1 이상이어야 합니다: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public CachingSqlParser build() {
+            return new CachingSqlParser(parser, maximumSize, maximumWeight);
+        }
+    }
+}
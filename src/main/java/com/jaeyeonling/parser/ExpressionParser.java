@@ -3,9 +3,8 @@ package com.jaeyeonling.parser;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
 import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.Operator;
-import com.jaeyeonling.exception.SyntaxException;
-import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.FunctionParser;
@@ -13,10 +12,13 @@ import com.jaeyeonling.parser.expression.IdentifierParser;
 import com.jaeyeonling.parser.expression.LiteralParser;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorParserRegistry;
+import com.jaeyeonling.parser.expression.OperatorPriority;
 
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 /**
  * SQL 표현식 파싱을 담당하는 클래스.
@@ -34,188 +36,305 @@ import java.util.function.Supplier;
  *
  * <h3>설계 원칙</h3>
  * <ul>
+ *   <li>이항 연산은 우선순위 상승(precedence climbing) 방식으로 파싱하며, 결합력은 {@link OperatorPriority}에서 가져옴</li>
+ *   <li>토큰 타입별 결합력과 연산자는 배열로 미리 만들어 두어 조회는 색인 한 번으로 끝남</li>
+ *   <li>같은 연산자로 이어진 AND/OR 항은 이항 노드 사슬 대신 하나의 {@link LogicalExpression}으로 묶음</li>
  *   <li>복잡한 연산자(LIKE, IN, BETWEEN 등)는 레지스트리로 관리하여 확장성 확보</li>
- *   <li>기본 이항 연산자(OR, AND, +, -, *)는 성능과 가독성을 위해 직접 처리</li>
  *   <li>리터럴과 식별자 파싱은 전문 파서에게 위임</li>
+ *   <li>상태를 갖지 않고 파싱 위치는 매 호출에 전달되는 토큰 스트림이 관리하므로, 한 인스턴스를 여러 스레드가 공유</li>
  * </ul>
  */
 public final class ExpressionParser implements ExpressionProvider {
 
-    private static final Map<TokenType, Operator> binaryOperators = Map.of(
-            TokenType.PLUS, Operator.ADD,
-            TokenType.MINUS, Operator.SUBTRACT,
-            TokenType.STAR, Operator.MULTIPLY,
-            TokenType.SLASH, Operator.DIVIDE,
-            TokenType.OR, Operator.OR,
-            TokenType.AND, Operator.AND
-    );
+    private static final int NO_BINDING = 0;
+    private static final int PRIMARY_LEVEL = Integer.MAX_VALUE;
+    private static final int COMPARISON_POWER = OperatorPriority.COMPARISON.bindingPower();
+    private static final int LOWEST_POWER = OperatorPriority.LOGICAL_OR.bindingPower();
+    private static final int ADDITIVE_POWER = OperatorPriority.ARITHMETIC_ADD.bindingPower();
+
+    // 토큰 ordinal -> 이항 연산자의 결합력 (이항 연산자가 아니면 0)
+    private static final int[] BINDING_POWERS = new int[TokenType.values().length];
+    // 토큰 ordinal -> 이항 연산자
+    private static final Operator[] BINARY_OPERATORS = new Operator[TokenType.values().length];
+
+    static {
+        registerBinary(TokenType.OR, Operator.OR, OperatorPriority.LOGICAL_OR);
+        registerBinary(TokenType.AND, Operator.AND, OperatorPriority.LOGICAL_AND);
+        registerBinary(TokenType.PLUS, Operator.ADD, OperatorPriority.ARITHMETIC_ADD);
+        registerBinary(TokenType.MINUS, Operator.SUBTRACT, OperatorPriority.ARITHMETIC_ADD);
+        registerBinary(TokenType.STAR, Operator.MULTIPLY, OperatorPriority.ARITHMETIC_MUL);
+        registerBinary(TokenType.SLASH, Operator.DIVIDE, OperatorPriority.ARITHMETIC_MUL);
+    }
+
+    private static void registerBinary(
+            final TokenType type,
+            final Operator operator,
+            final OperatorPriority priority
+    ) {
+        BINDING_POWERS[type.ordinal()] = priority.bindingPower();
+        BINARY_OPERATORS[type.ordinal()] = operator;
+    }
 
-    private final TokenStream tokenStream;
     private final LiteralParser literalParser;
     private final IdentifierParser identifierParser;
     private final OperatorParserRegistry operatorRegistry;
     private final FunctionParser functionParser;
 
-    public ExpressionParser(final TokenStream tokenStream) {
-        this.tokenStream = tokenStream;
-        this.literalParser = new LiteralParser(tokenStream);
-        this.identifierParser = new IdentifierParser(tokenStream);
-        this.operatorRegistry = new OperatorParserRegistry(this);
-        this.functionParser = new FunctionParser(tokenStream, this);
+    public ExpressionParser() {
+        this.literalParser = new LiteralParser();
+        this.identifierParser = new IdentifierParser();
+        this.operatorRegistry = new OperatorParserRegistry(this).freeze();
+        this.functionParser = new FunctionParser(this);
     }
 
     /**
      * 표현식을 파싱합니다.
-     * 가장 낮은 우선순위(OR)부터 시작하여 재귀적으로 파싱합니다.
+     * 가장 낮은 결합력(OR)부터 모든 연산자를 받아들입니다.
+     */
+    @Override
+    public Expression parseExpression(final TokenStream tokenStream) {
+        return parseBinaryExpression(tokenStream, LOWEST_POWER);
+    }
+
+    /**
+     * 덧셈/뺄셈 표현식을 파싱합니다.
+     * 예: value1 + value2 - value3
+     * ExpressionProvider 인터페이스 구현. 레지스트리의 파서들이 하위 레벨 파싱에 사용합니다.
      */
     @Override
-    public Expression parseExpression() {
-        return parseOrExpression();
+    public Expression parseAdditiveExpression(final TokenStream tokenStream) {
+        return parseBinaryExpression(tokenStream, ADDITIVE_POWER);
     }
 
     /**
-     * 이항 연산자를 일반적으로 파싱하는 헬퍼 메서드.
+     * 결합력이 minPower 이상인 연산자만 받아들이며 표현식을 파싱합니다.
+     *
+     * <ul>
+     *   <li>이항 연산자는 모두 왼쪽 결합이므로 오른쪽 피연산자는 한 단계 높은 결합력으로 파싱</li>
+     *   <li>leftLevel은 왼쪽 피연산자를 마지막으로 묶은 연산자의 결합력.
+     *       이보다 결합력이 높은 연산자는 왼쪽 피연산자를 다시 묶을 수 없음 (예: a IS NULL + 1)</li>
+     *   <li>비교 연산은 결합하지 않으므로 왼쪽 피연산자가 산술식이나 기본 표현식일 때 한 번만 적용</li>
+     *   <li>오른쪽 피연산자와 괄호는 재귀 호출 대신 명시적 스택의 프레임으로 처리하므로,
+     *       항이 아주 많거나 괄호가 아주 깊어도 호출 스택이 자라지 않음</li>
+     * </ul>
      */
     private Expression parseBinaryExpression(
-            final Supplier<Expression> nextLevel,
-            final TokenType... operatorTypes
+            final TokenStream tokenStream,
+            final int minPower
     ) {
-        Expression left = nextLevel.get();
-
-        while (tokenStream.advanceIfMatch(operatorTypes)) {
-            final Token operatorToken = tokenStream.previous();
-            final Expression right = nextLevel.get();
+        final Deque<Frame> stack = new ArrayDeque<>();
+        Frame frame = new Frame(minPower, false, 0);
 
-            final Operator operator = binaryOperators.get(operatorToken.type());
-            if (operator == null) {
-                throw new SyntaxException("매핑되지 않은 연산자", operatorToken);
+        while (true) {
+            // 피연산자 시작: 앞에 붙은 NOT을 세고, 괄호는 새 프레임으로 엽니다
+            final int negations = countNegations(tokenStream);
+            if (tokenStream.advanceIfMatch(TokenType.LPAREN)) {
+                stack.push(frame);
+                frame = new Frame(LOWEST_POWER, true, negations);
+                continue;
             }
+            Expression operand = negate(parseAtom(tokenStream), negations);
 
-            final SourceLocation location = left.location().merge(right.location());
-            left = new BinaryOperatorExpression(left, operator, right, location);
-        }
+            while (true) {
+                if (operand != null) {
+                    frame.left = operand;
+                    frame.leftLevel = PRIMARY_LEVEL;
+                    operand = null;
+                }
+                if (extend(tokenStream, frame)) {
+                    // 이항 연산자를 읽었으므로 오른쪽 피연산자를 새 프레임에서 파싱
+                    stack.push(frame);
+                    frame = new Frame(frame.pendingPower + 1, false, 0);
+                    break;
+                }
 
-        return left;
-    }
+                Expression value = frame.left();
+                if (frame.parenthesized) {
+                    tokenStream.consume(TokenType.RPAREN,
+                            "괄호로 시작한 표현식은 ')'로 닫아야 합니다.\n" +
+                                    "예시: (age > 18), (price * 0.9)");
+                    value = negate(value, frame.negations);
+                }
+                if (stack.isEmpty()) {
+                    return value;
+                }
 
-    /**
-     * OR 표현식을 파싱합니다. (우선순위: 최하위)
-     * 예: condition1 OR condition2
-     */
-    private Expression parseOrExpression() {
-        return parseBinaryExpression(
-                this::parseAndExpression,
-                TokenType.OR
-        );
+                final Frame child = frame;
+                frame = stack.pop();
+                if (child.parenthesized) {
+                    // 괄호 표현식은 바깥 프레임의 기본 표현식
+                    operand = value;
+                } else {
+                    frame.combine(value);
+                }
+            }
+        }
     }
 
     /**
-     * AND 표현식을 파싱합니다. (우선순위: OR보다 높음)
-     * 예: condition1 AND condition2
+     * 프레임의 왼쪽 피연산자에 비교 연산자를 적용하고, 이어지는 이항 연산자를 읽습니다.
+     *
+     * @return 이항 연산자를 읽어 오른쪽 피연산자가 필요하면 true, 프레임이 끝났으면 false
      */
-    private Expression parseAndExpression() {
-        return parseBinaryExpression(
-                this::parseComparisonExpression,
-                TokenType.AND
-        );
-    }
+    private boolean extend(
+            final TokenStream tokenStream,
+            final Frame frame
+    ) {
+        while (true) {
+            final TokenType type = tokenStream.peekType();
+            final int power = BINDING_POWERS[type.ordinal()];
 
-    /**
-     * 비교 연산자 표현식을 파싱합니다.
-     * 복잡한 연산자(LIKE, IN, BETWEEN, NOT 버전들)는 레지스트리를 통해 처리합니다.
-     * 레지스트리는 우선순위에 따라 파서를 정렬하므로, NOT LIKE가 LIKE보다 먼저 매칭됩니다.
-     */
-    private Expression parseComparisonExpression() {
-        Expression left = parseAdditiveExpression();
+            if (power != NO_BINDING) {
+                if (power < frame.minPower || power > frame.leftLevel) {
+                    return false;
+                }
+                tokenStream.advance();
+                frame.pendingOperator = BINARY_OPERATORS[type.ordinal()];
+                frame.pendingPower = power;
+                return true;
+            }
 
-        // 레지스트리가 모든 비교 연산자를 처리 (NOT 버전 포함)
-        Optional<OperatorParser> parser = operatorRegistry.findParser(tokenStream);
-        if (parser.isPresent()) {
-            return parser.get().parse(tokenStream, left);
+            if (COMPARISON_POWER < frame.minPower || COMPARISON_POWER >= frame.leftLevel) {
+                return false;
+            }
+            // 레지스트리가 모든 비교 연산자를 처리 (NOT 버전 포함)
+            // 레지스트리는 (현재 토큰, 다음 토큰) 타입으로 후보를 바로 찾으므로, NOT LIKE는 (NOT, LIKE) 칸에서 매칭됩니다.
+            final OperatorParser parser = operatorRegistry.lookup(tokenStream);
+            if (parser == null) {
+                return false;
+            }
+            frame.left = parser.parse(tokenStream, frame.left());
+            frame.leftLevel = COMPARISON_POWER;
         }
-
-        // 파서를 찾지 못한 경우 = 연산자가 없는 단순 표현식
-        return left;
     }
 
     /**
-     * 덧셈/뺄셈 표현식을 파싱합니다.
-     * 예: value1 + value2 - value3
-     * ExpressionProvider 인터페이스 구현. 레지스트리의 파서들이 하위 레벨 파싱에 사용합니다.
+     * 피연산자 앞의 단항 NOT 연산자를 모두 읽고 개수를 반환합니다. (예: NOT EXISTS)
      */
-    @Override
-    public Expression parseAdditiveExpression() {
-        return parseBinaryExpression(
-                this::parseMultiplicativeExpression,
-                TokenType.PLUS, TokenType.MINUS
-        );
+    private static int countNegations(final TokenStream tokenStream) {
+        int count = 0;
+        while (tokenStream.advanceIfMatch(TokenType.NOT)) {
+            count++;
+        }
+        return count;
     }
 
     /**
-     * 곱셈/나눗셈 표현식을 파싱합니다.
-     * 예: value1 * value2 / value3
+     * 읽어 둔 NOT의 개수만큼 안쪽부터 단항 NOT 표현식으로 감쌉니다.
      */
-    private Expression parseMultiplicativeExpression() {
-        return parseBinaryExpression(
-                this::parsePrimaryExpression,
-                TokenType.STAR, TokenType.SLASH
-        );
+    private static Expression negate(
+            final Expression expression,
+            final int negations
+    ) {
+        Expression result = expression;
+        for (int i = 0; i < negations; i++) {
+            result = new BinaryOperatorExpression(
+                    result,
+                    Operator.NOT,
+                    null,  // 단항 연산자이므로 right는 null
+                    result.location()
+            );
+        }
+        return result;
     }
 
     /**
-     * 기본 표현식을 파싱합니다. (우선순위: 최상위)
+     * 연산자와 괄호를 포함하지 않는 기본 표현식을 파싱합니다. (우선순위: 최상위)
      *
      * <h4>처리 순서:</h4>
      * <ol>
-     *   <li>단항 NOT 연산자</li>
-     *   <li>리터럴 (숫자, 문자열, 불리언, NULL - LiteralParser에 위임)</li>
-     *   <li>괄호로 묶인 표현식</li>
+     *   <li>리터럴과 바인드 파라미터 (숫자, 문자열, 불리언, NULL, ?, :name - LiteralParser에 위임)</li>
+     *   <li>함수 호출 (FunctionParser에 위임)</li>
      *   <li>식별자/컬럼 참조 (IdentifierParser에 위임)</li>
      * </ol>
      */
-    private Expression parsePrimaryExpression() {
-        // 1. 단항 NOT 연산자 (예: NOT EXISTS)
-        if (tokenStream.advanceIfMatch(TokenType.NOT)) {
-            final Expression expr = parsePrimaryExpression();
-            return new BinaryOperatorExpression(
-                    expr,
-                    Operator.NOT,
-                    null,  // 단항 연산자이므로 right는 null
-                    expr.location()
-            );
-        }
-
-        // 2. 리터럴 파싱 위임 (정수, 소수, 문자열, 불리언, NULL)
-        final Optional<Expression> literal = literalParser.parseLiteral();
+    private Expression parseAtom(final TokenStream tokenStream) {
+        // 1. 리터럴 파싱 위임 (정수, 소수, 문자열, 불리언, NULL, 바인드 파라미터)
+        final Optional<Expression> literal = literalParser.parseLiteral(tokenStream);
         if (literal.isPresent()) {
             return literal.get();
         }
 
-        // 3. 괄호로 묶인 표현식
-        if (tokenStream.advanceIfMatch(TokenType.LPAREN)) {
-            final Expression expr = parseExpression();
-            tokenStream.consume(TokenType.RPAREN,
-                    "괄호로 시작한 표현식은 ')'로 닫아야 합니다.\n" +
-                            "예시: (age > 18), (price * 0.9)");
-            return expr;
+        // 2. 함수 호출 파싱 - FunctionParser에 위임
+        if (functionParser.canParseFunction(tokenStream)) {
+            return functionParser.parseFunction(tokenStream);
         }
 
-        // 4. 함수 호출 파싱 - FunctionParser에 위임
-        if (functionParser.canParseFunction()) {
-            return functionParser.parseFunction();
-        }
-
-        // 5. 일반 식별자 파싱 위임 (컬럼명 또는 테이블.컬럼)
-        final Expression identifier = identifierParser.parseIdentifier();
+        // 3. 일반 식별자 파싱 위임 (컬럼명 또는 테이블.컬럼)
+        final Expression identifier = identifierParser.parseIdentifier(tokenStream);
         if (identifier != null) {
             return identifier;
         }
 
         // 파싱 실패 - 상세한 에러 메시지 제공
-        throw new SyntaxException(
+        throw tokenStream.error(
                 "표현식을 파싱할 수 없습니다.\n" +
                         "표현식에는 컬럼명, 숫자, 문자열, 함수 호출 등이 올 수 있습니다.",
                 tokenStream.peek());
     }
 
+    /**
+     * 명시적 스택에 쌓이는 파싱 프레임.
+     * 재귀 하강에서 호출 하나가 갖던 지역 변수를 담습니다.
+     * - 같은 논리 연산자(AND/OR)로 이어지는 항은 목록에 모았다가 왼쪽 피연산자가 필요할 때 하나의 LogicalExpression으로 만듦
+     */
+    private static final class Frame {
+
+        private final int minPower;
+        private final boolean parenthesized;
+        private final int negations;
+
+        private Expression left;
+        private int leftLevel;
+        private Operator pendingOperator;
+        private int pendingPower;
+
+        // 모으는 중인 논리 연산 항 (모으는 중이 아니면 null)
+        private List<Expression> logicalOperands;
+        private Operator logicalOperator;
+
+        private Frame(
+                final int minPower,
+                final boolean parenthesized,
+                final int negations
+        ) {
+            this.minPower = minPower;
+            this.parenthesized = parenthesized;
+            this.negations = negations;
+        }
+
+        /**
+         * 왼쪽 피연산자를 반환합니다. 모으던 논리 연산 항이 있으면 먼저 하나의 표현식으로 만듭니다.
+         */
+        private Expression left() {
+            if (logicalOperands != null) {
+                final SourceLocation location = logicalOperands.getFirst().location()
+                        .merge(logicalOperands.getLast().location());
+                left = new LogicalExpression(logicalOperator, logicalOperands, location);
+                logicalOperands = null;
+            }
+            return left;
+        }
+
+        /**
+         * 대기 중인 이항 연산자로 왼쪽 피연산자와 오른쪽 피연산자를 묶습니다.
+         * AND/OR은 이항 노드를 만들지 않고 같은 연산자의 항 목록에 이어 붙입니다.
+         */
+        private void combine(final Expression right) {
+            final Operator operator = pendingOperator;
+            if (operator == Operator.AND || operator == Operator.OR) {
+                if (logicalOperands == null || logicalOperator != operator) {
+                    final Expression first = left();
+                    logicalOperands = new ArrayList<>();
+                    logicalOperands.add(first);
+                    logicalOperator = operator;
+                }
+                logicalOperands.add(right);
+            } else {
+                final Expression first = left();
+                left = new BinaryOperatorExpression(first, operator, right, first.location().merge(right.location()));
+            }
+            leftLevel = pendingPower;
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package com.jaeyeonling.parser;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키의 최근 접근 빈도를 근사하는 Count-Min 스케치.
+ * - 4비트 카운터 8개를 int 하나에 담고, 항목 하나당 카운터 16개 정도를 둠
+ * - 키마다 네 카운터를 보고, 그중 가장 작은 값을 빈도로 사용
+ * - 카운터는 15에서 멈추고, 기록 횟수가 표본 크기에 이르면 모든 카운터를 절반으로 줄여 오래된 빈도를 잊음
+ * - 카운터 갱신은 CAS로 하며, 경합으로 가끔 한 번이 빠져도 근사치이므로 허용
+ */
+final class FrequencySketch {
+
+    private static final int MIN_ENTRIES = 16;
+    private static final int MAX_ENTRIES = 1 << 26;
+    private static final int COUNTERS_PER_WORD = 8;
+    private static final int WORDS_PER_ENTRY = 2;
+    private static final int MAX_COUNT = 15;
+    private static final int HALF_MASK = 0x77777777;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final AtomicIntegerArray table;
+    private final int counterMask;
+    private final long sampleSize;
+    private final AtomicLong additions = new AtomicLong();
+    private final ReentrantLock resetLock = new ReentrantLock();
+
+    /**
+     * @param expectedEntries 캐시가 담을 최대 항목 수 (카운터 수를 정하는 데 사용, 최대 2^26)
+     */
+    FrequencySketch(final int expectedEntries) {
+        final int capped = Math.max(MIN_ENTRIES, Math.min(expectedEntries, MAX_ENTRIES));
+        final int entries = Integer.highestOneBit(capped - 1) << 1;
+        this.table = new AtomicIntegerArray(entries * WORDS_PER_ENTRY);
+        this.counterMask = entries * WORDS_PER_ENTRY * COUNTERS_PER_WORD - 1;
+        this.sampleSize = (long) capped * SAMPLE_FACTOR;
+    }
+
+    /**
+     * 키의 접근을 기록합니다.
+     * 네 카운터 중 가장 작은 값을 가진 카운터만 올려(conservative update) 다른 키와의 충돌로 빈도가 부풀지 않게 합니다.
+     */
+    void increment(final Object key) {
+        final int hash = spread(key.hashCode());
+        final int frequency = frequencyOf(hash);
+        if (frequency == MAX_COUNT) {
+            return;
+        }
+
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), frequency);
+        }
+        if (added && additions.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * 키의 추정 빈도를 반환합니다. (0 ~ 15)
+     */
+    int frequency(final Object key) {
+        return frequencyOf(spread(key.hashCode()));
+    }
+
+    private int frequencyOf(final int hash) {
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, countAt(indexOf(hash, i)));
+        }
+        return frequency;
+    }
+
+    private int countAt(final int counter) {
+        return (table.get(counter / COUNTERS_PER_WORD) >>> shiftOf(counter)) & MAX_COUNT;
+    }
+
+    /**
+     * 카운터가 아직 expected라면 하나 올립니다.
+     */
+    private boolean incrementAt(
+            final int counter,
+            final int expected
+    ) {
+        final int slot = counter / COUNTERS_PER_WORD;
+        final int shift = shiftOf(counter);
+        final int word = table.get(slot);
+        if (((word >>> shift) & MAX_COUNT) != expected) {
+            return false;
+        }
+        return table.compareAndSet(slot, word, word + (1 << shift));
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄입니다. 이미 다른 스레드가 줄이는 중이면 건너뜁니다.
+     */
+    private void reset() {
+        if (!resetLock.tryLock()) {
+            return;
+        }
+        try {
+            if (additions.get() < sampleSize) {
+                return;
+            }
+            for (int i = 0; i < table.length(); i++) {
+                // 4비트 카운터 8개를 한 번에 절반으로
+                table.set(i, (table.get(i) >>> 1) & HALF_MASK);
+            }
+            additions.set(additions.get() / 2);
+        } finally {
+            resetLock.unlock();
+        }
+    }
+
+    private int indexOf(
+            final int hash,
+            final int i
+    ) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    private static int shiftOf(final int counter) {
+        return (counter % COUNTERS_PER_WORD) * 4;
+    }
+
+    private static int spread(final int hash) {
+        final int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
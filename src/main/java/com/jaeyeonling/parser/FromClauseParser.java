@@ -12,19 +12,14 @@ import java.util.List;
 
 /**
  * FROM 절 파싱을 담당하는 클래스.
+ * 상태가 없으므로 여러 스레드가 한 인스턴스를 공유합니다.
  */
 public class FromClauseParser {
 
-    private final TokenStream tokenStream;
-
-    public FromClauseParser(final TokenStream tokenStream) {
-        this.tokenStream = tokenStream;
-    }
-
     /**
      * FROM 절을 파싱합니다.
      */
-    public FromClause parse() {
+    public FromClause parse(final TokenStream tokenStream) {
         final Token fromToken = tokenStream.consume(TokenType.FROM,
                 "SELECT 절 다음에는 FROM 절이 와야 합니다.\n" +
                         "예시: SELECT 컬럼명 FROM 테이블명");
@@ -32,7 +27,7 @@ public class FromClauseParser {
         final List<TableReference> tableReferences = new ArrayList<>();
 
         do {
-            tableReferences.add(parseTableReference());
+            tableReferences.add(parseTableReference(tokenStream));
         } while (tokenStream.advanceIfMatch(TokenType.COMMA));
 
         return new FromClause(tableReferences, new SourceLocation(fromToken));
@@ -42,7 +37,7 @@ public class FromClauseParser {
      * 테이블 참조를 파싱합니다.
      * 테이블명과 별칭을 처리합니다.
      */
-    private TableReference parseTableReference() {
+    private TableReference parseTableReference(final TokenStream tokenStream) {
         final Token tableToken = tokenStream.consume(TokenType.IDENTIFIER,
                 "FROM 절 다음에 테이블 이름을 지정해야 합니다.\n" +
                         "예시: FROM users, FROM products AS p");
@@ -0,0 +1,183 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바인드 파라미터(?, :name)가 있는 SQL을 한 번만 파싱해 두고, 실행할 때마다 값만 묶는 틀.
+ * 리터럴을 SQL 문자열에 끼워 넣는 대신 값만 바꿔 가며 같은 AST를 재사용합니다.
+ *
+ * <ul>
+ *   <li>{@link #bind(Object...)}와 {@link #bind(Map)}는 AST를 복사하거나 다시 파싱하지 않고, 값 배열만 가진 {@link BoundStatement}를 만듦</li>
+ *   <li>위치 파라미터(?)는 나타난 순서대로, 이름 있는 파라미터(:name)는 이름으로 값을 받으며, 같은 이름은 같은 값을 씀</li>
+ *   <li>한 SQL에서 두 방식을 섞어 쓸 수 없음</li>
+ *   <li>불변이므로 여러 스레드가 한 틀을 함께 사용할 수 있음</li>
+ * </ul>
+ */
+public final class PreparedStatementTemplate {
+
+    private final SelectStatement statement;
+    // 파라미터 번호(0부터) → 값 칸 번호
+    private final int[] slots;
+    // 칸 번호 → 이름 (위치 파라미터만 있다면 비어 있음)
+    private final List<String> names;
+
+    private PreparedStatementTemplate(
+            final SelectStatement statement,
+            final int[] slots,
+            final List<String> names
+    ) {
+        this.statement = statement;
+        this.slots = slots;
+        this.names = names;
+    }
+
+    /**
+     * 기본 파서로 SQL을 파싱해 틀을 만듭니다.
+     *
+     * @param sql 바인드 파라미터를 포함할 수 있는 SQL
+     * @return 값을 묶을 수 있는 틀
+     * @throws IllegalArgumentException ?와 :name을 함께 사용한 경우
+     */
+    public static PreparedStatementTemplate of(final CharSequence sql) {
+        return of(new SqlParser(), sql);
+    }
+
+    /**
+     * 주어진 파서로 SQL을 파싱해 틀을 만듭니다.
+     *
+     * @param parser SQL을 토큰화하고 파싱할 파서
+     * @param sql    바인드 파라미터를 포함할 수 있는 SQL
+     * @return 값을 묶을 수 있는 틀
+     * @throws IllegalArgumentException ?와 :name을 함께 사용한 경우
+     */
+    public static PreparedStatementTemplate of(
+            final SqlParser parser,
+            final CharSequence sql
+    ) {
+        return parser.withTokens(sql, tokens -> from(parser.parseTokens(tokens), tokens));
+    }
+
+    /**
+     * 파서는 파라미터 토큰을 나타난 순서대로 번호를 매기므로, 파라미터 정보는 AST를 순회하지 않고 토큰에서 읽습니다.
+     */
+    private static PreparedStatementTemplate from(
+            final SelectStatement statement,
+            final TokenBuffer tokens
+    ) {
+        final List<String> names = new ArrayList<>();
+        int[] slots = new int[4];
+        int count = 0;
+        boolean positional = false;
+        for (int i = 0; i < tokens.size(); i++) {
+            final TokenType type = tokens.type(i);
+            if (!type.isParameter()) {
+                continue;
+            }
+            if (count == slots.length) {
+                slots = Arrays.copyOf(slots, count * 2);
+            }
+            if (type == TokenType.POSITIONAL_PARAMETER) {
+                positional = true;
+                slots[count] = count;
+            } else {
+                final String name = tokens.value(i);
+                final int slot = names.indexOf(name);
+                slots[count] = slot >= 0 ? slot : names.size();
+                if (slot < 0) {
+                    names.add(name);
+                }
+            }
+            count++;
+        }
+        if (positional && !names.isEmpty()) {
+            throw new IllegalArgumentException("위치 파라미터(?)와 이름 있는 파라미터(:name)를 함께 사용할 수 없습니다");
+        }
+        return new PreparedStatementTemplate(statement, Arrays.copyOf(slots, count), List.copyOf(names));
+    }
+
+    /**
+     * 파싱된 SELECT 문. 파라미터 자리에는 {@link com.jaeyeonling.ast.expression.ParameterExpression}이 있습니다.
+     */
+    public SelectStatement statement() {
+        return statement;
+    }
+
+    /**
+     * SQL에 나타난 파라미터 수. 같은 이름이 여러 번 나오면 모두 셉니다.
+     */
+    public int parameterCount() {
+        return slots.length;
+    }
+
+    /**
+     * 이름 있는 파라미터의 이름을 처음 나타난 순서대로 중복 없이 반환합니다. 위치 파라미터만 있다면 비어 있습니다.
+     */
+    public List<String> parameterNames() {
+        return names;
+    }
+
+    /**
+     * 위치 파라미터(?)에 나타난 순서대로 값을 묶습니다.
+     *
+     * @param values 파라미터 값 (null은 SQL NULL)
+     * @return 이 틀의 AST와 값을 함께 보는 뷰
+     * @throws IllegalArgumentException 이름 있는 파라미터를 사용하는 틀이거나 값의 수가 파라미터 수와 다른 경우
+     */
+    public BoundStatement bind(final Object... values) {
+        if (!names.isEmpty()) {
+            throw new IllegalArgumentException("이름 있는 파라미터는 이름으로 값을 묶어야 합니다: " + names);
+        }
+        if (values.length != slots.length) {
+            throw new IllegalArgumentException(String.format(
+                    "파라미터 값의 수가 맞지 않습니다: 필요 %d개, 전달 %d개", slots.length, values.length));
+        }
+        return new BoundStatement(this, values.clone());
+    }
+
+    /**
+     * 이름 있는 파라미터(:name)에 이름으로 값을 묶습니다.
+     *
+     * @param values 이름 → 값 (null은 SQL NULL)
+     * @return 이 틀의 AST와 값을 함께 보는 뷰
+     * @throws IllegalArgumentException 위치 파라미터를 사용하는 틀이거나, 값이 없는 이름 또는 SQL에 없는 이름이 있는 경우
+     */
+    public BoundStatement bind(final Map<String, ?> values) {
+        if (names.isEmpty() && slots.length > 0) {
+            throw new IllegalArgumentException("위치 파라미터는 순서대로 값을 묶어야 합니다");
+        }
+        final Object[] slotValues = new Object[names.size()];
+        for (int slot = 0; slot < slotValues.length; slot++) {
+            final String name = names.get(slot);
+            if (!values.containsKey(name)) {
+                throw new IllegalArgumentException("파라미터 값이 없습니다: :" + name);
+            }
+            slotValues[slot] = values.get(name);
+        }
+        if (values.size() != slotValues.length) {
+            for (final String name : values.keySet()) {
+                if (!names.contains(name)) {
+                    throw new IllegalArgumentException("SQL에 없는 파라미터입니다: :" + name);
+                }
+            }
+        }
+        return new BoundStatement(this, slotValues);
+    }
+
+    /**
+     * 파라미터 번호(1부터)의 값이 들어 있는 칸 번호를 반환합니다.
+     */
+    int slotOf(final int index) {
+        if (index < 1 || index > slots.length) {
+            throw new IllegalArgumentException(String.format(
+                    "파라미터 번호는 1 이상 %d 이하여야 합니다: %d", slots.length, index));
+        }
+        return slots[index - 1];
+    }
+}
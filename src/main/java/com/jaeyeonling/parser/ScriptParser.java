@@ -0,0 +1,116 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.lexer.LexerPool;
+import com.jaeyeonling.lexer.StatementRange;
+import com.jaeyeonling.lexer.StatementSplitter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 세미콜론으로 구분된 여러 문장을 병렬로 파싱하는 파서.
+ * - {@link StatementSplitter}로 문장 경계를 한 번에 찾은 뒤 문장마다 작업 하나를 제출
+ * - 결과는 완료 순서와 관계없이 스크립트의 문장 순서대로 반환
+ * - 한 문장의 파싱 오류는 그 문장의 {@link StatementResult}에만 기록되고 나머지 문장은 계속 파싱
+ */
+public final class ScriptParser {
+
+    @Nullable
+    private final ExecutorService executor;
+    private final SqlParser parser;
+
+    /**
+     * 파싱할 때마다 문장당 가상 스레드 하나를 사용하는 파서를 생성합니다.
+     */
+    public ScriptParser() {
+        this(null);
+    }
+
+    /**
+     * 주어진 실행기에서 문장을 파싱하는 파서를 생성합니다.
+     * ForkJoinPool 등 호출자가 관리하는 실행기를 사용하며, 파서는 실행기를 종료하지 않습니다.
+     *
+     * @param executor 문장 파싱 작업을 실행할 실행기, null이면 파싱마다 가상 스레드 실행기를 사용
+     */
+    public ScriptParser(@Nullable final ExecutorService executor) {
+        this.executor = executor;
+        // 작업 스레드가 짧게 살 수 있으므로 스레드 로컬 대신 공유 풀 사용
+        this.parser = SqlParser.builder()
+                .lexerPool(LexerPool.shared(Runtime.getRuntime().availableProcessors()))
+                .build();
+    }
+
+    /**
+     * 스크립트의 모든 문장을 파싱합니다.
+     *
+     * @param script 세미콜론으로 구분된 SQL 스크립트
+     * @return 스크립트 순서대로 정렬된 문장별 결과
+     */
+    public List<StatementResult> parse(final CharSequence script) {
+        final List<StatementRange> ranges = StatementSplitter.split(script);
+        if (executor != null) {
+            return parseAll(script, ranges, executor);
+        }
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            return parseAll(script, ranges, virtualThreads);
+        }
+    }
+
+    private List<StatementResult> parseAll(
+            final CharSequence script,
+            final List<StatementRange> ranges,
+            final ExecutorService executor
+    ) {
+        final List<Future<StatementResult>> futures = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            final int index = i;
+            final StatementRange range = ranges.get(i);
+            final String sql = range.text(script);
+            futures.add(executor.submit(() -> parseStatement(index, range, sql)));
+        }
+
+        final List<StatementResult> results = new ArrayList<>(futures.size());
+        for (final Future<StatementResult> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    private StatementResult parseStatement(
+            final int index,
+            final StatementRange range,
+            final String sql
+    ) {
+        try {
+            final SelectStatement statement = parser.parse(sql);
+            return StatementResult.success(index, range, statement);
+        } catch (SqlParseException e) {
+            return StatementResult.failure(index, range, e);
+        }
+    }
+
+    private static StatementResult await(final Future<StatementResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스크립트 파싱이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            // 파싱 오류는 결과로 기록되므로 여기까지 온 것은 예상하지 못한 오류
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
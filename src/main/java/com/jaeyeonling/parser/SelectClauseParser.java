@@ -16,26 +16,25 @@ import java.util.Optional;
 
 /**
  * SELECT 절 파싱을 담당하는 클래스.
+ * 상태가 없으며, 표현식 파서를 {@link SqlParser}와 공유합니다.
  */
 public class SelectClauseParser {
 
-    private final TokenStream tokenStream;
     private final ExpressionParser expressionParser;
 
-    public SelectClauseParser(final TokenStream tokenStream) {
-        this.tokenStream = tokenStream;
-        this.expressionParser = new ExpressionParser(tokenStream);
+    public SelectClauseParser(final ExpressionParser expressionParser) {
+        this.expressionParser = expressionParser;
     }
 
     /**
      * SELECT 절을 파싱합니다.
      */
-    public SelectClause parse() {
+    public SelectClause parse(final TokenStream tokenStream) {
         final Token selectToken = tokenStream.consume(TokenType.SELECT,
                 "SQL 쿼리는 SELECT로 시작해야 합니다.\n" +
                         "예시: SELECT * FROM 테이블명");
         final boolean distinct = tokenStream.advanceIfMatch(TokenType.DISTINCT);
-        final List<SelectItem> selectItems = parseSelectList();
+        final List<SelectItem> selectItems = parseSelectList(tokenStream);
 
         return new SelectClause(distinct, selectItems, new SourceLocation(selectToken));
     }
@@ -43,11 +42,11 @@ public class SelectClauseParser {
     /**
      * SELECT 리스트를 파싱합니다.
      */
-    private List<SelectItem> parseSelectList() {
+    private List<SelectItem> parseSelectList(final TokenStream tokenStream) {
         final List<SelectItem> items = new ArrayList<>();
 
         do {
-            items.add(parseSelectItem());
+            items.add(parseSelectItem(tokenStream));
         } while (tokenStream.advanceIfMatch(TokenType.COMMA));
 
         return items;
@@ -56,7 +55,7 @@ public class SelectClauseParser {
     /**
      * 개별 SELECT 아이템을 파싱합니다.
      */
-    private SelectItem parseSelectItem() {
+    private SelectItem parseSelectItem(final TokenStream tokenStream) {
         // * (전체 컬럼)
         if (tokenStream.advanceIfMatch(TokenType.STAR)) {
             final Token star = tokenStream.previous();
@@ -64,7 +63,7 @@ public class SelectClauseParser {
         }
 
         // 표현식 (컬럼 참조 포함)
-        final Expression expr = expressionParser.parseExpression();
+        final Expression expr = expressionParser.parseExpression(tokenStream);
 
         // 별칭 파싱 (AS 키워드 있거나 없거나)
         final Optional<String> alias = tokenStream.parseOptionalAlias(
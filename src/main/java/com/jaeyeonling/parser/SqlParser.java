@@ -11,22 +11,55 @@ import com.jaeyeonling.ast.clause.WhereClause;
 import com.jaeyeonling.ast.expression.DecimalLiteral;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.IntegerLiteral;
+import com.jaeyeonling.ast.expression.NumericLiteral;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import com.jaeyeonling.exception.SyntaxException;
+import com.jaeyeonling.lexer.LexerPool;
 import com.jaeyeonling.lexer.SqlLexer;
+import com.jaeyeonling.lexer.StreamingTokenSource;
+import com.jaeyeonling.lexer.SymbolTable;
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenSource;
 import com.jaeyeonling.lexer.TokenType;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * SQL 파서.
+ * - 한 번 구성하면 바뀌지 않으며, 여러 스레드가 한 인스턴스로 동시에 {@link #parse(CharSequence)}를 호출할 수 있음
+ * - 절/표현식 파서는 상태가 없어 모든 파싱이 공유하고, 호출마다 토큰 스트림(커서) 하나만 새로 만듦
+ * - SQL을 생성자로 받는 기존 사용법 ({@code new SqlParser(sql).parse()})도 같은 인프라를 사용
+ * - {@link #parse(Reader)}와 {@link #parse(TokenSource)}는 토큰 버퍼 없이 토큰을 하나씩 꺼내며 파싱
+ * - {@link Builder#fastFail(boolean)}로 만든 파서는 렉싱/구문 오류를 스택 트레이스 없이 던짐
  */
 public class SqlParser {
 
+    // 렉서는 스레드마다 재사용 (라인/컬럼은 오류 메시지나 SourceLocation이 요청할 때만 계산)
+    private static final LexerPool DEFAULT_LEXER_POOL = LexerPool.threadLocal();
+    private static final ExpressionParser EXPRESSION_PARSER = new ExpressionParser();
+    private static final SelectClauseParser SELECT_CLAUSE_PARSER = new SelectClauseParser(EXPRESSION_PARSER);
+    private static final FromClauseParser FROM_CLAUSE_PARSER = new FromClauseParser();
+    private static final ParserErrorHandler ERROR_HANDLER = new ParserErrorHandler();
+
+    @Nullable
     private final String sql;
-    private final ParserErrorHandler errorHandler = new ParserErrorHandler();
+    private final LexerPool lexerPool;
+    @Nullable
+    private final SymbolTable symbols;
+    private final boolean fastFail;
+
+    /**
+     * 기본 설정으로 재사용 가능한 파서를 생성합니다.
+     * 파싱할 SQL은 {@link #parse(CharSequence)}로 전달합니다.
+     */
+    public SqlParser() {
+        this(null, DEFAULT_LEXER_POOL, null);
+    }
 
     /**
      * SQL 문자열로 파서를 생성합니다.
@@ -34,34 +67,139 @@ public class SqlParser {
      * @param sql 파싱할 SQL 문자열
      */
     public SqlParser(final String sql) {
+        this(sql, DEFAULT_LEXER_POOL);
+    }
+
+    /**
+     * 렉서 풀을 지정하여 파서를 생성합니다.
+     * 가상 스레드에서 파싱한다면 {@link LexerPool#shared(int)}를 사용하세요.
+     *
+     * @param sql       파싱할 SQL 문자열
+     * @param lexerPool 렉서를 빌려 올 풀
+     */
+    public SqlParser(
+            final String sql,
+            final LexerPool lexerPool
+    ) {
+        this(sql, lexerPool, null);
+    }
+
+    /**
+     * 식별자를 정규화할 심볼 테이블을 지정하여 파서를 생성합니다.
+     * 여러 파싱에 걸쳐 같은 이름을 같은 인스턴스로 모으려면 {@link SymbolTable#shared(int)}를 사용하세요.
+     *
+     * @param sql       파싱할 SQL 문자열, null이면 {@link #parse(CharSequence)}로만 파싱
+     * @param lexerPool 렉서를 빌려 올 풀
+     * @param symbols   식별자를 정규화할 테이블, null이면 파싱마다 새 테이블을 사용
+     */
+    public SqlParser(
+            @Nullable final String sql,
+            final LexerPool lexerPool,
+            @Nullable final SymbolTable symbols
+    ) {
+        this(sql, lexerPool, symbols, false);
+    }
+
+    private SqlParser(
+            @Nullable final String sql,
+            final LexerPool lexerPool,
+            @Nullable final SymbolTable symbols,
+            final boolean fastFail
+    ) {
         this.sql = sql;
+        this.lexerPool = lexerPool;
+        this.symbols = symbols;
+        this.fastFail = fastFail;
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
-     * SQL을 파싱하여 SelectStatement를 반환합니다.
+     * 생성자로 받은 SQL을 파싱하여 SelectStatement를 반환합니다.
+     *
+     * @throws IllegalStateException SQL 없이 생성된 파서인 경우
      */
     public SelectStatement parse() throws SyntaxException {
-        final SqlLexer lexer = new SqlLexer(sql);
-        final List<Token> tokens = lexer.tokenize();
+        if (sql == null) {
+            throw new IllegalStateException("파싱할 SQL이 지정되지 않았습니다. parse(CharSequence)를 사용하세요.");
+        }
+        return parse(sql);
+    }
+
+    /**
+     * SQL을 파싱하여 SelectStatement를 반환합니다.
+     * 여러 스레드에서 동시에 호출할 수 있습니다.
+     *
+     * @param sql 파싱할 SQL
+     */
+    public SelectStatement parse(final CharSequence sql) throws SyntaxException {
+        return withTokens(sql, this::parseTokens);
+    }
 
-        return parseSelectStatement(tokens);
+    /**
+     * Reader에서 필요한 만큼씩 읽으며 파싱합니다.
+     * 전체 SQL이나 토큰 버퍼를 메모리에 두지 않으므로, 큰 SQL도 입력 크기와 관계없이 일정한 메모리로 파싱합니다.
+     * Reader는 닫지 않습니다.
+     *
+     * @param sql 파싱할 SQL 입력
+     */
+    public SelectStatement parse(final Reader sql) throws SyntaxException {
+        return parseSelectStatement(new TokenStream(new StreamingTokenSource(sql).fastFail(fastFail), fastFail));
+    }
+
+    /**
+     * 토큰 공급자에서 토큰을 하나씩 꺼내며 파싱합니다.
+     * 이전 토큰 하나와 앞쪽 몇 개의 토큰만 보관하며, 렉서 풀과 심볼 테이블은 사용하지 않습니다.
+     * fast-fail 설정은 구문 오류에만 적용되며, 렉싱 오류는 토큰 공급자의 설정을 따릅니다.
+     *
+     * @param tokens 파싱할 SQL의 토큰 공급자
+     */
+    public SelectStatement parse(final TokenSource tokens) throws SyntaxException {
+        return parseSelectStatement(new TokenStream(tokens, fastFail));
+    }
+
+    /**
+     * 이 파서의 설정으로 SQL을 토큰화한 뒤, 파싱 대신 주어진 작업에 토큰 버퍼를 넘깁니다.
+     * 버퍼는 작업이 끝나면 렉서와 함께 풀에 반납되므로 작업 밖으로 가져가면 안 됩니다.
+     */
+    <T> T withTokens(
+            final CharSequence sql,
+            final Function<TokenBuffer, T> action
+    ) {
+        final SqlLexer lexer = lexerPool.acquire(sql);
+        try {
+            final TokenBuffer tokens = lexer.fastFail(fastFail).tokenizeToBuffer();
+            // 같은 식별자가 반복되어도 문자열은 하나만 만들고 AST가 공유
+            tokens.useSymbols(symbols != null ? symbols : SymbolTable.local());
+            return action.apply(tokens);
+        } finally {
+            lexerPool.release(lexer);
+        }
+    }
+
+    /**
+     * {@link #withTokens}로 얻은 토큰 버퍼를 파싱합니다.
+     */
+    SelectStatement parseTokens(final TokenBuffer tokens) {
+        return parseSelectStatement(new TokenStream(tokens, fastFail));
     }
 
     /**
      * SELECT 문 파싱
      */
-    private SelectStatement parseSelectStatement(final List<Token> tokens) {
-        final TokenStream tokenStream = new TokenStream(tokens);
-        final ExpressionParser expressionParser = new ExpressionParser(tokenStream);
+    private SelectStatement parseSelectStatement(final TokenStream tokenStream) {
+        final ExpressionParser expressionParser = EXPRESSION_PARSER;
 
         final SelectStatement.Builder builder = SelectStatement.builder();
 
         // SELECT 절 (복잡하므로 별도 클래스 유지)
-        builder.selectClause(new SelectClauseParser(tokenStream).parse());
+        builder.selectClause(SELECT_CLAUSE_PARSER.parse(tokenStream));
 
         // FROM 절 (선택적 - SELECT TRUE 같은 경우 FROM이 없을 수 있음)
         if (tokenStream.check(TokenType.FROM)) {
-            builder.fromClause(new FromClauseParser(tokenStream).parse());
+            builder.fromClause(FROM_CLAUSE_PARSER.parse(tokenStream));
         }
 
         // WHERE 절 (간단하므로 직접 처리)
@@ -99,7 +237,7 @@ public class SqlParser {
         builder.location(new SourceLocation(1, 1, 0, tokenStream.current().column()));
 
         // 모든 토큰이 소비되었는지 확인
-        errorHandler.enforceEndOfFile(tokenStream);
+        ERROR_HANDLER.enforceEndOfFile(tokenStream);
 
         return builder.build();
     }
@@ -112,7 +250,7 @@ public class SqlParser {
             final ExpressionParser expressionParser
     ) {
         final Token whereToken = tokenStream.previous();
-        final Expression condition = expressionParser.parseExpression();
+        final Expression condition = expressionParser.parseExpression(tokenStream);
 
         return new WhereClause(condition, new SourceLocation(whereToken));
     }
@@ -128,7 +266,7 @@ public class SqlParser {
         final List<Expression> expressions = new ArrayList<>();
 
         do {
-            expressions.add(expressionParser.parseExpression());
+            expressions.add(expressionParser.parseExpression(tokenStream));
         } while (tokenStream.advanceIfMatch(TokenType.COMMA));
 
         return new GroupByClause(expressions, new SourceLocation(groupToken));
@@ -142,7 +280,7 @@ public class SqlParser {
             final ExpressionParser expressionParser
     ) {
         final Token havingToken = tokenStream.previous();
-        final Expression condition = expressionParser.parseExpression();
+        final Expression condition = expressionParser.parseExpression(tokenStream);
 
         return new HavingClause(condition, new SourceLocation(havingToken));
     }
@@ -171,7 +309,7 @@ public class SqlParser {
             final TokenStream tokenStream,
             final ExpressionParser expressionParser
     ) {
-        final Expression expression = expressionParser.parseExpression();
+        final Expression expression = expressionParser.parseExpression(tokenStream);
 
         // DESC 또는 ASC 키워드 처리
         final OrderDirection direction;
@@ -198,16 +336,16 @@ public class SqlParser {
 
         // LIMIT 값 검증 및 파싱
         validateHasValue(tokenStream, "LIMIT");
-        final Expression limitExpr = expressionParser.parseExpression();
-        final int limit = extractInteger(limitExpr, "LIMIT");
+        final Expression limitExpr = expressionParser.parseExpression(tokenStream);
+        final int limit = extractInteger(tokenStream, limitExpr, "LIMIT");
 
         if (!tokenStream.advanceIfMatch(TokenType.OFFSET)) {
             return new LimitClause(limit, null, new SourceLocation(limitToken));
         }
 
         validateHasValue(tokenStream, "OFFSET");
-        final Expression offsetExpr = expressionParser.parseExpression();
-        final int offset = extractInteger(offsetExpr, "OFFSET");
+        final Expression offsetExpr = expressionParser.parseExpression(tokenStream);
+        final int offset = extractInteger(tokenStream, offsetExpr, "OFFSET");
 
         return new LimitClause(limit, offset, new SourceLocation(limitToken));
     }
@@ -219,11 +357,11 @@ public class SqlParser {
             final TokenStream tokenStream,
             final String clauseName
     ) {
-        if (tokenStream.isAtEnd() || isClauseKeyword(tokenStream.peek())) {
+        if (tokenStream.isAtEnd() || isClauseKeyword(tokenStream.peekType())) {
             final String message = clauseName.equals("LIMIT")
                     ? "LIMIT 절에는 반환할 행 수를 지정하는 정수가 와야 합니다.\n예시: SELECT * FROM users LIMIT 10"
                     : "OFFSET 절에는 건너뛸 행 수를 지정하는 정수가 와야 합니다.\n예시: SELECT * FROM users LIMIT 10 OFFSET 20";
-            throw new SyntaxException(message);
+            throw tokenStream.error(message);
         }
     }
 
@@ -231,35 +369,93 @@ public class SqlParser {
      * 표현식에서 정수 추출
      */
     private int extractInteger(
+            final TokenStream tokenStream,
             final Expression expr,
             final String clauseName
     ) {
         if (expr instanceof IntegerLiteral intLiteral) {
-            return intLiteral.value();
+            if (intLiteral.value() > Integer.MAX_VALUE) {
+                throw createTooLargeError(tokenStream, clauseName, String.valueOf(intLiteral.value()));
+            }
+            return (int) intLiteral.value();
+        }
+
+        if (expr instanceof NumericLiteral numericLiteral) {
+            throw createTooLargeError(tokenStream, clauseName, numericLiteral.toString());
         }
 
         if (expr instanceof DecimalLiteral decimalLiteral) {
-            throw new SyntaxException(
+            throw tokenStream.error(
                     clauseName + " 값은 정수여야 합니다. 소수점이 있는 숫자(" +
                             decimalLiteral.value() + ")는 사용할 수 없습니다.\n" +
                             "예시: " + clauseName + " 10 (올바름), " + clauseName + " 10.5 (잘못됨)"
             );
         }
 
-        throw new SyntaxException(
+        throw tokenStream.error(
                 clauseName + " 절에는 숫자만 사용할 수 있습니다.\n" +
                         "현재 입력값: " + expr + "\n" +
                         "예시: " + clauseName + " 10"
         );
     }
 
+    private SyntaxException createTooLargeError(
+            final TokenStream tokenStream,
+            final String clauseName,
+            final String value
+    ) {
+        return tokenStream.error(
+                clauseName + " 값이 너무 큽니다 (" + value + "). 최대 " + Integer.MAX_VALUE + "까지 사용할 수 있습니다."
+        );
+    }
+
     /**
      * 토큰이 SQL 절 키워드인지 확인
      */
-    private boolean isClauseKeyword(final Token token) {
-        return switch (token.type()) {
+    private boolean isClauseKeyword(final TokenType type) {
+        return switch (type) {
             case WHERE, GROUP, HAVING, ORDER, LIMIT, OFFSET -> true;
             default -> false;
         };
     }
+
+    public static final class Builder {
+
+        private LexerPool lexerPool = DEFAULT_LEXER_POOL;
+        @Nullable
+        private SymbolTable symbols;
+        private boolean fastFail = false;
+
+        private Builder() {
+        }
+
+        /**
+         * 렉서를 빌려 올 풀 (기본값: 스레드 로컬 풀)
+         */
+        public Builder lexerPool(final LexerPool lexerPool) {
+            this.lexerPool = lexerPool;
+            return this;
+        }
+
+        /**
+         * 식별자를 정규화할 테이블 (기본값: 파싱마다 새 테이블)
+         */
+        public Builder symbols(@Nullable final SymbolTable symbols) {
+            this.symbols = symbols;
+            return this;
+        }
+
+        /**
+         * 렉싱/구문 오류를 스택 트레이스 없이 던질지 여부 (기본값: false)
+         * 거부가 잦은 환경(예: 쿼리 방화벽)에서 예외 생성 비용을 줄입니다. 메시지는 그대로 요청될 때 만들어집니다.
+         */
+        public Builder fastFail(final boolean fastFail) {
+            this.fastFail = fastFail;
+            return this;
+        }
+
+        public SqlParser build() {
+            return new SqlParser(null, lexerPool, symbols, fastFail);
+        }
+    }
 }
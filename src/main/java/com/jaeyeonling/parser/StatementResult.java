@@ -0,0 +1,76 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.lexer.StatementRange;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * 스크립트 안 문장 하나의 파싱 결과.
+ * 성공하면 문장을, 실패하면 그 문장의 오류만 담으며 다른 문장의 결과에 영향을 주지 않습니다.
+ * 오류의 라인/컬럼은 문장 텍스트 기준이므로, 스크립트 기준 위치는 {@link #range()}와 함께 계산합니다.
+ */
+public final class StatementResult {
+
+    private final int index;
+    private final StatementRange range;
+
+    @Nullable
+    private final SelectStatement statement;
+
+    @Nullable
+    private final SqlParseException error;
+
+    private StatementResult(
+            final int index,
+            final StatementRange range,
+            @Nullable final SelectStatement statement,
+            @Nullable final SqlParseException error
+    ) {
+        this.index = index;
+        this.range = range;
+        this.statement = statement;
+        this.error = error;
+    }
+
+    public static StatementResult success(
+            final int index,
+            final StatementRange range,
+            final SelectStatement statement
+    ) {
+        return new StatementResult(index, range, statement, null);
+    }
+
+    public static StatementResult failure(
+            final int index,
+            final StatementRange range,
+            final SqlParseException error
+    ) {
+        return new StatementResult(index, range, null, error);
+    }
+
+    /**
+     * 스크립트 안에서 몇 번째 문장인지 (0부터)
+     */
+    public int index() {
+        return index;
+    }
+
+    public StatementRange range() {
+        return range;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public Optional<SelectStatement> statement() {
+        return Optional.ofNullable(statement);
+    }
+
+    public Optional<SqlParseException> error() {
+        return Optional.ofNullable(error);
+    }
+}
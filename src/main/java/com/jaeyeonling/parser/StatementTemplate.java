@@ -0,0 +1,699 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.AstNode;
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.SourceLocationTable;
+import com.jaeyeonling.ast.clause.FromClause;
+import com.jaeyeonling.ast.clause.GroupByClause;
+import com.jaeyeonling.ast.clause.HavingClause;
+import com.jaeyeonling.ast.clause.LimitClause;
+import com.jaeyeonling.ast.clause.OrderByClause;
+import com.jaeyeonling.ast.clause.OrderByItem;
+import com.jaeyeonling.ast.clause.SelectClause;
+import com.jaeyeonling.ast.clause.WhereClause;
+import com.jaeyeonling.ast.expression.AllColumns;
+import com.jaeyeonling.ast.expression.BetweenExpression;
+import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
+import com.jaeyeonling.ast.expression.BooleanLiteral;
+import com.jaeyeonling.ast.expression.ColumnReference;
+import com.jaeyeonling.ast.expression.DecimalLiteral;
+import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.ast.expression.ExpressionSelectItem;
+import com.jaeyeonling.ast.expression.FunctionCall;
+import com.jaeyeonling.ast.expression.InExpression;
+import com.jaeyeonling.ast.expression.IntegerLiteral;
+import com.jaeyeonling.ast.expression.IsNotNullExpression;
+import com.jaeyeonling.ast.expression.IsNullExpression;
+import com.jaeyeonling.ast.expression.LikeExpression;
+import com.jaeyeonling.ast.expression.LiteralValueList;
+import com.jaeyeonling.ast.expression.LogicalExpression;
+import com.jaeyeonling.ast.expression.NotBetweenExpression;
+import com.jaeyeonling.ast.expression.NotInExpression;
+import com.jaeyeonling.ast.expression.NotLikeExpression;
+import com.jaeyeonling.ast.expression.NullLiteral;
+import com.jaeyeonling.ast.expression.NumericLiteral;
+import com.jaeyeonling.ast.expression.ParameterExpression;
+import com.jaeyeonling.ast.expression.SelectItem;
+import com.jaeyeonling.ast.expression.StringLiteral;
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.ast.table.Table;
+import com.jaeyeonling.ast.table.TableReference;
+import com.jaeyeonling.lexer.NumberDecoder;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenType;
+import com.jaeyeonling.visitor.AstVisitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 리터럴 값만 다른 SQL이 함께 쓰는 파싱 결과 틀.
+ * - {@link #keyOf(TokenBuffer)}는 리터럴 토큰을 값 대신 자리(slot) 표시로 바꾼 토큰 열을 키로 만듦
+ * - 키가 같은 SQL은 토큰 타입 열이 같으므로 파서가 같은 구조의 AST를 만듦
+ * - {@link #bind(TokenBuffer)}는 표현식을 다시 파싱하지 않고, 틀의 AST를 따라가며 리터럴 값과 위치만 새 토큰으로 바꿔 AST를 만듦
+ * - 바뀐 리터럴보다 앞에 있어 값과 위치가 그대로인 하위 트리는 틀의 노드를 그대로 공유
+ */
+final class StatementTemplate {
+
+    // 토큰 타입은 ordinal에 이 값을 더한 문자 하나로 기록
+    private static final char TYPE_BASE = '0';
+    // 같은 타입이라도 파싱 결과가 달라지는 숫자는 타입 뒤에 표시를 덧붙임
+    private static final char WIDE_INTEGER = '~';   // int 범위를 넘는 정수 (LIMIT/OFFSET에서는 오류)
+    private static final char OVERFLOW = '}';       // long 범위를 넘는 숫자 (NumericLiteral)
+
+    private final SelectStatement statement;
+    // 틀의 AST를 순회하며 찾은 토큰 번호를 찾은 순서대로 기록 (순회 순서는 구조로만 정해지므로 키가 같은 SQL에 그대로 씀)
+    private final int[] plan;
+
+    StatementTemplate(
+            final SelectStatement statement,
+            final TokenBuffer tokens
+    ) {
+        this.statement = statement;
+        final Binder recorder = new Binder(tokens, null);
+        statement.accept(recorder);
+        this.plan = recorder.recordedPlan();
+    }
+
+    /**
+     * 리터럴 값을 뺀 토큰 열을 키로 만듭니다.
+     * - 식별자와 파라미터 이름은 구조의 일부이므로 값까지 기록
+     * - 정수, 소수, 문자열 리터럴은 타입만 기록하고, 숫자가 int나 long 범위를 넘으면 따로 표시
+     */
+    static String keyOf(final TokenBuffer tokens) {
+        final int size = tokens.size();
+        final StringBuilder key = new StringBuilder(size * 2);
+        for (int i = 0; i < size; i++) {
+            final TokenType type = tokens.type(i);
+            key.append((char) (TYPE_BASE + type.ordinal()));
+            switch (type) {
+                case IDENTIFIER, NAMED_PARAMETER -> {
+                    // 이름 앞에 길이를 두 문자로 기록해, 이름이 다음 토큰 표시와 섞이지 않게 함
+                    final int lengthAt = key.length();
+                    key.append("\0\0");
+                    tokens.appendValue(i, key);
+                    final int length = key.length() - lengthAt - 2;
+                    key.setCharAt(lengthAt, (char) (length >>> 16));
+                    key.setCharAt(lengthAt + 1, (char) length);
+                }
+                case INTEGER, DECIMAL -> {
+                    final long number = tokens.number(i);
+                    if (number == NumberDecoder.OVERFLOW) {
+                        key.append(OVERFLOW);
+                    } else if (type == TokenType.INTEGER && number > Integer.MAX_VALUE) {
+                        key.append(WIDE_INTEGER);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 틀과 키가 같은 SQL의 토큰으로 AST를 만듭니다.
+     *
+     * @param tokens 키가 이 틀과 같은 SQL의 토큰 버퍼
+     */
+    SelectStatement bind(final TokenBuffer tokens) {
+        return (SelectStatement) statement.accept(new Binder(tokens, plan));
+    }
+
+
+    /**
+     * 틀의 AST를 따라가며 리터럴 값과 위치를 새 토큰으로 바꿉니다.
+     * - 키가 같으면 토큰 번호가 그대로 대응하므로, 틀의 위치가 가리키는 토큰 번호를 찾아 새 토큰의 위치를 씀
+     * - 토큰 번호는 틀을 만들 때 한 번 찾아 기록해 두고, 값을 채울 때는 기록된 번호를 차례로 사용
+     * - 값과 위치, 자식이 모두 그대로인 노드는 새로 만들지 않고 틀의 노드를 그대로 반환
+     */
+    private static final class Binder implements AstVisitor<AstNode> {
+
+        private final TokenBuffer tokens;
+        // 기록된 토큰 번호, null이면 토큰 위치에서 찾아 기록
+        @Nullable
+        private final int[] plan;
+        private int cursor;
+
+        // 기록할 때만 사용
+        private int[] starts;
+        private int[] ends;
+        private int[] recorded;
+
+        private Binder(
+                final TokenBuffer tokens,
+                @Nullable final int[] plan
+        ) {
+            this.tokens = tokens;
+            this.plan = plan;
+            if (plan == null) {
+                final int count = tokens.size() - 1;  // EOF 제외
+                starts = new int[count];
+                ends = new int[count];
+                for (int i = 0; i < count; i++) {
+                    starts[i] = tokens.startIndex(i);
+                    ends[i] = tokens.endIndex(i);
+                }
+                recorded = new int[count];
+            }
+        }
+
+        private int[] recordedPlan() {
+            return Arrays.copyOf(recorded, cursor);
+        }
+
+        private Expression bind(final Expression expression) {
+            return (Expression) expression.accept(this);
+        }
+
+        /**
+         * 목록의 노드를 모두 바꿉니다. 바뀐 노드가 없으면 원래 목록을 반환합니다.
+         */
+        @SuppressWarnings("unchecked")
+        private <N extends AstNode> List<N> bindAll(final List<N> nodes) {
+            List<N> bound = null;
+            for (int i = 0; i < nodes.size(); i++) {
+                final N node = nodes.get(i);
+                final N result = (N) node.accept(this);
+                if (bound == null && result != node) {
+                    bound = new ArrayList<>(nodes.subList(0, i));
+                }
+                if (bound != null) {
+                    bound.add(result);
+                }
+            }
+            return bound == null ? nodes : bound;
+        }
+
+        /**
+         * 틀에서 이 위치로 시작하는 토큰의 번호
+         */
+        private int tokenStartingAt(final int offset) {
+            return plan != null ? plan[cursor++] : record(find(starts, offset));
+        }
+
+        /**
+         * 틀에서 이 위치로 끝나는 토큰의 번호
+         */
+        private int tokenEndingAt(final int offset) {
+            return plan != null ? plan[cursor++] : record(find(ends, offset));
+        }
+
+        /**
+         * 주어진 토큰 다음부터 찾아 처음 나오는 해당 타입 토큰의 번호
+         */
+        private int next(
+                final int from,
+                final TokenType type
+        ) {
+            if (plan != null) {
+                return plan[cursor++];
+            }
+            int index = from + 1;
+            while (tokens.type(index) != type) {
+                index++;
+            }
+            return record(index);
+        }
+
+        private int record(final int index) {
+            if (cursor == recorded.length) {
+                recorded = Arrays.copyOf(recorded, cursor * 2 + 1);
+            }
+            recorded[cursor++] = index;
+            return index;
+        }
+
+        private static int find(
+                final int[] offsets,
+                final int offset
+        ) {
+            final int index = Arrays.binarySearch(offsets, offset);
+            if (index < 0) {
+                throw new IllegalStateException("틀의 위치 " + offset + "에 해당하는 토큰이 없습니다.");
+            }
+            return index;
+        }
+
+        /**
+         * 틀의 위치를 새 토큰의 위치로 바꿉니다. 그대로라면 원래 객체를 반환합니다.
+         */
+        private SourceLocation locate(final SourceLocation location) {
+            if (location == SourceLocation.UNKNOWN) {
+                return location;
+            }
+            final int first = tokenStartingAt(location.startIndex());
+            final int last = tokenEndingAt(location.endIndex());
+            return locate(location, first, last);
+        }
+
+        private SourceLocation locate(
+                final SourceLocation location,
+                final int first,
+                final int last
+        ) {
+            final int line = tokens.line(first);
+            final int column = tokens.column(first);
+            final int startIndex = tokens.startIndex(first);
+            final int endIndex = tokens.endIndex(last);
+            if (line == location.line() && column == location.column()
+                    && startIndex == location.startIndex() && endIndex == location.endIndex()) {
+                return location;
+            }
+            return new SourceLocation(line, column, startIndex, endIndex);
+        }
+
+        @Override
+        public AstNode visitSelectStatement(final SelectStatement selectStatement) {
+            final SelectClause selectClause = selectStatement.selectClause();
+            final FromClause fromClause = selectStatement.fromClause().orElse(null);
+            final WhereClause whereClause = selectStatement.whereClause().orElse(null);
+            final GroupByClause groupByClause = selectStatement.groupByClause().orElse(null);
+            final HavingClause havingClause = selectStatement.havingClause().orElse(null);
+            final OrderByClause orderByClause = selectStatement.orderByClause().orElse(null);
+            final LimitClause limitClause = selectStatement.limitClause().orElse(null);
+
+            final SelectClause boundSelect = (SelectClause) selectClause.accept(this);
+            final FromClause boundFrom = fromClause == null ? null : (FromClause) fromClause.accept(this);
+            final WhereClause boundWhere = whereClause == null ? null : (WhereClause) whereClause.accept(this);
+            final GroupByClause boundGroupBy = groupByClause == null ? null : (GroupByClause) groupByClause.accept(this);
+            final HavingClause boundHaving = havingClause == null ? null : (HavingClause) havingClause.accept(this);
+            final OrderByClause boundOrderBy = orderByClause == null ? null : (OrderByClause) orderByClause.accept(this);
+            final LimitClause boundLimit = limitClause == null ? null : (LimitClause) limitClause.accept(this);
+
+            // SqlParser와 같이 문장의 끝은 EOF 토큰의 컬럼으로 기록
+            final SourceLocation location = selectStatement.location();
+            final int end = tokens.column(tokens.size() - 1);
+            if (boundSelect == selectClause && boundFrom == fromClause && boundWhere == whereClause
+                    && boundGroupBy == groupByClause && boundHaving == havingClause
+                    && boundOrderBy == orderByClause && boundLimit == limitClause
+                    && end == location.endIndex()) {
+                return selectStatement;
+            }
+            return SelectStatement.builder()
+                    .selectClause(boundSelect)
+                    .fromClause(boundFrom)
+                    .whereClause(boundWhere)
+                    .groupByClause(boundGroupBy)
+                    .havingClause(boundHaving)
+                    .orderByClause(boundOrderBy)
+                    .limitClause(boundLimit)
+                    .location(new SourceLocation(1, 1, 0, end))
+                    .build();
+        }
+
+        @Override
+        public AstNode visitSelectClause(final SelectClause selectClause) {
+            final List<SelectItem> items = bindAll(selectClause.selectItems());
+            final SourceLocation location = locate(selectClause.location());
+            if (items == selectClause.selectItems() && location == selectClause.location()) {
+                return selectClause;
+            }
+            return new SelectClause(selectClause.isDistinct(), items, location);
+        }
+
+        @Override
+        public AstNode visitFromClause(final FromClause fromClause) {
+            final List<TableReference> tables = bindAll(fromClause.tableReferences());
+            final SourceLocation location = locate(fromClause.location());
+            if (tables == fromClause.tableReferences() && location == fromClause.location()) {
+                return fromClause;
+            }
+            return new FromClause(tables, location);
+        }
+
+        @Override
+        public AstNode visitWhereClause(final WhereClause whereClause) {
+            final Expression condition = bind(whereClause.condition());
+            final SourceLocation location = locate(whereClause.location());
+            if (condition == whereClause.condition() && location == whereClause.location()) {
+                return whereClause;
+            }
+            return new WhereClause(condition, location);
+        }
+
+        @Override
+        public AstNode visitGroupByClause(final GroupByClause groupByClause) {
+            final List<Expression> expressions = bindAll(groupByClause.groupingExpressions());
+            final SourceLocation location = locate(groupByClause.location());
+            if (expressions == groupByClause.groupingExpressions() && location == groupByClause.location()) {
+                return groupByClause;
+            }
+            return new GroupByClause(expressions, location);
+        }
+
+        @Override
+        public AstNode visitHavingClause(final HavingClause havingClause) {
+            final Expression condition = bind(havingClause.condition());
+            final SourceLocation location = locate(havingClause.location());
+            if (condition == havingClause.condition() && location == havingClause.location()) {
+                return havingClause;
+            }
+            return new HavingClause(condition, location);
+        }
+
+        @Override
+        public AstNode visitOrderByClause(final OrderByClause orderByClause) {
+            List<OrderByItem> items = null;
+            final List<OrderByItem> original = orderByClause.orderByItems();
+            for (int i = 0; i < original.size(); i++) {
+                final OrderByItem item = original.get(i);
+                final Expression expression = bind(item.expression());
+                if (items == null && expression != item.expression()) {
+                    items = new ArrayList<>(original.subList(0, i));
+                }
+                if (items != null) {
+                    items.add(expression == item.expression() ? item : new OrderByItem(expression, item.direction()));
+                }
+            }
+            final SourceLocation location = locate(orderByClause.location());
+            if (items == null && location == orderByClause.location()) {
+                return orderByClause;
+            }
+            return new OrderByClause(items == null ? original : items, location);
+        }
+
+        /**
+         * LIMIT/OFFSET 값은 노드가 아니라 정수로 보관되므로, 각 키워드 뒤의 첫 정수 토큰에서 다시 읽습니다.
+         * int 범위를 넘는 정수는 키가 달라 이 틀에 오지 않습니다.
+         */
+        @Override
+        public AstNode visitLimitClause(final LimitClause limitClause) {
+            final int limitToken = tokenStartingAt(limitClause.location().startIndex());
+            final int limit = (int) tokens.number(next(limitToken, TokenType.INTEGER));
+            final Integer offset = limitClause.offset().isPresent()
+                    ? (int) tokens.number(next(next(limitToken, TokenType.OFFSET), TokenType.INTEGER))
+                    : null;
+            final SourceLocation location = locate(limitClause.location(), limitToken, limitToken);
+            if (limit == limitClause.limit() && Objects.equals(offset, limitClause.offset().orElse(null))
+                    && location == limitClause.location()) {
+                return limitClause;
+            }
+            return new LimitClause(limit, offset, location);
+        }
+
+        @Override
+        public AstNode visitTable(final Table table) {
+            final SourceLocation location = locate(table.location());
+            if (location == table.location()) {
+                return table;
+            }
+            return new Table(table.name(), table.alias().orElse(null), location);
+        }
+
+        @Override
+        public AstNode visitColumnReference(final ColumnReference columnReference) {
+            final SourceLocation location = locate(columnReference.location());
+            if (location == columnReference.location()) {
+                return columnReference;
+            }
+            return new ColumnReference(
+                    columnReference.tableName().orElse(null),
+                    columnReference.columnName(),
+                    columnReference.alias().orElse(null),
+                    location
+            );
+        }
+
+        @Override
+        public AstNode visitAllColumns(final AllColumns allColumns) {
+            final SourceLocation location = locate(allColumns.location());
+            if (location == allColumns.location()) {
+                return allColumns;
+            }
+            return new AllColumns(location);
+        }
+
+        @Override
+        public AstNode visitExpressionSelectItem(final ExpressionSelectItem expressionSelectItem) {
+            final Expression expression = bind(expressionSelectItem.expression());
+            final SourceLocation location = locate(expressionSelectItem.location());
+            if (expression == expressionSelectItem.expression() && location == expressionSelectItem.location()) {
+                return expressionSelectItem;
+            }
+            return new ExpressionSelectItem(expression, expressionSelectItem.alias().orElse(null), location);
+        }
+
+        /**
+         * 왼쪽으로 깊은 사슬은 재귀 대신 반복문으로 아래에서부터 다시 만듭니다.
+         */
+        @Override
+        public AstNode visitBinaryOperatorExpression(final BinaryOperatorExpression binaryOperatorExpression) {
+            final List<BinaryOperatorExpression> chain = new ArrayList<>();
+            Expression node = binaryOperatorExpression;
+            while (node instanceof BinaryOperatorExpression binary) {
+                chain.add(binary);
+                node = binary.left();
+            }
+
+            Expression bound = bind(node);
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                final BinaryOperatorExpression binary = chain.get(i);
+                final Expression right = binary.right() == null ? null : bind(binary.right());
+                final SourceLocation location = locate(binary.location());
+                if (bound != binary.left() || right != binary.right() || location != binary.location()) {
+                    bound = new BinaryOperatorExpression(bound, binary.operator(), right, location);
+                } else {
+                    bound = binary;
+                }
+            }
+            return bound;
+        }
+
+        @Override
+        public AstNode visitLogicalExpression(final LogicalExpression logicalExpression) {
+            final List<Expression> operands = bindAll(logicalExpression.operands());
+            final SourceLocation location = locate(logicalExpression.location());
+            if (operands == logicalExpression.operands() && location == logicalExpression.location()) {
+                return logicalExpression;
+            }
+            return new LogicalExpression(logicalExpression.operator(), operands, location);
+        }
+
+        @Override
+        public AstNode visitIntegerLiteral(final IntegerLiteral integerLiteral) {
+            final int index = tokenStartingAt(integerLiteral.location().startIndex());
+            final long value = tokens.number(index);
+            final SourceLocation location = locate(integerLiteral.location(), index, index);
+            if (value == integerLiteral.value() && location == integerLiteral.location()) {
+                return integerLiteral;
+            }
+            return new IntegerLiteral(value, location);
+        }
+
+        @Override
+        public AstNode visitDecimalLiteral(final DecimalLiteral decimalLiteral) {
+            final int index = tokenStartingAt(decimalLiteral.location().startIndex());
+            final DecimalLiteral bound = new DecimalLiteral(
+                    tokens.number(index),
+                    tokens.scale(index),
+                    locate(decimalLiteral.location(), index, index)
+            );
+            return bound.equals(decimalLiteral) ? decimalLiteral : bound;
+        }
+
+        @Override
+        public AstNode visitNumericLiteral(final NumericLiteral numericLiteral) {
+            final int index = tokenStartingAt(numericLiteral.location().startIndex());
+            final NumericLiteral bound = new NumericLiteral(
+                    new BigDecimal(tokens.value(index)),
+                    locate(numericLiteral.location(), index, index)
+            );
+            return bound.equals(numericLiteral) ? numericLiteral : bound;
+        }
+
+        @Override
+        public AstNode visitStringLiteral(final StringLiteral stringLiteral) {
+            final int index = tokenStartingAt(stringLiteral.location().startIndex());
+            final String value = tokens.value(index);
+            final SourceLocation location = locate(stringLiteral.location(), index, index);
+            if (value.equals(stringLiteral.value()) && location == stringLiteral.location()) {
+                return stringLiteral;
+            }
+            return new StringLiteral(value, location);
+        }
+
+        @Override
+        public AstNode visitBooleanLiteral(final BooleanLiteral booleanLiteral) {
+            final SourceLocation location = locate(booleanLiteral.location());
+            if (location == booleanLiteral.location()) {
+                return booleanLiteral;
+            }
+            return new BooleanLiteral(booleanLiteral.value(), location);
+        }
+
+        @Override
+        public AstNode visitNullLiteral(final NullLiteral nullLiteral) {
+            final SourceLocation location = locate(nullLiteral.location());
+            if (location == nullLiteral.location()) {
+                return nullLiteral;
+            }
+            return new NullLiteral(location);
+        }
+
+        @Override
+        public AstNode visitParameterExpression(final ParameterExpression parameterExpression) {
+            // 번호와 이름은 키에 담긴 토큰 열로 정해지므로 위치만 바뀜
+            final SourceLocation location = locate(parameterExpression.location());
+            if (location == parameterExpression.location()) {
+                return parameterExpression;
+            }
+            return new ParameterExpression(parameterExpression.index(), parameterExpression.name(), location);
+        }
+
+        @Override
+        public AstNode visitLikeExpression(final LikeExpression likeExpression) {
+            final Expression expression = bind(likeExpression.expression());
+            final Expression pattern = bind(likeExpression.pattern());
+            final SourceLocation location = locate(likeExpression.location());
+            if (expression == likeExpression.expression() && pattern == likeExpression.pattern()
+                    && location == likeExpression.location()) {
+                return likeExpression;
+            }
+            return new LikeExpression(expression, pattern, location);
+        }
+
+        @Override
+        public AstNode visitNotLikeExpression(final NotLikeExpression notLikeExpression) {
+            final Expression expression = bind(notLikeExpression.expression());
+            final Expression pattern = bind(notLikeExpression.pattern());
+            final SourceLocation location = locate(notLikeExpression.location());
+            if (expression == notLikeExpression.expression() && pattern == notLikeExpression.pattern()
+                    && location == notLikeExpression.location()) {
+                return notLikeExpression;
+            }
+            return new NotLikeExpression(expression, pattern, location);
+        }
+
+        @Override
+        public AstNode visitInExpression(final InExpression inExpression) {
+            final Expression expression = bind(inExpression.expression());
+            final List<Expression> values = bindValues(inExpression.expression(), inExpression.values());
+            final SourceLocation location = locate(inExpression.location());
+            if (expression == inExpression.expression() && values == inExpression.values()
+                    && location == inExpression.location()) {
+                return inExpression;
+            }
+            return new InExpression(expression, values, location);
+        }
+
+        @Override
+        public AstNode visitNotInExpression(final NotInExpression notInExpression) {
+            final Expression expression = bind(notInExpression.expression());
+            final List<Expression> values = bindValues(notInExpression.expression(), notInExpression.values());
+            final SourceLocation location = locate(notInExpression.location());
+            if (expression == notInExpression.expression() && values == notInExpression.values()
+                    && location == notInExpression.location()) {
+                return notInExpression;
+            }
+            return new NotInExpression(expression, values, location);
+        }
+
+        /**
+         * IN 값 목록을 다시 만듭니다.
+         * 압축 목록의 값에는 위치가 없으므로, 왼쪽 식 뒤의 IN 키워드에서 여는 괄호 다음부터 쉼표를 건너뛰며 값을 읽습니다.
+         */
+        private List<Expression> bindValues(
+                final Expression left,
+                final List<Expression> values
+        ) {
+            if (!(values instanceof LiteralValueList list)) {
+                return bindAll(values);
+            }
+
+            final int size = list.size();
+            final int first = next(tokenEndingAt(left.location().endIndex()), TokenType.IN) + 2;
+            final SourceLocationTable.Builder locations = SourceLocationTable.builder();
+            for (int i = 0; i < size; i++) {
+                final int index = first + i * 2;
+                locations.add(tokens.line(index), tokens.column(index), tokens.startIndex(index), tokens.endIndex(index));
+            }
+            final LiteralValueList bound = switch (list.kind()) {
+                case INTEGER -> {
+                    final long[] numbers = new long[size];
+                    for (int i = 0; i < size; i++) {
+                        numbers[i] = tokens.number(first + i * 2);
+                    }
+                    yield LiteralValueList.ofIntegers(numbers, size, locations.build());
+                }
+                case DECIMAL -> {
+                    final long[] numbers = new long[size];
+                    final int[] scales = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        numbers[i] = tokens.number(first + i * 2);
+                        scales[i] = tokens.scale(first + i * 2);
+                    }
+                    yield LiteralValueList.ofDecimals(numbers, scales, size, locations.build());
+                }
+                case STRING -> {
+                    final String[] strings = new String[size];
+                    for (int i = 0; i < size; i++) {
+                        strings[i] = tokens.value(first + i * 2);
+                    }
+                    yield LiteralValueList.ofStrings(strings, size, locations.build());
+                }
+            };
+            return bound.equals(list) ? list : bound;
+        }
+
+        @Override
+        public AstNode visitBetweenExpression(final BetweenExpression betweenExpression) {
+            final Expression expression = bind(betweenExpression.expression());
+            final Expression lowerBound = bind(betweenExpression.lowerBound());
+            final Expression upperBound = bind(betweenExpression.upperBound());
+            final SourceLocation location = locate(betweenExpression.location());
+            if (expression == betweenExpression.expression() && lowerBound == betweenExpression.lowerBound()
+                    && upperBound == betweenExpression.upperBound() && location == betweenExpression.location()) {
+                return betweenExpression;
+            }
+            return new BetweenExpression(expression, lowerBound, upperBound, location);
+        }
+
+        @Override
+        public AstNode visitNotBetweenExpression(final NotBetweenExpression notBetweenExpression) {
+            final Expression expression = bind(notBetweenExpression.expression());
+            final Expression lowerBound = bind(notBetweenExpression.lowerBound());
+            final Expression upperBound = bind(notBetweenExpression.upperBound());
+            final SourceLocation location = locate(notBetweenExpression.location());
+            if (expression == notBetweenExpression.expression() && lowerBound == notBetweenExpression.lowerBound()
+                    && upperBound == notBetweenExpression.upperBound() && location == notBetweenExpression.location()) {
+                return notBetweenExpression;
+            }
+            return new NotBetweenExpression(expression, lowerBound, upperBound, location);
+        }
+
+        @Override
+        public AstNode visitIsNullExpression(final IsNullExpression isNullExpression) {
+            final Expression expression = bind(isNullExpression.expression());
+            final SourceLocation location = locate(isNullExpression.location());
+            if (expression == isNullExpression.expression() && location == isNullExpression.location()) {
+                return isNullExpression;
+            }
+            return new IsNullExpression(expression, location);
+        }
+
+        @Override
+        public AstNode visitIsNotNullExpression(final IsNotNullExpression isNotNullExpression) {
+            final Expression expression = bind(isNotNullExpression.expression());
+            final SourceLocation location = locate(isNotNullExpression.location());
+            if (expression == isNotNullExpression.expression() && location == isNotNullExpression.location()) {
+                return isNotNullExpression;
+            }
+            return new IsNotNullExpression(expression, location);
+        }
+
+        @Override
+        public AstNode visitFunctionCall(final FunctionCall functionCall) {
+            final List<Expression> arguments = bindAll(functionCall.arguments());
+            final SourceLocation location = locate(functionCall.location());
+            if (arguments == functionCall.arguments() && location == functionCall.location()) {
+                return functionCall;
+            }
+            return new FunctionCall(functionCall.functionName(), arguments, location);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.lexer.TokenBuffer;
+
+/**
+ * 리터럴 값만 다른 SQL끼리 파싱 결과의 틀을 함께 쓰는 파서.
+ * {@code WHERE id = 42}와 {@code WHERE id = 43}처럼 값만 바뀌는 SQL도 캐시에서 찾습니다.
+ *
+ * <ul>
+ *   <li>SQL을 토큰화한 뒤 정수, 소수, 문자열 리터럴을 자리 표시로 바꾼 토큰 열을 키로 틀을 찾음</li>
+ *   <li>틀을 찾으면 표현식을 다시 파싱하지 않고, 틀의 AST에 새 리터럴 값과 위치만 채운 AST를 만듦</li>
+ *   <li>틀이 없으면 파싱한 결과를 틀로 남기며, 캐시의 상한과 들이는 방식은 {@link CachingSqlParser}와 같음 (무게는 키 길이)</li>
+ *   <li>결과는 매번 새 AST이며, 직접 파싱한 결과와 값과 위치가 같음</li>
+ *   <li>파싱 오류는 캐시하지 않음</li>
+ * </ul>
+ */
+public final class TemplateCachingSqlParser {
+
+    private final SqlParser parser;
+    private final BoundedCache<StatementTemplate> cache;
+
+    /**
+     * 기본 파서와 기본 상한(틀 10,000개, 무게 제한 없음)으로 생성합니다.
+     */
+    public TemplateCachingSqlParser() {
+        this(new SqlParser(), BoundedCache.DEFAULT_MAXIMUM_SIZE, Long.MAX_VALUE);
+    }
+
+    private TemplateCachingSqlParser(
+            final SqlParser parser,
+            final int maximumSize,
+            final long maximumWeight
+    ) {
+        this.parser = parser;
+        this.cache = new BoundedCache<>(maximumSize, maximumWeight);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * SQL을 파싱합니다. 리터럴 값만 다른 SQL의 틀이 캐시에 있으면 파싱하지 않고 값만 채웁니다.
+     *
+     * @param sql 파싱할 SQL
+     * @return 파싱된 SELECT 문
+     */
+    public SelectStatement parse(final CharSequence sql) {
+        return parser.withTokens(sql, this::parseTokens);
+    }
+
+    private SelectStatement parseTokens(final TokenBuffer tokens) {
+        final String key = StatementTemplate.keyOf(tokens);
+        final StatementTemplate template = cache.get(key);
+        if (template != null) {
+            return template.bind(tokens);
+        }
+
+        final SelectStatement statement = parser.parseTokens(tokens);
+        cache.put(key, new StatementTemplate(statement, tokens), Math.max(1, key.length()));
+        return statement;
+    }
+
+    /**
+     * 지금까지의 통계를 반환합니다. 무게는 틀 키의 문자 수 합입니다.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * TemplateCachingSqlParser 빌더.
+     */
+    public static final class Builder {
+
+        private SqlParser parser = new SqlParser();
+        private int maximumSize = BoundedCache.DEFAULT_MAXIMUM_SIZE;
+        private long maximumWeight = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * 틀이 없는 SQL을 토큰화하고 파싱할 파서 (기본값: 기본 설정의 SqlParser)
+         */
+        public Builder parser(final SqlParser parser) {
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * 캐시에 담을 최대 틀 수 (기본값: 10,000)
+         */
+        public Builder maximumSize(final int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("최대 항목 수는 1 이상이어야 합니다: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * 캐시에 담은 틀 키 문자 수 합의 상한 (기본값: 제한 없음)
+         */
+        public Builder maximumWeight(final long maximumWeight) {
+            if (maximumWeight < 1) {
+                throw new IllegalArgumentException("최대 무게는 1 이상이어야 합니다: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public TemplateCachingSqlParser build() {
+            return new TemplateCachingSqlParser(parser, maximumSize, maximumWeight);
+        }
+    }
+}
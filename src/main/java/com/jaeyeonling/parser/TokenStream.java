@@ -1,7 +1,13 @@
 package com.jaeyeonling.parser;
 
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.SourceLocationTable;
+import com.jaeyeonling.exception.ErrorCode;
 import com.jaeyeonling.exception.SyntaxException;
+import com.jaeyeonling.lexer.NumberDecoder;
 import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenBuffer;
+import com.jaeyeonling.lexer.TokenSource;
 import com.jaeyeonling.lexer.TokenType;
 
 import java.util.List;
@@ -9,14 +15,64 @@ import java.util.Optional;
 
 /**
  * 토큰 스트림을 관리하는 클래스.
+ * 토큰 버퍼 위에서 인덱스만 이동하며, 타입 확인은 토큰 객체를 만들지 않습니다.
+ * {@link TokenSource}로 생성하면 이전 토큰 하나와 앞쪽 몇 개의 토큰만 보관합니다.
+ * 파서의 구문 오류는 {@link #error(String, Token)} 등으로 만들며, fast-fail 스트림은 스택 트레이스를 수집하지 않습니다.
  */
 public final class TokenStream {
 
-    private final List<Token> tokens;
+    private final TokenWindow tokens;
+    private final boolean fastFail;
     private int current = 0;
+    private int parameterCount = 0;
+
+    public TokenStream(final TokenBuffer tokens) {
+        this(tokens, false);
+    }
+
+    /**
+     * @param fastFail true이면 구문 오류를 스택 트레이스 없이 만듦
+     */
+    TokenStream(
+            final TokenBuffer tokens,
+            final boolean fastFail
+    ) {
+        this.tokens = new BufferWindow(tokens);
+        this.fastFail = fastFail;
+    }
+
+    /**
+     * 토큰 공급자에서 필요한 만큼씩 토큰을 꺼내는 스트림을 생성합니다.
+     * 현재 위치 기준 {@link StreamWindow#MAX_LOOKAHEAD}개 앞과 한 개 뒤까지만 볼 수 있습니다.
+     */
+    public TokenStream(final TokenSource source) {
+        this(source, false);
+    }
+
+    /**
+     * @param fastFail true이면 구문 오류를 스택 트레이스 없이 만듦
+     */
+    TokenStream(
+            final TokenSource source,
+            final boolean fastFail
+    ) {
+        this.tokens = new StreamWindow(source);
+        this.fastFail = fastFail;
+    }
 
     public TokenStream(final List<Token> tokens) {
-        this.tokens = tokens;
+        this(TokenBuffer.from(tokens));
+    }
+
+    /**
+     * 현재 토큰이 주어진 타입과 일치하면 다음 토큰으로 이동합니다.
+     */
+    public boolean advanceIfMatch(final TokenType type) {
+        if (check(type)) {
+            current++;
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -25,8 +81,7 @@ public final class TokenStream {
      */
     public boolean advanceIfMatch(final TokenType... types) {
         for (TokenType type : types) {
-            if (check(type)) {
-                advance();
+            if (advanceIfMatch(type)) {
                 return true;
             }
         }
@@ -45,7 +100,36 @@ public final class TokenStream {
             return advance();
         }
 
-        throw new SyntaxException(message, peek());
+        throw error(ErrorCode.EXPECTED_TOKEN, peek(), List.of(type), message);
+    }
+
+    /**
+     * 토큰에서 발생한 구문 예외를 만듭니다. 메시지는 요청될 때 만들어집니다.
+     */
+    public SyntaxException error(
+            final ErrorCode code,
+            final Token token,
+            final List<TokenType> expectedTypes,
+            final Object... arguments
+    ) {
+        return new SyntaxException(code, token, expectedTypes, arguments, !fastFail);
+    }
+
+    /**
+     * 토큰에서 발생한 구문 예외를 문자열 메시지로 만듭니다.
+     */
+    public SyntaxException error(
+            final String message,
+            final Token token
+    ) {
+        return new SyntaxException(message, token, !fastFail);
+    }
+
+    /**
+     * 위치 없이 구문 예외를 문자열 메시지로 만듭니다.
+     */
+    public SyntaxException error(final String message) {
+        return new SyntaxException(message, !fastFail);
     }
 
     /**
@@ -55,7 +139,19 @@ public final class TokenStream {
         if (isAtEnd()) {
             return false;
         }
-        return peek().type() == type;
+        return peekType() == type;
+    }
+
+    /**
+     * 현재 위치에서 offset만큼 떨어진 토큰이 주어진 타입인지 확인합니다.
+     * 위치를 변경하지 않으며, 범위를 벗어나면 false를 반환합니다.
+     */
+    public boolean checkAt(
+            final int offset,
+            final TokenType type
+    ) {
+        final int targetIndex = current + offset;
+        return tokens.contains(targetIndex) && tokens.type(targetIndex) == type;
     }
 
     /**
@@ -72,14 +168,33 @@ public final class TokenStream {
      * 스트림의 끝에 도달했는지 확인합니다.
      */
     public boolean isAtEnd() {
-        return peek().type() == TokenType.EOF;
+        return peekType() == TokenType.EOF;
+    }
+
+    /**
+     * 현재 토큰의 타입을 반환합니다.
+     */
+    public TokenType peekType() {
+        return tokens.type(current);
+    }
+
+    /**
+     * 현재 위치에서 offset만큼 떨어진 토큰의 타입을 토큰 객체를 만들지 않고 반환합니다.
+     * 위치를 변경하지 않으며, 범위를 벗어나면 EOF를 반환합니다.
+     */
+    public TokenType peekTypeAt(final int offset) {
+        final int targetIndex = current + offset;
+        if (tokens.contains(targetIndex)) {
+            return tokens.type(targetIndex);
+        }
+        return TokenType.EOF;
     }
 
     /**
      * 현재 토큰을 반환합니다.
      */
     public Token peek() {
-        return tokens.get(current);
+        return tokens.token(current);
     }
 
     /**
@@ -91,8 +206,8 @@ public final class TokenStream {
      */
     public Token peekAt(final int offset) {
         int targetIndex = current + offset;
-        if (targetIndex >= 0 && targetIndex < tokens.size()) {
-            return tokens.get(targetIndex);
+        if (tokens.contains(targetIndex)) {
+            return tokens.token(targetIndex);
         }
         return null;
     }
@@ -101,14 +216,65 @@ public final class TokenStream {
      * 이전 토큰을 반환합니다.
      */
     public Token previous() {
-        return tokens.get(current - 1);
+        return tokens.token(current - 1);
+    }
+
+    /**
+     * 이전 토큰의 타입을 반환합니다.
+     */
+    public TokenType previousType() {
+        return tokens.type(current - 1);
+    }
+
+    /**
+     * 현재 숫자 토큰에서 렉서가 계산한 값을 반환합니다.
+     * 소수라면 소수점을 뺀 숫자열의 값이며, long 범위를 넘으면 {@link NumberDecoder#OVERFLOW}입니다.
+     */
+    public long currentNumber() {
+        return tokens.number(current);
+    }
+
+    /**
+     * 현재 숫자 토큰의 소수 자릿수를 반환합니다. 정수 토큰은 0입니다.
+     */
+    public int currentScale() {
+        return tokens.scale(current);
+    }
+
+    /**
+     * 현재 토큰의 값을 토큰 객체를 만들지 않고 반환합니다.
+     */
+    public String currentValue() {
+        return tokens.value(current);
+    }
+
+    /**
+     * 현재 토큰의 위치를 토큰 객체를 만들지 않고 반환합니다.
+     */
+    public SourceLocation currentLocation() {
+        return tokens.location(current);
+    }
+
+    /**
+     * 바인드 파라미터를 하나 읽었음을 기록하고, 문장 안에서 몇 번째 파라미터인지 반환합니다. (1부터 시작)
+     * 파서는 토큰을 앞에서부터 한 번만 읽으므로 번호는 SQL에 나타난 순서와 같습니다.
+     */
+    public int nextParameterIndex() {
+        return ++parameterCount;
+    }
+
+    /**
+     * 현재 토큰 위치를 위치 객체를 만들지 않고 기록합니다.
+     */
+    public void recordCurrentLocation(final SourceLocationTable.Builder locations) {
+        tokens.recordLocation(current, locations);
     }
 
     /**
      * 현재 위치의 토큰을 반환합니다.
      */
     public Token current() {
-        return tokens.get(current);
+        return tokens.token(current);
     }
 
     /**
@@ -134,10 +300,176 @@ public final class TokenStream {
         }
 
         // AS 없이 별칭이 올 수 있음 (예약어가 아닌 경우)
-        if (check(TokenType.IDENTIFIER) && !isKeyword(peek())) {
+        if (check(TokenType.IDENTIFIER) && !peekType().isKeyword()) {
             return Optional.of(advance().value());
         }
 
         return Optional.empty();
     }
+
+    /**
+     * 스트림이 인덱스로 토큰에 접근하는 방식
+     */
+    private interface TokenWindow {
+
+        boolean contains(int index);
+
+        TokenType type(int index);
+
+        Token token(int index);
+
+        String value(int index);
+
+        long number(int index);
+
+        int scale(int index);
+
+        SourceLocation location(int index);
+
+        void recordLocation(
+                int index,
+                SourceLocationTable.Builder locations
+        );
+    }
+
+    private record BufferWindow(TokenBuffer buffer) implements TokenWindow {
+
+        @Override
+        public boolean contains(final int index) {
+            return index >= 0 && index < buffer.size();
+        }
+
+        @Override
+        public TokenType type(final int index) {
+            return buffer.type(index);
+        }
+
+        @Override
+        public Token token(final int index) {
+            return buffer.token(index);
+        }
+
+        @Override
+        public String value(final int index) {
+            return buffer.value(index);
+        }
+
+        @Override
+        public long number(final int index) {
+            return buffer.number(index);
+        }
+
+        @Override
+        public int scale(final int index) {
+            return buffer.scale(index);
+        }
+
+        @Override
+        public SourceLocation location(final int index) {
+            return new SourceLocation(
+                    buffer.line(index),
+                    buffer.column(index),
+                    buffer.startIndex(index),
+                    buffer.endIndex(index)
+            );
+        }
+
+        @Override
+        public void recordLocation(
+                final int index,
+                final SourceLocationTable.Builder locations
+        ) {
+            locations.add(buffer.line(index), buffer.column(index), buffer.startIndex(index), buffer.endIndex(index));
+        }
+    }
+
+    /**
+     * 토큰 공급자 위의 고정 크기 링 버퍼.
+     * 파서는 이전 토큰과 한두 개 앞의 토큰만 보므로 입력 크기와 관계없이 메모리가 일정합니다.
+     */
+    private static final class StreamWindow implements TokenWindow {
+
+        private static final int MAX_LOOKAHEAD = 2;
+        private static final int CAPACITY = 4; // 이전 1 + 현재 1 + 앞쪽 MAX_LOOKAHEAD
+
+        private final TokenSource source;
+        private final Token[] ring = new Token[CAPACITY];
+        private int fetched = 0;
+        private boolean reachedEof = false;
+
+        private StreamWindow(final TokenSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean contains(final int index) {
+            if (index < 0) {
+                return false;
+            }
+            while (index >= fetched && !reachedEof) {
+                fetch();
+            }
+            return index < fetched;
+        }
+
+        private void fetch() {
+            final Token token = source.next();
+            ring[fetched % CAPACITY] = token;
+            fetched++;
+            reachedEof = token.type() == TokenType.EOF;
+        }
+
+        @Override
+        public TokenType type(final int index) {
+            return token(index).type();
+        }
+
+        @Override
+        public Token token(final int index) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException(
+                        String.format("토큰 인덱스 %d가 범위를 벗어났습니다", index));
+            }
+            if (!contains(index)) {
+                // EOF 이후는 EOF로 취급
+                return ring[(fetched - 1) % CAPACITY];
+            }
+            if (index < fetched - CAPACITY) {
+                throw new IllegalStateException(
+                        String.format("토큰 %d는 이미 스트림에서 밀려났습니다 (현재까지 읽은 토큰: %d개)", index, fetched));
+            }
+            return ring[index % CAPACITY];
+        }
+
+        @Override
+        public String value(final int index) {
+            return token(index).value();
+        }
+
+        @Override
+        public long number(final int index) {
+            final String value = token(index).value();
+            return NumberDecoder.unscaledValue(value, 0, value.length());
+        }
+
+        @Override
+        public int scale(final int index) {
+            final String value = token(index).value();
+            return NumberDecoder.scale(value, 0, value.length());
+        }
+
+        @Override
+        public SourceLocation location(final int index) {
+            return new SourceLocation(token(index));
+        }
+
+        @Override
+        public void recordLocation(
+                final int index,
+                final SourceLocationTable.Builder locations
+        ) {
+            final Token token = token(index);
+            locations.add(token.line(), token.column(), token.startIndex(), token.endIndex());
+        }
+    }
 }
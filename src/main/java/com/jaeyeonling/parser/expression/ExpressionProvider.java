@@ -1,24 +1,28 @@
 package com.jaeyeonling.parser.expression;
 
 import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.parser.TokenStream;
 
 /**
  * 표현식 파싱을 제공하는 인터페이스.
  * 순환 의존성을 피하기 위해 사용됩니다.
+ * 구현체는 상태를 갖지 않으며, 파싱 위치는 매 호출에 전달되는 토큰 스트림이 관리합니다.
  */
 public interface ExpressionProvider {
 
     /**
      * 표현식을 파싱합니다.
      *
+     * @param tokenStream 토큰 스트림
      * @return 파싱된 표현식
      */
-    Expression parseExpression();
+    Expression parseExpression(TokenStream tokenStream);
 
     /**
      * 덧셈/뺄셈 수준의 표현식을 파싱합니다.
      *
+     * @param tokenStream 토큰 스트림
      * @return 파싱된 표현식
      */
-    Expression parseAdditiveExpression();
+    Expression parseAdditiveExpression(TokenStream tokenStream);
 }
@@ -17,17 +17,13 @@ import static java.util.Collections.emptyList;
  * 함수 호출 표현식 파싱을 담당하는 클래스
  * - COUNT(*), SUM(column), AVG(expression) 등 처리
  * - 표준 집계 함수 지원
+ * - 상태가 없으므로 여러 스레드가 한 인스턴스를 공유
  */
 public final class FunctionParser {
 
-    private final TokenStream tokenStream;
     private final ExpressionProvider expressionProvider;
 
-    public FunctionParser(
-            final TokenStream tokenStream,
-            final ExpressionProvider expressionProvider
-    ) {
-        this.tokenStream = tokenStream;
+    public FunctionParser(final ExpressionProvider expressionProvider) {
         this.expressionProvider = expressionProvider;
     }
 
@@ -35,13 +31,12 @@ public final class FunctionParser {
      * 함수 호출이 가능한지 확인합니다.
      * IDENTIFIER 다음에 LPAREN이 오는 패턴을 확인합니다.
      */
-    public boolean canParseFunction() {
+    public boolean canParseFunction(final TokenStream tokenStream) {
         if (!tokenStream.check(TokenType.IDENTIFIER)) {
             return false;
         }
 
-        final Token nextToken = tokenStream.peekAt(1);
-        return nextToken != null && nextToken.type() == TokenType.LPAREN;
+        return tokenStream.checkAt(1, TokenType.LPAREN);
     }
 
     /**
@@ -50,14 +45,14 @@ public final class FunctionParser {
      *
      * @return 파싱된 FunctionCall 표현식
      */
-    public Expression parseFunction() {
+    public Expression parseFunction(final TokenStream tokenStream) {
         final Token functionToken = tokenStream.consume(TokenType.IDENTIFIER, "함수 이름이 필요합니다");
         final String functionName = functionToken.value();
 
         tokenStream.consume(TokenType.LPAREN,
                 "함수 호출에는 괄호가 필요합니다.\n예시: COUNT(*), SUM(amount)");
 
-        final List<Expression> arguments = parseFunctionArguments();
+        final List<Expression> arguments = parseFunctionArguments(tokenStream);
 
         final Token closeParen = tokenStream.consume(TokenType.RPAREN,
                 "함수 호출은 닫는 괄호로 끝나야 합니다.\n예시: COUNT(*), SUM(amount)");
@@ -73,7 +68,7 @@ public final class FunctionParser {
      * 함수 인자들을 파싱합니다.
      * COUNT(*)의 특별 처리와 일반 표현식 인자를 모두 처리합니다.
      */
-    private List<Expression> parseFunctionArguments() {
+    private List<Expression> parseFunctionArguments(final TokenStream tokenStream) {
         // 빈 괄호인 경우
         if (tokenStream.check(TokenType.RPAREN)) {
             return emptyList();
@@ -91,7 +86,7 @@ public final class FunctionParser {
         // 일반 표현식 파싱
         do {
             // ExpressionProvider를 통해 재귀적으로 표현식 파싱
-            arguments.add(expressionProvider.parseExpression());
+            arguments.add(expressionProvider.parseExpression(tokenStream));
         } while (tokenStream.advanceIfMatch(TokenType.COMMA));
 
         return arguments;
@@ -3,7 +3,6 @@ package com.jaeyeonling.parser.expression;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.ColumnReference;
 import com.jaeyeonling.ast.expression.Expression;
-import com.jaeyeonling.exception.SyntaxException;
 import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
@@ -12,21 +11,16 @@ import com.jaeyeonling.parser.TokenStream;
  * 식별자 파싱을 담당하는 클래스
  * - 컬럼 참조 처리
  * - 테이블.컬럼 형식 지원
+ * - 상태가 없으므로 여러 스레드가 한 인스턴스를 공유
  */
 public final class IdentifierParser {
 
-    private final TokenStream tokenStream;
-
-    public IdentifierParser(final TokenStream tokenStream) {
-        this.tokenStream = tokenStream;
-    }
-
     /**
      * 식별자(컬럼 참조)를 파싱합니다.
      * 식별자가 아닌 경우 null을 반환합니다.
      */
-    public Expression parseIdentifier() {
-        if (!isIdentifier()) {
+    public Expression parseIdentifier(final TokenStream tokenStream) {
+        if (!isIdentifier(tokenStream)) {
             return null;
         }
 
@@ -44,7 +38,7 @@ public final class IdentifierParser {
         }
 
         if (!tokenStream.check(TokenType.IDENTIFIER)) {
-            throw new SyntaxException(
+            throw tokenStream.error(
                     "테이블명 뒤에 점(.)이 오면 컬럼명이 와야 합니다.\n" +
                             "예시: users.name, orders.id",
                     tokenStream.peek()
@@ -68,7 +62,7 @@ public final class IdentifierParser {
     /**
      * 현재 토큰이 식별자인지 확인합니다.
      */
-    public boolean isIdentifier() {
+    public boolean isIdentifier(final TokenStream tokenStream) {
         if (tokenStream.isAtEnd()) {
             return false;
         }
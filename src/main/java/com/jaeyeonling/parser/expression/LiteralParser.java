@@ -6,46 +6,52 @@ import com.jaeyeonling.ast.expression.DecimalLiteral;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.NullLiteral;
+import com.jaeyeonling.ast.expression.NumericLiteral;
+import com.jaeyeonling.ast.expression.ParameterExpression;
 import com.jaeyeonling.ast.expression.StringLiteral;
+import com.jaeyeonling.lexer.NumberDecoder;
 import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 /**
  * 리터럴 파싱을 담당하는 클래스
  * - 숫자, 문자열, 불리언, NULL 리터럴 처리
- * - 간결한 구조
+ * - 값 자리에 오는 바인드 파라미터(?, :name)도 처리하며, 번호는 토큰 스트림이 매김
+ * - 숫자는 렉서가 계산한 값을 사용하며, long 범위를 넘으면 BigDecimal로 승격
+ * - 상태가 없으므로 여러 스레드가 한 인스턴스를 공유
  */
 public final class LiteralParser {
 
-    private final TokenStream tokenStream;
-
-    public LiteralParser(final TokenStream tokenStream) {
-        this.tokenStream = tokenStream;
-    }
-
     /**
      * 리터럴을 파싱합니다.
      *
-     * @return 파싱된 리터럴 Expression, 리터럴이 아닌 경우 Optional.empty()
+     * @param tokenStream 토큰 스트림
+     * @return 파싱된 리터럴 또는 파라미터 Expression, 둘 다 아닌 경우 Optional.empty()
      */
-    public Optional<Expression> parseLiteral() {
-        final Token token = tokenStream.peek();
-        final TokenType type = token.type();
+    public Optional<Expression> parseLiteral(final TokenStream tokenStream) {
+        final TokenType type = tokenStream.peekType();
+
+        if (type.isParameter()) {
+            return Optional.of(parseParameter(tokenStream, type));
+        }
 
         // 리터럴이 아니면 즉시 empty 반환
         if (!type.isLiteral()) {
             return Optional.empty();
         }
 
-        tokenStream.advance();
+        if (type == TokenType.INTEGER || type == TokenType.DECIMAL) {
+            return Optional.of(parseNumber(tokenStream, type));
+        }
+
+        final Token token = tokenStream.advance();
         final SourceLocation location = new SourceLocation(token);
 
         final Expression literal = switch (type) {
-            case INTEGER -> new IntegerLiteral(Integer.parseInt(token.value()), location);
-            case DECIMAL -> new DecimalLiteral(Double.parseDouble(token.value()), location);
             case STRING -> new StringLiteral(token.value(), location);
             case TRUE -> new BooleanLiteral(true, location);
             case FALSE -> new BooleanLiteral(false, location);
@@ -58,4 +64,39 @@ public final class LiteralParser {
 
         return Optional.of(literal);
     }
+
+    private Expression parseParameter(
+            final TokenStream tokenStream,
+            final TokenType type
+    ) {
+        final SourceLocation location = tokenStream.currentLocation();
+        final int index = tokenStream.nextParameterIndex();
+        if (type == TokenType.POSITIONAL_PARAMETER) {
+            tokenStream.advanceIfMatch(type);
+            return ParameterExpression.positional(index, location);
+        }
+        return ParameterExpression.named(index, tokenStream.advance().value(), location);
+    }
+
+    /**
+     * 렉서가 계산해 둔 값으로 숫자 리터럴을 만듭니다.
+     * 토큰 텍스트는 long 범위를 넘는 숫자에서만 사용합니다.
+     */
+    private Expression parseNumber(
+            final TokenStream tokenStream,
+            final TokenType type
+    ) {
+        final SourceLocation location = tokenStream.currentLocation();
+        final long number = tokenStream.currentNumber();
+        if (number == NumberDecoder.OVERFLOW) {
+            return new NumericLiteral(new BigDecimal(tokenStream.advance().value()), location);
+        }
+
+        final int scale = tokenStream.currentScale();
+        tokenStream.advanceIfMatch(type);
+        if (type == TokenType.INTEGER) {
+            return new IntegerLiteral(number, location);
+        }
+        return new DecimalLiteral(number, scale, location);
+    }
 }
@@ -3,6 +3,8 @@ package com.jaeyeonling.parser.expression;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.parser.TokenStream;
 
+import java.util.List;
+
 /**
  * 연산자 파싱을 담당하는 인터페이스.
  * 각 연산자별로 이 인터페이스를 구현하여 파싱 로직을 분리합니다.
@@ -33,4 +35,15 @@ public interface OperatorParser {
      * @return 우선순위
      */
     OperatorPriority priority();
+
+    /**
+     * 이 파서가 시작될 수 있는 (현재 토큰, 다음 토큰) 패턴을 반환합니다.
+     * 레지스트리는 일치하는 위치에서만 {@link #canParse(TokenStream)}를 호출합니다.
+     * 빈 목록이면 모든 위치에서 canParse로 확인합니다.
+     *
+     * @return 시작 토큰 패턴 목록
+     */
+    default List<OperatorTrigger> triggers() {
+        return List.of();
+    }
 }
@@ -1,5 +1,6 @@
 package com.jaeyeonling.parser.expression;
 
+import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.operators.BetweenOperatorParser;
 import com.jaeyeonling.parser.expression.operators.ComparisonOperatorParser;
@@ -10,22 +11,35 @@ import com.jaeyeonling.parser.expression.operators.LikeOperatorParser;
 import com.jaeyeonling.parser.expression.operators.NotBetweenOperatorParser;
 import com.jaeyeonling.parser.expression.operators.NotInOperatorParser;
 import com.jaeyeonling.parser.expression.operators.NotLikeOperatorParser;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 연산자 파서들을 관리하는 레지스트리.
  * 우선순위에 따라 파서를 정렬하고, 적절한 파서를 찾아주는 역할을 합니다.
+ * - 등록은 고정(freeze) 전까지만 가능하며, 정렬은 고정할 때 한 번만 수행
+ * - 고정하면 (현재 토큰, 다음 토큰) 타입 쌍마다 후보 파서 배열을 만들어 두고, 조회는 배열 색인 한 번으로 끝남
+ * - 처음 조회할 때 아직 고정되지 않았다면 자동으로 고정
+ * - 고정된 뒤에는 바뀌지 않으므로 여러 스레드가 함께 조회할 수 있음
  */
 public class OperatorParserRegistry {
 
-    private final List<OperatorParser> parsers = new CopyOnWriteArrayList<>();
+    private static final TokenType[] TOKEN_TYPES = TokenType.values();
+    private static final OperatorParser[] NO_PARSERS = new OperatorParser[0];
+
+    private final List<OperatorParser> parsers = new ArrayList<>();
     private final ExpressionProvider expressionProvider;
 
+    // [현재 토큰 ordinal * 타입 수 + 다음 토큰 ordinal] -> 우선순위 순 후보 파서
+    @Nullable
+    private volatile OperatorParser[][] index;
+
     /**
      * 기본 생성자. 표준 SQL 연산자 파서들을 등록합니다.
      */
@@ -58,11 +72,13 @@ public class OperatorParserRegistry {
      * 새로운 파서를 등록합니다.
      *
      * @param parser 등록할 파서
+     * @throws IllegalStateException 이미 고정된 레지스트리인 경우
      */
-    public void register(final OperatorParser parser) {
+    public synchronized void register(final OperatorParser parser) {
+        if (index != null) {
+            throw new IllegalStateException("고정된 연산자 레지스트리에는 파서를 등록할 수 없습니다: " + parser);
+        }
         parsers.add(parser);
-        // 우선순위로 정렬 (낮은 값이 먼저)
-        parsers.sort(Comparator.comparingInt(p -> p.priority().value()));
     }
 
     /**
@@ -76,6 +92,98 @@ public class OperatorParserRegistry {
         return this;
     }
 
+    /**
+     * 등록을 마치고 토큰 색인을 만듭니다. 이미 고정되었다면 아무것도 하지 않습니다.
+     *
+     * @return 체이닝을 위한 this
+     */
+    public OperatorParserRegistry freeze() {
+        frozenIndex();
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return index != null;
+    }
+
+    private OperatorParser[][] frozenIndex() {
+        final OperatorParser[][] frozen = index;
+        if (frozen != null) {
+            return frozen;
+        }
+        synchronized (this) {
+            if (index == null) {
+                index = buildIndex(sortedParsers());
+            }
+            return index;
+        }
+    }
+
+    private List<OperatorParser> sortedParsers() {
+        final List<OperatorParser> sorted = new ArrayList<>(parsers);
+        // 우선순위로 정렬 (낮은 값이 먼저, 같으면 등록 순서)
+        sorted.sort(Comparator.comparingInt(p -> p.priority().value()));
+        return sorted;
+    }
+
+    private static OperatorParser[][] buildIndex(final List<OperatorParser> sorted) {
+        final int typeCount = TOKEN_TYPES.length;
+        final OperatorParser[][] cells = new OperatorParser[typeCount * typeCount][];
+        // 후보가 같은 칸은 배열 하나를 공유
+        final Map<List<OperatorParser>, OperatorParser[]> shared = new HashMap<>();
+        shared.put(List.of(), NO_PARSERS);
+
+        for (final TokenType current : TOKEN_TYPES) {
+            for (final TokenType next : TOKEN_TYPES) {
+                final List<OperatorParser> candidates = new ArrayList<>();
+                for (final OperatorParser parser : sorted) {
+                    if (isCandidate(parser, current, next)) {
+                        candidates.add(parser);
+                    }
+                }
+                cells[current.ordinal() * typeCount + next.ordinal()] =
+                        shared.computeIfAbsent(candidates, list -> list.toArray(NO_PARSERS));
+            }
+        }
+        return cells;
+    }
+
+    private static boolean isCandidate(
+            final OperatorParser parser,
+            final TokenType current,
+            final TokenType next
+    ) {
+        final List<OperatorTrigger> triggers = parser.triggers();
+        if (triggers.isEmpty()) {
+            return true;
+        }
+        for (final OperatorTrigger trigger : triggers) {
+            if (trigger.matches(current, next)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 현재 토큰 스트림에서 처리 가능한 파서를 찾습니다.
+     * 현재 토큰과 다음 토큰의 타입으로 후보를 찾은 뒤 우선순위 순으로 확인합니다.
+     *
+     * @param tokenStream 토큰 스트림
+     * @return 처리 가능한 파서, 없으면 null
+     */
+    @Nullable
+    public OperatorParser lookup(final TokenStream tokenStream) {
+        final OperatorParser[] candidates = frozenIndex()[
+                tokenStream.peekType().ordinal() * TOKEN_TYPES.length + tokenStream.peekTypeAt(1).ordinal()];
+        for (final OperatorParser candidate : candidates) {
+            if (candidate.canParse(tokenStream)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
     /**
      * 현재 토큰 스트림에서 처리 가능한 파서를 찾습니다.
      *
@@ -83,17 +191,15 @@ public class OperatorParserRegistry {
      * @return 처리 가능한 파서 (없으면 empty)
      */
     public Optional<OperatorParser> findParser(final TokenStream tokenStream) {
-        return parsers.stream()
-                .filter(parser -> parser.canParse(tokenStream))
-                .findFirst();
+        return Optional.ofNullable(lookup(tokenStream));
     }
 
     /**
-     * 등록된 모든 파서를 반환합니다.
+     * 등록된 모든 파서를 우선순위 순으로 반환합니다.
      *
-     * @return 불변 리스트로 래핑된 파서 목록
+     * @return 불변 파서 목록
      */
-    public List<OperatorParser> getAllParsers() {
-        return Collections.unmodifiableList(parsers);
+    public synchronized List<OperatorParser> getAllParsers() {
+        return List.copyOf(sortedParsers());
     }
 }
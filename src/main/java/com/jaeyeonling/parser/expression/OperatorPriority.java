@@ -2,24 +2,35 @@ package com.jaeyeonling.parser.expression;
 
 /**
  * 연산자 파싱 우선순위를 정의합니다.
- * 값이 작을수록 먼저 처리됩니다.
+ * - value: 같은 위치에서 여러 파서가 가능할 때 확인하는 순서 (값이 작을수록 먼저 처리)
+ * - bindingPower: 표현식 파서의 결합력 (값이 클수록 피연산자를 강하게 묶음)
+ * 비교 수준의 연산자(IS NULL, LIKE/IN/BETWEEN, 비교)는 결합력이 같고, 산술 연산보다 약하며 AND보다 강합니다.
  */
 public enum OperatorPriority {
-    IS_NULL(10),         // IS NULL, IS NOT NULL - 가장 높은 우선순위
-    SPECIAL(20),         // LIKE, IN, BETWEEN - 특수 연산자
-    COMPARISON(30),      // =, !=, <, >, <=, >= - 일반 비교
-    ARITHMETIC_MUL(40),  // * / - 곱셈/나눗셈
-    ARITHMETIC_ADD(50),  // + - - 덧셈/뺄셈
-    LOGICAL_AND(60),     // AND
-    LOGICAL_OR(70);      // OR - 가장 낮은 우선순위
+    IS_NULL(10, 3),         // IS NULL, IS NOT NULL - 가장 높은 우선순위
+    SPECIAL(20, 3),         // LIKE, IN, BETWEEN - 특수 연산자
+    COMPARISON(30, 3),      // =, !=, <, >, <=, >= - 일반 비교
+    ARITHMETIC_MUL(40, 5),  // * / - 곱셈/나눗셈
+    ARITHMETIC_ADD(50, 4),  // + - - 덧셈/뺄셈
+    LOGICAL_AND(60, 2),     // AND
+    LOGICAL_OR(70, 1);      // OR - 가장 낮은 우선순위
 
     private final int value;
+    private final int bindingPower;
 
-    OperatorPriority(int value) {
+    OperatorPriority(
+            final int value,
+            final int bindingPower
+    ) {
         this.value = value;
+        this.bindingPower = bindingPower;
     }
 
     public int value() {
         return value;
     }
+
+    public int bindingPower() {
+        return bindingPower;
+    }
 }
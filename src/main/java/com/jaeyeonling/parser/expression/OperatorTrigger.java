@@ -0,0 +1,54 @@
+package com.jaeyeonling.parser.expression;
+
+import com.jaeyeonling.lexer.TokenType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * 연산자 파서가 시작될 수 있는 토큰 패턴.
+ * 레지스트리는 이 패턴으로 (현재 토큰, 다음 토큰) 색인을 만듭니다.
+ * 예: NOT LIKE는 (NOT, LIKE), LIKE는 (LIKE, 아무 토큰)
+ *
+ * @param current 현재 토큰 타입
+ * @param next    다음 토큰 타입, null이면 어떤 토큰이든 일치
+ */
+public record OperatorTrigger(
+        TokenType current,
+        @Nullable TokenType next
+) {
+
+    public OperatorTrigger {
+        if (current == null) {
+            throw new IllegalArgumentException("현재 토큰 타입은 null일 수 없습니다");
+        }
+    }
+
+    public static OperatorTrigger of(final TokenType current) {
+        return new OperatorTrigger(current, null);
+    }
+
+    public static OperatorTrigger of(
+            final TokenType current,
+            final TokenType next
+    ) {
+        return new OperatorTrigger(current, next);
+    }
+
+    /**
+     * 다음 토큰 조건을 반환합니다.
+     */
+    public Optional<TokenType> nextType() {
+        return Optional.ofNullable(next);
+    }
+
+    /**
+     * 현재/다음 토큰 타입이 이 패턴과 일치하는지 확인합니다.
+     */
+    public boolean matches(
+            final TokenType currentType,
+            final TokenType nextType
+    ) {
+        return current == currentType && (next == null || next == nextType);
+    }
+}
@@ -8,6 +8,9 @@ import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
+
+import java.util.List;
 
 /**
  * BETWEEN/NOT BETWEEN 연산자 파싱을 담당합니다.
@@ -35,7 +38,7 @@ public final class BetweenOperatorParser implements OperatorParser {
                 "BETWEEN 키워드가 필요합니다");
 
         // 하한값 파싱
-        final Expression lowerBound = expressionProvider.parseAdditiveExpression();
+        final Expression lowerBound = expressionProvider.parseAdditiveExpression(tokenStream);
 
         // AND 키워드 확인
         tokenStream.consume(TokenType.AND,
@@ -43,7 +46,7 @@ public final class BetweenOperatorParser implements OperatorParser {
                         "예시: age BETWEEN 18 AND 65");
 
         // 상한값 파싱
-        final Expression upperBound = expressionProvider.parseAdditiveExpression();
+        final Expression upperBound = expressionProvider.parseAdditiveExpression(tokenStream);
 
         final SourceLocation location = left.location().merge(upperBound.location());
 
@@ -54,4 +57,9 @@ public final class BetweenOperatorParser implements OperatorParser {
     public OperatorPriority priority() {
         return OperatorPriority.SPECIAL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.BETWEEN));
+    }
 }
@@ -11,7 +11,10 @@ import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -20,7 +23,7 @@ import java.util.Set;
  */
 public final class ComparisonOperatorParser implements OperatorParser {
 
-    private static final Set<TokenType> comparisonOperators = Set.of(
+    private static final Set<TokenType> comparisonOperators = EnumSet.of(
             TokenType.EQUALS, TokenType.NOT_EQUALS,
             TokenType.LESS_THAN, TokenType.GREATER_THAN,
             TokenType.LESS_THAN_OR_EQUALS, TokenType.GREATER_THAN_OR_EQUALS
@@ -34,8 +37,7 @@ public final class ComparisonOperatorParser implements OperatorParser {
 
     @Override
     public boolean canParse(final TokenStream tokenStream) {
-        return comparisonOperators.stream()
-                .anyMatch(tokenStream::check);
+        return comparisonOperators.contains(tokenStream.peekType());
     }
 
     @Override
@@ -44,8 +46,8 @@ public final class ComparisonOperatorParser implements OperatorParser {
             final Expression left
     ) {
         final Token operatorToken = consumeComparisonOperator(tokenStream);
-        final Expression right = expressionProvider.parseAdditiveExpression();
-        final Operator operator = mapTokenToOperator(operatorToken.type());
+        final Expression right = expressionProvider.parseAdditiveExpression(tokenStream);
+        final Operator operator = mapTokenToOperator(tokenStream, operatorToken.type());
         final SourceLocation location = left.location().merge(right.location());
 
         return new BinaryOperatorExpression(left, operator, right, location);
@@ -65,14 +67,17 @@ public final class ComparisonOperatorParser implements OperatorParser {
             }
         }
 
-        throw new SyntaxException(
+        throw tokenStream.error(
                 "비교 연산자가 필요합니다.\n" +
                         "예상: =, !=, <, <=, >, >=",
                 tokenStream.peek()
         );
     }
 
-    private Operator mapTokenToOperator(final TokenType tokenType) {
+    private Operator mapTokenToOperator(
+            final TokenStream tokenStream,
+            final TokenType tokenType
+    ) {
         return switch (tokenType) {
             case EQUALS -> Operator.EQUALS;
             case NOT_EQUALS -> Operator.NOT_EQUALS;
@@ -80,7 +85,7 @@ public final class ComparisonOperatorParser implements OperatorParser {
             case GREATER_THAN -> Operator.GREATER_THAN;
             case LESS_THAN_OR_EQUALS -> Operator.LESS_THAN_OR_EQUALS;
             case GREATER_THAN_OR_EQUALS -> Operator.GREATER_THAN_OR_EQUALS;
-            default -> throw new SyntaxException(
+            default -> throw tokenStream.error(
                     "지원하지 않는 비교 연산자입니다: " + tokenType);
         };
     }
@@ -89,4 +94,11 @@ public final class ComparisonOperatorParser implements OperatorParser {
     public OperatorPriority priority() {
         return OperatorPriority.COMPARISON;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return comparisonOperators.stream()
+                .map(OperatorTrigger::of)
+                .toList();
+    }
 }
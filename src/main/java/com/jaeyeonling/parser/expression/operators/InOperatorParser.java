@@ -8,8 +8,8 @@ import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,10 +18,10 @@ import java.util.List;
  */
 public final class InOperatorParser implements OperatorParser {
 
-    private final ExpressionProvider expressionProvider;
+    private final ValueListParser valueListParser;
 
     public InOperatorParser(final ExpressionProvider expressionProvider) {
-        this.expressionProvider = expressionProvider;
+        this.valueListParser = new ValueListParser(expressionProvider);
     }
 
     @Override
@@ -41,8 +41,8 @@ public final class InOperatorParser implements OperatorParser {
                 "IN 연산자 뒤에는 '('가 와야 합니다.\n" +
                         "예시: status IN ('active', 'pending')");
 
-        // 값 목록 파싱
-        final List<Expression> values = parseValueList(tokenStream);
+        // 값 목록 파싱 (같은 종류의 리터럴만 많이 나열되면 압축 목록)
+        final List<Expression> values = valueListParser.parse(tokenStream);
 
         tokenStream.consume(TokenType.RPAREN,
                 "IN 절의 값 목록은 ')'로 닫아야 합니다.");
@@ -52,19 +52,13 @@ public final class InOperatorParser implements OperatorParser {
         return new InExpression(left, values, location);
     }
 
-    private List<Expression> parseValueList(final TokenStream tokenStream) {
-        List<Expression> values = new ArrayList<>();
-
-        do {
-            // 쉼표로 구분된 추가 값들
-            values.add(expressionProvider.parseAdditiveExpression());
-        } while (tokenStream.advanceIfMatch(TokenType.COMMA));
-
-        return values;
-    }
-
     @Override
     public OperatorPriority priority() {
         return OperatorPriority.SPECIAL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.IN));
+    }
 }
@@ -3,11 +3,13 @@ package com.jaeyeonling.parser.expression.operators;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.IsNotNullExpression;
-import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
+
+import java.util.List;
 
 /**
  * IS NOT NULL 연산자 파싱을 담당합니다.
@@ -21,8 +23,7 @@ public final class IsNotNullOperatorParser implements OperatorParser {
             return false;
         }
 
-        final Token nextToken = tokenStream.peekAt(1);
-        return nextToken != null && nextToken.type() == TokenType.NOT;
+        return tokenStream.checkAt(1, TokenType.NOT);
     }
 
     @Override
@@ -44,4 +45,9 @@ public final class IsNotNullOperatorParser implements OperatorParser {
     public OperatorPriority priority() {
         return OperatorPriority.IS_NULL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.IS, TokenType.NOT));
+    }
 }
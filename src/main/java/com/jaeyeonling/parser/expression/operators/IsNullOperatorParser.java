@@ -3,11 +3,13 @@ package com.jaeyeonling.parser.expression.operators;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.IsNullExpression;
-import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
+
+import java.util.List;
 
 /**
  * IS NULL 연산자 파싱을 담당합니다.
@@ -21,9 +23,8 @@ public final class IsNullOperatorParser implements OperatorParser {
             return false;
         }
 
-        final Token nextToken = tokenStream.peekAt(1);
         // IS 다음이 NULL이면 IS NULL, NOT이면 IS NOT NULL이므로 false
-        return nextToken != null && nextToken.type() == TokenType.NULL;
+        return tokenStream.checkAt(1, TokenType.NULL);
     }
 
     @Override
@@ -44,4 +45,9 @@ public final class IsNullOperatorParser implements OperatorParser {
     public OperatorPriority priority() {
         return OperatorPriority.IS_NULL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.IS, TokenType.NULL));
+    }
 }
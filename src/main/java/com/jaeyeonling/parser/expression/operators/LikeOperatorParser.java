@@ -8,6 +8,9 @@ import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
+
+import java.util.List;
 
 /**
  * LIKE/NOT LIKE 연산자 파싱을 담당합니다.
@@ -34,7 +37,7 @@ public final class LikeOperatorParser implements OperatorParser {
         tokenStream.consume(TokenType.LIKE, "LIKE 키워드가 필요합니다");
 
         // 패턴 파싱 (문자열 리터럴이어야 함)
-        final Expression pattern = expressionProvider.parseAdditiveExpression();
+        final Expression pattern = expressionProvider.parseAdditiveExpression(tokenStream);
 
 
         final SourceLocation location = left.location().merge(pattern.location());
@@ -46,4 +49,9 @@ public final class LikeOperatorParser implements OperatorParser {
     public OperatorPriority priority() {
         return OperatorPriority.SPECIAL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.LIKE));
+    }
 }
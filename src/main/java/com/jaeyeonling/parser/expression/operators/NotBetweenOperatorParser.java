@@ -3,12 +3,14 @@ package com.jaeyeonling.parser.expression.operators;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.NotBetweenExpression;
-import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
+
+import java.util.List;
 
 /**
  * NOT BETWEEN 연산자 파싱을 담당합니다.
@@ -28,8 +30,7 @@ public class NotBetweenOperatorParser implements OperatorParser {
             return false;
         }
 
-        final Token nextToken = tokenStream.peekAt(1);
-        return nextToken != null && nextToken.type() == TokenType.BETWEEN;
+        return tokenStream.checkAt(1, TokenType.BETWEEN);
     }
 
     @Override
@@ -43,7 +44,7 @@ public class NotBetweenOperatorParser implements OperatorParser {
                 "NOT BETWEEN에서 BETWEEN 키워드가 필요합니다");
 
         // 하한값 파싱
-        final Expression lowerBound = expressionProvider.parseAdditiveExpression();
+        final Expression lowerBound = expressionProvider.parseAdditiveExpression(tokenStream);
 
         // AND 키워드 확인
         tokenStream.consume(TokenType.AND,
@@ -51,7 +52,7 @@ public class NotBetweenOperatorParser implements OperatorParser {
                         "예시: price NOT BETWEEN 0 AND 100");
 
         // 상한값 파싱
-        final Expression upperBound = expressionProvider.parseAdditiveExpression();
+        final Expression upperBound = expressionProvider.parseAdditiveExpression(tokenStream);
 
         final SourceLocation location = left.location().merge(upperBound.location());
 
@@ -62,4 +63,9 @@ public class NotBetweenOperatorParser implements OperatorParser {
     public OperatorPriority priority() {
         return OperatorPriority.SPECIAL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.NOT, TokenType.BETWEEN));
+    }
 }
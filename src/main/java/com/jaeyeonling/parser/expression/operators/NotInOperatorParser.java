@@ -3,14 +3,13 @@ package com.jaeyeonling.parser.expression.operators;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.NotInExpression;
-import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,10 +18,10 @@ import java.util.List;
  */
 public final class NotInOperatorParser implements OperatorParser {
 
-    private final ExpressionProvider expressionProvider;
+    private final ValueListParser valueListParser;
 
     public NotInOperatorParser(final ExpressionProvider expressionProvider) {
-        this.expressionProvider = expressionProvider;
+        this.valueListParser = new ValueListParser(expressionProvider);
     }
 
     @Override
@@ -31,8 +30,7 @@ public final class NotInOperatorParser implements OperatorParser {
             return false;
         }
 
-        final Token nextToken = tokenStream.peekAt(1);
-        return nextToken != null && nextToken.type() == TokenType.IN;
+        return tokenStream.checkAt(1, TokenType.IN);
     }
 
     @Override
@@ -46,8 +44,8 @@ public final class NotInOperatorParser implements OperatorParser {
                 "NOT IN 연산자 뒤에는 '('가 와야 합니다.\n" +
                         "예시: id NOT IN (1, 2, 3)");
 
-        // 값 목록 파싱
-        final List<Expression> values = parseValueList(tokenStream);
+        // 값 목록 파싱 (같은 종류의 리터럴만 많이 나열되면 압축 목록)
+        final List<Expression> values = valueListParser.parse(tokenStream);
 
         tokenStream.consume(TokenType.RPAREN,
                 "NOT IN 절의 값 목록은 ')'로 닫아야 합니다.");
@@ -57,19 +55,13 @@ public final class NotInOperatorParser implements OperatorParser {
         return new NotInExpression(left, values, location);
     }
 
-    private List<Expression> parseValueList(TokenStream tokenStream) {
-        final List<Expression> values = new ArrayList<>();
-
-        do {
-            // 쉼표로 구분된 추가 값들
-            values.add(expressionProvider.parseAdditiveExpression());
-        } while (tokenStream.advanceIfMatch(TokenType.COMMA));
-
-        return values;
-    }
-
     @Override
     public OperatorPriority priority() {
         return OperatorPriority.SPECIAL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.NOT, TokenType.IN));
+    }
 }
@@ -3,12 +3,14 @@ package com.jaeyeonling.parser.expression.operators;
 import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.NotLikeExpression;
-import com.jaeyeonling.lexer.Token;
 import com.jaeyeonling.lexer.TokenType;
 import com.jaeyeonling.parser.TokenStream;
 import com.jaeyeonling.parser.expression.ExpressionProvider;
 import com.jaeyeonling.parser.expression.OperatorParser;
 import com.jaeyeonling.parser.expression.OperatorPriority;
+import com.jaeyeonling.parser.expression.OperatorTrigger;
+
+import java.util.List;
 
 /**
  * NOT LIKE 연산자 파싱을 담당합니다.
@@ -28,8 +30,7 @@ public final class NotLikeOperatorParser implements OperatorParser {
             return false;
         }
 
-        final Token nextToken = tokenStream.peekAt(1);
-        return nextToken != null && nextToken.type() == TokenType.LIKE;
+        return tokenStream.checkAt(1, TokenType.LIKE);
     }
 
     @Override
@@ -41,7 +42,7 @@ public final class NotLikeOperatorParser implements OperatorParser {
         tokenStream.consume(TokenType.LIKE, "NOT LIKE에서 LIKE 키워드가 필요합니다");
 
         // 패턴 파싱
-        final Expression pattern = expressionProvider.parseAdditiveExpression();
+        final Expression pattern = expressionProvider.parseAdditiveExpression(tokenStream);
 
         final SourceLocation location = left.location().merge(pattern.location());
 
@@ -52,4 +53,9 @@ public final class NotLikeOperatorParser implements OperatorParser {
     public OperatorPriority priority() {
         return OperatorPriority.SPECIAL;
     }
+
+    @Override
+    public List<OperatorTrigger> triggers() {
+        return List.of(OperatorTrigger.of(TokenType.NOT, TokenType.LIKE));
+    }
 }
@@ -0,0 +1,181 @@
+package com.jaeyeonling.parser.expression.operators;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.SourceLocationTable;
+import com.jaeyeonling.ast.expression.DecimalLiteral;
+import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.ast.expression.IntegerLiteral;
+import com.jaeyeonling.ast.expression.LiteralValueList;
+import com.jaeyeonling.ast.expression.StringLiteral;
+import com.jaeyeonling.lexer.NumberDecoder;
+import com.jaeyeonling.lexer.TokenType;
+import com.jaeyeonling.parser.TokenStream;
+import com.jaeyeonling.parser.expression.ExpressionProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * IN/NOT IN의 괄호 안 값 목록을 파싱합니다.
+ * - 모든 값이 같은 종류의 리터럴(정수, 소수, 문자열)이면 리터럴 노드 대신 원시 배열에 모아 {@link LiteralValueList}로 만듦
+ * - 값이 적으면 압축의 이득이 없으므로 일반 리터럴 목록으로 만듦 (어느 쪽이든 원소는 원래 위치를 가짐)
+ * - 도중에 다른 종류의 값이나 식이 나오면 그때까지 모은 값을 리터럴 노드로 바꾸고 일반 파싱으로 이어감
+ */
+final class ValueListParser {
+
+    // 이 개수 이상일 때만 압축 목록을 만듦
+    static final int COMPACT_THRESHOLD = 16;
+
+    private final ExpressionProvider expressionProvider;
+
+    ValueListParser(final ExpressionProvider expressionProvider) {
+        this.expressionProvider = expressionProvider;
+    }
+
+    /**
+     * 쉼표로 구분된 값 목록을 파싱합니다. 여는 괄호는 이미 소비했고, 닫는 괄호는 호출한 쪽이 소비합니다.
+     */
+    List<Expression> parse(final TokenStream tokenStream) {
+        final TokenType kind = tokenStream.peekType();
+        if (!isCompactable(kind)) {
+            return parseExpressions(tokenStream, new ArrayList<>());
+        }
+
+        final LiteralCollector collector = new LiteralCollector(kind);
+        do {
+            if (!isCompactableElement(tokenStream, kind)) {
+                return parseExpressions(tokenStream, collector.toExpressions());
+            }
+            collector.add(tokenStream);
+        } while (tokenStream.advanceIfMatch(TokenType.COMMA));
+
+        if (collector.size < COMPACT_THRESHOLD) {
+            return collector.toExpressions();
+        }
+        return collector.toLiteralValues();
+    }
+
+    private List<Expression> parseExpressions(
+            final TokenStream tokenStream,
+            final List<Expression> values
+    ) {
+        do {
+            // 쉼표로 구분된 추가 값들
+            values.add(expressionProvider.parseAdditiveExpression(tokenStream));
+        } while (tokenStream.advanceIfMatch(TokenType.COMMA));
+
+        return values;
+    }
+
+    private static boolean isCompactable(final TokenType type) {
+        return type == TokenType.INTEGER || type == TokenType.DECIMAL || type == TokenType.STRING;
+    }
+
+    /**
+     * 현재 값이 목록의 종류와 같은 리터럴 하나로 끝나는지 확인합니다.
+     * 뒤에 연산자가 이어지거나 long 범위를 넘는 숫자라면 일반 파싱으로 넘깁니다.
+     */
+    private static boolean isCompactableElement(
+            final TokenStream tokenStream,
+            final TokenType kind
+    ) {
+        if (tokenStream.peekType() != kind) {
+            return false;
+        }
+        final TokenType next = tokenStream.peekTypeAt(1);
+        if (next != TokenType.COMMA && next != TokenType.RPAREN) {
+            return false;
+        }
+        return kind == TokenType.STRING || tokenStream.currentNumber() != NumberDecoder.OVERFLOW;
+    }
+
+    /**
+     * 리터럴 값을 원시 배열에 모읍니다.
+     * 위치도 값마다 객체를 만들지 않고 {@link SourceLocationTable}에 오프셋으로 기록합니다.
+     */
+    private static final class LiteralCollector {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final TokenType kind;
+        private final SourceLocationTable.Builder locations = SourceLocationTable.builder();
+        private long[] numbers;
+        private int[] scales;
+        private String[] strings;
+        private int size;
+
+        private LiteralCollector(final TokenType kind) {
+            this.kind = kind;
+            switch (kind) {
+                case INTEGER -> numbers = new long[INITIAL_CAPACITY];
+                case DECIMAL -> {
+                    numbers = new long[INITIAL_CAPACITY];
+                    scales = new int[INITIAL_CAPACITY];
+                }
+                default -> strings = new String[INITIAL_CAPACITY];
+            }
+        }
+
+        private void add(final TokenStream tokenStream) {
+            if (size == capacity()) {
+                grow();
+            }
+            tokenStream.recordCurrentLocation(locations);
+
+            switch (kind) {
+                case INTEGER -> numbers[size] = tokenStream.currentNumber();
+                case DECIMAL -> {
+                    numbers[size] = tokenStream.currentNumber();
+                    scales[size] = tokenStream.currentScale();
+                }
+                default -> strings[size] = tokenStream.currentValue();
+            }
+            size++;
+            tokenStream.advance();
+        }
+
+        private int capacity() {
+            return numbers != null ? numbers.length : strings.length;
+        }
+
+        private void grow() {
+            final int capacity = size * 2;
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, capacity);
+            }
+            if (scales != null) {
+                scales = Arrays.copyOf(scales, capacity);
+            }
+            if (strings != null) {
+                strings = Arrays.copyOf(strings, capacity);
+            }
+        }
+
+        private LiteralValueList toLiteralValues() {
+            final SourceLocationTable table = locations.build();
+            return switch (kind) {
+                case INTEGER -> LiteralValueList.ofIntegers(numbers, size, table);
+                case DECIMAL -> LiteralValueList.ofDecimals(numbers, scales, size, table);
+                default -> LiteralValueList.ofStrings(strings, size, table);
+            };
+        }
+
+        /**
+         * 모은 값을 원래 위치를 가진 리터럴 노드 목록으로 바꿉니다.
+         */
+        private List<Expression> toExpressions() {
+            final SourceLocationTable table = locations.build();
+            final List<Expression> values = new ArrayList<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                final SourceLocation location = table.get(i);
+                values.add(switch (kind) {
+                    case INTEGER -> new IntegerLiteral(numbers[i], location);
+                    case DECIMAL -> new DecimalLiteral(numbers[i], scales[i], location);
+                    default -> new StringLiteral(strings[i], location);
+                });
+            }
+            return values;
+        }
+    }
+}
@@ -20,10 +20,13 @@ import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.IsNotNullExpression;
 import com.jaeyeonling.ast.expression.IsNullExpression;
 import com.jaeyeonling.ast.expression.LikeExpression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.NotBetweenExpression;
 import com.jaeyeonling.ast.expression.NotInExpression;
 import com.jaeyeonling.ast.expression.NotLikeExpression;
 import com.jaeyeonling.ast.expression.NullLiteral;
+import com.jaeyeonling.ast.expression.NumericLiteral;
+import com.jaeyeonling.ast.expression.ParameterExpression;
 import com.jaeyeonling.ast.expression.StringLiteral;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import com.jaeyeonling.ast.table.Table;
@@ -107,6 +110,11 @@ public abstract class AbstractAstVisitor<T> implements AstVisitor<T> {
         return null;
     }
 
+    @Override
+    public T visitLogicalExpression(LogicalExpression logicalExpression) {
+        return null;
+    }
+
     // Expressions - Literals
     @Override
     public T visitIntegerLiteral(IntegerLiteral integerLiteral) {
@@ -118,6 +126,11 @@ public abstract class AbstractAstVisitor<T> implements AstVisitor<T> {
         return null;
     }
 
+    @Override
+    public T visitNumericLiteral(NumericLiteral numericLiteral) {
+        return null;
+    }
+
     @Override
     public T visitStringLiteral(StringLiteral stringLiteral) {
         return null;
@@ -133,6 +146,11 @@ public abstract class AbstractAstVisitor<T> implements AstVisitor<T> {
         return null;
     }
 
+    @Override
+    public T visitParameterExpression(ParameterExpression parameterExpression) {
+        return null;
+    }
+
     // Expressions - Special Operators
     @Override
     public T visitLikeExpression(LikeExpression likeExpression) {
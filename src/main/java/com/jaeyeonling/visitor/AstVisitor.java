@@ -20,10 +20,13 @@ import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.IsNotNullExpression;
 import com.jaeyeonling.ast.expression.IsNullExpression;
 import com.jaeyeonling.ast.expression.LikeExpression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.NotBetweenExpression;
 import com.jaeyeonling.ast.expression.NotInExpression;
 import com.jaeyeonling.ast.expression.NotLikeExpression;
 import com.jaeyeonling.ast.expression.NullLiteral;
+import com.jaeyeonling.ast.expression.NumericLiteral;
+import com.jaeyeonling.ast.expression.ParameterExpression;
 import com.jaeyeonling.ast.expression.StringLiteral;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import com.jaeyeonling.ast.table.Table;
@@ -66,16 +69,22 @@ public interface AstVisitor<T> {
 
     T visitBinaryOperatorExpression(BinaryOperatorExpression binaryOperatorExpression);
 
+    T visitLogicalExpression(LogicalExpression logicalExpression);
+
     T visitIntegerLiteral(IntegerLiteral integerLiteral);
 
     T visitDecimalLiteral(DecimalLiteral decimalLiteral);
 
+    T visitNumericLiteral(NumericLiteral numericLiteral);
+
     T visitStringLiteral(StringLiteral stringLiteral);
 
     T visitBooleanLiteral(BooleanLiteral booleanLiteral);
 
     T visitNullLiteral(NullLiteral nullLiteral);
 
+    T visitParameterExpression(ParameterExpression parameterExpression);
+
     T visitLikeExpression(LikeExpression likeExpression);
 
     T visitNotLikeExpression(NotLikeExpression notLikeExpression);
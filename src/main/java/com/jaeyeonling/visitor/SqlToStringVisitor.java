@@ -13,6 +13,7 @@ import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
 import com.jaeyeonling.ast.expression.BooleanLiteral;
 import com.jaeyeonling.ast.expression.ColumnReference;
 import com.jaeyeonling.ast.expression.DecimalLiteral;
+import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.ExpressionSelectItem;
 import com.jaeyeonling.ast.expression.FunctionCall;
 import com.jaeyeonling.ast.expression.InExpression;
@@ -20,14 +21,19 @@ import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.IsNotNullExpression;
 import com.jaeyeonling.ast.expression.IsNullExpression;
 import com.jaeyeonling.ast.expression.LikeExpression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.NotBetweenExpression;
 import com.jaeyeonling.ast.expression.NotInExpression;
 import com.jaeyeonling.ast.expression.NotLikeExpression;
 import com.jaeyeonling.ast.expression.NullLiteral;
+import com.jaeyeonling.ast.expression.NumericLiteral;
+import com.jaeyeonling.ast.expression.ParameterExpression;
 import com.jaeyeonling.ast.expression.StringLiteral;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import com.jaeyeonling.ast.table.Table;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.stream.Collectors;
 
 /**
@@ -180,13 +186,53 @@ public final class SqlToStringVisitor extends AbstractAstVisitor<String> {
                 .orElse(expr);
     }
 
+    /**
+     * 이항 연산자 표현식을 문자열로 변환합니다.
+     * - 긴 AND/OR 사슬도 호출 스택이 자라지 않도록 명시적 스택으로 중위 순회하며 하나의 버퍼에 이어 붙임
+     * - 단항 NOT(right가 null)은 "NOT 피연산자"로 출력
+     */
     @Override
     public String visitBinaryOperatorExpression(final BinaryOperatorExpression binaryOperatorExpression) {
-        final String left = binaryOperatorExpression.left().accept(this);
-        final String right = binaryOperatorExpression.right().accept(this);
-        final String operator = binaryOperatorExpression.operator().symbol();
+        final StringBuilder sql = new StringBuilder();
+        // 스택에는 아직 출력하지 않은 표현식 또는 그대로 붙일 문자열이 쌓임
+        final Deque<Object> pending = new ArrayDeque<>();
+        pending.push(binaryOperatorExpression);
+
+        while (!pending.isEmpty()) {
+            final Object next = pending.pop();
+            if (next instanceof BinaryOperatorExpression binary) {
+                final String operator = binary.operator().symbol();
+                if (binary.right() == null) {
+                    pending.push(binary.left());
+                    pending.push(operator + " ");
+                } else {
+                    pending.push(binary.right());
+                    pending.push(" " + operator + " ");
+                    pending.push(binary.left());
+                }
+            } else if (next instanceof Expression expression) {
+                sql.append(expression.accept(this));
+            } else {
+                sql.append((String) next);
+            }
+        }
 
-        return left + " " + operator + " " + right;
+        return sql.toString();
+    }
+
+    @Override
+    public String visitLogicalExpression(final LogicalExpression logicalExpression) {
+        final String separator = " " + logicalExpression.operator().symbol() + " ";
+        final StringBuilder sql = new StringBuilder();
+
+        for (final Expression operand : logicalExpression.operands()) {
+            if (!sql.isEmpty()) {
+                sql.append(separator);
+            }
+            sql.append(operand.accept(this));
+        }
+
+        return sql.toString();
     }
 
     @Override
@@ -196,7 +242,12 @@ public final class SqlToStringVisitor extends AbstractAstVisitor<String> {
 
     @Override
     public String visitDecimalLiteral(final DecimalLiteral decimalLiteral) {
-        return String.valueOf(decimalLiteral.value());
+        return decimalLiteral.toBigDecimal().toPlainString();
+    }
+
+    @Override
+    public String visitNumericLiteral(final NumericLiteral numericLiteral) {
+        return numericLiteral.value().toPlainString();
     }
 
     @Override
@@ -214,6 +265,11 @@ public final class SqlToStringVisitor extends AbstractAstVisitor<String> {
         return "NULL";
     }
 
+    @Override
+    public String visitParameterExpression(final ParameterExpression parameterExpression) {
+        return parameterExpression.isNamed() ? ":" + parameterExpression.name() : "?";
+    }
+
     @Override
     public String visitLikeExpression(final LikeExpression likeExpression) {
         return likeExpression.expression().accept(this) +
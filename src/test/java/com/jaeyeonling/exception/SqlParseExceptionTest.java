@@ -0,0 +1,197 @@
+package com.jaeyeonling.exception;
+
+import com.jaeyeonling.lexer.SqlLexer;
+import com.jaeyeonling.lexer.TokenType;
+import com.jaeyeonling.parser.SqlParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DisplayName("SqlParseException 테스트")
+class SqlParseExceptionTest {
+
+    @Test
+    @DisplayName("렉싱 예외는 오류 코드와 위치를 구조화된 값으로 담는다")
+    void testLexicalExceptionData() {
+        // given
+        final String sql = "SELECT name\nFROM users WHERE id = #";
+
+        // when
+        final LexicalException exception = catchThrowableOfType(
+                () -> new SqlLexer(sql).tokenize(), LexicalException.class);
+
+        // then
+        assertThat(exception.code()).isEqualTo(ErrorCode.UNEXPECTED_CHARACTER);
+        assertThat(exception.line()).isEqualTo(2);
+        assertThat(exception.column()).isEqualTo(23);
+        assertThat(exception.token()).isEmpty();
+        assertThat(exception.getMessage())
+                .contains("사용할 수 없는 문자입니다: '#'")
+                .contains("위치: 2행 23열");
+    }
+
+    @Test
+    @DisplayName("기대한 토큰이 없으면 기대한 타입과 실제 토큰을 담는다")
+    void testExpectedTypes() {
+        // given
+        final String sql = "SELECT name FROM users ORDER name";
+
+        // when
+        final SyntaxException exception = catchThrowableOfType(
+                () -> new SqlParser(sql).parse(), SyntaxException.class);
+
+        // then
+        assertThat(exception.code()).isEqualTo(ErrorCode.EXPECTED_TOKEN);
+        assertThat(exception.expectedTypes()).containsExactly(TokenType.BY);
+        assertThat(exception.token()).hasValueSatisfying(token ->
+                assertThat(token.value()).isEqualTo("name"));
+        assertThat(exception.getMessage()).contains("(위치: 1행 30열, 토큰: 'name')");
+    }
+
+    @Test
+    @DisplayName("절 순서 오류는 코드와 토큰으로 메시지를 만든다")
+    void testMisplacedClause() {
+        // given
+        final String sql = "SELECT name FROM users LIMIT 10 WHERE id = 1";
+
+        // when
+        final SyntaxException exception = catchThrowableOfType(
+                () -> new SqlParser(sql).parse(), SyntaxException.class);
+
+        // then
+        assertThat(exception.code()).isEqualTo(ErrorCode.MISPLACED_CLAUSE);
+        assertThat(exception.getMessage())
+                .startsWith("'WHERE' 절이 잘못된 위치에 있습니다.")
+                .contains("현재 위치: 1행 33열");
+    }
+
+    @Test
+    @DisplayName("메시지는 처음 요청될 때 한 번만 만든다")
+    void testMessageRenderedOnce() {
+        // given
+        final LexicalException exception = new LexicalException(ErrorCode.UNTERMINATED_STRING, 3, 7);
+
+        // when
+        final String first = exception.getMessage();
+        final String second = exception.getMessage();
+
+        // then
+        assertThat(first).isEqualTo("종료되지 않은 문자열 (위치: 3행 7열)");
+        assertThat(second).isSameAs(first);
+        assertThat(exception).hasToString(LexicalException.class.getName() + ": " + first);
+    }
+
+    @Test
+    @DisplayName("문자열 메시지로 만든 예외는 메시지를 그대로 사용한다")
+    void testPlainMessage() {
+        // given
+        final SyntaxException exception = new SyntaxException("100% 잘못된 구문");
+
+        // when & then
+        assertThat(exception.code()).isEqualTo(ErrorCode.MESSAGE);
+        assertThat(exception.getMessage()).isEqualTo("100% 잘못된 구문");
+        assertThat(exception.line()).isEqualTo(SqlParseException.UNKNOWN_POSITION);
+    }
+
+    @Test
+    @DisplayName("기본 파서는 스택 트레이스를 수집한다")
+    void testStackTraceByDefault() {
+        // given
+        final SqlParser parser = SqlParser.builder().build();
+
+        // when
+        final SyntaxException exception = catchThrowableOfType(
+                () -> parser.parse("SELECT name FROM users ORDER name"), SyntaxException.class);
+
+        // then
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("fast-fail 파서의 구문 오류는 스택 트레이스 없이 구조화된 값과 메시지를 담는다")
+    void testFastFailSyntaxError() {
+        // given
+        final SqlParser parser = SqlParser.builder().fastFail(true).build();
+
+        // when
+        final SyntaxException exception = catchThrowableOfType(
+                () -> parser.parse("SELECT name FROM users ORDER name"), SyntaxException.class);
+
+        // then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.code()).isEqualTo(ErrorCode.EXPECTED_TOKEN);
+        assertThat(exception.expectedTypes()).containsExactly(TokenType.BY);
+        assertThat(exception.getMessage()).contains("(위치: 1행 30열, 토큰: 'name')");
+    }
+
+    @Test
+    @DisplayName("fast-fail 파서의 렉싱 오류는 문자열과 Reader 입력 모두 스택 트레이스가 없다")
+    void testFastFailLexicalError() {
+        // given
+        final SqlParser parser = SqlParser.builder().fastFail(true).build();
+        final String sql = "SELECT name FROM users WHERE id = #";
+
+        // when
+        final LexicalException fromString = catchThrowableOfType(
+                () -> parser.parse(sql), LexicalException.class);
+        final LexicalException fromReader = catchThrowableOfType(
+                () -> parser.parse(new StringReader(sql)), LexicalException.class);
+
+        // then
+        assertThat(fromString.getStackTrace()).isEmpty();
+        assertThat(fromReader.getStackTrace()).isEmpty();
+        assertThat(fromString.getMessage()).contains("사용할 수 없는 문자입니다: '#'");
+        assertThat(fromReader.getMessage()).isEqualTo(fromString.getMessage());
+    }
+
+    @Test
+    @DisplayName("fast-fail 설정은 풀에서 같은 렉서를 빌리는 다른 파서에 영향을 주지 않는다")
+    void testFastFailIsPerParser() {
+        // given
+        final SqlParser fastFail = SqlParser.builder().fastFail(true).build();
+        final SqlParser tooling = SqlParser.builder().build();
+        final String sql = "SELECT name FROM users WHERE id = #";
+
+        // when
+        final LexicalException first = catchThrowableOfType(() -> fastFail.parse(sql), LexicalException.class);
+        final LexicalException second = catchThrowableOfType(() -> tooling.parse(sql), LexicalException.class);
+
+        // then
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(second.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("구문 예외는 직렬화 후에도 코드, 토큰, 기대 타입, 메시지를 유지한다")
+    void testSerialization() throws Exception {
+        // given
+        final SyntaxException exception = catchThrowableOfType(
+                () -> new SqlParser("SELECT name FROM users ORDER name").parse(), SyntaxException.class);
+
+        // when
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        final SyntaxException restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (SyntaxException) in.readObject();
+        }
+
+        // then
+        assertThat(restored.getMessage()).isEqualTo(exception.getMessage());
+        assertThat(restored.code()).isEqualTo(ErrorCode.EXPECTED_TOKEN);
+        assertThat(restored.expectedTypes()).containsExactly(TokenType.BY);
+        assertThat(restored.token()).isEqualTo(exception.token());
+        assertThat(restored.line()).isEqualTo(1);
+        assertThat(restored.column()).isEqualTo(30);
+    }
+}
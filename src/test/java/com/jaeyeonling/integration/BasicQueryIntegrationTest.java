@@ -1,8 +1,8 @@
 package com.jaeyeonling.integration;
 
 import com.jaeyeonling.ast.clause.LimitClause;
-import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
 import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import com.jaeyeonling.ast.table.Table;
 import com.jaeyeonling.ast.table.TableReference;
@@ -165,7 +165,7 @@ class BasicQueryIntegrationTest {
         // then
         assertThat(stmt.whereClause()).isPresent();
         final Expression whereExpr = stmt.whereClause().get().condition();
-        assertThat(whereExpr).isInstanceOf(BinaryOperatorExpression.class);
+        assertThat(whereExpr).isInstanceOf(LogicalExpression.class);
 
         // 재구성
         final String reconstructed = stmt.accept(sqlToStringVisitor);
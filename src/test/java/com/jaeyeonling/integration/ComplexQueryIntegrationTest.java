@@ -10,6 +10,7 @@ import com.jaeyeonling.ast.expression.ColumnReference;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.ExpressionSelectItem;
 import com.jaeyeonling.ast.expression.IntegerLiteral;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.Operator;
 import com.jaeyeonling.ast.expression.SelectItem;
 import com.jaeyeonling.ast.statement.SelectStatement;
@@ -64,7 +65,7 @@ class ComplexQueryIntegrationTest {
 
         // WHERE 절 검증
         final WhereClause whereClause = stmt.whereClause().orElseThrow();
-        assertThat(whereClause.condition()).isInstanceOf(BinaryOperatorExpression.class);
+        assertThat(whereClause.condition()).isInstanceOf(LogicalExpression.class);
 
         // ORDER BY 절 검증
         final OrderByClause orderByClause = stmt.orderByClause().orElseThrow();
@@ -94,8 +95,8 @@ class ComplexQueryIntegrationTest {
         final Expression condition = whereClause.condition();
 
         // 최상위는 AND 연산자여야 함
-        assertThat(condition).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression topAnd = (BinaryOperatorExpression) condition;
+        assertThat(condition).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression topAnd = (LogicalExpression) condition;
         assertThat(topAnd.operator()).isEqualTo(Operator.AND);
     }
 
@@ -192,9 +193,10 @@ class ComplexQueryIntegrationTest {
         final Expression condition = whereClause.condition();
 
         // 최상위는 OR 연산자여야 함
-        assertThat(condition).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression topOr = (BinaryOperatorExpression) condition;
+        assertThat(condition).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression topOr = (LogicalExpression) condition;
         assertThat(topOr.operator()).isEqualTo(Operator.OR);
+        assertThat(topOr.operands()).hasSize(3);
     }
 
     @Test
@@ -314,9 +316,12 @@ class ComplexQueryIntegrationTest {
         final WhereClause whereClause = stmt.whereClause().orElseThrow();
         final Expression condition = whereClause.condition();
 
-        // 연속된 AND는 왼쪽 결합으로 처리됨
-        // ((age >= 18 AND age <= 65) AND status != 'banned')
-        assertThat(condition).isInstanceOf(BinaryOperatorExpression.class);
+        // 연속된 AND는 세 항을 가진 하나의 논리 표현식으로 처리됨
+        // (age >= 18 AND age <= 65 AND status != 'banned')
+        assertThat(condition).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression and = (LogicalExpression) condition;
+        assertThat(and.operator()).isEqualTo(Operator.AND);
+        assertThat(and.operands()).hasSize(3);
     }
 
     @Test
@@ -0,0 +1,196 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.exception.LexicalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IncrementalLexer 테스트")
+class IncrementalLexerTest {
+
+    private static final String SQL = """
+            SELECT u.id, u.name, 'it''s' AS quote -- trailing comment
+            FROM users u
+            WHERE u.age >= 10.5 AND u.status <> 'done'
+              -- whole line comment
+              AND u.score BETWEEN 1 AND 100
+            ORDER BY u.id DESC""";
+
+    private final IncrementalLexer incrementalLexer = new IncrementalLexer();
+
+    static Stream<TextEdit> edits() {
+        return Stream.of(
+                TextEdit.insert(7, "x"),                 // 식별자 앞에 삽입
+                TextEdit.insert(11, "_key"),             // 식별자 끝에 이어 붙임
+                TextEdit.insert(44, "\n"),               // 주석 안에 줄바꿈을 넣어 주석 뒷부분이 토큰이 됨
+                TextEdit.delete(38, 2),                  // 주석 시작을 지움
+                TextEdit.insert(37, "-"),                // 주석 앞에 - 를 더함
+                TextEdit.insert(24, "''"),               // 문자열 안에 이스케이프 추가
+                TextEdit.insert(28, "'x'"),             // 닫는 따옴표가 이스케이프되어 문자열이 이어짐
+                TextEdit.insert(90, "5"),                // 소수 뒤에 숫자 추가
+                new TextEdit(88, 1, "x"),                // 소수점 교체
+                TextEdit.insert(0, "  "),                // 맨 앞 삽입
+                TextEdit.delete(0, 6),                   // 첫 키워드 삭제
+                new TextEdit(0, 10, "SELECT COUNT(*)")   // 앞부분 교체
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("edits")
+    @DisplayName("편집 후 다시 토큰화한 결과가 전체 토큰화와 같다")
+    void testMatchesFullTokenize(final TextEdit edit) {
+        // given
+        final TokenBuffer previous = new SqlLexer(SQL).tokenizeToBuffer();
+
+        // when
+        final TokenBuffer relexed = incrementalLexer.relex(previous, edit);
+
+        // then
+        assertThat(relexed.asList()).containsExactlyElementsOf(new SqlLexer(edit.applyTo(SQL)).tokenize());
+    }
+
+    @Test
+    @DisplayName("무작위 편집을 연달아 적용해도 전체 토큰화와 같다")
+    void testRandomEdits() {
+        // given
+        final Random random = new Random(42);
+        final String[] fragments = {"a", " ", "\n", "'", "''", "--", "-", "1", ".", "5", "<", ">", "=", "x y", ","};
+        String source = SQL;
+        TokenBuffer tokens = new SqlLexer(source).tokenizeToBuffer();
+
+        // when & then
+        int applied = 0;
+        while (applied < 500) {
+            final int offset = random.nextInt(source.length() + 1);
+            final int removedLength = random.nextInt(Math.min(3, source.length() - offset) + 1);
+            final TextEdit edit = new TextEdit(offset, removedLength, fragments[random.nextInt(fragments.length)]);
+            final String edited = edit.applyTo(source);
+            final List<Token> expected;
+            try {
+                expected = new SqlLexer(edited).tokenize();
+            } catch (LexicalException e) {
+                continue; // 닫히지 않은 문자열 등 토큰화할 수 없는 편집은 건너뜀
+            }
+
+            tokens = incrementalLexer.relex(tokens, edit);
+            source = edited;
+            assertThat(tokens.asList()).as("edit %s on:%n%s", edit, source).containsExactlyElementsOf(expected);
+            applied++;
+        }
+    }
+
+    @Test
+    @DisplayName("긴 소스의 가운데를 편집하면 편집 주변만 읽는다")
+    void testReadsOnlyAroundEdit() {
+        // given
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            builder.append("  AND column").append(i).append(" = 'value").append(i).append("' -- note\n");
+        }
+        final String sql = builder.toString();
+        final TokenBuffer previous = new SqlLexer(sql).tokenizeToBuffer();
+        final int offset = sql.indexOf("column2500") + "column".length();
+        final TextEdit edit = TextEdit.insert(offset, "_x");
+        final CountingSequence edited = new CountingSequence(edit.applyTo(sql));
+
+        // when
+        final TokenBuffer relexed = incrementalLexer.relex(previous, edit, edited);
+
+        // then
+        assertThat(edited.reads).isLessThan(100);
+        assertThat(relexed.asList()).containsExactlyElementsOf(new SqlLexer(edited.toString()).tokenize());
+    }
+
+    @Test
+    @DisplayName("이전 버퍼는 변경하지 않는다")
+    void testPreviousBufferUnchanged() {
+        // given
+        final TokenBuffer previous = new SqlLexer(SQL).tokenizeToBuffer();
+        final List<Token> before = List.copyOf(previous.asList());
+
+        // when
+        incrementalLexer.relex(previous, TextEdit.insert(0, "\n\n"));
+
+        // then
+        assertThat(previous.asList()).containsExactlyElementsOf(before);
+    }
+
+    @Test
+    @DisplayName("오프셋 전용 모드에서도 라인/컬럼이 요청될 때 올바르게 계산된다")
+    void testOffsetOnlyMode() {
+        // given
+        final IncrementalLexer offsetOnly = new IncrementalLexer(
+                TokenReaderRegistry.createDefault(), PositionMode.OFFSET_ONLY);
+        final TokenBuffer previous = new SqlLexer(SQL, TokenReaderRegistry.createDefault(), PositionMode.OFFSET_ONLY)
+                .tokenizeToBuffer();
+        final TextEdit edit = TextEdit.insert(40, "\n x,");
+
+        // when
+        final TokenBuffer relexed = offsetOnly.relex(previous, edit);
+
+        // then
+        assertThat(relexed.asList()).containsExactlyElementsOf(new SqlLexer(edit.applyTo(SQL)).tokenize());
+    }
+
+    @Test
+    @DisplayName("편집으로 닫히지 않은 문자열이 생기면 예외가 발생한다")
+    void testUnterminatedString() {
+        // given
+        final TokenBuffer previous = new SqlLexer("SELECT a FROM t").tokenizeToBuffer();
+
+        // when & then
+        assertThatThrownBy(() -> incrementalLexer.relex(previous, TextEdit.insert(9, "'")))
+                .isInstanceOf(LexicalException.class)
+                .hasMessageContaining("종료되지 않은 문자열");
+    }
+
+    @Test
+    @DisplayName("소스 범위를 벗어난 편집은 거부한다")
+    void testEditOutOfRange() {
+        // given
+        final TokenBuffer previous = new SqlLexer("SELECT 1").tokenizeToBuffer();
+
+        // when & then
+        assertThatThrownBy(() -> incrementalLexer.relex(previous, TextEdit.delete(5, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class CountingSequence implements CharSequence {
+
+        private final String source;
+        private int reads = 0;
+
+        private CountingSequence(final String source) {
+            this.source = source;
+        }
+
+        @Override
+        public int length() {
+            return source.length();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            reads++;
+            return source.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return source.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return source;
+        }
+    }
+}
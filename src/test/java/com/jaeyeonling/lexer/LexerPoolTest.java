@@ -0,0 +1,160 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.parser.SqlParser;
+import com.jaeyeonling.visitor.SqlToStringVisitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("렉서 재사용과 LexerPool 테스트")
+class LexerPoolTest {
+
+    @Test
+    @DisplayName("reset한 렉서는 새 렉서와 같은 토큰을 만들고 버퍼를 재사용한다")
+    void testResetReusesBuffer() {
+        // given
+        final SqlLexer lexer = new SqlLexer("SELECT a, 'x''y' FROM t WHERE b >= 10");
+        final TokenBuffer first = lexer.tokenizeToBuffer();
+        final String second = "SELECT name\nFROM users\n-- comment\nWHERE id <> 3.5";
+
+        // when
+        final TokenBuffer reused = lexer.reset(second).tokenizeToBuffer();
+
+        // then
+        assertThat(reused).isSameAs(first);
+        assertThat(reused.asList()).containsExactlyElementsOf(new SqlLexer(second).tokenize());
+    }
+
+    @Test
+    @DisplayName("긴 입력과 짧은 입력을 번갈아 reset해도 결과가 같다")
+    void testResetAcrossScannerKinds() {
+        // given
+        final String longSql = "SELECT " + "a, ".repeat(200) + "b FROM t WHERE c = '" + "x".repeat(500) + "'";
+        final String shortSql = "SELECT 1";
+        final SqlLexer lexer = new SqlLexer("", TokenReaderRegistry.createDefault(), PositionMode.OFFSET_ONLY);
+
+        // when & then
+        for (final String sql : List.of(longSql, shortSql, longSql, longSql + " ", shortSql)) {
+            assertThat(lexer.reset(sql).tokenize()).containsExactlyElementsOf(new SqlLexer(sql).tokenize());
+        }
+    }
+
+    @Test
+    @DisplayName("스레드 로컬 풀은 같은 스레드에 같은 렉서를 빌려준다")
+    void testThreadLocalPoolReusesLexer() {
+        // given
+        final LexerPool pool = LexerPool.threadLocal();
+        final SqlLexer first = pool.acquire("SELECT 1");
+        pool.release(first);
+
+        // when
+        final SqlLexer second = pool.acquire("SELECT 2");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.tokenize().get(1).value()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 중첩해 빌리면 서로 다른 렉서를 받는다")
+    void testNestedAcquireGetsDistinctLexer() {
+        // given
+        final LexerPool pool = LexerPool.threadLocal();
+
+        // when
+        final SqlLexer outer = pool.acquire("SELECT a");
+        final SqlLexer inner = pool.acquire("SELECT b");
+
+        // then
+        assertThat(inner).isNotSameAs(outer);
+        assertThat(outer.tokenize().get(1).value()).isEqualTo("a");
+        assertThat(inner.tokenize().get(1).value()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("공유 풀은 최대 개수까지만 렉서를 보관한다")
+    void testSharedPoolIsBounded() {
+        // given
+        final LexerPool pool = LexerPool.shared(1);
+        final SqlLexer first = pool.acquire("SELECT 1");
+        final SqlLexer second = pool.acquire("SELECT 2");
+        pool.release(first);
+        pool.release(second);
+
+        // when
+        final SqlLexer reused = pool.acquire("SELECT 3");
+        final SqlLexer created = pool.acquire("SELECT 4");
+
+        // then
+        assertThat(reused).isSameAs(first);
+        assertThat(created).isNotSameAs(first).isNotSameAs(second);
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 공유 풀로 동시에 파싱해도 결과가 섞이지 않는다")
+    void testParallelParsingWithSharedPool() throws Exception {
+        // given
+        final LexerPool pool = LexerPool.shared(4);
+        final List<Future<SelectStatement>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                final String sql = "SELECT column" + i + " FROM table" + i + " WHERE id = " + i;
+                results.add(executor.submit(() -> new SqlParser(sql, pool).parse()));
+            }
+        }
+
+        // then
+        final SqlToStringVisitor visitor = new SqlToStringVisitor();
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get().accept(visitor)).contains("column" + i, "table" + i, "= " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("풀에 돌려준 렉서는 입력을 놓고 너무 커진 토큰 버퍼를 줄인다")
+    void testReleaseDetachesInputAndTrimsBuffer() {
+        // given
+        final LexerPool pool = LexerPool.threadLocal();
+        final String largeSql = "SELECT " + "a, ".repeat(5_000) + "b FROM t";
+        final SqlLexer lexer = pool.acquire(largeSql);
+        final TokenBuffer tokens = lexer.tokenizeToBuffer();
+        assertThat(tokens.capacity()).isGreaterThan(4096);
+
+        // when
+        pool.release(lexer);
+
+        // then
+        assertThat(tokens.source().toString()).isEmpty();
+        assertThat(tokens.size()).isZero();
+        assertThat(tokens.capacity()).isEqualTo(64);
+        assertThat(pool.acquire("SELECT 1").tokenize()).containsExactlyElementsOf(new SqlLexer("SELECT 1").tokenize());
+    }
+
+    @Test
+    @DisplayName("풀에 돌려준 렉서는 보통 크기의 토큰 버퍼를 그대로 보관한다")
+    void testReleaseKeepsTypicalBuffer() {
+        // given
+        final LexerPool pool = LexerPool.shared(1);
+        final SqlLexer lexer = pool.acquire("SELECT " + "a, ".repeat(100) + "b FROM t");
+        final TokenBuffer tokens = lexer.tokenizeToBuffer();
+        final int capacity = tokens.capacity();
+
+        // when
+        pool.release(lexer);
+
+        // then
+        assertThat(tokens.source().toString()).isEmpty();
+        assertThat(tokens.capacity()).isEqualTo(capacity);
+        assertThat(pool.acquire("SELECT 2").tokenizeToBuffer()).isSameAs(tokens);
+    }
+}
@@ -0,0 +1,87 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlLexer 진단 모드 테스트")
+class SqlLexerDiagnosticsTest {
+
+    @Test
+    @DisplayName("오류를 만나도 멈추지 않고 모든 오류를 기록한다")
+    void testCollectsEveryError() {
+        // given
+        final String sql = "SELECT # a, @@ b\nFROM t WHERE x ! 1 AND y = 'open";
+
+        // when
+        final DiagnosticResult result = new SqlLexer(sql).tokenizeWithDiagnostics();
+
+        // then
+        assertThat(result.diagnostics())
+                .extracting(LexicalDiagnostic::code)
+                .containsExactly(
+                        ErrorCode.UNEXPECTED_CHARACTER,
+                        ErrorCode.UNEXPECTED_CHARACTER,
+                        ErrorCode.INVALID_OPERATOR,
+                        ErrorCode.UNTERMINATED_STRING);
+        assertThat(result.diagnostics())
+                .extracting(diagnostic -> sql.substring(diagnostic.startIndex(), diagnostic.endIndex()))
+                .containsExactly("#", "@@", "!", "'open");
+        assertThat(result.diagnostics().get(2).line()).isEqualTo(2);
+        assertThat(result.diagnostics().get(0).message()).contains("'#'");
+    }
+
+    @Test
+    @DisplayName("오류 범위는 ERROR 토큰이 되고 나머지 토큰은 그대로 읽는다")
+    void testErrorTokens() {
+        // given
+        final String sql = "SELECT # a, @@ b FROM t";
+
+        // when
+        final List<Token> tokens = new SqlLexer(sql).tokenizeWithDiagnostics().tokens().asList();
+
+        // then
+        assertThat(tokens)
+                .extracting(Token::type)
+                .containsExactly(
+                        TokenType.SELECT, TokenType.ERROR, TokenType.IDENTIFIER, TokenType.COMMA,
+                        TokenType.ERROR, TokenType.IDENTIFIER, TokenType.FROM, TokenType.IDENTIFIER,
+                        TokenType.EOF);
+        assertThat(tokens.get(4).value()).isEqualTo("@@");
+        assertThat(tokens.get(4).column()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("오류가 없으면 일반 토큰화와 같은 결과를 낸다")
+    void testNoErrors() {
+        // given
+        final String sql = "SELECT a, 'b' FROM t WHERE c >= 1.5";
+
+        // when
+        final DiagnosticResult result = new SqlLexer(sql).tokenizeWithDiagnostics();
+
+        // then
+        assertThat(result.hasErrors()).isFalse();
+        assertThat(result.tokens().asList()).containsExactlyElementsOf(new SqlLexer(sql).tokenize());
+    }
+
+    @Test
+    @DisplayName("오류가 많은 긴 스크립트도 한 번에 모든 오류를 보고한다")
+    void testLargeScript() {
+        // given
+        final String sql = "SELECT a # b ! c\n".repeat(10_000);
+
+        // when
+        final DiagnosticResult result = new SqlLexer(sql, TokenReaderRegistry.createDefault(), PositionMode.OFFSET_ONLY)
+                .tokenizeWithDiagnostics();
+
+        // then
+        assertThat(result.diagnostics()).hasSize(20_000);
+        assertThat(result.diagnostics().getLast().line()).isEqualTo(10_000);
+        assertThat(result.tokens().size()).isEqualTo(10_000 * 6 + 1);
+    }
+}
@@ -172,6 +172,28 @@ class SqlLexerTest {
                 .containsExactly("3.14", "0.5", "123.456", ".789");
     }
 
+    @Test
+    @DisplayName("숫자 토큰은 읽으면서 계산한 값을 버퍼에 함께 저장한다")
+    void testNumberValuesDecodedDuringScan() {
+        // given
+        final String sql = "42 9223372036854775807 9223372036854775808 3.14 .05 1.00000000000000000001";
+        final SqlLexer lexer = new SqlLexer(sql);
+
+        // when
+        final TokenBuffer tokens = lexer.tokenizeToBuffer();
+
+        // then
+        assertThat(tokens.number(0)).isEqualTo(42L);
+        assertThat(tokens.number(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(tokens.number(2)).isEqualTo(NumberDecoder.OVERFLOW);
+        assertThat(tokens.number(3)).isEqualTo(314L);
+        assertThat(tokens.scale(3)).isEqualTo(2);
+        assertThat(tokens.number(4)).isEqualTo(5L);
+        assertThat(tokens.scale(4)).isEqualTo(2);
+        assertThat(tokens.number(5)).isEqualTo(NumberDecoder.OVERFLOW);
+        assertThat(tokens.column(5)).isEqualTo(sql.lastIndexOf(' ') + 2);
+    }
+
     @Test
     @DisplayName("문자열 리터럴을 올바르게 토큰화한다")
     void testStringLiteralTokenization() {
@@ -337,6 +359,67 @@ class SqlLexerTest {
         assertThat(fromToken.column()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("오프셋 전용 모드도 요청하면 같은 위치 정보를 제공한다")
+    void testOffsetOnlyModeMatchesTrackedPositions() {
+        // given
+        final String sql = "SELECT name,\n  'a''b' -- comment\nFROM users\n\tWHERE id >= 10.5";
+
+        // when
+        final List<Token> tracked = new SqlLexer(sql).tokenize();
+        final List<Token> offsetOnly = new SqlLexer(
+                sql, TokenReaderRegistry.createDefault(), PositionMode.OFFSET_ONLY).tokenize();
+
+        // then
+        assertThat(offsetOnly).containsExactlyElementsOf(tracked);
+    }
+
+    @Test
+    @DisplayName("오프셋 전용 모드에서도 오류 메시지의 위치는 정확하다")
+    void testOffsetOnlyModeErrorPosition() {
+        // given
+        final SqlLexer lexer = new SqlLexer(
+                "SELECT a\nFROM t\n  WHERE @", TokenReaderRegistry.createDefault(), PositionMode.OFFSET_ONLY);
+
+        // when & then
+        assertThatThrownBy(lexer::tokenize)
+                .isInstanceOf(SqlParseException.class)
+                .hasMessageContaining("위치: 3행 9열");
+    }
+
+    @Test
+    @DisplayName("바인드 파라미터 ?와 :name을 토큰화한다")
+    void testParameterTokenization() {
+        // given
+        final String sql = "id = ? AND name = :user_name";
+        final SqlLexer lexer = new SqlLexer(sql);
+
+        // when
+        final List<Token> tokens = lexer.tokenize();
+
+        // then
+        assertThat(tokens)
+                .extracting(Token::type)
+                .containsExactly(IDENTIFIER, TokenType.EQUALS, TokenType.POSITIONAL_PARAMETER, TokenType.AND,
+                        IDENTIFIER, TokenType.EQUALS, TokenType.NAMED_PARAMETER, EOF);
+        assertThat(tokens.get(2).value()).isEqualTo("?");
+        assertThat(tokens.get(6).value()).isEqualTo("user_name");
+        assertThat(tokens.get(6).column()).isEqualTo(19);
+        assertThat(tokens.get(6).endIndex()).isEqualTo(sql.length());
+    }
+
+    @Test
+    @DisplayName("이름이 뒤따르지 않는 콜론은 예외를 발생시킨다")
+    void testColonWithoutName() {
+        // given
+        final SqlLexer lexer = new SqlLexer("SELECT a FROM t WHERE id = : name");
+
+        // when & then
+        assertThatThrownBy(lexer::tokenize)
+                .isInstanceOf(SqlParseException.class)
+                .hasMessageContaining("':'");
+    }
+
     @Test
     @DisplayName("예상치 못한 문자는 예외를 발생시킨다")
     void testUnexpectedCharacter() {
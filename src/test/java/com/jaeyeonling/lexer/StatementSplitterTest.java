@@ -0,0 +1,90 @@
+package com.jaeyeonling.lexer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementSplitter 테스트")
+class StatementSplitterTest {
+
+    private static List<String> texts(final String script) {
+        return StatementSplitter.split(script).stream()
+                .map(range -> range.text(script))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("세미콜론으로 문장을 나누고 마지막 세미콜론은 생략할 수 있다")
+    void testSplitsOnSemicolons() {
+        // given
+        final String script = "SELECT 1; SELECT a FROM t;\nSELECT b FROM u";
+
+        // when
+        final List<String> statements = texts(script);
+
+        // then
+        assertThat(statements).containsExactly("SELECT 1", "SELECT a FROM t", "SELECT b FROM u");
+    }
+
+    @Test
+    @DisplayName("문자열 리터럴 안의 세미콜론과 이스케이프된 따옴표는 경계가 아니다")
+    void testIgnoresSemicolonsInStrings() {
+        // given
+        final String script = "SELECT 'a;b' FROM t; SELECT 'it''s;' FROM t; SELECT 'x\\';' FROM t";
+
+        // when
+        final List<String> statements = texts(script);
+
+        // then
+        assertThat(statements).containsExactly(
+                "SELECT 'a;b' FROM t",
+                "SELECT 'it''s;' FROM t",
+                "SELECT 'x\\';' FROM t");
+    }
+
+    @Test
+    @DisplayName("주석 안의 세미콜론은 무시하고 공백과 주석만 있는 문장은 건너뛴다")
+    void testIgnoresCommentsAndEmptyStatements() {
+        // given
+        final String script = "-- header; not a statement\n;;  \n SELECT 1 -- trailing; comment\n; -- only comment\n";
+
+        // when
+        final List<StatementRange> ranges = StatementSplitter.split(script);
+
+        // then
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.getFirst().text(script)).isEqualTo("SELECT 1 -- trailing; comment\n");
+        assertThat(ranges.getFirst().line()).isEqualTo(3);
+        assertThat(ranges.getFirst().column()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 줄 문자열의 줄바꿈도 다음 문장의 시작 라인에 반영된다")
+    void testTracksLinesInsideStrings() {
+        // given
+        final String script = "SELECT 'a\nb\nc' FROM t;\n  SELECT 2";
+
+        // when
+        final List<StatementRange> ranges = StatementSplitter.split(script);
+
+        // then
+        assertThat(ranges).extracting(StatementRange::line).containsExactly(1, 4);
+        assertThat(ranges.get(1).column()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 문자열은 스크립트 끝까지를 한 문장으로 본다")
+    void testUnterminatedStringRunsToEnd() {
+        // given
+        final String script = "SELECT 1; SELECT 'open; SELECT 2";
+
+        // when
+        final List<String> statements = texts(script);
+
+        // then
+        assertThat(statements).containsExactly("SELECT 1", "SELECT 'open; SELECT 2");
+    }
+}
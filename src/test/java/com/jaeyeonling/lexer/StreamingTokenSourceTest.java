@@ -0,0 +1,113 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.parser.TokenStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StreamingTokenSource 테스트")
+class StreamingTokenSourceTest {
+
+    private static final String SQL = """
+            SELECT u.id, u.very_long_identifier_name_that_crosses_windows AS alias -- comment spanning the boundary
+            FROM users u
+            WHERE u.name = 'it''s a fairly long string literal \\' with escapes'
+              AND u.score >= 123.456 AND u.age <> 30 AND u.rank != .5
+            ORDER BY u.id DESC LIMIT 10""";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 16, 64, 8192})
+    @DisplayName("윈도우 경계에 걸친 토큰도 전체 토큰화와 같은 결과를 낸다")
+    void testMatchesFullTokenization(final int windowSize) {
+        // given
+        final TokenSource source = new StreamingTokenSource(
+                new StringReader(SQL), TokenReaderRegistry.createDefault(), windowSize);
+
+        // when
+        final List<Token> streamed = drain(source);
+
+        // then
+        assertThat(streamed).containsExactlyElementsOf(new SqlLexer(SQL).tokenize());
+    }
+
+    @Test
+    @DisplayName("CharBuffer 입력을 복사 없이 토큰화한다")
+    void testCharBufferInput() {
+        // given
+        final TokenSource source = new StreamingTokenSource(CharBuffer.wrap(SQL));
+
+        // when
+        final List<Token> streamed = drain(source);
+
+        // then
+        assertThat(streamed).containsExactlyElementsOf(new SqlLexer(SQL).tokenize());
+    }
+
+    @Test
+    @DisplayName("입력 끝 이후에는 계속 EOF 토큰을 반환한다")
+    void testRepeatsEofToken() {
+        // given
+        final TokenSource source = new StreamingTokenSource(new StringReader("a"));
+
+        // when
+        source.next();
+
+        // then
+        assertThat(source.next().type()).isEqualTo(TokenType.EOF);
+        assertThat(source.next().type()).isEqualTo(TokenType.EOF);
+    }
+
+    @Test
+    @DisplayName("종료되지 않은 문자열은 스트리밍 중에도 예외를 발생시킨다")
+    void testUnterminatedString() {
+        // given
+        final TokenSource source = new StreamingTokenSource(
+                new StringReader("SELECT 'abc"), TokenReaderRegistry.createDefault(), 4);
+
+        // when
+        source.next();
+
+        // then
+        assertThatThrownBy(source::next)
+                .isInstanceOf(SqlParseException.class)
+                .hasMessageContaining("종료되지 않은 문자열");
+    }
+
+    @Test
+    @DisplayName("TokenStream은 토큰 공급자 위에서 제한된 룩어헤드로 동작한다")
+    void testTokenStreamOnSource() {
+        // given
+        final TokenStream tokenStream = new TokenStream(new StreamingTokenSource(new StringReader("SELECT a FROM t")));
+
+        // when & then
+        assertThat(tokenStream.advanceIfMatch(TokenType.SELECT)).isTrue();
+        assertThat(tokenStream.checkAt(1, TokenType.FROM)).isTrue();
+        assertThat(tokenStream.advance().value()).isEqualTo("a");
+        assertThat(tokenStream.previousType()).isEqualTo(TokenType.IDENTIFIER);
+        assertThat(tokenStream.peekAt(1).value()).isEqualTo("t");
+        assertThat(tokenStream.checkAt(5, TokenType.EOF)).isFalse();
+        tokenStream.advance();
+        tokenStream.advance();
+        assertThat(tokenStream.isAtEnd()).isTrue();
+    }
+
+    private static List<Token> drain(final TokenSource source) {
+        final List<Token> tokens = new ArrayList<>();
+        Token token;
+        do {
+            token = source.next();
+            tokens.add(token);
+        } while (token.type() != TokenType.EOF);
+        return tokens;
+    }
+}
@@ -0,0 +1,199 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.ast.clause.GroupByClause;
+import com.jaeyeonling.ast.expression.ColumnReference;
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.parser.SqlParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SymbolTable 테스트")
+class SymbolTableTest {
+
+    @Test
+    @DisplayName("같은 내용의 소스 범위는 같은 ID와 같은 문자열 인스턴스를 받는다")
+    void testInternReturnsCanonicalInstance() {
+        // given
+        final SymbolTable symbols = SymbolTable.local();
+        final String source = "name, id, name";
+
+        // when
+        final int firstId = symbols.internId(source, 0, 4);
+        final int secondId = symbols.internId(source, 10, 14);
+        final int otherId = symbols.internId(source, 6, 8);
+
+        // then
+        assertThat(secondId).isEqualTo(firstId);
+        assertThat(otherId).isNotEqualTo(firstId);
+        assertThat(symbols.intern(source, 10, 14)).isSameAs(symbols.symbol(firstId)).isEqualTo("name");
+        assertThat(symbols.id("id")).isEqualTo(otherId);
+        assertThat(symbols.id("missing")).isEqualTo(SymbolTable.NO_ID);
+        assertThat(symbols.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("테이블이 늘어나도 ID는 등록 순서대로 유지된다")
+    void testIdsSurviveGrowth() {
+        // given
+        final SymbolTable symbols = SymbolTable.local();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            assertThat(symbols.intern("column_" + i)).isEqualTo("column_" + i);
+        }
+
+        // then
+        assertThat(symbols.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(symbols.id("column_" + i)).isEqualTo(i);
+            assertThat(symbols.symbol(i)).isEqualTo("column_" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("제한된 테이블이 가득 차면 새 식별자는 정규화하지 않는다")
+    void testBoundedTableStopsRegistering() {
+        // given
+        final SymbolTable symbols = SymbolTable.shared(2);
+        final String first = symbols.intern("a");
+        symbols.intern("b");
+
+        // when
+        final int overflowId = symbols.internId("c", 0, 1);
+        final String overflow = symbols.intern(new StringBuilder("c"), 0, 1);
+
+        // then
+        assertThat(overflowId).isEqualTo(SymbolTable.NO_ID);
+        assertThat(overflow).isEqualTo("c");
+        assertThat(symbols.intern(new StringBuilder("a"), 0, 1)).isSameAs(first);
+        assertThat(symbols.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기나 등록되지 않은 ID는 예외를 발생시킨다")
+    void testInvalidArguments() {
+        // when & then
+        assertThatThrownBy(() -> SymbolTable.shared(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SymbolTable.local().symbol(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("파서는 한 쿼리 안의 반복 식별자를 같은 인스턴스로 만든다")
+    void testParserInternsRepeatedIdentifiers() {
+        // given
+        final String sql = "SELECT name, COUNT(*) FROM users GROUP BY name ORDER BY name";
+
+        // when
+        final SelectStatement statement = new SqlParser(sql).parse();
+
+        // then
+        final ColumnReference selected = (ColumnReference) statement.selectClause().selectItems().getFirst();
+        final GroupByClause groupBy = statement.groupByClause().orElseThrow();
+        final ColumnReference grouped = (ColumnReference) groupBy.groupingExpressions().getFirst();
+        assertThat(grouped.columnName()).isSameAs(selected.columnName());
+    }
+
+    @Test
+    @DisplayName("공유 테이블을 쓰면 여러 스레드의 파싱 결과가 같은 인스턴스를 공유한다")
+    void testSharedTableAcrossParses() throws Exception {
+        // given
+        final SymbolTable symbols = SymbolTable.shared(1024);
+        final LexerPool pool = LexerPool.shared(4);
+        final List<Future<String>> columnNames = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                final String sql = "SELECT user_id FROM orders WHERE amount > " + i;
+                columnNames.add(executor.submit(() -> {
+                    final SelectStatement statement = new SqlParser(sql, pool, symbols).parse();
+                    return ((ColumnReference) statement.selectClause().selectItems().getFirst()).columnName();
+                }));
+            }
+        }
+
+        // then
+        final String canonical = symbols.symbol(symbols.id("user_id"));
+        for (final Future<String> columnName : columnNames) {
+            assertThat(columnName.get()).isSameAs(canonical);
+        }
+        assertThat(symbols.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회하고 등록해도 같은 내용은 하나의 정규 인스턴스와 ID를 받는다")
+    void testConcurrentInternKeepsCanonicalIdentity() throws Exception {
+        // given
+        final int threads = 8;
+        final int names = 500;
+        final SymbolTable symbols = SymbolTable.shared(names);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<String[]>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * 37;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    final String[] interned = new String[names];
+                    for (int round = 0; round < 20; round++) {
+                        for (int i = 0; i < names; i++) {
+                            final int name = (i + offset) % names;
+                            final String source = "x.column_" + name + ".y";
+                            final String symbol = symbols.intern(source, 2, source.length() - 2);
+                            if (interned[name] == null) {
+                                interned[name] = symbol;
+                            } else if (interned[name] != symbol) {
+                                throw new AssertionError("정규 인스턴스가 바뀌었습니다: " + symbol);
+                            }
+                        }
+                    }
+                    return interned;
+                }));
+            }
+            start.countDown();
+        }
+
+        // then
+        assertThat(symbols.size()).isEqualTo(names);
+        for (int i = 0; i < names; i++) {
+            final int id = symbols.id("column_" + i);
+            assertThat(id).isNotEqualTo(SymbolTable.NO_ID);
+            assertThat(symbols.internId(new StringBuilder("column_" + i), 0, ("column_" + i).length())).isEqualTo(id);
+            for (final Future<String[]> result : results) {
+                assertThat(result.get()[i]).isSameAs(symbols.symbol(id));
+            }
+        }
+        assertThat(symbols.internId("overflow", 0, 8)).isEqualTo(SymbolTable.NO_ID);
+    }
+
+    @Test
+    @DisplayName("토큰 버퍼는 식별자의 심볼 ID를 알려준다")
+    void testTokenBufferSymbolIds() {
+        // given
+        final TokenBuffer tokens = new SqlLexer("SELECT a, b, a FROM t").tokenizeToBuffer();
+        final SymbolTable symbols = SymbolTable.local();
+
+        // when
+        tokens.useSymbols(symbols);
+
+        // then
+        assertThat(tokens.symbolId(0)).isEqualTo(SymbolTable.NO_ID);
+        assertThat(tokens.symbolId(1)).isEqualTo(tokens.symbolId(5));
+        assertThat(tokens.symbolId(3)).isNotEqualTo(tokens.symbolId(1));
+        assertThat(tokens.value(5)).isSameAs(tokens.value(1));
+    }
+}
@@ -0,0 +1,118 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.parser.TokenStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBuffer 테스트")
+class TokenBufferTest {
+
+    @Test
+    @DisplayName("초기 용량을 넘어서도 모든 열이 함께 늘어난다")
+    void testGrowsBeyondInitialCapacity() {
+        // given
+        final TokenBuffer buffer = new TokenBuffer(2);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            buffer.add(TokenType.INTEGER, String.valueOf(i), 1, i + 1, i, i + 1);
+        }
+
+        // then
+        assertThat(buffer.size()).isEqualTo(100);
+        assertThat(buffer.type(99)).isEqualTo(TokenType.INTEGER);
+        assertThat(buffer.value(99)).isEqualTo("99");
+        assertThat(buffer.column(99)).isEqualTo(100);
+        assertThat(buffer.startIndex(99)).isEqualTo(99);
+        assertThat(buffer.endIndex(99)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 인덱스는 예외를 발생시킨다")
+    void testIndexOutOfBounds() {
+        // given
+        final TokenBuffer buffer = new TokenBuffer();
+        buffer.add(TokenType.EOF, "", 1, 1, 0, 0);
+
+        // when & then
+        assertThatThrownBy(() -> buffer.type(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("List 뷰는 버퍼와 같은 토큰을 보여준다")
+    void testListViewMatchesBuffer() {
+        // given
+        final TokenBuffer buffer = new SqlLexer("SELECT name\nFROM users").tokenizeToBuffer();
+
+        // when
+        final List<Token> tokens = buffer.asList();
+
+        // then
+        assertThat(tokens).hasSize(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertThat(tokens.get(i)).isEqualTo(new Token(
+                    buffer.type(i), buffer.value(i), buffer.line(i), buffer.column(i),
+                    buffer.startIndex(i), buffer.endIndex(i)));
+        }
+        assertThat(TokenBuffer.from(tokens)).isSameAs(buffer);
+    }
+
+    @Test
+    @DisplayName("토큰 리스트로부터 버퍼를 만들 수 있다")
+    void testFromTokenList() {
+        // given
+        final List<Token> tokens = List.of(
+                new Token(TokenType.SELECT, "SELECT", 1, 1, 0, 6),
+                new Token(TokenType.STAR, "*", 1, 8, 7, 8),
+                new Token(TokenType.EOF, "", 1, 9, 8, 8)
+        );
+
+        // when
+        final TokenBuffer buffer = TokenBuffer.from(tokens);
+
+        // then
+        assertThat(buffer.asList()).containsExactlyElementsOf(tokens);
+    }
+
+    @Test
+    @DisplayName("TokenStream은 버퍼 위에서 직접 동작한다")
+    void testTokenStreamOnBuffer() {
+        // given
+        final TokenBuffer buffer = new SqlLexer("SELECT a FROM t").tokenizeToBuffer();
+        final TokenStream tokenStream = new TokenStream(buffer);
+
+        // when & then
+        assertThat(tokenStream.advanceIfMatch(TokenType.SELECT)).isTrue();
+        assertThat(tokenStream.peekType()).isEqualTo(TokenType.IDENTIFIER);
+        assertThat(tokenStream.checkAt(1, TokenType.FROM)).isTrue();
+        assertThat(tokenStream.checkAt(10, TokenType.FROM)).isFalse();
+        assertThat(tokenStream.advance().value()).isEqualTo("a");
+        assertThat(tokenStream.previousType()).isEqualTo(TokenType.IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("값을 만들지 않고 덧붙여도 value()와 같은 텍스트가 된다")
+    void testAppendValue() {
+        // given
+        final TokenBuffer buffer = new SqlLexer("SELECT user_id, 'it''s', 12.50 FROM t").tokenizeToBuffer();
+
+        // when
+        final StringBuilder appended = new StringBuilder();
+        for (int i = 0; i < buffer.size(); i++) {
+            buffer.appendValue(i, appended.append('|'));
+        }
+
+        // then
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < buffer.size(); i++) {
+            expected.append('|').append(buffer.value(i));
+        }
+        assertThat(appended.toString()).isEqualTo(expected.toString());
+    }
+}
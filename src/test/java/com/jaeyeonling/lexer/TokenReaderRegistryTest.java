@@ -0,0 +1,121 @@
+package com.jaeyeonling.lexer;
+
+import com.jaeyeonling.lexer.reader.CharStream;
+import com.jaeyeonling.lexer.reader.Position;
+import com.jaeyeonling.lexer.reader.TokenReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenReaderRegistry 테스트")
+class TokenReaderRegistryTest {
+
+    @Test
+    @DisplayName("모든 ASCII 문자에 대해 디스패치 테이블이 순차 탐색과 같은 리더를 선택한다")
+    void testLookupMatchesFindReaderForAscii() {
+        // given
+        final TokenReaderRegistry registry = TokenReaderRegistry.createDefault();
+
+        for (char c = 0; c < 128; c++) {
+            // 다음 문자에 따라 결과가 달라지는 경우(소수, 연산자)도 함께 확인
+            for (final String suffix : List.of("", "1", "=", ".5", "a")) {
+                final String input = c + suffix;
+
+                // when
+                final TokenReader expected = registry.findReader(new CharStream(input)).orElse(null);
+                final TokenReader actual = registry.lookup(new CharStream(input));
+
+                // then
+                assertThat(actual)
+                        .as("input: '%s'", input)
+                        .isSameAs(expected);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("ASCII 범위 밖의 문자는 기본 리더로 읽을 수 없다")
+    @ValueSource(strings = {"가", "é", "☃"})
+    void testLookupReturnsNullForNonAscii(final String input) {
+        // given
+        final TokenReaderRegistry registry = TokenReaderRegistry.createDefault();
+
+        // when
+        final TokenReader reader = registry.lookup(new CharStream(input));
+
+        // then
+        assertThat(reader).isNull();
+    }
+
+    @Test
+    @DisplayName("커스텀 리더는 기본 리더보다 먼저 선택된다")
+    void testCustomReaderTakesPrecedence() {
+        // given - '@name' 형태를 식별자로 읽는 커스텀 리더
+        final TokenReaderRegistry registry = TokenReaderRegistry.createDefault()
+                .registerCustom(new AtIdentifierReader());
+
+        // when
+        final List<Token> tokens = new SqlLexer("SELECT @name FROM users", registry).tokenize();
+
+        // then
+        assertThat(tokens).extracting(Token::type).containsExactly(
+                TokenType.SELECT, TokenType.IDENTIFIER, TokenType.FROM, TokenType.IDENTIFIER, TokenType.EOF
+        );
+        assertThat(tokens.get(1).value()).isEqualTo("@name");
+    }
+
+    @Test
+    @DisplayName("canStartWith를 재정의하지 않은 커스텀 리더는 ASCII 밖의 문자에서도 후보가 된다")
+    void testCustomReaderWithoutHintIsFallbackCandidate() {
+        // given
+        final TokenReader hangulReader = new TokenReader() {
+            @Override
+            public boolean canRead(final CharStream charStream) {
+                return charStream.current() == '가';
+            }
+
+            @Override
+            public Token read(final CharStream charStream) {
+                final Position position = charStream.position();
+                charStream.advance();
+                return new Token(TokenType.IDENTIFIER, "가", position.line(), position.column(),
+                        position.index(), charStream.currentIndex());
+            }
+        };
+        final TokenReaderRegistry registry = TokenReaderRegistry.createDefault()
+                .registerCustom(hangulReader);
+
+        // when
+        final List<Token> tokens = new SqlLexer("SELECT 가", registry).tokenize();
+
+        // then
+        assertThat(tokens).extracting(Token::value).containsExactly("SELECT", "가", "");
+    }
+
+    private static final class AtIdentifierReader implements TokenReader {
+
+        @Override
+        public boolean canRead(final CharStream charStream) {
+            return charStream.current() == '@';
+        }
+
+        @Override
+        public boolean canStartWith(final char c) {
+            return c == '@';
+        }
+
+        @Override
+        public Token read(final CharStream charStream) {
+            final Position position = charStream.position();
+            charStream.advance();
+            final String name = charStream.collectWhile(Character::isLetter);
+            return new Token(TokenType.IDENTIFIER, "@" + name, position.line(), position.column(),
+                    position.index(), charStream.currentIndex());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jaeyeonling.lexer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("토큰 텍스트 지연 생성 테스트")
+class TokenTextTest {
+
+    @Test
+    @DisplayName("키워드와 구분자는 TokenType의 공유 상수 문자열을 사용한다")
+    void testKeywordAndSymbolShareConstants() {
+        // given
+        final TokenBuffer buffer = new SqlLexer("select a, b from t where a >= 1").tokenizeToBuffer();
+
+        // when & then
+        assertThat(buffer.value(0)).isSameAs(TokenType.SELECT.symbol());
+        assertThat(buffer.value(2)).isSameAs(TokenType.COMMA.symbol());
+        assertThat(buffer.value(4)).isSameAs(TokenType.FROM.symbol());
+        assertThat(buffer.value(8)).isSameAs(TokenType.GREATER_THAN_OR_EQUALS.symbol());
+    }
+
+    @Test
+    @DisplayName("값은 처음 요청될 때 만들어지고 이후에는 같은 인스턴스를 반환한다")
+    void testValueIsCachedAfterFirstAccess() {
+        // given
+        final TokenBuffer buffer = new SqlLexer("SELECT name FROM users").tokenizeToBuffer();
+
+        // when
+        final String first = buffer.value(1);
+
+        // then
+        assertThat(first).isEqualTo("name");
+        assertThat(buffer.value(1)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("문자열 리터럴은 따옴표를 제거하고 이스케이프를 해제한다")
+    void testStringLiteralIsUnescaped() {
+        // given
+        final List<Token> tokens = new SqlLexer("'plain' 'it''s' 'it\\'s' ''").tokenize();
+
+        // when & then
+        assertThat(tokens.get(0).value()).isEqualTo("plain");
+        assertThat(tokens.get(1).value()).isEqualTo("it's");
+        assertThat(tokens.get(2).value()).isEqualTo("it's");
+        assertThat(tokens.get(3).value()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("<> 연산자는 원본 표기를 유지한다")
+    void testAngleNotEqualsKeepsSpelling() {
+        // given
+        final List<Token> tokens = new SqlLexer("a <> b != c").tokenize();
+
+        // when & then
+        assertThat(tokens.get(1).type()).isEqualTo(TokenType.NOT_EQUALS);
+        assertThat(tokens.get(1).value()).isEqualTo("<>");
+        assertThat(tokens.get(3).value()).isEqualTo("!=");
+    }
+
+    @Test
+    @DisplayName("CharSequence 입력도 토큰화할 수 있다")
+    void testTokenizeCharSequence() {
+        // given
+        final StringBuilder input = new StringBuilder("SELECT price * 1.5 FROM items");
+
+        // when
+        final List<Token> tokens = new SqlLexer(input).tokenize();
+
+        // then
+        assertThat(tokens).extracting(Token::value)
+                .containsExactly("SELECT", "price", "*", "1.5", "FROM", "items", "");
+    }
+}
@@ -0,0 +1,37 @@
+package com.jaeyeonling.lexer.character;
+
+import com.jaeyeonling.lang.Digit;
+import com.jaeyeonling.lang.Whitespace;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CharClass 테스트")
+class CharClassTest {
+
+    @Test
+    @DisplayName("비트마스크 판별은 기존 문자 판별 메서드와 일치한다")
+    void testMatchesCharacterPredicates() {
+        for (char c = 0; c < 256; c++) {
+            assertThat(CharClass.DIGIT.contains(c)).as("DIGIT %d", (int) c).isEqualTo(Digit.isDigit(c));
+            assertThat(CharClass.WHITESPACE.contains(c)).as("WHITESPACE %d", (int) c).isEqualTo(Whitespace.isWhitespace(c));
+            assertThat(CharClass.IDENTIFIER_START.contains(c)).as("IDENTIFIER_START %d", (int) c)
+                    .isEqualTo(IdentifierStart.isIdentifierStart(c));
+            assertThat(CharClass.IDENTIFIER_PART.contains(c)).as("IDENTIFIER_PART %d", (int) c)
+                    .isEqualTo(IdentifierChar.isIdentifierChar(c));
+            assertThat(CharClass.OPERATOR.contains(c)).as("OPERATOR %d", (int) c).isEqualTo(OperatorChar.isOperatorChar(c));
+            assertThat(CharClass.DELIMITER.contains(c)).as("DELIMITER %d", (int) c).isEqualTo(DelimiterChar.isDelimiterChar(c));
+        }
+    }
+
+    @Test
+    @DisplayName("ASCII 범위를 벗어난 문자는 어떤 분류에도 속하지 않는다")
+    void testNonAsciiIsNeverContained() {
+        for (final CharClass charClass : CharClass.values()) {
+            assertThat(charClass.contains('가')).isFalse();
+            assertThat(charClass.contains(' ')).isFalse();
+            assertThat(charClass.contains('￿')).isFalse();
+        }
+    }
+}
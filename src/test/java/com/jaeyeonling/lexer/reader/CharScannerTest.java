@@ -0,0 +1,146 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.SqlLexer;
+import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.character.CharClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("CharScanner 테스트")
+class CharScannerTest {
+
+    private static final String ALPHABET = "  \t\n\r''\\\\ab-";
+
+    @Test
+    @DisplayName("벡터 스캐너는 모든 범위에서 스칼라 스캐너와 같은 위치를 찾는다")
+    void testVectorMatchesScalar() {
+        assumeTrue(CharScanner.isVectorAvailable(), "jdk.incubator.vector 모듈이 없습니다");
+
+        // given
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final String input = randomInput(random, 1 + random.nextInt(300));
+            final CharScanner scalar = CharScanner.scalar(input);
+            final CharScanner vector = CharScanner.of(CharBuffer.wrap(input.toCharArray()));
+            final int from = random.nextInt(input.length());
+            final int to = from + random.nextInt(input.length() - from + 1);
+
+            // when & then
+            assertThat(vector.skipWhile(CharClass.WHITESPACE, from, to))
+                    .isEqualTo(scalar.skipWhile(CharClass.WHITESPACE, from, to));
+            assertThat(vector.skipWhile(CharClass.IDENTIFIER_PART, from, to))
+                    .isEqualTo(scalar.skipWhile(CharClass.IDENTIFIER_PART, from, to));
+            assertThat(vector.indexOf('\n', from, to)).isEqualTo(scalar.indexOf('\n', from, to));
+            assertThat(vector.indexOfAny('\'', '\\', from, to)).isEqualTo(scalar.indexOfAny('\'', '\\', from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("CharBuffer의 position 이후를 입력으로 본다")
+    void testCharBufferOffset() {
+        // given
+        final CharBuffer buffer = CharBuffer.wrap(("xxxx" + " ".repeat(100) + "y").toCharArray());
+        buffer.position(4);
+
+        // when
+        final CharScanner scanner = CharScanner.of(buffer);
+
+        // then
+        assertThat(scanner.skipWhile(CharClass.WHITESPACE, 0, buffer.length())).isEqualTo(100);
+        assertThat(scanner.indexOf('y', 0, buffer.length())).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("긴 공백과 문자열이 있는 입력은 어느 스캐너로도 같은 토큰과 위치를 만든다")
+    void testLexerResultDoesNotDependOnScanner() {
+        // given
+        final String sql = "SELECT\n" + " ".repeat(500) + "a,\n\t\t'" + "x".repeat(2000) + "''\\'\n"
+                + "y'" + "\n".repeat(40) + "-- " + "c".repeat(300) + "\nFROM t";
+
+        // when
+        final List<Token> fromString = new SqlLexer(sql).tokenize();
+        final List<Token> fromBuilder = new SqlLexer(new StringBuilder(sql)).tokenize();
+        final List<Token> fromReset = new SqlLexer("").reset(sql).tokenize();
+
+        // then
+        assertThat(fromString).containsExactlyElementsOf(fromBuilder);
+        assertThat(fromReset).containsExactlyElementsOf(fromBuilder);
+        assertThat(fromString.getLast().line()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("새 스캐너는 String을 배열로 복사하지 않는다")
+    void testFreshScannerDoesNotCopyString() {
+        // given
+        final String sql = " ".repeat(CharScanner.VECTOR_STRING_THRESHOLD * 4);
+
+        // when
+        final CharScanner scanner = CharScanner.of(sql);
+
+        // then
+        assertThat(scanner).isInstanceOf(ScalarCharScanner.class);
+    }
+
+    @Test
+    @DisplayName("재사용하는 스캐너는 긴 String을 자신이 가진 배열에 덮어써서 재사용한다")
+    void testReusedScannerCopiesIntoOwnArray() {
+        assumeTrue(CharScanner.isVectorAvailable(), "jdk.incubator.vector 모듈이 없습니다");
+
+        // given
+        final CharScanner first = CharScanner.of(" ".repeat(1_000) + "x", null);
+
+        // when
+        final CharScanner second = CharScanner.of(" ".repeat(500) + "y", first);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.skipWhile(CharClass.WHITESPACE, 0, 501)).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("분리한 스칼라 스캐너는 입력을 놓고 재사용된다")
+    void testDetachedScalarScannerIsReused() {
+        // given
+        final CharScanner scanner = CharScanner.scalar("  x");
+
+        // when
+        final CharScanner detached = scanner.detach(16);
+
+        // then
+        assertThat(detached).isSameAs(scanner);
+        assertThat(CharScanner.of("  y", detached)).isSameAs(scanner);
+    }
+
+    @Test
+    @DisplayName("분리한 벡터 스캐너는 보관 한도 이하로 복사해 둔 배열만 보관한다")
+    void testDetachedVectorScannerKeepsOnlySmallOwnArray() {
+        assumeTrue(CharScanner.isVectorAvailable(), "jdk.incubator.vector 모듈이 없습니다");
+
+        // given
+        final CharScanner owned = CharScanner.of(" ".repeat(1_000) + "x", null);
+        final CharScanner borrowed = CharScanner.of(CharBuffer.wrap((" ".repeat(1_000) + "x").toCharArray()));
+
+        // when & then
+        assertThat(owned.detach(1 << 16)).isSameAs(owned);
+        assertThat(owned.detach(100)).isNull();
+        assertThat(borrowed.detach(1 << 16)).isNull();
+    }
+
+    private static String randomInput(
+            final Random random,
+            final int length
+    ) {
+        final StringBuilder input = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return input.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.character.CharClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CharStream 테스트")
+class CharStreamTest {
+
+    @Test
+    @DisplayName("consumeWhile은 분류에 속하는 범위를 소비하고 끝 위치를 반환한다")
+    void testConsumeWhileReturnsEndIndex() {
+        // given
+        final CharStream charStream = new CharStream("12345abc");
+
+        // when
+        final int endIndex = charStream.consumeWhile(CharClass.DIGIT);
+
+        // then
+        assertThat(endIndex).isEqualTo(5);
+        assertThat(charStream.currentIndex()).isEqualTo(5);
+        assertThat(charStream.column()).isEqualTo(6);
+        assertThat(charStream.current()).isEqualTo('a');
+    }
+
+    @Test
+    @DisplayName("consumeWhile은 개행을 지나면 라인과 컬럼을 갱신한다")
+    void testConsumeWhileTracksLines() {
+        // given
+        final CharStream charStream = new CharStream(" \n\t \nx");
+
+        // when
+        charStream.consumeWhile(CharClass.WHITESPACE);
+
+        // then
+        assertThat(charStream.current()).isEqualTo('x');
+        assertThat(charStream.line()).isEqualTo(3);
+        assertThat(charStream.column()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("consumeUntil은 종료 문자 직전까지 소비한다")
+    void testConsumeUntil() {
+        // given
+        final CharStream charStream = new CharStream("-- comment\nSELECT");
+
+        // when
+        final int endIndex = charStream.consumeUntil('\n');
+
+        // then
+        assertThat(endIndex).isEqualTo(10);
+        assertThat(charStream.current()).isEqualTo('\n');
+        assertThat(charStream.line()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입력 끝까지 분류에 속하면 입력 길이를 반환한다")
+    void testConsumeWhileToEnd() {
+        // given
+        final CharStream charStream = new CharStream("abc_123");
+
+        // when & then
+        assertThat(charStream.consumeWhile(CharClass.IDENTIFIER_PART)).isEqualTo(7);
+        assertThat(charStream.isAtEnd()).isTrue();
+    }
+
+    @Test
+    @DisplayName("문자 분류 스캔 루프는 메모리를 할당하지 않는다")
+    void testScanLoopsDoNotAllocate() {
+        // given
+        // String이 아닌 입력은 스칼라 스캐너를 사용 (벡터 스캐너는 C2 컴파일 전까지 벡터 객체를 할당함)
+        final CharSequence input = new StringBuilder()
+                .append("1".repeat(10_000))
+                .append(" \n\t".repeat(10_000))
+                .append("가".repeat(10_000));
+        final int rounds = 200;
+        final CharStream[] streams = new CharStream[rounds];
+        for (int i = 0; i < rounds; i++) {
+            streams[i] = new CharStream(input);
+        }
+        scan(new CharStream(input));
+
+        // when
+        final long before = allocatedBytes();
+        for (final CharStream charStream : streams) {
+            scan(charStream);
+        }
+        final long allocated = allocatedBytes() - before;
+
+        // then
+        // 문자마다 박싱이 일어나면 수 MB가 할당됩니다
+        assertThat(allocated).isLessThan(1024);
+    }
+
+    private static void scan(final CharStream charStream) {
+        charStream.consumeWhile(CharClass.DIGIT);
+        charStream.consumeWhile(CharClass.WHITESPACE);
+        charStream.consumeUntil('\n');
+    }
+
+    private static long allocatedBytes() {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
@@ -0,0 +1,62 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.PositionMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LineIndex 테스트")
+class LineIndexTest {
+
+    @Test
+    @DisplayName("모든 오프셋에서 CharStream이 추적한 라인/컬럼과 같은 값을 계산한다")
+    void testMatchesTrackedPositions() {
+        // given
+        final String source = "SELECT a,\n  b\n\n-- comment\r\nFROM t\n";
+        final LineIndex lineIndex = new LineIndex(source);
+        final CharStream charStream = new CharStream(source);
+
+        // when & then
+        while (true) {
+            final int offset = charStream.currentIndex();
+            assertThat(lineIndex.position(offset)).isEqualTo(charStream.position());
+            assertThat(lineIndex.line(offset)).isEqualTo(charStream.line());
+            assertThat(lineIndex.column(offset)).isEqualTo(charStream.column());
+            if (charStream.isAtEnd()) {
+                break;
+            }
+            charStream.advance();
+        }
+    }
+
+    @Test
+    @DisplayName("개행이 없는 소스는 모두 첫 번째 라인이다")
+    void testSingleLine() {
+        // given
+        final LineIndex lineIndex = new LineIndex("SELECT 1");
+
+        // when & then
+        assertThat(lineIndex.line(0)).isEqualTo(1);
+        assertThat(lineIndex.line(8)).isEqualTo(1);
+        assertThat(lineIndex.column(8)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("오프셋 전용 모드의 CharStream도 요청하면 정확한 위치를 계산한다")
+    void testOffsetOnlyCharStreamResolvesOnDemand() {
+        // given
+        final CharStream charStream = new CharStream("a\nbc", PositionMode.OFFSET_ONLY);
+
+        // when
+        charStream.advance();
+        charStream.advance();
+        charStream.advance();
+
+        // then
+        assertThat(charStream.trackedLine()).isEqualTo(Position.UNRESOLVED);
+        assertThat(charStream.line()).isEqualTo(2);
+        assertThat(charStream.column()).isEqualTo(2);
+        assertThat(charStream.position()).isEqualTo(new Position(2, 2, 3));
+    }
+}
@@ -0,0 +1,127 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.character.CharClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SlidingCharWindow 테스트")
+class SlidingCharWindowTest {
+
+    @Test
+    @DisplayName("소비한 영역을 해제하면 입력 크기와 관계없이 윈도우 크기가 유지된다")
+    void testCapacityStaysFlat() {
+        // given
+        final SlidingCharWindow window = new SlidingCharWindow(new RepeatingReader("abc 12 ", 5_000_000), 64);
+        final CharStream charStream = new CharStream(window);
+
+        // when
+        int words = 0;
+        while (!charStream.isAtEnd()) {
+            window.release(charStream.currentIndex());
+            charStream.consumeWhile(CharClass.IDENTIFIER_PART);
+            charStream.consumeWhile(CharClass.WHITESPACE);
+            words++;
+        }
+
+        // then
+        assertThat(words).isEqualTo(5_000_000 / 7 * 2);
+        assertThat(charStream.currentIndex()).isEqualTo(5_000_000 / 7 * 7);
+        assertThat(window.capacity()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("긴 주석과 공백을 건너뛰는 동안 윈도우 크기가 유지된다")
+    void testSkippingKeepsCapacityFlat() {
+        // given
+        final SlidingCharWindow window = new SlidingCharWindow(
+                new StringReader("c".repeat(1_000_000) + "\n" + " ".repeat(1_000_000) + "x"),
+                64
+        );
+        final CharStream charStream = new CharStream(window);
+
+        // when
+        final int commentEnd = charStream.skipUntil('\n');
+        charStream.advance();
+        final int whitespaceEnd = charStream.skipWhile(CharClass.WHITESPACE);
+
+        // then
+        assertThat(commentEnd).isEqualTo(1_000_000);
+        assertThat(whitespaceEnd).isEqualTo(2_000_001);
+        assertThat(charStream.current()).isEqualTo('x');
+        assertThat(window.capacity()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("해제되지 않은 긴 범위는 윈도우를 늘려서 보존한다")
+    void testGrowsForLongRanges() {
+        // given
+        final String text = "x".repeat(1000);
+        final SlidingCharWindow window = new SlidingCharWindow(new StringReader(text), 16);
+        final CharStream charStream = new CharStream(window);
+
+        // when
+        final int endIndex = charStream.consumeWhile(CharClass.IDENTIFIER_PART);
+
+        // then
+        assertThat(endIndex).isEqualTo(1000);
+        assertThat(window.subSequence(0, 1000).toString()).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("해제되어 버려진 위치는 읽을 수 없다")
+    void testReleasedRangeIsNotReadable() {
+        // given
+        final SlidingCharWindow window = new SlidingCharWindow(new StringReader("y".repeat(100)), 16);
+        window.fill(15);
+        window.release(16);
+
+        // when
+        window.fill(40);
+
+        // then
+        assertThat(window.charAt(40)).isEqualTo('y');
+        assertThatThrownBy(() -> window.charAt(0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * 같은 문자열을 반복해서 돌려주는 Reader (입력 전체를 메모리에 두지 않음)
+     */
+    private static final class RepeatingReader extends Reader {
+
+        private final String unit;
+        private final int length;
+        private int position = 0;
+
+        private RepeatingReader(
+                final String unit,
+                final int length
+        ) {
+            this.unit = unit;
+            this.length = length / unit.length() * unit.length();
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int count) {
+            if (position >= length) {
+                return -1;
+            }
+            final int read = Math.min(count, length - position);
+            for (int i = 0; i < read; i++) {
+                buffer[offset + i] = unit.charAt((position + i) % unit.length());
+            }
+            position += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
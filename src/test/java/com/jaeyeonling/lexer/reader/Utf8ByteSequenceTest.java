@@ -0,0 +1,118 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.lexer.SqlLexer;
+import com.jaeyeonling.lexer.Token;
+import com.jaeyeonling.lexer.TokenType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Utf8ByteSequence 테스트")
+class Utf8ByteSequenceTest {
+
+    private static final String SQL = """
+            SELECT name, '서울 ''강남''' AS city -- 한글 주석
+            FROM users
+            WHERE note = 'it\\'s 😀' AND score >= 1.5""";
+
+    @Test
+    @DisplayName("ASCII가 아닌 바이트는 대체 문자로 보인다")
+    void testNonAsciiBytesAreOpaque() {
+        // given
+        final Utf8ByteSequence sequence = new Utf8ByteSequence("a가".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThat(sequence.length()).isEqualTo(4);
+        assertThat(sequence.charAt(0)).isEqualTo('a');
+        assertThat(sequence.charAt(1)).isEqualTo(Utf8ByteSequence.NON_ASCII);
+        assertThat(sequence.subSequence(1, 4).toString()).isEqualTo("가");
+    }
+
+    @Test
+    @DisplayName("UTF-8 바이트를 토큰화하면 문자열 입력과 같은 토큰 타입과 값을 얻는다")
+    void testTokenizesUtf8Bytes() {
+        // given
+        final byte[] bytes = SQL.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final List<Token> fromBytes = SqlLexer.fromUtf8(bytes).tokenize();
+        final List<Token> fromString = new SqlLexer(SQL).tokenize();
+
+        // then
+        assertThat(fromBytes).extracting(Token::type)
+                .containsExactlyElementsOf(fromString.stream().map(Token::type).toList());
+        assertThat(fromBytes).extracting(Token::value)
+                .containsExactlyElementsOf(fromString.stream().map(Token::value).toList());
+        assertThat(fromBytes.get(3).value()).isEqualTo("서울 '강남'");
+        assertThat(fromBytes).extracting(Token::line)
+                .containsExactlyElementsOf(fromString.stream().map(Token::line).toList());
+    }
+
+    @Test
+    @DisplayName("토큰 오프셋은 바이트 단위이다")
+    void testOffsetsAreInBytes() {
+        // given
+        final byte[] bytes = "'가' x".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final List<Token> tokens = SqlLexer.fromUtf8(bytes).tokenize();
+
+        // then
+        assertThat(tokens.get(0).endIndex()).isEqualTo(5);
+        assertThat(tokens.get(1).startIndex()).isEqualTo(6);
+        assertThat(tokens.get(1).type()).isEqualTo(TokenType.IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("메모리 맵 파일을 복사 없이 토큰화한다")
+    void testTokenizesMappedFile(@TempDir final Path directory) throws IOException {
+        // given
+        final Path file = Files.writeString(directory.resolve("query.sql"), SQL, StandardCharsets.UTF_8);
+
+        // when
+        final List<Token> tokens = new SqlLexer(Utf8ByteSequence.map(file)).tokenize();
+
+        // then
+        assertThat(tokens).extracting(Token::value)
+                .containsExactlyElementsOf(new SqlLexer(SQL).tokenize().stream().map(Token::value).toList());
+    }
+
+    @Test
+    @DisplayName("직접 버퍼의 일부 범위만 토큰화할 수 있다")
+    void testDirectBufferSlice() {
+        // given
+        final byte[] bytes = "garbage;SELECT '한' FROM t".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        direct.position(8);
+
+        // when
+        final List<Token> tokens = SqlLexer.fromUtf8(direct).tokenize();
+
+        // then
+        assertThat(tokens).extracting(Token::value).containsExactly("SELECT", "한", "FROM", "t", "");
+        assertThat(direct.position()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("식별자 위치의 ASCII가 아닌 문자는 예외를 발생시킨다")
+    void testNonAsciiOutsideLiteralIsRejected() {
+        // given
+        final SqlLexer lexer = SqlLexer.fromUtf8("SELECT 이름".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(lexer::tokenize)
+                .isInstanceOf(SqlParseException.class)
+                .hasMessageContaining("SQL 구문에서 사용할 수 없는 문자입니다");
+    }
+}
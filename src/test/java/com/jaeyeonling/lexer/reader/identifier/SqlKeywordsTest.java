@@ -0,0 +1,56 @@
+package com.jaeyeonling.lexer.reader.identifier;
+
+import com.jaeyeonling.lexer.TokenType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlKeywords 테스트")
+class SqlKeywordsTest {
+
+    @Test
+    @DisplayName("모든 키워드를 대소문자와 관계없이 판별한다")
+    void testAllKeywordsIgnoringCase() {
+        // given
+        final TokenType[] keywords = Arrays.stream(TokenType.values())
+                .filter(TokenType::isKeyword)
+                .toArray(TokenType[]::new);
+
+        // when & then
+        for (final TokenType keyword : keywords) {
+            final String upper = keyword.symbol();
+            final String lower = upper.toLowerCase();
+            assertThat(classify(upper)).isEqualTo(keyword);
+            assertThat(classify(lower)).isEqualTo(keyword);
+            assertThat(classify(Character.toUpperCase(lower.charAt(0)) + lower.substring(1))).isEqualTo(keyword);
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("키워드와 접두사나 길이만 같은 식별자는 IDENTIFIER로 판별한다")
+    @ValueSource(strings = {"selected", "sel", "ord", "ORDERS", "ix", "_select", "select_", "nul1", "ANDY", "x", "z9"})
+    void testNonKeywordIdentifiers(final String text) {
+        assertThat(classify(text)).isEqualTo(TokenType.IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("더 큰 소스 안의 범위만 비교한다")
+    void testClassifiesRangeWithinSource() {
+        // given
+        final String source = "xfromy";
+
+        // when & then
+        assertThat(SqlKeywords.classify(source, 1, 5)).isEqualTo(TokenType.FROM);
+        assertThat(SqlKeywords.classify(source, 1, 6)).isEqualTo(TokenType.IDENTIFIER);
+        assertThat(SqlKeywords.classify(source, 0, 5)).isEqualTo(TokenType.IDENTIFIER);
+    }
+
+    private static TokenType classify(final String text) {
+        return SqlKeywords.classify(text, 0, text.length());
+    }
+}
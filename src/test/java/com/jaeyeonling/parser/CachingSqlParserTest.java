@@ -0,0 +1,233 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.visitor.SqlToStringVisitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachingSqlParser 테스트")
+class CachingSqlParserTest {
+
+    private static String query(final int i) {
+        return "SELECT c" + i + " FROM t WHERE id = " + i;
+    }
+
+    @Test
+    @DisplayName("같은 SQL은 처음 한 번만 파싱하고 같은 AST를 재사용한다")
+    void testSameSqlReturnsCachedStatement() {
+        // given
+        final CachingSqlParser parser = new CachingSqlParser();
+
+        // when
+        final SelectStatement first = parser.parse("SELECT a FROM t");
+        final SelectStatement second = parser.parse(new StringBuilder("SELECT a FROM t"));
+        final SelectStatement other = parser.parse("SELECT b FROM t");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        final CacheStats stats = parser.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.weight()).isEqualTo("SELECT a FROM t".length() + "SELECT b FROM t".length());
+        assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("항목 수 상한을 넘지 않도록 내보낸다")
+    void testMaximumSize() {
+        // given
+        final CachingSqlParser parser = CachingSqlParser.builder().maximumSize(8).build();
+
+        // when - 모든 SQL을 두 번씩 요청해 빈도를 높임
+        for (int i = 0; i < 100; i++) {
+            parser.parse(query(i));
+            parser.parse(query(i));
+        }
+
+        // then
+        final CacheStats stats = parser.stats();
+        assertThat(stats.size()).isLessThanOrEqualTo(8);
+        assertThat(stats.evictions()).isPositive();
+        assertThat(stats.hits() + stats.misses()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("무게 상한을 넘지 않고, 상한보다 긴 SQL은 캐시하지 않는다")
+    void testMaximumWeight() {
+        // given
+        final int limit = query(0).length() * 3;
+        final CachingSqlParser parser = CachingSqlParser.builder().maximumWeight(limit).build();
+        final String tooLong = "SELECT " + "x, ".repeat(limit) + "y FROM t";
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            parser.parse(query(i));
+            parser.parse(query(i));
+        }
+        parser.parse(tooLong);
+        parser.parse(tooLong);
+
+        // then
+        final CacheStats stats = parser.stats();
+        assertThat(stats.weight()).isLessThanOrEqualTo(limit);
+        assertThat(stats.size()).isBetween(1, 3);
+        assertThat(stats.rejections()).isPositive();
+    }
+
+    @Test
+    @DisplayName("무거운 SQL을 넣으려면 여러 항목을 내보내야 할 때, 하나라도 더 자주 쓰이면 아무것도 내보내지 않는다")
+    void testHeavyInsertIsAllOrNothing() {
+        // given - 두 항목이 가득 채운 캐시에, 두 항목을 모두 내보내야 들어가는 SQL
+        final String cold = "SELECT a FROM t";
+        final String hot = "SELECT b FROM t";
+        final String heavy = "SELECT c, d, e, f FROM t WHERE x = 1";
+        final CachingSqlParser parser = CachingSqlParser.builder()
+                .maximumWeight(cold.length() + hot.length() + 10)
+                .build();
+        parser.parse(cold);
+        for (int i = 0; i < 5; i++) {
+            parser.parse(hot);
+        }
+
+        // when - 무거운 SQL은 cold보다 자주, hot보다 드물게 쓰임
+        parser.parse(heavy);
+        parser.parse(heavy);
+
+        // then
+        final CacheStats stats = parser.stats();
+        assertThat(stats.evictions()).isZero();
+        assertThat(stats.rejections()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.weight()).isEqualTo(cold.length() + hot.length());
+
+        final long hitsBefore = stats.hits();
+        parser.parse(cold);
+        parser.parse(hot);
+        assertThat(parser.stats().hits() - hitsBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무거운 SQL이 내보낼 항목들보다 모두 자주 쓰이면 그 항목들을 모두 내보내고 넣는다")
+    void testHeavyInsertEvictsAllVictims() {
+        // given
+        final String first = "SELECT a FROM t";
+        final String second = "SELECT b FROM t";
+        final String heavy = "SELECT c, d, e, f FROM t WHERE x = 1";
+        final CachingSqlParser parser = CachingSqlParser.builder()
+                .maximumWeight(first.length() + second.length() + 10)
+                .build();
+        parser.parse(first);
+        parser.parse(second);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            parser.parse(heavy);
+        }
+
+        // then
+        final CacheStats stats = parser.stats();
+        assertThat(stats.evictions()).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.weight()).isEqualTo(heavy.length());
+    }
+
+    @Test
+    @DisplayName("한 번만 쓰이는 SQL이 자주 쓰는 SQL을 밀어내지 않는다")
+    void testOneHitWondersDoNotEvictHotQueries() {
+        // given
+        final CachingSqlParser parser = CachingSqlParser.builder().maximumSize(100).build();
+        for (int i = 0; i < 50; i++) {
+            parser.parse(query(i));
+            parser.parse(query(i));
+        }
+
+        // when - 자주 쓰는 SQL 사이에 한 번만 쓰이는 SQL이 여덟 배 많이 섞여 들어옴
+        int oneHit = 1000;
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 400; i++) {
+                parser.parse(query(oneHit++));
+            }
+            for (int i = 0; i < 50; i++) {
+                parser.parse(query(i));
+            }
+        }
+        final long hitsBefore = parser.stats().hits();
+        for (int i = 0; i < 50; i++) {
+            parser.parse(query(i));
+        }
+
+        // then
+        assertThat(parser.stats().hits() - hitsBefore).isEqualTo(50);
+        assertThat(parser.stats().rejections()).isPositive();
+    }
+
+    @Test
+    @DisplayName("파싱 오류는 캐시하지 않는다")
+    void testParseErrorsAreNotCached() {
+        // given
+        final CachingSqlParser parser = new CachingSqlParser();
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse("SELECT FROM")).isInstanceOf(SqlParseException.class);
+        assertThatThrownBy(() -> parser.parse("SELECT FROM")).isInstanceOf(SqlParseException.class);
+        assertThat(parser.stats().misses()).isEqualTo(2);
+        assertThat(parser.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 함께 사용해도 올바른 결과와 상한을 지킨다")
+    void testConcurrentAccess() throws Exception {
+        // given
+        final CachingSqlParser parser = CachingSqlParser.builder().maximumSize(32).build();
+        final SqlToStringVisitor visitor = new SqlToStringVisitor();
+
+        // when
+        final List<Future<Boolean>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        final int n = (i * 31 + seed) % 64;
+                        final String sql = query(n);
+                        if (!parser.parse(sql).accept(visitor).equals(sql)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+        }
+
+        // then
+        for (final Future<Boolean> future : futures) {
+            assertThat(future.get()).isTrue();
+        }
+        final CacheStats stats = parser.stats();
+        assertThat(stats.hits() + stats.misses()).isEqualTo(16_000);
+        assertThat(stats.size()).isLessThanOrEqualTo(32);
+        assertThat(stats.hits()).isPositive();
+    }
+
+    @Test
+    @DisplayName("상한은 1 이상이어야 한다")
+    void testInvalidBounds() {
+        // when & then
+        assertThatThrownBy(() -> CachingSqlParser.builder().maximumSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CachingSqlParser.builder().maximumWeight(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,13 +7,18 @@ import com.jaeyeonling.ast.expression.ColumnReference;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.LikeExpression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.Operator;
 import com.jaeyeonling.ast.expression.StringLiteral;
 import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.visitor.SqlToStringVisitor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -170,18 +175,19 @@ class ExpressionParsingTest extends BaseSqlParserTest {
         final Expression expr = parseExpression("age > 18 AND age < 65");
 
         // then
-        assertThat(expr).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression andOp = (BinaryOperatorExpression) expr;
+        assertThat(expr).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression andOp = (LogicalExpression) expr;
         assertThat(andOp.operator()).isEqualTo(Operator.AND);
+        assertThat(andOp.operands()).hasSize(2);
 
-        // 왼쪽: age > 18
-        assertThat(andOp.left()).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression left = (BinaryOperatorExpression) andOp.left();
+        // 첫 번째 항: age > 18
+        assertThat(andOp.operands().get(0)).isInstanceOf(BinaryOperatorExpression.class);
+        final BinaryOperatorExpression left = (BinaryOperatorExpression) andOp.operands().get(0);
         assertThat(left.operator()).isEqualTo(Operator.GREATER_THAN);
 
-        // 오른쪽: age < 65
-        assertThat(andOp.right()).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression right = (BinaryOperatorExpression) andOp.right();
+        // 두 번째 항: age < 65
+        assertThat(andOp.operands().get(1)).isInstanceOf(BinaryOperatorExpression.class);
+        final BinaryOperatorExpression right = (BinaryOperatorExpression) andOp.operands().get(1);
         assertThat(right.operator()).isEqualTo(Operator.LESS_THAN);
     }
 
@@ -192,8 +198,8 @@ class ExpressionParsingTest extends BaseSqlParserTest {
         final Expression expr = parseExpression("status = 'active' OR status = 'pending'");
 
         // then
-        assertThat(expr).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression orOp = (BinaryOperatorExpression) expr;
+        assertThat(expr).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression orOp = (LogicalExpression) expr;
         assertThat(orOp.operator()).isEqualTo(Operator.OR);
     }
 
@@ -205,13 +211,13 @@ class ExpressionParsingTest extends BaseSqlParserTest {
         final Expression expr = parseExpression("a = 1 OR b = 2 AND value = 3");
 
         // then
-        assertThat(expr).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression root = (BinaryOperatorExpression) expr;
+        assertThat(expr).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression root = (LogicalExpression) expr;
         assertThat(root.operator()).isEqualTo(Operator.OR);
 
-        // 오른쪽이 AND 표현식이어야 함
-        assertThat(root.right()).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression rightAnd = (BinaryOperatorExpression) root.right();
+        // 두 번째 항이 AND 표현식이어야 함
+        assertThat(root.operands().get(1)).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression rightAnd = (LogicalExpression) root.operands().get(1);
         assertThat(rightAnd.operator()).isEqualTo(Operator.AND);
     }
 
@@ -223,13 +229,13 @@ class ExpressionParsingTest extends BaseSqlParserTest {
         final Expression expr = parseExpression("(a = 1 OR b = 2) AND value = 3");
 
         // then
-        assertThat(expr).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression root = (BinaryOperatorExpression) expr;
+        assertThat(expr).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression root = (LogicalExpression) expr;
         assertThat(root.operator()).isEqualTo(Operator.AND);
 
-        // 왼쪽이 OR 표현식이어야 함
-        assertThat(root.left()).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression leftOr = (BinaryOperatorExpression) root.left();
+        // 첫 번째 항이 OR 표현식이어야 함
+        assertThat(root.operands().get(0)).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression leftOr = (LogicalExpression) root.operands().get(0);
         assertThat(leftOr.operator()).isEqualTo(Operator.OR);
     }
 
@@ -293,25 +299,24 @@ class ExpressionParsingTest extends BaseSqlParserTest {
         final Expression expr = parseExpression(complexExpr);
 
         // then
-        // 루트는 AND
-        assertThat(expr).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression root = (BinaryOperatorExpression) expr;
+        // 루트는 세 항을 가진 AND
+        assertThat(expr).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression root = (LogicalExpression) expr;
         assertThat(root.operator()).isEqualTo(Operator.AND);
+        assertThat(root.operands()).hasSize(3);
 
-        // 왼쪽도 AND (age >= 18 AND (...))
-        assertThat(root.left()).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression leftAnd = (BinaryOperatorExpression) root.left();
-        assertThat(leftAnd.operator()).isEqualTo(Operator.AND);
-
-        // 왼쪽의 왼쪽은 age >= 18
-        assertThat(leftAnd.left()).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression ageCheck = (BinaryOperatorExpression) leftAnd.left();
+        // 첫 번째 항은 age >= 18
+        assertThat(root.operands().get(0)).isInstanceOf(BinaryOperatorExpression.class);
+        final BinaryOperatorExpression ageCheck = (BinaryOperatorExpression) root.operands().get(0);
         assertThat(ageCheck.operator()).isEqualTo(Operator.GREATER_THAN_OR_EQUALS);
 
-        // 왼쪽의 오른쪽은 OR 표현식
-        assertThat(leftAnd.right()).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression statusOr = (BinaryOperatorExpression) leftAnd.right();
+        // 두 번째 항은 괄호로 묶인 OR 표현식
+        assertThat(root.operands().get(1)).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression statusOr = (LogicalExpression) root.operands().get(1);
         assertThat(statusOr.operator()).isEqualTo(Operator.OR);
+
+        // 세 번째 항은 country = 'KR'
+        assertThat(root.operands().get(2)).isInstanceOf(BinaryOperatorExpression.class);
     }
 
     @Test
@@ -333,4 +338,108 @@ class ExpressionParsingTest extends BaseSqlParserTest {
         // when & then
         assertParseException(sql);
     }
+
+    /**
+     * 연산의 묶음을 괄호로 드러낸 문자열 (단항 NOT은 NOT(x), 논리 연산은 모든 항을 한 괄호에)
+     */
+    private String shape(final Expression expression) {
+        if (expression instanceof LogicalExpression logical) {
+            return logical.operands().stream()
+                    .map(this::shape)
+                    .collect(Collectors.joining(" " + logical.operator().symbol() + " ", "(", ")"));
+        }
+        if (expression instanceof BinaryOperatorExpression binary) {
+            if (binary.right() == null) {
+                return binary.operator().symbol() + "(" + shape(binary.left()) + ")";
+            }
+            return "(" + shape(binary.left()) + " " + binary.operator().symbol() + " " + shape(binary.right()) + ")";
+        }
+        return expression.accept(new SqlToStringVisitor());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "a + 1 = b * 2 AND c = 3 | (((a + 1) = (b * 2)) AND (c = 3))",
+            "a = 1 AND b = 2 AND c = 3 AND d = 4 | ((a = 1) AND (b = 2) AND (c = 3) AND (d = 4))",
+            "a AND b OR c AND d AND e OR f | ((a AND b) OR (c AND d AND e) OR f)",
+            "(a OR b) OR c | ((a OR b) OR c)",
+            "a - b - c * d / e | ((a - b) - ((c * d) / e))",
+            "a = 1 OR b = 2 AND c = 3 OR d = 4 | ((a = 1) OR ((b = 2) AND (c = 3)) OR (d = 4))",
+            "NOT a = 1 | (NOT(a) = 1)",
+            "(a OR b) AND c * (d + e) > 0 | ((a OR b) AND ((c * (d + e)) > 0))",
+            "a IS NULL AND b + 1 BETWEEN 2 AND 3 | (a IS NULL AND b + 1 BETWEEN 2 AND 3)",
+            "NOT NOT (a OR b) = c | (NOT(NOT((a OR b))) = c)",
+            "((a + (b))) * ((c)) | ((a + b) * c)"
+    })
+    @DisplayName("결합력에 따라 이항 연산을 묶는다")
+    void testBindingPowers(
+            final String condition,
+            final String expected
+    ) {
+        // when
+        final Expression expr = parseExpression(condition);
+
+        // then
+        assertThat(shape(expr)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a = b = c",
+            "a IS NULL + 1",
+            "a AND b = c = d",
+            "a LIKE 'x' = 2"
+    })
+    @DisplayName("비교 연산은 결합하지 않고, 비교 결과에는 산술 연산을 이어 붙일 수 없다")
+    void testComparisonIsNonAssociative(final String condition) {
+        // when & then
+        assertParseException("SELECT * FROM dummy WHERE " + condition);
+    }
+
+    @Test
+    @DisplayName("10만 개 항의 OR 사슬도 스택 넘침 없이 파싱하고 출력한다")
+    void testLongOrChain() {
+        // given
+        final int terms = 100_000;
+        // 동등성까지 비교하도록 리터럴만으로 사슬을 구성
+        final StringBuilder condition = new StringBuilder("0 = 0");
+        for (int i = 1; i < terms; i++) {
+            condition.append(" OR ").append(i).append(" = ").append(i);
+        }
+
+        // when
+        final Expression expr = parseExpression(condition.toString());
+        final Expression again = parseExpression(condition.toString());
+
+        // then
+        assertThat(expr.accept(new SqlToStringVisitor())).isEqualTo(condition.toString());
+        assertThat(expr).isEqualTo(again);
+        assertThat(expr.hashCode()).isEqualTo(again.hashCode());
+        assertThat(expr).isInstanceOf(LogicalExpression.class);
+        assertThat(((LogicalExpression) expr).operands()).hasSize(terms);
+    }
+
+    @Test
+    @DisplayName("수천 단계로 중첩된 괄호도 스택 넘침 없이 파싱한다")
+    void testDeeplyNestedParentheses() {
+        // given
+        final int depth = 10_000;
+        final String condition = "(".repeat(depth) + "a = 1" + ")".repeat(depth) + " AND b = 2";
+
+        // when
+        final Expression expr = parseExpression(condition);
+
+        // then
+        assertThat(shape(expr)).isEqualTo("((a = 1) AND (b = 2))");
+    }
+
+    @Test
+    @DisplayName("깊게 중첩된 괄호가 닫히지 않으면 예외를 발생시킨다")
+    void testDeeplyNestedUnclosedParentheses() {
+        // given
+        final String sql = "SELECT * FROM dummy WHERE " + "(".repeat(10_000) + "a = 1" + ")".repeat(9_999);
+
+        // when & then
+        assertParseException(sql);
+    }
 }
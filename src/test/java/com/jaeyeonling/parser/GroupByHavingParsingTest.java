@@ -6,6 +6,7 @@ import com.jaeyeonling.ast.clause.HavingClause;
 import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
 import com.jaeyeonling.ast.expression.ColumnReference;
 import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.Operator;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import org.junit.jupiter.api.Disabled;
@@ -148,9 +149,9 @@ class GroupByHavingParsingTest extends BaseSqlParserTest {
         final HavingClause havingClause = stmt.havingClause().orElseThrow();
 
         // then
-        assertThat(havingClause.condition()).isInstanceOf(BinaryOperatorExpression.class);
+        assertThat(havingClause.condition()).isInstanceOf(LogicalExpression.class);
 
-        final BinaryOperatorExpression andExpr = (BinaryOperatorExpression) havingClause.condition();
+        final LogicalExpression andExpr = (LogicalExpression) havingClause.condition();
         assertThat(andExpr.operator()).isEqualTo(Operator.AND);
     }
 
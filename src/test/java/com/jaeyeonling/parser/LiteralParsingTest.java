@@ -1,20 +1,25 @@
 package com.jaeyeonling.parser;
 
 import com.jaeyeonling.BaseSqlParserTest;
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
 import com.jaeyeonling.ast.expression.BooleanLiteral;
 import com.jaeyeonling.ast.expression.DecimalLiteral;
 import com.jaeyeonling.ast.expression.ExpressionSelectItem;
 import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.NullLiteral;
+import com.jaeyeonling.ast.expression.NumericLiteral;
 import com.jaeyeonling.ast.expression.SelectItem;
 import com.jaeyeonling.ast.expression.StringLiteral;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LiteralParsingTest extends BaseSqlParserTest {
 
@@ -143,4 +148,80 @@ class LiteralParsingTest extends BaseSqlParserTest {
 
 
     }
+
+    @Test
+    @DisplayName("int 범위를 넘는 정수는 long 값으로 파싱한다")
+    void testBigintLiteral() {
+        // given
+        final String sql = "SELECT id FROM orders WHERE id = 9223372036854775807";
+
+        // when
+        final SelectStatement stmt = parseAndAssertReconstructed(sql);
+
+        // then
+        final BinaryOperatorExpression condition = (BinaryOperatorExpression) stmt.whereClause().orElseThrow().condition();
+        assertThat(condition.right()).isEqualTo(new IntegerLiteral(Long.MAX_VALUE, condition.right().location()));
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 숫자는 정확한 BigDecimal로 승격한다")
+    void testNumericLiteralPromotion() {
+        // given
+        final String sql = "SELECT 9223372036854775808, 12345678901234567890.123 FROM t";
+
+        // when
+        final SelectStatement stmt = parseAndAssertReconstructed(sql);
+
+        // then
+        final List<SelectItem> items = stmt.selectClause().selectItems();
+        assertThat(((ExpressionSelectItem) items.get(0)).expression())
+                .isInstanceOfSatisfying(NumericLiteral.class, literal ->
+                        assertThat(literal.value()).isEqualTo(new BigDecimal("9223372036854775808")));
+        assertThat(((ExpressionSelectItem) items.get(1)).expression())
+                .isInstanceOfSatisfying(NumericLiteral.class, literal ->
+                        assertThat(literal.value()).isEqualTo(new BigDecimal("12345678901234567890.123")));
+    }
+
+    @Test
+    @DisplayName("소수는 숫자열과 소수 자릿수로 정확히 보관한다")
+    void testExactDecimalLiteral() {
+        // given
+        final String sql = "SELECT 0.10, .5 FROM t";
+
+        // when
+        final SelectStatement stmt = parseAndAssertReconstructed(sql, "SELECT 0.10, 0.5 FROM t");
+
+        // then
+        final List<SelectItem> items = stmt.selectClause().selectItems();
+        final DecimalLiteral first = (DecimalLiteral) ((ExpressionSelectItem) items.get(0)).expression();
+        assertThat(first.unscaledValue()).isEqualTo(10L);
+        assertThat(first.scale()).isEqualTo(2);
+        assertThat(first.value()).isEqualTo(0.1);
+        assertThat(first.toBigDecimal()).isEqualTo(new BigDecimal("0.10"));
+        assertThat(((DecimalLiteral) ((ExpressionSelectItem) items.get(1)).expression()).value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("double 생성자는 가장 짧은 10진 표현으로 숫자열과 소수 자릿수를 만든다")
+    void testDecimalLiteralFromDouble() {
+        // given
+        final SourceLocation location = SourceLocation.UNKNOWN;
+
+        // when
+        final DecimalLiteral fromDouble = new DecimalLiteral(1.5, location);
+        final DecimalLiteral negative = new DecimalLiteral(-0.25, location);
+        final DecimalLiteral large = new DecimalLiteral(1e15, location);
+
+        // then
+        assertThat(fromDouble).isEqualTo(new DecimalLiteral(15L, 1, location));
+        assertThat(fromDouble).isNotEqualTo(new DecimalLiteral(150L, 2, location));
+        assertThat(fromDouble.toBigDecimal()).isEqualByComparingTo(new DecimalLiteral(150L, 2, location).toBigDecimal());
+        assertThat(negative.value()).isEqualTo(-0.25);
+        assertThat(large.scale()).isZero();
+        assertThat(large.value()).isEqualTo(1e15);
+        assertThatThrownBy(() -> new DecimalLiteral(Double.NaN, location))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DecimalLiteral(1e300, location))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,171 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.clause.WhereClause;
+import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
+import com.jaeyeonling.ast.expression.InExpression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
+import com.jaeyeonling.ast.expression.ParameterExpression;
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.visitor.SqlToStringVisitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PreparedStatementTemplate 테스트")
+class PreparedStatementTemplateTest {
+
+    private static LogicalExpression whereCondition(final SelectStatement statement) {
+        return (LogicalExpression) statement.whereClause()
+                .map(WhereClause::condition)
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("파라미터는 SQL에 나타난 순서대로 1부터 번호를 받는다")
+    void testParametersAreNumberedInOrder() {
+        // given
+        final String sql = "SELECT a FROM t WHERE id = ? AND name = :name";
+
+        // when
+        final SelectStatement statement = new SqlParser().parse(sql);
+
+        // then
+        final LogicalExpression condition = whereCondition(statement);
+        final BinaryOperatorExpression id = (BinaryOperatorExpression) condition.operands().get(0);
+        final BinaryOperatorExpression name = (BinaryOperatorExpression) condition.operands().get(1);
+        assertThat(id.right()).isEqualTo(ParameterExpression.positional(1, new SourceLocation(1, 28, 27, 28)));
+        assertThat(name.right()).isEqualTo(ParameterExpression.named(2, "name", new SourceLocation(1, 41, 40, 45)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT a FROM t WHERE id = ?",
+            "SELECT a, ? FROM t WHERE id IN (?, ?, 3) AND b BETWEEN :low AND :high",
+            "SELECT a FROM t WHERE name LIKE :pattern OR a + ? > 10",
+            "SELECT COUNT(*) FROM t WHERE a = :a GROUP BY b HAVING COUNT(*) > ?"
+    })
+    @DisplayName("파라미터가 있는 SQL을 파싱하고 같은 SQL로 되돌린다")
+    void testParametersRoundTrip(final String sql) {
+        // when
+        final SelectStatement statement = new SqlParser().parse(sql);
+
+        // then
+        assertThat(statement.accept(new SqlToStringVisitor())).isEqualTo(sql);
+    }
+
+    @Test
+    @DisplayName("위치 파라미터에 순서대로 값을 묶고, AST는 틀의 것을 그대로 쓴다")
+    void testBindPositional() {
+        // given
+        final PreparedStatementTemplate template = PreparedStatementTemplate.of(
+                "SELECT a FROM t WHERE id = ? AND status IN (?, ?)");
+
+        // when
+        final BoundStatement first = template.bind(42, "on", null);
+        final BoundStatement second = template.bind(43, "off", "deleted");
+
+        // then
+        assertThat(template.parameterCount()).isEqualTo(3);
+        assertThat(template.parameterNames()).isEmpty();
+        assertThat(first.statement()).isSameAs(template.statement());
+        assertThat(second.statement()).isSameAs(template.statement());
+        assertThat(first.values()).containsExactly(42, "on", null);
+        assertThat(second.values()).containsExactly(43, "off", "deleted");
+
+        final InExpression in = (InExpression) whereCondition(template.statement()).operands().get(1);
+        assertThat(second.value((ParameterExpression) in.values().get(1))).isEqualTo("deleted");
+    }
+
+    @Test
+    @DisplayName("이름 있는 파라미터는 이름으로 값을 묶고, 같은 이름은 같은 값을 쓴다")
+    void testBindNamed() {
+        // given
+        final PreparedStatementTemplate template = PreparedStatementTemplate.of(
+                "SELECT a FROM t WHERE owner = :user OR editor = :user AND created > :since");
+
+        // when
+        final BoundStatement bound = template.bind(Map.of("user", "kim", "since", 20240101));
+
+        // then
+        assertThat(template.parameterCount()).isEqualTo(3);
+        assertThat(template.parameterNames()).containsExactly("user", "since");
+        assertThat(bound.values()).containsExactly("kim", "kim", 20240101);
+        assertThat(bound.value(2)).isEqualTo("kim");
+    }
+
+    @Test
+    @DisplayName("이름 있는 파라미터에 null을 묶을 수 있다")
+    void testBindNamedNull() {
+        // given
+        final PreparedStatementTemplate template = PreparedStatementTemplate.of("SELECT a FROM t WHERE b = :b");
+        final Map<String, Object> values = new HashMap<>();
+        values.put("b", null);
+
+        // when
+        final BoundStatement bound = template.bind(values);
+
+        // then
+        assertThat(bound.values()).containsExactly((Object) null);
+    }
+
+    @Test
+    @DisplayName("값의 수나 이름이 맞지 않으면 예외를 발생시킨다")
+    void testBindMismatch() {
+        // given
+        final PreparedStatementTemplate positional = PreparedStatementTemplate.of("SELECT a FROM t WHERE id = ?");
+        final PreparedStatementTemplate named = PreparedStatementTemplate.of("SELECT a FROM t WHERE id = :id");
+
+        // when & then
+        assertThatThrownBy(() -> positional.bind(1, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("필요 1개, 전달 2개");
+        assertThatThrownBy(() -> positional.bind(Map.of("id", 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> named.bind(1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> named.bind(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(":id");
+        assertThatThrownBy(() -> named.bind(Map.of("id", 1, "ids", 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(":ids");
+        assertThatThrownBy(() -> positional.bind(1).value(2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("?와 :name을 함께 쓰면 예외를 발생시킨다")
+    void testMixedParametersRejected() {
+        // when & then
+        assertThatThrownBy(() -> PreparedStatementTemplate.of("SELECT a FROM t WHERE id = ? AND name = :name"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("파라미터가 없는 SQL은 빈 값으로 묶는다")
+    void testNoParameters() {
+        // given
+        final PreparedStatementTemplate template = PreparedStatementTemplate.of("SELECT a FROM t");
+
+        // when & then
+        assertThat(template.bind().values()).isEmpty();
+        assertThat(template.bind(Map.of()).values()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LIMIT에는 파라미터를 쓸 수 없다")
+    void testParameterInLimitIsSyntaxError() {
+        // when & then
+        assertThatThrownBy(() -> PreparedStatementTemplate.of("SELECT a FROM t LIMIT ?"))
+                .isInstanceOf(SqlParseException.class);
+    }
+}
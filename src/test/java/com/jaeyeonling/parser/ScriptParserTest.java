@@ -0,0 +1,65 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.visitor.SqlToStringVisitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScriptParser 테스트")
+class ScriptParserTest {
+
+    @Test
+    @DisplayName("여러 문장을 병렬로 파싱해도 결과는 스크립트 순서를 따른다")
+    void testResultsKeepSourceOrder() {
+        // given
+        final StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            script.append("SELECT c").append(i).append(" FROM t WHERE id = ").append(i).append(";\n");
+        }
+
+        // when
+        final List<StatementResult> results = new ScriptParser().parse(script);
+
+        // then
+        assertThat(results).hasSize(2000);
+        for (int i = 0; i < results.size(); i++) {
+            final StatementResult result = results.get(i);
+            assertThat(result.index()).isEqualTo(i);
+            assertThat(result.range().line()).isEqualTo(i + 1);
+            assertThat(result.statement().orElseThrow().accept(new SqlToStringVisitor()))
+                    .isEqualTo(new SqlParser(result.range().text(script)).parse().accept(new SqlToStringVisitor()));
+        }
+    }
+
+    @Test
+    @DisplayName("한 문장의 오류는 그 문장의 결과에만 기록된다")
+    void testErrorsAreIsolatedPerStatement() {
+        // given
+        final String script = "SELECT a FROM t; SELECT FROM; SELECT 'x' FROM u; SELECT b FROM 'open";
+
+        // when
+        final List<StatementResult> results = new ScriptParser(ForkJoinPool.commonPool()).parse(script);
+
+        // then
+        assertThat(results).extracting(StatementResult::isSuccess).containsExactly(true, false, true, false);
+        assertThat(results.get(1).statement()).isEmpty();
+        assertThat(results.get(1).error()).get().isInstanceOf(SqlParseException.class);
+        assertThat(results.get(3).error().orElseThrow().getMessage()).isNotBlank();
+        assertThat(results.get(2).statement()).isPresent();
+    }
+
+    @Test
+    @DisplayName("빈 스크립트는 빈 결과를 반환한다")
+    void testEmptyScript() {
+        // when
+        final List<StatementResult> results = new ScriptParser().parse("  -- nothing here\n ; ");
+
+        // then
+        assertThat(results).isEmpty();
+    }
+}
@@ -1,13 +1,17 @@
 package com.jaeyeonling.parser;
 
 import com.jaeyeonling.BaseSqlParserTest;
+import com.jaeyeonling.ast.SourceLocation;
 import com.jaeyeonling.ast.expression.BetweenExpression;
 import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
 import com.jaeyeonling.ast.expression.Expression;
 import com.jaeyeonling.ast.expression.InExpression;
+import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.IsNotNullExpression;
 import com.jaeyeonling.ast.expression.IsNullExpression;
 import com.jaeyeonling.ast.expression.LikeExpression;
+import com.jaeyeonling.ast.expression.LiteralValueList;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.NotBetweenExpression;
 import com.jaeyeonling.ast.expression.NotInExpression;
 import com.jaeyeonling.ast.expression.NotLikeExpression;
@@ -18,6 +22,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
@@ -92,6 +102,137 @@ class SpecialOperatorsTest extends BaseSqlParserTest {
         assertThat(notIn.values()).hasSize(2);
     }
 
+    private static String valueList(
+            final int count,
+            final IntFunction<String> value
+    ) {
+        return IntStream.range(0, count)
+                .mapToObj(value)
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    @Test
+    @DisplayName("정수만 나열된 큰 IN 목록은 원시 배열 목록으로 압축한다")
+    void testLargeIntegerInListIsCompact() {
+        // given
+        final String sql = "SELECT * FROM users WHERE id IN " + valueList(50_000, String::valueOf);
+
+        // when
+        final SelectStatement stmt = parseAndValidate(sql);
+
+        // then
+        final InExpression in = (InExpression) stmt.whereClause().orElseThrow().condition();
+        final LiteralValueList literals = in.literalValues().orElseThrow();
+        assertThat(literals.kind()).isEqualTo(LiteralValueList.Kind.INTEGER);
+        assertThat(literals).hasSize(50_000);
+        final int lastStart = sql.lastIndexOf("49999");
+        assertThat(literals.get(49_999))
+                .isEqualTo(new IntegerLiteral(49_999, new SourceLocation(1, lastStart + 1, lastStart, lastStart + 5)));
+        assertThat(literals.contains(12_345L)).isTrue();
+        assertThat(literals.contains(50_000L)).isFalse();
+        assertThat(literals.contains(7.0)).isTrue();
+        assertThat(literals.contains(7.5)).isFalse();
+        assertThat(stmt.accept(visitor)).isEqualTo(sql);
+    }
+
+    @Test
+    @DisplayName("문자열과 소수만 나열된 큰 NOT IN 목록도 압축하고 원래대로 출력한다")
+    void testLargeStringAndDecimalNotInListsAreCompact() {
+        // given
+        final String strings = "SELECT * FROM users WHERE code NOT IN " + valueList(100, i -> "'c" + i + "''s'");
+        final String decimals = "SELECT * FROM users WHERE rate NOT IN " + valueList(100, i -> i + ".50");
+
+        // when
+        final SelectStatement stringStmt = parseAndValidate(strings);
+        final SelectStatement decimalStmt = parseAndValidate(decimals);
+
+        // then
+        final NotInExpression stringIn = (NotInExpression) stringStmt.whereClause().orElseThrow().condition();
+        final LiteralValueList stringValues = stringIn.literalValues().orElseThrow();
+        assertThat(stringValues.kind()).isEqualTo(LiteralValueList.Kind.STRING);
+        assertThat(stringValues.contains("c42's")).isTrue();
+        assertThat(stringValues.contains("c100's")).isFalse();
+        assertThat(stringStmt.accept(visitor)).isEqualTo(strings);
+
+        final NotInExpression decimalIn = (NotInExpression) decimalStmt.whereClause().orElseThrow().condition();
+        final LiteralValueList decimalValues = decimalIn.literalValues().orElseThrow();
+        assertThat(decimalValues.kind()).isEqualTo(LiteralValueList.Kind.DECIMAL);
+        assertThat(decimalValues.contains(42.5)).isTrue();
+        assertThat(decimalValues.contains(42L)).isFalse();
+        assertThat(decimalStmt.accept(visitor)).isEqualTo(decimals);
+    }
+
+    @Test
+    @DisplayName("압축한 IN 목록의 원소도 여러 줄에 걸친 원래 위치를 가진다")
+    void testCompactInListKeepsElementLocations() {
+        // given
+        final String sql = "SELECT * FROM users WHERE id IN (\n"
+                + "  100, 101, 102, 103, 104, 105, 106, 107,\n"
+                + "\n"
+                + "    108, 109, 110, 111, 112, 113, 114, 115,\n"
+                + "  116)";
+
+        // when
+        final SelectStatement stmt = parseAndValidate(sql);
+
+        // then
+        final InExpression in = (InExpression) stmt.whereClause().orElseThrow().condition();
+        final LiteralValueList literals = in.literalValues().orElseThrow();
+        final String[] lines = sql.split("\n", -1);
+        for (int i = 0; i < literals.size(); i++) {
+            final String text = String.valueOf(100 + i);
+            final int start = sql.indexOf(text);
+            int line = 0;
+            int lineStart = 0;
+            while (lineStart + lines[line].length() < start) {
+                lineStart += lines[line].length() + 1;
+                line++;
+            }
+            assertThat(literals.get(i))
+                    .isEqualTo(new IntegerLiteral(100 + i, new SourceLocation(line + 1, start - lineStart + 1, start, start + 3)));
+        }
+        assertThat(literals.locationAt(16).line()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("압축한 IN 목록은 같은 원소를 가진 일반 목록과 같고 해시도 같다")
+    void testCompactInListEqualsGeneralList() {
+        // given
+        final String sql = "SELECT * FROM users WHERE code IN " + valueList(20, i -> "'c" + i + "'");
+
+        // when
+        final InExpression in = (InExpression) parseAndValidate(sql).whereClause().orElseThrow().condition();
+        final LiteralValueList literals = in.literalValues().orElseThrow();
+        final List<Expression> general = new ArrayList<>(literals);
+
+        // then
+        assertThat(literals).isEqualTo(general);
+        assertThat(general).isEqualTo(literals);
+        assertThat(literals.hashCode()).isEqualTo(general.hashCode());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1, 2, 3",
+            "1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 'x'",
+            "1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 + 1",
+            "1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 99999999999999999999"
+    })
+    @DisplayName("작거나 섞인 IN 목록은 위치를 가진 일반 리터럴 목록으로 남는다")
+    void testSmallOrMixedInListStaysGeneral(final String values) {
+        // given
+        final String sql = "SELECT * FROM users WHERE id IN (" + values + ")";
+
+        // when
+        final SelectStatement stmt = parseAndValidate(sql);
+
+        // then
+        final InExpression in = (InExpression) stmt.whereClause().orElseThrow().condition();
+        assertThat(in.literalValues()).isEmpty();
+        assertThat(in.values().getFirst()).isEqualTo(new IntegerLiteral(1, new SourceLocation(1, 34, 33, 34)));
+        assertThat(stmt.accept(visitor)).isEqualTo(sql);
+    }
+
     @Test
     @DisplayName("BETWEEN 연산자를 파싱한다")
     void testBetweenOperator() {
@@ -265,8 +406,8 @@ class SpecialOperatorsTest extends BaseSqlParserTest {
         final Expression condition = stmt.whereClause().get().condition();
 
         // 최상위는 AND 연산자여야 함
-        assertThat(condition).isInstanceOf(BinaryOperatorExpression.class);
-        final BinaryOperatorExpression andExpr = (BinaryOperatorExpression) condition;
+        assertThat(condition).isInstanceOf(LogicalExpression.class);
+        final LogicalExpression andExpr = (LogicalExpression) condition;
         assertThat(andExpr.operator()).isEqualTo(Operator.AND);
 
         // SQL 재생성 확인
@@ -2,12 +2,19 @@ package com.jaeyeonling.parser;
 
 import com.jaeyeonling.ast.statement.SelectStatement;
 import com.jaeyeonling.exception.SqlParseException;
+import com.jaeyeonling.lexer.StreamingTokenSource;
+import com.jaeyeonling.visitor.SqlToStringVisitor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -126,7 +133,7 @@ class SqlParserNewUsageTest {
         // when & then
         for (final String sql : queries) {
             SqlParser parser = new SqlParser(sql);
-            SelectStatement stmt = assertDoesNotThrow(parser::parse);
+            SelectStatement stmt = assertDoesNotThrow(() -> parser.parse());
             assertThat(stmt).isNotNull();
             assertThat(stmt.selectClause()).isNotNull();
         }
@@ -159,4 +166,88 @@ class SqlParserNewUsageTest {
         assertThat(stmt.orderByClause()).isPresent();
         assertThat(stmt.limitClause()).isPresent();
     }
+
+    @Test
+    @DisplayName("한 번 구성한 파서로 서로 다른 SQL을 파싱한다")
+    void testStatelessParserParsesManyQueries() {
+        // given
+        final SqlParser parser = new SqlParser();
+
+        // when
+        final SelectStatement users = parser.parse("SELECT * FROM users");
+        final SelectStatement orders = parser.parse(new StringBuilder("SELECT id FROM orders WHERE amount > 10"));
+
+        // then
+        assertThat(users.fromClause()).isPresent();
+        assertThat(orders.whereClause()).isPresent();
+        assertThatThrownBy(parser::parse)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 한 파서 인스턴스를 동시에 사용해도 결과가 같다")
+    void testSharedParserAcrossThreads() throws Exception {
+        // given
+        final SqlParser parser = SqlParser.builder().build();
+        final List<String> queries = List.of(
+                "SELECT u.id, COUNT(*) FROM users u WHERE u.age BETWEEN 18 AND 30 GROUP BY u.id",
+                "SELECT name FROM products WHERE category IN ('a', 'b') ORDER BY name DESC LIMIT 5",
+                "SELECT * FROM orders WHERE status NOT LIKE 'x%' AND amount > 1.5"
+        );
+        final List<Future<String>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 300; i++) {
+                final String sql = queries.get(i % queries.size());
+                results.add(executor.submit(() -> parser.parse(sql).accept(new SqlToStringVisitor())));
+            }
+        }
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            final String expected = new SqlParser(queries.get(i % queries.size())).parse()
+                    .accept(new SqlToStringVisitor());
+            assertThat(results.get(i).get()).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT id, name FROM users WHERE age > 18 ORDER BY name LIMIT 10",
+            "SELECT u.id, COUNT(*) FROM users u GROUP BY u.id HAVING COUNT(*) > 1",
+            "SELECT * FROM t WHERE a IN (1, 2, 3) AND b NOT LIKE 'x%'",
+            "SELECT * FROM t WHERE a IN (1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18)",
+            "SELECT * FROM t WHERE a IN ('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q')",
+            "SELECT * FROM t WHERE a IN (1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, b)",
+            "-- comment\nSELECT a\n\n    FROM t -- trailing"
+    })
+    @DisplayName("Reader와 TokenSource로 파싱해도 문자열 파싱과 같은 결과를 반환한다")
+    void testStreamingParseMatchesStringParse(final String sql) {
+        // given
+        final SqlParser parser = SqlParser.builder().build();
+        final SelectStatement expected = parser.parse(sql);
+
+        // when
+        final SelectStatement fromReader = parser.parse(new StringReader(sql));
+        final SelectStatement fromTokenSource = parser.parse(new StreamingTokenSource(sql));
+
+        // then
+        assertThat(fromReader).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(fromTokenSource).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Reader 파싱은 긴 주석을 건너뛰어도 같은 결과를 반환한다")
+    void testStreamingParseSkipsLongComment() {
+        // given
+        final SqlParser parser = SqlParser.builder().build();
+        final String sql = "-- " + "c".repeat(100_000) + "\nSELECT a FROM t";
+
+        // when
+        final SelectStatement statement = parser.parse(new StringReader(sql));
+
+        // then
+        assertThat(statement).usingRecursiveComparison().isEqualTo(parser.parse(sql));
+    }
 }
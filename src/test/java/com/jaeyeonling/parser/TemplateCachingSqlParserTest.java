@@ -0,0 +1,237 @@
+package com.jaeyeonling.parser;
+
+import com.jaeyeonling.ast.SourceLocation;
+import com.jaeyeonling.ast.clause.LimitClause;
+import com.jaeyeonling.ast.clause.WhereClause;
+import com.jaeyeonling.ast.expression.BinaryOperatorExpression;
+import com.jaeyeonling.ast.expression.InExpression;
+import com.jaeyeonling.ast.expression.IntegerLiteral;
+import com.jaeyeonling.ast.expression.LiteralValueList;
+import com.jaeyeonling.ast.expression.LogicalExpression;
+import com.jaeyeonling.ast.expression.StringLiteral;
+import com.jaeyeonling.ast.statement.SelectStatement;
+import com.jaeyeonling.exception.SqlParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TemplateCachingSqlParser 테스트")
+class TemplateCachingSqlParserTest {
+
+    private static String inList(
+            final int count,
+            final int width
+    ) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> String.valueOf((long) Math.pow(10, width) + i))
+                .collect(Collectors.joining(", "));
+    }
+
+    static Stream<Arguments> sameShapes() {
+        return Stream.of(
+                Arguments.of(
+                        "SELECT name FROM users WHERE id = 42",
+                        "SELECT name FROM users WHERE id = 4300"),
+                Arguments.of(
+                        "SELECT u.name AS n, price * 1.5 FROM users u WHERE status = 'on' AND score >= 0.25",
+                        "SELECT u.name AS n, price * 12.125 FROM users u WHERE status = 'inactive' AND score >= 10.0"),
+                Arguments.of(
+                        "SELECT * FROM t WHERE a BETWEEN 1 AND 2 OR b NOT LIKE 'x%' OR c IS NULL",
+                        "SELECT * FROM t WHERE a BETWEEN 100 AND 20000 OR b NOT LIKE '%long pattern%' OR c IS NULL"),
+                Arguments.of(
+                        "SELECT * FROM t WHERE (a + 1) * 2 > 3 AND NOT (b = 'x')",
+                        "SELECT * FROM t WHERE (a + 1000) * 20 > 300000 AND NOT (b = '')"),
+                Arguments.of(
+                        "SELECT * FROM t WHERE id IN (1, 2, 3) AND code NOT IN ('a', 'b')",
+                        "SELECT * FROM t WHERE id IN (10, 200, 3000) AND code NOT IN ('abc', 'de')"),
+                Arguments.of(
+                        "SELECT * FROM t WHERE (id) IN (" + inList(20, 1) + ")",
+                        "SELECT * FROM t WHERE (id) IN (" + inList(20, 5) + ")"),
+                Arguments.of(
+                        "SELECT * FROM t WHERE price NOT IN (" + "1.5, ".repeat(19) + "2.25)",
+                        "SELECT * FROM t WHERE price NOT IN (" + "10.125, ".repeat(19) + "3.5)"),
+                Arguments.of(
+                        "SELECT * FROM t WHERE n = 99999999999999999999",
+                        "SELECT * FROM t WHERE n = 123456789012345678901234"),
+                Arguments.of(
+                        "SELECT category, COUNT(*) FROM products WHERE price > 10 GROUP BY category "
+                                + "HAVING COUNT(*) > 5 ORDER BY category DESC LIMIT 10 OFFSET 20",
+                        "SELECT category, COUNT(*) FROM products WHERE price > 1000 GROUP BY category "
+                                + "HAVING COUNT(*) > 50 ORDER BY category DESC LIMIT 100 OFFSET 2000"),
+                Arguments.of(
+                        "SELECT a\nFROM t\nWHERE b = 'x'\n  AND c = 1\nLIMIT 5",
+                        "SELECT a\nFROM t\nWHERE b = 'multi word'\n  AND c = 12345\nLIMIT 50"),
+                Arguments.of(
+                        "SELECT TRUE",
+                        "SELECT TRUE"),
+                Arguments.of(
+                        "SELECT a FROM t WHERE id = ? AND name = :name AND age > 1",
+                        "SELECT a FROM t WHERE id =   ? AND name = :name AND age > 100")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("sameShapes")
+    @DisplayName("리터럴 값만 다른 SQL은 틀을 재사용하고, 직접 파싱한 결과와 같은 AST를 만든다")
+    void testLiteralOnlyDifferenceReusesTemplate(
+            final String templateSql,
+            final String sql
+    ) {
+        // given
+        final TemplateCachingSqlParser parser = new TemplateCachingSqlParser();
+        parser.parse(templateSql);
+
+        // when
+        final SelectStatement bound = parser.parse(sql);
+
+        // then
+        assertThat(parser.stats().hits()).isEqualTo(1);
+        assertThat(parser.stats().size()).isEqualTo(1);
+        assertThat(bound)
+                .usingRecursiveComparison()
+                .isEqualTo(new SqlParser().parse(sql));
+    }
+
+    @Test
+    @DisplayName("값과 위치는 새 SQL의 토큰을 따른다")
+    void testBoundValuesAndLocations() {
+        // given
+        final TemplateCachingSqlParser parser = new TemplateCachingSqlParser();
+        parser.parse("SELECT a FROM t WHERE id = 42 AND name = 'kim' LIMIT 10");
+
+        // when
+        final SelectStatement statement = parser.parse("SELECT a FROM t WHERE id = 4300 AND name = 'park' LIMIT 7");
+
+        // then
+        final LogicalExpression condition = (LogicalExpression) statement.whereClause()
+                .map(WhereClause::condition)
+                .orElseThrow();
+        final BinaryOperatorExpression id = (BinaryOperatorExpression) condition.operands().get(0);
+        final BinaryOperatorExpression name = (BinaryOperatorExpression) condition.operands().get(1);
+        assertThat(id.right()).isEqualTo(new IntegerLiteral(4300, new SourceLocation(1, 28, 27, 31)));
+        assertThat(name.right()).isEqualTo(new StringLiteral("park", new SourceLocation(1, 44, 43, 49)));
+        assertThat(name.location()).isEqualTo(new SourceLocation(1, 37, 36, 49));
+        assertThat(statement.limitClause().map(LimitClause::limit)).contains(7);
+        assertThat(statement.limitClause().orElseThrow().location()).isEqualTo(new SourceLocation(1, 51, 50, 55));
+    }
+
+    @Test
+    @DisplayName("값과 위치가 그대로인 부분은 틀의 노드를 공유한다")
+    void testUnchangedSubtreesAreShared() {
+        // given
+        final TemplateCachingSqlParser parser = new TemplateCachingSqlParser();
+        final SelectStatement template = parser.parse("SELECT a, b FROM t WHERE id = 42 LIMIT 10");
+
+        // when
+        final SelectStatement same = parser.parse("SELECT a, b FROM t WHERE id = 42 LIMIT 10");
+        final SelectStatement other = parser.parse("SELECT a, b FROM t WHERE id = 43 LIMIT 10");
+
+        // then
+        assertThat(same).isSameAs(template);
+        assertThat(other).isNotSameAs(template);
+        assertThat(other.selectClause()).isSameAs(template.selectClause());
+        assertThat(other.fromClause()).containsSame(template.fromClause().orElseThrow());
+        assertThat(other.limitClause()).containsSame(template.limitClause().orElseThrow());
+        assertThat(other.whereClause()).isNotEqualTo(template.whereClause());
+    }
+
+    @Test
+    @DisplayName("압축된 IN 목록도 새 값으로 채운다")
+    void testCompactInListIsRebound() {
+        // given
+        final TemplateCachingSqlParser parser = new TemplateCachingSqlParser();
+        parser.parse("SELECT * FROM t WHERE id IN (" + inList(30, 1) + ")");
+
+        // when
+        final SelectStatement statement = parser.parse("SELECT * FROM t WHERE id IN (" + inList(30, 6) + ")");
+
+        // then
+        final InExpression in = (InExpression) statement.whereClause().orElseThrow().condition();
+        final LiteralValueList values = in.literalValues().orElseThrow();
+        assertThat(values.size()).isEqualTo(30);
+        assertThat(values.longAt(0)).isEqualTo(1_000_000);
+        assertThat(values.longAt(29)).isEqualTo(1_000_029);
+        assertThat(values.contains(1_000_015L)).isTrue();
+        assertThat(values.contains(15L)).isFalse();
+        assertThat(parser.stats().hits()).isEqualTo(1);
+    }
+
+    static Stream<Arguments> differentShapes() {
+        return Stream.of(
+                Arguments.of("SELECT a FROM t WHERE id = 1", "SELECT a FROM t WHERE age = 1"),
+                Arguments.of("SELECT a FROM t WHERE id = 1", "SELECT a FROM t WHERE id = '1'"),
+                Arguments.of("SELECT a FROM t WHERE id = 1", "SELECT a FROM t WHERE id = 1.0"),
+                Arguments.of("SELECT a FROM t WHERE id = 1", "SELECT a FROM t WHERE id = 3000000000"),
+                Arguments.of("SELECT a FROM t WHERE id = 1", "SELECT a FROM t WHERE id = 99999999999999999999"),
+                Arguments.of("SELECT a FROM t WHERE id IN (1, 2)", "SELECT a FROM t WHERE id IN (1, 2, 3)"),
+                Arguments.of("SELECT a FROM t WHERE id = :id", "SELECT a FROM t WHERE id = :key"),
+                Arguments.of("SELECT a FROM t WHERE id = ?", "SELECT a FROM t WHERE id = 1")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("differentShapes")
+    @DisplayName("식별자, 리터럴 종류, 숫자 범위, 토큰 수가 다르면 다른 틀을 쓴다")
+    void testDifferentShapesMiss(
+            final String first,
+            final String second
+    ) {
+        // given
+        final TemplateCachingSqlParser parser = new TemplateCachingSqlParser();
+        parser.parse(first);
+
+        // when
+        parser.parse(second);
+
+        // then
+        assertThat(parser.stats().hits()).isZero();
+        assertThat(parser.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 LIMIT은 틀이 있어도 직접 파싱해 같은 오류를 낸다")
+    void testLimitOverflowIsNotBound() {
+        // given
+        final TemplateCachingSqlParser parser = new TemplateCachingSqlParser();
+        parser.parse("SELECT a FROM t LIMIT 10");
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse("SELECT a FROM t LIMIT 3000000000"))
+                .isInstanceOf(SqlParseException.class)
+                .hasMessageContaining("LIMIT 값이 너무 큽니다");
+        assertThat(parser.stats().hits()).isZero();
+        assertThat(parser.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파싱 오류는 캐시하지 않는다")
+    void testParseErrorsAreNotCached() {
+        // given
+        final TemplateCachingSqlParser parser = new TemplateCachingSqlParser();
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse("SELECT a FROM t WHERE id = ")).isInstanceOf(SqlParseException.class);
+        assertThatThrownBy(() -> parser.parse("SELECT a FROM t WHERE id = ")).isInstanceOf(SqlParseException.class);
+        assertThat(parser.stats().misses()).isEqualTo(2);
+        assertThat(parser.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한은 1 이상이어야 한다")
+    void testInvalidBounds() {
+        // when & then
+        assertThatThrownBy(() -> TemplateCachingSqlParser.builder().maximumSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TemplateCachingSqlParser.builder().maximumWeight(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
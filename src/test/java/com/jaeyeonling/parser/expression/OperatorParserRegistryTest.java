@@ -0,0 +1,133 @@
+package com.jaeyeonling.parser.expression;
+
+import com.jaeyeonling.ast.expression.Expression;
+import com.jaeyeonling.lexer.SqlLexer;
+import com.jaeyeonling.lexer.TokenType;
+import com.jaeyeonling.parser.ExpressionParser;
+import com.jaeyeonling.parser.TokenStream;
+import com.jaeyeonling.parser.expression.operators.ComparisonOperatorParser;
+import com.jaeyeonling.parser.expression.operators.IsNotNullOperatorParser;
+import com.jaeyeonling.parser.expression.operators.IsNullOperatorParser;
+import com.jaeyeonling.parser.expression.operators.LikeOperatorParser;
+import com.jaeyeonling.parser.expression.operators.NotBetweenOperatorParser;
+import com.jaeyeonling.parser.expression.operators.NotInOperatorParser;
+import com.jaeyeonling.parser.expression.operators.NotLikeOperatorParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OperatorParserRegistry 토큰 색인 테스트")
+class OperatorParserRegistryTest {
+
+    private static final ExpressionParser EXPRESSION_PARSER = new ExpressionParser();
+
+    private static TokenStream streamAt(final String operatorSql) {
+        return new TokenStream(new SqlLexer(operatorSql).tokenizeToBuffer());
+    }
+
+    static Stream<Arguments> operators() {
+        return Stream.of(
+                Arguments.of("NOT LIKE 'a%'", NotLikeOperatorParser.class),
+                Arguments.of("NOT IN (1)", NotInOperatorParser.class),
+                Arguments.of("NOT BETWEEN 1 AND 2", NotBetweenOperatorParser.class),
+                Arguments.of("IS NOT NULL", IsNotNullOperatorParser.class),
+                Arguments.of("IS NULL", IsNullOperatorParser.class),
+                Arguments.of("LIKE 'a%'", LikeOperatorParser.class),
+                Arguments.of(">= 3", ComparisonOperatorParser.class),
+                Arguments.of("<> 3", ComparisonOperatorParser.class)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("operators")
+    @DisplayName("현재 토큰과 다음 토큰으로 알맞은 파서를 찾는다")
+    void testLookupByTokenPair(
+            final String operatorSql,
+            final Class<? extends OperatorParser> expected
+    ) {
+        // given
+        final OperatorParserRegistry registry = new OperatorParserRegistry(EXPRESSION_PARSER).freeze();
+
+        // when
+        final OperatorParser parser = registry.lookup(streamAt(operatorSql));
+
+        // then
+        assertThat(parser).isInstanceOf(expected);
+    }
+
+    @Test
+    @DisplayName("연산자가 아닌 위치에서는 파서를 찾지 않는다")
+    void testLookupReturnsNullForNonOperators() {
+        // given
+        final OperatorParserRegistry registry = new OperatorParserRegistry(EXPRESSION_PARSER);
+
+        // when & then
+        assertThat(registry.lookup(streamAt("+ 1"))).isNull();
+        assertThat(registry.lookup(streamAt("NOT"))).isNull();
+        assertThat(registry.lookup(streamAt(""))).isNull();
+        assertThat(registry.findParser(streamAt("IS"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 고정되고, 고정된 뒤에는 등록할 수 없다")
+    void testRegisterAfterFreezeFails() {
+        // given
+        final OperatorParserRegistry registry = new OperatorParserRegistry(EXPRESSION_PARSER);
+        assertThat(registry.isFrozen()).isFalse();
+
+        // when
+        registry.lookup(streamAt("= 1"));
+
+        // then
+        assertThat(registry.isFrozen()).isTrue();
+        assertThatThrownBy(() -> registry.register(new MatchAllOperator(OperatorPriority.IS_NULL, List.of())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("고정 전에 등록한 커스텀 파서도 트리거와 우선순위에 따라 찾는다")
+    void testCustomParsersBeforeFreeze() {
+        // given
+        final OperatorParser triggered = new MatchAllOperator(
+                OperatorPriority.IS_NULL, List.of(OperatorTrigger.of(TokenType.NOT, TokenType.NULL)));
+        final OperatorParser untriggered = new MatchAllOperator(OperatorPriority.LOGICAL_OR, List.of());
+        final OperatorParserRegistry registry = new OperatorParserRegistry(EXPRESSION_PARSER)
+                .registerCustom(untriggered)
+                .registerCustom(triggered)
+                .freeze();
+
+        // when & then
+        assertThat(registry.lookup(streamAt("NOT NULL"))).isSameAs(triggered);
+        assertThat(registry.lookup(streamAt("NOT LIKE 'a'"))).isInstanceOf(NotLikeOperatorParser.class);
+        // 트리거가 없는 파서는 모든 위치에서 확인되며, 우선순위가 가장 낮으므로 마지막에 선택됨
+        assertThat(registry.lookup(streamAt("+ 1"))).isSameAs(untriggered);
+        assertThat(registry.lookup(streamAt("= 1"))).isInstanceOf(ComparisonOperatorParser.class);
+    }
+
+    private record MatchAllOperator(
+            OperatorPriority priority,
+            List<OperatorTrigger> triggers
+    ) implements OperatorParser {
+
+        @Override
+        public boolean canParse(final TokenStream tokenStream) {
+            return true;
+        }
+
+        @Override
+        public Expression parse(
+                final TokenStream tokenStream,
+                final Expression left
+        ) {
+            return left;
+        }
+    }
+}
@@ -61,12 +61,12 @@ class OperatorPluginTest {
         // when
         final OperatorParserRegistry registry = new OperatorParserRegistry(new ExpressionProvider() {
             @Override
-            public Expression parseExpression() {
+            public Expression parseExpression(TokenStream tokenStream) {
                 return null;
             }
             
             @Override
-            public Expression parseAdditiveExpression() {
+            public Expression parseAdditiveExpression(TokenStream tokenStream) {
                 return null;
             }
         });
@@ -89,8 +89,8 @@ class OperatorPluginTest {
         final TokenStream tokenStream = new TokenStream(lexer.tokenize());
 
         // when - 기본 파서 사용 (이미 BETWEEN이 등록됨)
-        final ExpressionParser parser = new ExpressionParser(tokenStream);
-        final Expression result = parser.parseExpression();
+        final ExpressionParser parser = new ExpressionParser();
+        final Expression result = parser.parseExpression(tokenStream);
 
         // then
         assertThat(result).isInstanceOf(BetweenExpression.class);
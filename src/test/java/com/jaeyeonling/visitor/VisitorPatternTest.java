@@ -20,10 +20,12 @@ import com.jaeyeonling.ast.expression.IntegerLiteral;
 import com.jaeyeonling.ast.expression.IsNotNullExpression;
 import com.jaeyeonling.ast.expression.IsNullExpression;
 import com.jaeyeonling.ast.expression.LikeExpression;
+import com.jaeyeonling.ast.expression.LogicalExpression;
 import com.jaeyeonling.ast.expression.NotBetweenExpression;
 import com.jaeyeonling.ast.expression.NotInExpression;
 import com.jaeyeonling.ast.expression.NotLikeExpression;
 import com.jaeyeonling.ast.expression.NullLiteral;
+import com.jaeyeonling.ast.expression.Operator;
 import com.jaeyeonling.ast.expression.StringLiteral;
 import com.jaeyeonling.ast.statement.SelectStatement;
 import com.jaeyeonling.ast.table.Table;
@@ -37,6 +39,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Visitor 패턴 단위 테스트
@@ -95,6 +98,20 @@ class VisitorPatternTest {
         assertThat(reconstructed).isEqualTo("SELECT * FROM users WHERE age > 18 AND status = 'active'");
     }
 
+    @Test
+    @DisplayName("SqlToStringVisitor가 단항 NOT을 올바르게 처리한다")
+    void testSqlToStringVisitorWithNot() {
+        // given
+        final String originalSql = "SELECT * FROM users WHERE NOT active AND NOT NOT deleted";
+
+        // when
+        final SelectStatement stmt = new SqlParser(originalSql).parse();
+        final String reconstructed = stmt.accept(sqlToStringVisitor);
+
+        // then
+        assertThat(reconstructed).isEqualTo(originalSql);
+    }
+
     @Test
     @DisplayName("SqlToStringVisitor가 DISTINCT를 올바르게 처리한다")
     void testSqlToStringVisitorWithDistinct() {
@@ -481,6 +498,40 @@ class VisitorPatternTest {
         assertThat(result).isEqualTo("'It''s a test'");
     }
 
+    @Test
+    @DisplayName("SqlToStringVisitor가 n항 논리 표현식의 항을 연산자로 이어 붙인다")
+    void testSqlToStringVisitorLogicalExpression() {
+        // given
+        final LogicalExpression or = new LogicalExpression(
+                Operator.OR,
+                List.of(
+                        new IntegerLiteral(1L, testLocation),
+                        new IntegerLiteral(2L, testLocation),
+                        new BooleanLiteral(true, testLocation)
+                ),
+                testLocation
+        );
+
+        // when
+        final String result = or.accept(sqlToStringVisitor);
+
+        // then
+        assertThat(result).isEqualTo("1 OR 2 OR TRUE");
+    }
+
+    @Test
+    @DisplayName("n항 논리 표현식은 AND/OR와 두 개 이상의 항만 허용한다")
+    void testLogicalExpressionValidation() {
+        // given
+        final IntegerLiteral one = new IntegerLiteral(1L, testLocation);
+
+        // when & then
+        assertThatThrownBy(() -> new LogicalExpression(Operator.ADD, List.of(one, one), testLocation))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LogicalExpression(Operator.AND, List.of(one), testLocation))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @Disabled("SqlToStringVisitor가 현재 괄호를 재구성하지 않음")
     @DisplayName("SqlToStringVisitor가 복잡한 WHERE 절을 올바르게 처리한다")
@@ -0,0 +1,147 @@
+package com.jaeyeonling.lexer.reader;
+
+import com.jaeyeonling.lexer.character.CharClass;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * jdk.incubator.vector로 여러 문자를 한 번에 비교하는 스캐너.
+ * - 플랫폼이 선호하는 폭(보통 16~32자)씩 비교하고, 남은 꼬리는 스칼라로 처리
+ * - 공백 분류만 벡터로 판별하며, 다른 분류는 배열 위의 스칼라 루프로 처리
+ * - {@link VectorSupport}를 통해서만 로딩됨
+ * - 모듈 옵션이 이 클래스의 컴파일에만 필요하도록 vector 소스셋에 둠
+ */
+final class VectorCharScanner implements CharScanner {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private char[] chars;
+    private int offset;
+    private boolean ownsChars;
+
+    /**
+     * @param chars     입력 문자 배열
+     * @param offset    입력이 시작하는 배열 위치
+     * @param ownsChars 스캐너가 복사해 만든 배열이라 재사용 시 덮어써도 되는지 여부
+     */
+    VectorCharScanner(
+            final char[] chars,
+            final int offset,
+            final boolean ownsChars
+    ) {
+        this.chars = chars;
+        this.offset = offset;
+        this.ownsChars = ownsChars;
+    }
+
+    /**
+     * String 입력은 이전에 복사해 둔 배열에 덮어써서 재사용합니다.
+     */
+    @Override
+    public CharScanner reuse(final CharSequence input) {
+        if (!(input instanceof String string) || !VectorSupport.accepts(input)) {
+            return null;
+        }
+        if (!ownsChars || chars.length < string.length()) {
+            chars = new char[Math.max(string.length(), chars.length * 2)];
+            ownsChars = true;
+        }
+        string.getChars(0, string.length(), chars, 0);
+        offset = 0;
+        return this;
+    }
+
+    /**
+     * 직접 복사해 만든 배열만 보관합니다. CharBuffer의 배열이나 너무 커진 배열은 버립니다.
+     */
+    @Override
+    public CharScanner detach(final int maxRetainedChars) {
+        if (!ownsChars || chars.length > maxRetainedChars) {
+            return null;
+        }
+        return this;
+    }
+
+    @Override
+    public int skipWhile(
+            final CharClass charClass,
+            final int from,
+            final int to
+    ) {
+        if (charClass != CharClass.WHITESPACE) {
+            return scalarSkipWhile(charClass, from, to);
+        }
+
+        int index = from;
+        for (; index + LANES <= to; index += LANES) {
+            final ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, offset + index);
+            final VectorMask<Short> whitespace = vector.eq((short) ' ')
+                    .or(vector.eq((short) '\t'))
+                    .or(vector.eq((short) '\n'))
+                    .or(vector.eq((short) '\r'));
+            if (!whitespace.allTrue()) {
+                return index + whitespace.not().firstTrue();
+            }
+        }
+        return scalarSkipWhile(charClass, index, to);
+    }
+
+    private int scalarSkipWhile(
+            final CharClass charClass,
+            final int from,
+            final int to
+    ) {
+        int index = from;
+        while (index < to && charClass.contains(chars[offset + index])) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public int indexOf(
+            final char target,
+            final int from,
+            final int to
+    ) {
+        int index = from;
+        for (; index + LANES <= to; index += LANES) {
+            final ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, offset + index);
+            final VectorMask<Short> found = vector.eq((short) target);
+            if (found.anyTrue()) {
+                return index + found.firstTrue();
+            }
+        }
+        while (index < to && chars[offset + index] != target) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public int indexOfAny(
+            final char first,
+            final char second,
+            final int from,
+            final int to
+    ) {
+        int index = from;
+        for (; index + LANES <= to; index += LANES) {
+            final ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, offset + index);
+            final VectorMask<Short> found = vector.eq((short) first).or(vector.eq((short) second));
+            if (found.anyTrue()) {
+                return index + found.firstTrue();
+            }
+        }
+        while (index < to) {
+            final char c = chars[offset + index];
+            if (c == first || c == second) {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+}